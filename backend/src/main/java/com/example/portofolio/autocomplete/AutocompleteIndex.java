@@ -0,0 +1,673 @@
+package com.example.portofolio.autocomplete;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * In-memory type-ahead index over short portfolio terms (technology and skill names,
+ * project titles and tags).
+ * <p>
+ * Every word start of a term is a path of a prefix trie whose nodes keep the best
+ * terms below them, so a prefix lookup walks at most {@link #MAX_PREFIX_LENGTH}
+ * nodes and reads a ready answer. Queries the trie cannot fill are completed from
+ * trigram postings, kept as sorted int arrays of term ids, which find the query
+ * anywhere inside a term. Terms rank shorter first, then alphabetically.
+ * <p>
+ * Sources (one entity each) are replaced or removed one at a time; only the trie
+ * paths and postings of their terms change. Memory is bounded by the maximum
+ * number of terms and the indexed length of a term. Reads share a read lock,
+ * updates take the write lock.
+ */
+public final class AutocompleteIndex {
+
+    // Longest indexed text of a term
+    static final int MAX_INDEXED_LENGTH = 64;
+    // Depth of the trie: longer prefixes are checked against the terms found at this depth
+    static final int MAX_PREFIX_LENGTH = 12;
+
+    private static final int[] NO_IDS = new int[0];
+    private static final char[] NO_LABELS = new char[0];
+    private static final Node[] NO_NODES = new Node[0];
+
+    public enum Kind {
+        TECHNOLOGY, SKILL, PROJECT, TAG
+    }
+
+    /**
+     * A term a source contributes, such as a project title or one of its tags
+     */
+    public record Term(Kind kind, String text) {
+    }
+
+    /**
+     * @param id the source entity the term comes from, null for tags
+     */
+    public record Suggestion(Kind kind, String text, Long id) {
+    }
+
+    private final int maxTerms;
+    private final int maxSuggestions;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ===== TERMS, BY ID =====
+
+    private Kind[] kinds = new Kind[16];
+    private String[] texts = new String[16];
+    private String[] keys = new String[16];
+    private long[][] owners = new long[16][];
+    private int[] ownerCounts = new int[16];
+    private int nextId;
+    private int[] freeIds = new int[16];
+    private int freeCount;
+    private int termCount;
+
+    private final Map<TermKey, Integer> termIds = new HashMap<>();
+    private final Map<SourceKey, int[]> sources = new HashMap<>();
+    private final Map<Long, Postings> trigrams = new HashMap<>();
+    private final Node root = new Node();
+
+    /**
+     * @param maxTerms       distinct terms kept, further terms are dropped
+     * @param maxSuggestions the largest limit a lookup may ask for
+     */
+    public AutocompleteIndex(int maxTerms, int maxSuggestions) {
+        if (maxTerms <= 0 || maxSuggestions <= 0) {
+            throw new IllegalArgumentException("Term and suggestion limits must be positive");
+        }
+        this.maxTerms = maxTerms;
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    // ===== UPDATES =====
+
+    /**
+     * Replaces the terms of a source
+     *
+     * @return false when some terms were dropped because the index is full
+     */
+    public boolean update(Kind sourceKind, long sourceId, List<Term> terms) {
+        Set<TermKey> wanted = new LinkedHashSet<>();
+        Map<TermKey, String> displayTexts = new HashMap<>();
+        for (Term term : terms) {
+            String key = term.text() != null ? normalize(term.text()) : "";
+            if (!key.isEmpty()) {
+                TermKey termKey = new TermKey(term.kind(), key);
+                wanted.add(termKey);
+                displayTexts.putIfAbsent(termKey, term.text().trim());
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            SourceKey source = new SourceKey(sourceKind, sourceId);
+            int[] current = sources.getOrDefault(source, NO_IDS);
+            if (current.length == wanted.size() && sameTerms(current, displayTexts)) {
+                return true;
+            }
+
+            release(sourceId, current);
+            int[] added = new int[wanted.size()];
+            int addedCount = 0;
+            for (TermKey termKey : wanted) {
+                int termId = acquire(termKey, displayTexts.get(termKey), sourceId);
+                if (termId >= 0) {
+                    added[addedCount++] = termId;
+                }
+            }
+
+            if (addedCount == 0) {
+                sources.remove(source);
+            } else {
+                sources.put(source, Arrays.copyOf(added, addedCount));
+            }
+            return addedCount == wanted.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Kind sourceKind, long sourceId) {
+        lock.writeLock().lock();
+        try {
+            int[] current = sources.remove(new SourceKey(sourceKind, sourceId));
+            if (current != null) {
+                release(sourceId, current);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean sameTerms(int[] termIdsOfSource, Map<TermKey, String> wanted) {
+        for (int termId : termIdsOfSource) {
+            if (!texts[termId].equals(wanted.get(new TermKey(kinds[termId], keys[termId])))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int acquire(TermKey termKey, String text, long sourceId) {
+        Integer existing = termIds.get(termKey);
+        if (existing != null) {
+            addOwner(existing, sourceId);
+            return existing;
+        }
+        if (termCount == maxTerms) {
+            return -1;
+        }
+
+        int termId = freeCount > 0 ? freeIds[--freeCount] : nextId++;
+        ensureCapacity(termId + 1);
+        kinds[termId] = termKey.kind();
+        texts[termId] = text;
+        keys[termId] = termKey.key();
+        owners[termId] = new long[1];
+        ownerCounts[termId] = 0;
+        addOwner(termId, sourceId);
+        termIds.put(termKey, termId);
+        termCount++;
+
+        String key = indexedKey(termKey.key());
+        forEachWordStart(key, start -> addPath(termId, key, start));
+        forEachTrigram(key, trigram -> trigrams.computeIfAbsent(trigram, t -> new Postings()).add(termId));
+        return termId;
+    }
+
+    private void release(long sourceId, int[] termIdsOfSource) {
+        for (int termId : termIdsOfSource) {
+            if (removeOwner(termId, sourceId) > 0) {
+                continue;
+            }
+            String key = indexedKey(keys[termId]);
+            forEachWordStart(key, start -> removePath(termId, key, start));
+            forEachTrigram(key, trigram -> {
+                Postings postings = trigrams.get(trigram);
+                if (postings != null && postings.remove(termId)) {
+                    trigrams.remove(trigram);
+                }
+            });
+
+            termIds.remove(new TermKey(kinds[termId], keys[termId]));
+            kinds[termId] = null;
+            texts[termId] = null;
+            keys[termId] = null;
+            owners[termId] = null;
+            if (freeCount == freeIds.length) {
+                freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+            }
+            freeIds[freeCount++] = termId;
+            termCount--;
+        }
+    }
+
+    private void addOwner(int termId, long sourceId) {
+        long[] termOwners = owners[termId];
+        int count = ownerCounts[termId];
+        for (int i = 0; i < count; i++) {
+            if (termOwners[i] == sourceId) {
+                return;
+            }
+        }
+        if (count == termOwners.length) {
+            termOwners = Arrays.copyOf(termOwners, count * 2);
+            owners[termId] = termOwners;
+        }
+        termOwners[count] = sourceId;
+        ownerCounts[termId] = count + 1;
+    }
+
+    private int removeOwner(int termId, long sourceId) {
+        long[] termOwners = owners[termId];
+        int count = ownerCounts[termId];
+        for (int i = 0; i < count; i++) {
+            if (termOwners[i] == sourceId) {
+                System.arraycopy(termOwners, i + 1, termOwners, i, count - i - 1);
+                count--;
+                break;
+            }
+        }
+        ownerCounts[termId] = count;
+        return count;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= kinds.length) {
+            return;
+        }
+        int grown = Math.min(Math.max(capacity, kinds.length * 2), maxTerms);
+        kinds = Arrays.copyOf(kinds, grown);
+        texts = Arrays.copyOf(texts, grown);
+        keys = Arrays.copyOf(keys, grown);
+        owners = Arrays.copyOf(owners, grown);
+        ownerCounts = Arrays.copyOf(ownerCounts, grown);
+    }
+
+    // ===== LOOKUP =====
+
+    /**
+     * Best terms with a word starting with the query, completed with terms containing
+     * it when there are fewer than the limit
+     */
+    public List<Suggestion> suggest(String query, int limit) {
+        if (limit <= 0 || limit > maxSuggestions) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxSuggestions);
+        }
+        String key = query != null ? normalize(query) : "";
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int[] found = new int[limit];
+            int foundCount = prefixMatches(key, found, limit);
+            if (foundCount < limit && key.length() >= 3) {
+                foundCount = infixMatches(key, found, foundCount, limit);
+            }
+
+            List<Suggestion> suggestions = new ArrayList<>(foundCount);
+            for (int i = 0; i < foundCount; i++) {
+                int termId = found[i];
+                Long id = kinds[termId] == Kind.TAG ? null : owners[termId][0];
+                suggestions.add(new Suggestion(kinds[termId], texts[termId], id));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int prefixMatches(String key, int[] found, int limit) {
+        String walked = key.length() > MAX_PREFIX_LENGTH ? key.substring(0, MAX_PREFIX_LENGTH) : key;
+        Node node = root;
+        for (int i = 0; i < walked.length() && node != null; i++) {
+            node = node.child(walked.charAt(i));
+        }
+        if (node == null) {
+            return 0;
+        }
+
+        int count = 0;
+        boolean truncated = walked.length() < key.length();
+        for (int i = 0; i < node.topCount && count < limit; i++) {
+            int termId = node.top[i];
+            // Past the indexed length the trie only narrowed the candidates down
+            if (!truncated || startsWordWith(keys[termId], key)) {
+                found[count++] = termId;
+            }
+        }
+        return count;
+    }
+
+    private int infixMatches(String key, int[] found, int foundCount, int limit) {
+        List<Postings> lists = new ArrayList<>();
+        boolean[] missing = new boolean[1];
+        forEachTrigram(indexedKey(key), trigram -> {
+            Postings postings = trigrams.get(trigram);
+            if (postings == null) {
+                missing[0] = true;
+            } else {
+                lists.add(postings);
+            }
+        });
+        if (missing[0] || lists.isEmpty()) {
+            return foundCount;
+        }
+
+        lists.sort((a, b) -> Integer.compare(a.size, b.size));
+        int[] candidates = Arrays.copyOf(lists.getFirst().ids, lists.getFirst().size);
+        int candidateCount = candidates.length;
+        for (int i = 1; i < lists.size() && candidateCount > 0; i++) {
+            candidateCount = intersect(candidates, candidateCount, lists.get(i));
+        }
+
+        // Best of the remaining candidates, in rank order
+        int[] best = new int[limit - foundCount];
+        int bestCount = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            int termId = candidates[i];
+            if (!keys[termId].contains(key) || contains(found, foundCount, termId)) {
+                continue;
+            }
+            bestCount = offer(best, bestCount, termId);
+        }
+        System.arraycopy(best, 0, found, foundCount, bestCount);
+        return foundCount + bestCount;
+    }
+
+    private static int intersect(int[] candidates, int candidateCount, Postings postings) {
+        int kept = 0;
+        int j = 0;
+        for (int i = 0; i < candidateCount && j < postings.size; i++) {
+            while (j < postings.size && postings.ids[j] < candidates[i]) {
+                j++;
+            }
+            if (j < postings.size && postings.ids[j] == candidates[i]) {
+                candidates[kept++] = candidates[i];
+            }
+        }
+        return kept;
+    }
+
+    private static boolean startsWordWith(String key, String query) {
+        int[] match = {0};
+        forEachWordStart(key, start -> {
+            if (key.startsWith(query, start)) {
+                match[0]++;
+            }
+        });
+        return match[0] > 0;
+    }
+
+    // ===== TRIE =====
+
+    private void addPath(int termId, String key, int start) {
+        Node node = root;
+        for (int i = start; i < pathEnd(key, start); i++) {
+            node = node.childOrCreate(key.charAt(i));
+            node.paths++;
+            node.topCount = offer(node.top(maxSuggestions), node.topCount, termId);
+        }
+        node.ends().add(termId);
+    }
+
+    private void removePath(int termId, String key, int start) {
+        Node[] path = new Node[pathEnd(key, start) - start + 1];
+        path[0] = root;
+        for (int i = start; i < pathEnd(key, start); i++) {
+            path[i - start + 1] = path[i - start].child(key.charAt(i));
+        }
+        Node last = path[path.length - 1];
+        if (last.ends != null && last.ends.remove(termId)) {
+            last.ends = null;
+        }
+
+        // Bottom-up, so every node is rebuilt from children that are already current
+        for (int depth = path.length - 1; depth > 0; depth--) {
+            Node node = path[depth];
+            if (--node.paths == 0) {
+                path[depth - 1].removeChild(key.charAt(start + depth - 1));
+            } else if (contains(node.top, node.topCount, termId)) {
+                node.topCount = 0;
+                if (node.ends != null) {
+                    for (int i = 0; i < node.ends.size; i++) {
+                        node.topCount = offer(node.top, node.topCount, node.ends.ids[i]);
+                    }
+                }
+                for (int c = 0; c < node.childCount; c++) {
+                    Node child = node.children[c];
+                    for (int i = 0; i < child.topCount; i++) {
+                        node.topCount = offer(node.top, node.topCount, child.top[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserts a term into a rank-ordered array, dropping the worst one when full
+     *
+     * @return the new number of terms in the array
+     */
+    private int offer(int[] ranked, int count, int termId) {
+        if (contains(ranked, count, termId)) {
+            return count;
+        }
+        if (count == ranked.length) {
+            if (compare(termId, ranked[count - 1]) >= 0) {
+                return count;
+            }
+            count--;
+        }
+        int position = count;
+        while (position > 0 && compare(termId, ranked[position - 1]) < 0) {
+            ranked[position] = ranked[position - 1];
+            position--;
+        }
+        ranked[position] = termId;
+        return count + 1;
+    }
+
+    private int compare(int a, int b) {
+        int byLength = Integer.compare(keys[a].length(), keys[b].length());
+        if (byLength != 0) {
+            return byLength;
+        }
+        int byKey = keys[a].compareTo(keys[b]);
+        return byKey != 0 ? byKey : kinds[a].compareTo(kinds[b]);
+    }
+
+    private static boolean contains(int[] ids, int count, int id) {
+        for (int i = 0; i < count; i++) {
+            if (ids[i] == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ===== SIZE =====
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return termCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Approximate retained heap of the index in bytes, assuming compressed references
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 5L * (16 + 4L * kinds.length) + 16 + 4L * freeIds.length;
+            for (int termId = 0; termId < nextId; termId++) {
+                if (keys[termId] != null) {
+                    // Both strings, owner array, map entry and key
+                    bytes += 2 * 24 + 2 * (16 + keys[termId].length()) + 16 + 8L * owners[termId].length + 32 + 24;
+                }
+            }
+            for (Postings postings : trigrams.values()) {
+                // Map entry, boxed key, postings and its array
+                bytes += 32 + 16 + 24 + 16 + 4L * postings.ids.length;
+            }
+            bytes += sources.size() * (32L + 24 + 16) + sources.values().stream().mapToLong(ids -> 4L * ids.length).sum();
+            return bytes + nodeBytes(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static long nodeBytes(Node node) {
+        long bytes = 40 + 16 + 2L * node.labels.length + 16 + 4L * node.children.length;
+        if (node.top != null) {
+            bytes += 16 + 4L * node.top.length;
+        }
+        if (node.ends != null) {
+            bytes += 24 + 16 + 4L * node.ends.ids.length;
+        }
+        for (int c = 0; c < node.childCount; c++) {
+            bytes += nodeBytes(node.children[c]);
+        }
+        return bytes;
+    }
+
+    // ===== TEXT =====
+
+    /**
+     * Lower case without diacritics and with single spaces, so "Node.JS" and "node.js"
+     * or "Aplicație" and "aplicatie" are the same term
+     */
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = !normalized.isEmpty();
+                continue;
+            }
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+            normalized.append(c);
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static int pathEnd(String key, int start) {
+        return Math.min(key.length(), start + MAX_PREFIX_LENGTH);
+    }
+
+    private static String indexedKey(String key) {
+        return key.length() > MAX_INDEXED_LENGTH ? key.substring(0, MAX_INDEXED_LENGTH) : key;
+    }
+
+    private static void forEachWordStart(String key, IntConsumer action) {
+        for (int i = 0; i < key.length(); i++) {
+            boolean wordChar = Character.isLetterOrDigit(key.charAt(i));
+            if (i == 0 || (wordChar && !Character.isLetterOrDigit(key.charAt(i - 1)))) {
+                action.accept(i);
+            }
+        }
+    }
+
+    private static void forEachTrigram(String key, LongConsumer action) {
+        for (int i = 0; i + 3 <= key.length(); i++) {
+            action.accept(((long) key.charAt(i) << 32) | ((long) key.charAt(i + 1) << 16) | key.charAt(i + 2));
+        }
+    }
+
+    // ===== STRUCTURES =====
+
+    private record TermKey(Kind kind, String key) {
+    }
+
+    private record SourceKey(Kind kind, long id) {
+    }
+
+    /**
+     * Sorted set of term ids in a primitive array
+     */
+    private static final class Postings {
+
+        private int[] ids = new int[2];
+        private int size;
+
+        void add(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            index = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+
+        /**
+         * @return whether the set is now empty
+         */
+        boolean remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+                size--;
+            }
+            return size == 0;
+        }
+    }
+
+    private static final class Node {
+
+        // Children sorted by label
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_NODES;
+        private int childCount;
+        // Word paths running through this node
+        private int paths;
+        // Best terms below this node, in rank order
+        private int[] top;
+        private int topCount;
+        // Terms with a word path ending here
+        private Postings ends;
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, 0, childCount, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node childOrCreate(char label) {
+            int index = Arrays.binarySearch(labels, 0, childCount, label);
+            if (index >= 0) {
+                return children[index];
+            }
+            index = -index - 1;
+            if (childCount == labels.length) {
+                int grown = Math.max(1, childCount * 2);
+                labels = Arrays.copyOf(labels, grown);
+                children = Arrays.copyOf(children, grown);
+            }
+            System.arraycopy(labels, index, labels, index + 1, childCount - index);
+            System.arraycopy(children, index, children, index + 1, childCount - index);
+            Node child = new Node();
+            labels[index] = label;
+            children[index] = child;
+            childCount++;
+            return child;
+        }
+
+        void removeChild(char label) {
+            int index = Arrays.binarySearch(labels, 0, childCount, label);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(labels, index + 1, labels, index, childCount - index - 1);
+            System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+            childCount--;
+            children[childCount] = null;
+        }
+
+        /**
+         * Rank array with room for one more term, up to the given size: most nodes
+         * lie on a single path and never hold more than a term or two
+         */
+        int[] top(int size) {
+            if (top == null) {
+                top = new int[1];
+            } else if (topCount == top.length && top.length < size) {
+                top = Arrays.copyOf(top, Math.min(size, top.length * 2));
+            }
+            return top;
+        }
+
+        Postings ends() {
+            if (ends == null) {
+                ends = new Postings();
+            }
+            return ends;
+        }
+    }
+}
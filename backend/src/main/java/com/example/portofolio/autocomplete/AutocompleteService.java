@@ -0,0 +1,204 @@
+package com.example.portofolio.autocomplete;
+
+import com.example.portofolio.autocomplete.AutocompleteIndex.Kind;
+import com.example.portofolio.autocomplete.AutocompleteIndex.Term;
+import com.example.portofolio.dto.AutocompleteSuggestionDto;
+import com.example.portofolio.entity.Project;
+import com.example.portofolio.entity.Skill;
+import com.example.portofolio.entity.Technology;
+import com.example.portofolio.event.DataVersion;
+import com.example.portofolio.event.PortfolioDataChangedEvent;
+import com.example.portofolio.repository.ProjectRepository;
+import com.example.portofolio.repository.SkillRepository;
+import com.example.portofolio.repository.TechnologyRepository;
+import com.example.portofolio.snapshot.PortfolioSnapshotService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the {@link AutocompleteIndex} of the portfolio in step with the database.
+ * The index is built once the application is ready; after that every committed
+ * change of a technology, skill or project reloads that one entity's terms.
+ * <p>
+ * Builds and updates are serialized: an update arriving during a build waits for it
+ * and then applies to the new index, reading the entity again, so no change is lost.
+ * The data version moves on once the first build is swapped in; until then suggestions
+ * do not follow the version and {@link #isReady()} is false.
+ */
+@Service
+@Slf4j
+public class AutocompleteService {
+
+    private final TechnologyRepository technologyRepository;
+    private final SkillRepository skillRepository;
+    private final ProjectRepository projectRepository;
+    private final DataVersion dataVersion;
+    private final PortfolioSnapshotService snapshotService;
+    private final Counter dropped;
+    private final boolean enabled;
+    private final Long personalId;
+    private final int maxTerms;
+    private final int maxLimit;
+
+    private volatile AutocompleteIndex index;
+    private volatile boolean ready;
+
+    @Autowired
+    public AutocompleteService(TechnologyRepository technologyRepository,
+                               SkillRepository skillRepository,
+                               ProjectRepository projectRepository,
+                               DataVersion dataVersion,
+                               PortfolioSnapshotService snapshotService,
+                               MeterRegistry meterRegistry,
+                               @Value("${portfolio.autocomplete.enabled:true}") boolean enabled,
+                               @Value("${portfolio.autocomplete.personal-id:1}") Long personalId,
+                               @Value("${portfolio.autocomplete.max-terms:20000}") int maxTerms,
+                               @Value("${portfolio.autocomplete.max-limit:10}") int maxLimit) {
+        this.technologyRepository = technologyRepository;
+        this.skillRepository = skillRepository;
+        this.projectRepository = projectRepository;
+        this.dataVersion = dataVersion;
+        this.snapshotService = snapshotService;
+        this.enabled = enabled;
+        this.personalId = personalId;
+        this.maxTerms = maxTerms;
+        this.maxLimit = maxLimit;
+        this.index = new AutocompleteIndex(maxTerms, maxLimit);
+        // A disabled index stays empty, which no version change can make stale
+        this.ready = !enabled;
+
+        Gauge.builder("portfolio.autocomplete.terms", this, service -> service.index.size())
+                .description("Distinct terms in the autocomplete index")
+                .register(meterRegistry);
+        Gauge.builder("portfolio.autocomplete.memory", this, service -> service.index.estimatedBytes())
+                .description("Approximate heap retained by the autocomplete index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("portfolio.autocomplete.dropped")
+                .description("Updates whose terms did not all fit in the autocomplete index")
+                .register(meterRegistry);
+    }
+
+    // ===== LOOKUP =====
+
+    public List<AutocompleteSuggestionDto> suggest(String query, int limit) {
+        return index.suggest(query, limit).stream()
+                .map(suggestion -> AutocompleteSuggestionDto.builder()
+                        .type(suggestion.kind().name().toLowerCase())
+                        .id(suggestion.id() != null ? suggestion.id().toString() : null)
+                        .text(suggestion.text())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Whether the index has been built, so suggestions change only along with the data version
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ===== BUILD =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Builds a new index from the repositories and swaps it in
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        AutocompleteIndex built = new AutocompleteIndex(maxTerms, maxLimit);
+        boolean complete = true;
+        for (TechnologyRepository.NameRow row : technologyRepository.findNameRows()) {
+            complete &= built.update(Kind.TECHNOLOGY, row.id(), technologyTerms(row));
+        }
+        for (SkillRepository.NameRow row : skillRepository.findNameRowsByPersonalId(personalId)) {
+            complete &= built.update(Kind.SKILL, row.id(), skillTerms(row));
+        }
+        for (ProjectRepository.TitleRow row : projectRepository.findTitleRowsByPersonalId(personalId)) {
+            complete &= built.update(Kind.PROJECT, row.id(), projectTerms(row));
+        }
+        index = built;
+        ready = true;
+        // Suggestions changed without a data change, clients holding older ones revalidate
+        dataVersion.advance();
+        snapshotService.requestRebuild("autocomplete index built");
+
+        if (!complete) {
+            log.warn("Autocomplete index is full at {} terms, some terms are not suggested", maxTerms);
+        }
+        log.info("Built autocomplete index for personalId: {} with {} terms (~{} KB) in {} ms",
+                personalId, built.size(), built.estimatedBytes() / 1024,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    // ===== INCREMENTAL UPDATES =====
+
+    // Ahead of the data version, so a request that sees the new version gets fresh suggestions
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onDataChanged(PortfolioDataChangedEvent event) {
+        if (!enabled || !(event.entityId() instanceof Long id)) {
+            return;
+        }
+        boolean deleted = event.changeType() == PortfolioDataChangedEvent.ChangeType.DELETE;
+        if (Technology.class.isAssignableFrom(event.entityClass())) {
+            apply(Kind.TECHNOLOGY, id, deleted ? Optional.empty()
+                    : technologyRepository.findNameRowById(id).map(this::technologyTerms));
+        } else if (Skill.class.isAssignableFrom(event.entityClass())) {
+            apply(Kind.SKILL, id, deleted ? Optional.empty()
+                    : skillRepository.findNameRowByPersonalIdAndId(personalId, id).map(this::skillTerms));
+        } else if (Project.class.isAssignableFrom(event.entityClass())) {
+            apply(Kind.PROJECT, id, deleted ? Optional.empty()
+                    : projectRepository.findTitleRowByPersonalIdAndId(personalId, id).map(this::projectTerms));
+        }
+    }
+
+    /**
+     * Replaces the terms of an entity, or removes them when it is gone or belongs to
+     * another personal
+     */
+    private synchronized void apply(Kind kind, Long id, Optional<List<Term>> terms) {
+        if (terms.isEmpty()) {
+            index.remove(kind, id);
+        } else if (!index.update(kind, id, terms.get())) {
+            dropped.increment();
+        }
+    }
+
+    private List<Term> technologyTerms(TechnologyRepository.NameRow row) {
+        return List.of(new Term(Kind.TECHNOLOGY, row.name()));
+    }
+
+    private List<Term> skillTerms(SkillRepository.NameRow row) {
+        return List.of(new Term(Kind.SKILL, row.name()));
+    }
+
+    private List<Term> projectTerms(ProjectRepository.TitleRow row) {
+        List<Term> terms = new ArrayList<>();
+        terms.add(new Term(Kind.PROJECT, row.title()));
+        if (row.tags() != null) {
+            row.tags().forEach(tag -> terms.add(new Term(Kind.TAG, tag)));
+        }
+        return terms;
+    }
+}
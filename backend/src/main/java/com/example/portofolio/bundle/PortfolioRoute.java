@@ -0,0 +1,57 @@
+package com.example.portofolio.bundle;
+
+import com.example.portofolio.snapshot.SnapshotView;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.example.portofolio.snapshot.SnapshotView.*;
+
+/**
+ * Angular routes (the X-Route-Context values) and the payloads each page renders.
+ */
+public enum PortfolioRoute {
+
+    HOME("home", EnumSet.allOf(SnapshotView.class)),
+    PROJECTS("projects", EnumSet.of(
+            SnapshotView.PROJECTS, PROJECT_STATS, TOP_TECHNOLOGIES, CATEGORY_DISTRIBUTION, PROJECT_EXPERIENCE)),
+    SKILLS("skills", EnumSet.of(
+            SnapshotView.SKILLS, SKILLS_STATS, TOP_SKILLS, FEATURED_SKILLS, SKILLS_CATEGORIES,
+            TECHNOLOGIES, TECHNOLOGIES_CATEGORIES, TECHNOLOGIES_STATS,
+            CERTIFICATES, CERTIFICATE_CATEGORIES, CERTIFICATE_STATS,
+            ACADEMIC_PROJECTS, CURRENT_LEARNING, LEARNING_PROGRESS, ACHIEVEMENTS, FUTURE_GOALS,
+            TIMELINE_MILESTONES, TIMELINE_STATS)),
+    ABOUT("about", EnumSet.of(
+            HIGHLIGHTS, VALUES, PERSONALITY_TRAITS, HOBBIES, INTERESTS, CONTACT_INFO,
+            EDUCATION, EDUCATION_STATS, ACADEMIC_PROJECTS, CURRENT_LEARNING, CERTIFICATES,
+            TIMELINE_ITEMS, VOLUNTEER_EXPERIENCES, VOLUNTEER_STATS, VOLUNTEER_SKILLS)),
+    CONTACT("contact", EnumSet.of(CONTACT_INFO, CONTACT_LOCATION));
+
+    private final String key;
+    private final Set<SnapshotView> views;
+
+    PortfolioRoute(String key, Set<SnapshotView> views) {
+        this.key = key;
+        this.views = Collections.unmodifiableSet(views);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Set<SnapshotView> getViews() {
+        return views;
+    }
+
+    public static Optional<PortfolioRoute> fromKey(String key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        return Arrays.stream(values())
+                .filter(route -> route.key.equalsIgnoreCase(key.trim()))
+                .findFirst();
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.portofolio.bundle;
+
+import com.example.portofolio.dto.BundlePartDto;
+import com.example.portofolio.dto.RouteBundleDto;
+import com.example.portofolio.memo.MemoScopes;
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotFactory;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
+import com.example.portofolio.snapshot.SnapshotView;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assembles every payload of a route into one document. Parts come from the current
+ * snapshot, which already shares one metadata/technology prefetch across all views;
+ * parts the snapshot cannot serve are computed concurrently through the service path.
+ * Each part carries a content hash so the client keeps caching per part.
+ */
+@Service
+@Slf4j
+public class RouteBundleService {
+
+    private static final int VERSION_LENGTH = 16;
+
+    private final PortfolioSnapshotHolder snapshotHolder;
+    private final PortfolioSnapshotFactory snapshotFactory;
+    private final ObjectMapper objectMapper;
+    private final MemoScopes memoScopes;
+    private final ExecutorService partExecutor;
+
+    // Versions of snapshot-served parts, valid while the snapshot version matches
+    private final Map<SnapshotView, PartVersion> snapshotVersions = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RouteBundleService(PortfolioSnapshotHolder snapshotHolder,
+                              PortfolioSnapshotFactory snapshotFactory,
+                              ObjectMapper objectMapper,
+                              MemoScopes memoScopes,
+                              @Value("${portfolio.bundle.parallelism:4}") int parallelism) {
+        this.snapshotHolder = snapshotHolder;
+        this.snapshotFactory = snapshotFactory;
+        this.objectMapper = objectMapper;
+        this.memoScopes = memoScopes;
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.partExecutor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "portfolio-bundle-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ===== ASSEMBLY =====
+
+    /**
+     * Builds the bundle of a route; parts whose version the client already holds are
+     * sent without data
+     */
+    public RouteBundleDto getBundle(PortfolioRoute route, Long personalId, Map<String, String> knownVersions) {
+        PortfolioSnapshot snapshot = snapshotHolder.current()
+                .filter(current -> current.getPersonalId().equals(personalId))
+                .orElse(null);
+
+        // Start every live computation before waiting on any of them; they share the request's memo scope
+        Map<SnapshotView, PendingPart> pending = new EnumMap<>(SnapshotView.class);
+        for (SnapshotView view : route.getViews()) {
+            Object cached = snapshot != null ? view.readFrom(snapshot) : null;
+            pending.put(view, cached != null
+                    ? new PendingPart(CompletableFuture.completedFuture(cached), true)
+                    : new PendingPart(CompletableFuture.supplyAsync(memoScopes.propagateSupplier(
+                            () -> snapshotFactory.compute(view, personalId)), partExecutor), false));
+        }
+
+        Map<String, BundlePartDto> parts = new LinkedHashMap<>();
+        List<String> failedParts = new ArrayList<>();
+        pending.forEach((view, part) -> {
+            try {
+                Object data = part.data().join();
+                String version = part.fromSnapshot()
+                        ? snapshotVersion(view, snapshot, data)
+                        : contentVersion(data);
+                boolean notModified = version.equals(knownVersions.get(view.getKey()));
+                parts.put(view.getKey(), BundlePartDto.builder()
+                        .version(version)
+                        .notModified(notModified)
+                        .data(notModified ? null : data)
+                        .build());
+            } catch (Exception e) {
+                log.warn("Bundle part '{}' of route '{}' failed: {}", view.getKey(), route.getKey(), e.getMessage());
+                failedParts.add(view.getKey());
+            }
+        });
+
+        return RouteBundleDto.builder()
+                .route(route.getKey())
+                .snapshotVersion(snapshot != null ? snapshot.getVersion() : null)
+                .parts(parts)
+                .failedParts(failedParts)
+                .build();
+    }
+
+    // ===== VERSIONS =====
+
+    private String snapshotVersion(SnapshotView view, PortfolioSnapshot snapshot, Object data) {
+        PartVersion known = snapshotVersions.get(view);
+        if (known != null && known.snapshotVersion() == snapshot.getVersion()) {
+            return known.hash();
+        }
+        String hash = contentVersion(data);
+        snapshotVersions.put(view, new PartVersion(snapshot.getVersion(), hash));
+        return hash;
+    }
+
+    private String contentVersion(Object data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(data));
+            return HexFormat.of().formatHex(digest).substring(0, VERSION_LENGTH);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot version bundle part", e);
+        }
+    }
+
+    /**
+     * Parses "key=version" pairs separated by commas, as sent in X-Bundle-Versions
+     */
+    public static Map<String, String> parseKnownVersions(String header) {
+        Map<String, String> versions = new LinkedHashMap<>();
+        if (header == null || header.isBlank()) {
+            return versions;
+        }
+        for (String pair : header.split(",")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                versions.put(pair.substring(0, separator).trim(), pair.substring(separator + 1).trim());
+            }
+        }
+        return versions;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        partExecutor.shutdownNow();
+    }
+
+    private record PendingPart(CompletableFuture<Object> data, boolean fromSnapshot) {
+    }
+
+    private record PartVersion(long snapshotVersion, String hash) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.portofolio.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Records each @Cacheable invocation in {@link CachedInvocations}. Runs outside the
+ * cache advisor, so the invocation is known whenever the cache is consulted.
+ */
+@RequiredArgsConstructor
+public class CachedInvocationInterceptor implements MethodInterceptor {
+
+    private final CachedInvocations invocations;
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        return invocations.capture(invocation);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.portofolio.cache;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * The @Cacheable invocation running on the current thread, recorded by
+ * {@link CachedInvocationInterceptor}. {@link RefreshAhead} calls it again to refresh
+ * an entry and {@link RedisCacheTier} reads shared values back as its return type.
+ */
+@Component
+public class CachedInvocations {
+
+    private final ThreadLocal<Invocation> current = new ThreadLocal<>();
+
+    Object capture(MethodInvocation invocation) throws Throwable {
+        Invocation previous = current.get();
+        if (invocation instanceof ProxyMethodInvocation proxied) {
+            current.set(new Invocation(proxied.getProxy(), invocation.getMethod(), invocation.getArguments().clone()));
+        }
+        try {
+            return invocation.proceed();
+        } finally {
+            if (previous == null) {
+                current.remove();
+            } else {
+                current.set(previous);
+            }
+        }
+    }
+
+    /**
+     * The innermost cached invocation on this thread, or null outside of one
+     */
+    Invocation current() {
+        return current.get();
+    }
+
+    record Invocation(Object proxy, Method method, Object[] args) {
+    }
+}
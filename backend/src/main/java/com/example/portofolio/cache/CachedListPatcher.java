@@ -0,0 +1,66 @@
+package com.example.portofolio.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Lets {@link ReadSetInvalidator} patch the cached lists of a region when one of their
+ * elements changes, instead of evicting them. Only the changed element is loaded again;
+ * the list is copied with it replaced, appended or removed, the other elements keep
+ * their order. Changes of any other entity the list read still evict it.
+ * <p>
+ * Each element must depend on its own entity row only, and the element loader must
+ * build it exactly as the cached method does. New elements are appended, so the cached
+ * method must list its entities in id order for a patched list to equal a reloaded one.
+ *
+ * @param cacheName     the cache region holding the lists
+ * @param entityClass   the entity each element is built from
+ * @param elementId     the entity identifier of an element
+ * @param elementLoader the element of an entity as the list under a cache key holds it,
+ *                      empty when the entity does not belong in that list
+ */
+public record CachedListPatcher<T>(String cacheName,
+                                   Class<?> entityClass,
+                                   Function<T, Object> elementId,
+                                   BiFunction<Object, Object, Optional<T>> elementLoader) {
+
+    boolean handles(Class<?> changedClass) {
+        return entityClass.isAssignableFrom(changedClass);
+    }
+
+    Optional<T> load(Object cacheKey, Object entityId) {
+        return elementLoader.apply(cacheKey, entityId);
+    }
+
+    /**
+     * A copy of the cached list with the element of the entity replaced by the given
+     * one, appended when it was not listed, or removed when empty
+     */
+    @SuppressWarnings("unchecked")
+    Object patch(Object cached, Object entityId, Optional<T> element) {
+        if (!(cached instanceof List<?> list)) {
+            return cached;
+        }
+        String id = String.valueOf(entityId);
+        List<T> patched = new ArrayList<>(list.size() + 1);
+        boolean listed = false;
+        for (Object current : list) {
+            if (id.equals(String.valueOf(elementId.apply((T) current)))) {
+                if (!listed) {
+                    element.ifPresent(patched::add);
+                }
+                listed = true;
+            } else {
+                patched.add((T) current);
+            }
+        }
+        if (!listed) {
+            element.ifPresent(patched::add);
+        }
+        return Collections.unmodifiableList(patched);
+    }
+}
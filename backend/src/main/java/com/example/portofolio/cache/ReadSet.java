@@ -0,0 +1,127 @@
+package com.example.portofolio.cache;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * What one cached method invocation read: the tables its queries touched and the
+ * entities it loaded by id. Reads are also recorded on every enclosing read set, so a
+ * cached method calling another cached method depends on everything the callee read.
+ */
+public final class ReadSet {
+
+    private final ReadSet parent;
+    private final Set<String> querySpaces = ConcurrentHashMap.newKeySet();
+    private final Set<EntityRef> entities = ConcurrentHashMap.newKeySet();
+    private volatile boolean untracked;
+    private volatile boolean invalidated;
+
+    ReadSet(ReadSet parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * A read set for a value stored without tracking, any change intersects it
+     */
+    static ReadSet untracked() {
+        ReadSet readSet = new ReadSet(null);
+        readSet.untracked = true;
+        return readSet;
+    }
+
+    /**
+     * A read set shared by another node, as stored next to a value in the Redis tier
+     */
+    static ReadSet of(Collection<String> querySpaces, Collection<EntityRef> entities, boolean untracked) {
+        ReadSet readSet = new ReadSet(null);
+        readSet.querySpaces.addAll(querySpaces);
+        readSet.entities.addAll(entities);
+        readSet.untracked = untracked;
+        return readSet;
+    }
+
+    ReadSet parent() {
+        return parent;
+    }
+
+    Set<String> querySpaces() {
+        return Set.copyOf(querySpaces);
+    }
+
+    Set<EntityRef> entities() {
+        return Set.copyOf(entities);
+    }
+
+    boolean isUntracked() {
+        return untracked;
+    }
+
+    // ===== RECORDING =====
+
+    void recordQuerySpaces(Collection<String> spaces) {
+        for (ReadSet readSet = this; readSet != null; readSet = readSet.parent) {
+            readSet.querySpaces.addAll(spaces);
+        }
+    }
+
+    void recordEntity(EntityRef entity) {
+        for (ReadSet readSet = this; readSet != null; readSet = readSet.parent) {
+            readSet.entities.add(entity);
+        }
+    }
+
+    void recordUntracked() {
+        for (ReadSet readSet = this; readSet != null; readSet = readSet.parent) {
+            readSet.untracked = true;
+        }
+    }
+
+    /**
+     * Adds the reads of a cached value served to this invocation
+     */
+    void include(ReadSet other) {
+        if (other.untracked) {
+            recordUntracked();
+        }
+        recordQuerySpaces(other.querySpaces);
+        other.entities.forEach(this::recordEntity);
+    }
+
+    // ===== MATCHING =====
+
+    /**
+     * Whether a committed change of the given row could alter what was read. Inserts
+     * only reach queries, updates and deletes also reach loads of the same row.
+     */
+    boolean intersects(Collection<String> changedSpaces, EntityRef changedEntity) {
+        if (untracked || entities.contains(changedEntity)) {
+            return true;
+        }
+        for (String space : changedSpaces) {
+            if (querySpaces.contains(space)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void invalidate() {
+        invalidated = true;
+    }
+
+    boolean isInvalidated() {
+        return invalidated;
+    }
+
+    @Override
+    public String toString() {
+        return untracked ? "ReadSet[untracked]" : "ReadSet[spaces=" + querySpaces + ", entities=" + entities.size() + "]";
+    }
+
+    /**
+     * One entity row, by Hibernate entity name and identifier
+     */
+    public record EntityRef(String entityName, Object id) {
+    }
+}
@@ -0,0 +1,372 @@
+package com.example.portofolio.cache;
+
+import com.example.portofolio.event.PortfolioDataChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Evicts the cache entries whose read set intersects a committed change. Loads still
+ * running are flagged instead, and their value is dropped as soon as it is stored.
+ * Entries of the shared Redis tier are deleted first, so an evicted near-cache entry
+ * cannot be reloaded from a stale shared copy.
+ * <p>
+ * Lists of a region with a {@link CachedListPatcher} are evicted too when the changed
+ * entity is one of their elements, then patched in the background: the element is
+ * loaded on another thread and the patched copy is stored back, unless the list was
+ * loaded again meanwhile. Later changes of elements of the same list join the patch
+ * still running, any other change it read makes it lose to the eviction.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReadSetInvalidator {
+
+    // Loads of an element raced by other changes of the same table, before giving up
+    private static final int PATCH_ATTEMPTS = 3;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ReadSetTracker tracker;
+    private final ObjectProvider<RedisCacheTier> sharedTier;
+    private final ObjectProvider<CachedListPatcher<?>> listPatchers;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<CachedEntry, ReadSet> entries = new ConcurrentHashMap<>();
+    private final Set<ReadSet> loading = ConcurrentHashMap.newKeySet();
+    private final Map<CachedEntry, Patch> patching = new ConcurrentHashMap<>();
+    private final Map<List<String>, Counter> patchCounters = new ConcurrentHashMap<>();
+    private final ExecutorService patchExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("cache-patch-", 0).factory());
+
+    // ===== LOADS =====
+
+    ReadSet beginLoad() {
+        ReadSet readSet = tracker.begin();
+        loading.add(readSet);
+        return readSet;
+    }
+
+    /**
+     * Called once the loaded value is in the cache, or the load failed
+     */
+    void endLoad(ReadSetTrackingCache cache, Object key, ReadSet readSet, boolean stored) {
+        tracker.end(readSet);
+        if (stored) {
+            entries.put(new CachedEntry(cache, key), readSet);
+        }
+        loading.remove(readSet);
+
+        if (stored && readSet.isInvalidated()) {
+            // A change committed while the value was being computed
+            evict(new CachedEntry(cache, key), readSet);
+        }
+    }
+
+    /**
+     * A cache hit inside another cached method: the caller depends on the entry's reads
+     */
+    void served(ReadSetTrackingCache cache, Object key) {
+        ReadSet caller = tracker.current();
+        if (caller == null) {
+            return;
+        }
+        tracker.include(entries.get(new CachedEntry(cache, key)));
+    }
+
+    void stored(ReadSetTrackingCache cache, Object key) {
+        entries.put(new CachedEntry(cache, key), ReadSet.untracked());
+    }
+
+    void removed(ReadSetTrackingCache cache, Object key) {
+        CachedEntry entry = new CachedEntry(cache, key);
+        entries.remove(entry);
+        Optional.ofNullable(patching.get(entry)).ifPresent(patch -> patch.reads().invalidate());
+    }
+
+    void cleared(ReadSetTrackingCache cache) {
+        entries.keySet().removeIf(entry -> entry.cache() == cache);
+        patching.forEach((entry, patch) -> {
+            if (entry.cache() == cache) {
+                patch.reads().invalidate();
+            }
+        });
+    }
+
+    // ===== INVALIDATION =====
+
+    // Runs ahead of the snapshot rebuild so the rebuild reads fresh values
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onDataChanged(PortfolioDataChangedEvent event) {
+        EntityPersister persister = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .findEntityDescriptor(event.entityClass());
+        if (persister == null) {
+            return;
+        }
+
+        Set<String> changedSpaces = new HashSet<>();
+        persister.visitQuerySpaces(changedSpaces::add);
+        ReadSet.EntityRef changedEntity = new ReadSet.EntityRef(persister.getEntityName(), event.entityId());
+        sharedTier.ifAvailable(tier -> tier.invalidate(changedSpaces, changedEntity));
+
+        loading.forEach(readSet -> {
+            if (readSet.intersects(changedSpaces, changedEntity)) {
+                readSet.invalidate();
+            }
+        });
+
+        // Before new patches start, so this change is not queued on them twice
+        patching.values().forEach(patch -> {
+            if (patch.reads().intersects(changedSpaces, changedEntity)
+                    && !(patch.patcher().handles(event.entityClass()) && patch.offer(event))) {
+                patch.reads().invalidate();
+            }
+        });
+
+        Map<String, CachedListPatcher<?>> patchers = patchersFor(event.entityClass());
+        int evicted = 0;
+        int started = 0;
+        for (Map.Entry<CachedEntry, ReadSet> entry : entries.entrySet()) {
+            CachedEntry cached = entry.getKey();
+            if (entry.getValue().intersects(changedSpaces, changedEntity)) {
+                CachedListPatcher<?> patcher = patchers.get(cached.cache().getName());
+                if (patcher != null && startPatch(cached, entry.getValue(), patcher, event)) {
+                    started++;
+                } else {
+                    evict(cached, entry.getValue());
+                    evicted++;
+                }
+            } else if (!cached.cache().contains(cached.key())) {
+                // Expired or evicted by size, forget its read set
+                entries.remove(cached, entry.getValue());
+            }
+        }
+
+        if (evicted > 0 || started > 0) {
+            log.debug("{} {}#{} invalidated {} cache entries, patching {}",
+                    event.changeType(), persister.getEntityName(), event.entityId(), evicted, started);
+        }
+    }
+
+    /**
+     * Evicts the entries that read any of the given query spaces, for data changed
+     * outside of Hibernate such as a refreshed materialized view
+     */
+    public void invalidateQuerySpaces(Set<String> spaces) {
+        ReadSet.EntityRef noEntity = new ReadSet.EntityRef("", null);
+        sharedTier.ifAvailable(tier -> tier.invalidate(spaces, noEntity));
+
+        loading.forEach(readSet -> {
+            if (readSet.intersects(spaces, noEntity)) {
+                readSet.invalidate();
+            }
+        });
+        patching.values().forEach(patch -> {
+            if (patch.reads().intersects(spaces, noEntity)) {
+                patch.reads().invalidate();
+            }
+        });
+        entries.forEach((entry, readSet) -> {
+            if (readSet.intersects(spaces, noEntity)) {
+                evict(entry, readSet);
+            }
+        });
+    }
+
+    // ===== LIST PATCHING =====
+
+    private Map<String, CachedListPatcher<?>> patchersFor(Class<?> changedClass) {
+        Map<String, CachedListPatcher<?>> matching = new HashMap<>();
+        listPatchers.orderedStream()
+                .filter(patcher -> patcher.handles(changedClass))
+                .forEach(patcher -> matching.put(patcher.cacheName(), patcher));
+        return matching;
+    }
+
+    /**
+     * Evicts the list and patches its last value in the background; false when there is
+     * no value left to patch
+     */
+    private boolean startPatch(CachedEntry entry, ReadSet reads, CachedListPatcher<?> patcher,
+                               PortfolioDataChangedEvent event) {
+        Object value = entry.cache().getNativeCache().getIfPresent(entry.key());
+        if (value == null) {
+            return false;
+        }
+        ReadSet patchReads = new ReadSet(null);
+        patchReads.include(reads);
+        // Registered before the eviction, so a concurrent change finds either of them
+        Patch patch = new Patch(entry, value, patchReads, patcher, event);
+        Optional.ofNullable(patching.put(entry, patch)).ifPresent(previous -> previous.reads().invalidate());
+        evict(entry, reads);
+        patchExecutor.execute(() -> run(patch));
+        return true;
+    }
+
+    /**
+     * Applies the queued changes one element at a time, then stores the patched list
+     * back unless it was loaded again or a change it read came in meanwhile
+     */
+    private void run(Patch patch) {
+        CachedEntry entry = patch.entry();
+        boolean restored = false;
+        try {
+            Object value = patch.value();
+            for (PortfolioDataChangedEvent change = patch.next(); change != null; change = patch.next()) {
+                Optional<?> element = load(patch, change);
+                if (element == null) {
+                    patch.reads().invalidate();
+                    break;
+                }
+                value = patch.patcher().patch(value, change.entityId(), cast(element));
+            }
+            restored = !patch.reads().isInvalidated() && entry.cache().restore(entry.key(), value, patch.reads());
+        } catch (RuntimeException e) {
+            log.warn("Patching cache '{}' key {} failed, leaving it evicted: {}",
+                    entry.cache().getName(), entry.key(), e.getMessage());
+        } finally {
+            patch.close();
+            if (restored) {
+                entries.put(entry, patch.reads());
+            }
+            patching.remove(entry, patch);
+            if (restored && patch.reads().isInvalidated()) {
+                // A change it read came in while the list was being stored back
+                evict(entry, patch.reads());
+                restored = false;
+            }
+            countPatch(entry.cache().getName(), restored);
+        }
+    }
+
+    /**
+     * Loads the element of a change for the list, empty when it left the list, null when
+     * every load raced another change. A change committed during the load may have been
+     * missed by it, so the element is loaded again; changes of other rows of the same
+     * table, such as the other rows of one commit, do that.
+     */
+    private Optional<?> load(Patch patch, PortfolioDataChangedEvent change) {
+        if (change.changeType() == PortfolioDataChangedEvent.ChangeType.DELETE) {
+            return Optional.empty();
+        }
+        for (int attempt = 0; attempt < PATCH_ATTEMPTS; attempt++) {
+            ReadSet elementReads = beginLoad();
+            try {
+                Optional<?> element = patch.patcher().load(patch.entry().key(), change.entityId());
+                if (!elementReads.isInvalidated()) {
+                    patch.reads().include(elementReads);
+                    return element;
+                }
+            } finally {
+                tracker.end(elementReads);
+                loading.remove(elementReads);
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Optional<T> cast(Optional<?> element) {
+        return (Optional<T>) element;
+    }
+
+    private void countPatch(String cacheName, boolean restored) {
+        String result = restored ? "patched" : "evicted";
+        patchCounters.computeIfAbsent(List.of(cacheName, result), tags -> Counter.builder("cache.patches")
+                        .description("Cached lists patched in place after a change of one element, or left evicted")
+                        .tags("cache", tags.get(0), "result", tags.get(1))
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private void evict(CachedEntry entry, ReadSet readSet) {
+        if (entries.remove(entry, readSet)) {
+            entry.cache().evictTracked(entry.key());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        patchExecutor.shutdownNow();
+    }
+
+    private record CachedEntry(ReadSetTrackingCache cache, Object key) {
+    }
+
+    /**
+     * A list being patched: the value it had when evicted, what it read, and the changes
+     * of its elements still to apply. Once closed it takes no more changes.
+     */
+    private static final class Patch {
+
+        private final CachedEntry entry;
+        private final Object value;
+        private final ReadSet reads;
+        private final CachedListPatcher<?> patcher;
+        private final Queue<PortfolioDataChangedEvent> changes = new ArrayDeque<>();
+        private boolean closed;
+
+        private Patch(CachedEntry entry, Object value, ReadSet reads, CachedListPatcher<?> patcher,
+                      PortfolioDataChangedEvent change) {
+            this.entry = entry;
+            this.value = value;
+            this.reads = reads;
+            this.patcher = patcher;
+            this.changes.add(change);
+        }
+
+        CachedEntry entry() {
+            return entry;
+        }
+
+        Object value() {
+            return value;
+        }
+
+        ReadSet reads() {
+            return reads;
+        }
+
+        CachedListPatcher<?> patcher() {
+            return patcher;
+        }
+
+        synchronized boolean offer(PortfolioDataChangedEvent change) {
+            return !closed && changes.add(change);
+        }
+
+        // The next change to apply; none left closes the patch
+        synchronized PortfolioDataChangedEvent next() {
+            PortfolioDataChangedEvent change = changes.poll();
+            closed = change == null;
+            return change;
+        }
+
+        synchronized void close() {
+            closed = true;
+        }
+    }
+}
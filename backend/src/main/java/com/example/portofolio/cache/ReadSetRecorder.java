@@ -0,0 +1,80 @@
+package com.example.portofolio.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AutoFlushEvent;
+import org.hibernate.event.spi.AutoFlushEventListener;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Feeds Hibernate reads into the current {@link ReadSet}. Every query announces the
+ * tables it is about to read through the auto-flush event, loads by id and lazy
+ * collection initializations are recorded from their own events. All three fire
+ * before the SQL runs, so no committed change can slip between a read and its record.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReadSetRecorder implements AutoFlushEventListener, LoadEventListener, InitializeCollectionEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ReadSetTracker tracker;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = sessionFactory()
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.AUTO_FLUSH, this);
+        registry.appendListeners(EventType.LOAD, this);
+        registry.appendListeners(EventType.INIT_COLLECTION, this);
+        log.debug("Registered read set recorder");
+    }
+
+    @Override
+    public void onAutoFlush(AutoFlushEvent event) {
+        if (tracker.current() == null) {
+            return;
+        }
+        if (event.getQuerySpaces().isEmpty()) {
+            // A native query that did not declare the tables it reads
+            tracker.recordUntracked();
+        } else {
+            tracker.recordQuerySpaces(event.getQuerySpaces());
+        }
+    }
+
+    @Override
+    public void onLoad(LoadEvent event, LoadType loadType) {
+        if (tracker.current() != null) {
+            tracker.recordEntity(event.getEntityClassName(), event.getEntityId());
+        }
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        if (tracker.current() == null) {
+            return;
+        }
+        String[] spaces = sessionFactory().getMappingMetamodel()
+                .getCollectionDescriptor(event.getCollection().getRole())
+                .getCollectionSpaces();
+        tracker.recordQuerySpaces(List.of(spaces));
+    }
+
+    private SessionFactoryImplementor sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.portofolio.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+
+/**
+ * Holds the read set of the cached method running on the current thread. Hibernate
+ * reads are attributed to it; without one, recording is a no-op.
+ */
+@Component
+public class ReadSetTracker {
+
+    private final ThreadLocal<ReadSet> current = new ThreadLocal<>();
+
+    public ReadSet current() {
+        return current.get();
+    }
+
+    /**
+     * Starts a read set nested in the current one; reads also count for the enclosing sets
+     */
+    public ReadSet begin() {
+        ReadSet readSet = new ReadSet(current.get());
+        current.set(readSet);
+        return readSet;
+    }
+
+    public void end(ReadSet readSet) {
+        if (readSet.parent() == null) {
+            current.remove();
+        } else {
+            current.set(readSet.parent());
+        }
+    }
+
+    /**
+     * Wraps a task handed to another thread so its reads count for the caller
+     */
+    public <T> Callable<T> propagate(Callable<T> task) {
+        ReadSet captured = current.get();
+        if (captured == null) {
+            return task;
+        }
+        return () -> {
+            ReadSet previous = current.get();
+            current.set(captured);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    current.remove();
+                } else {
+                    current.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * Makes the current read set depend on reads done elsewhere, null meaning unknown
+     */
+    public void include(ReadSet reads) {
+        ReadSet readSet = current.get();
+        if (readSet != null) {
+            readSet.include(reads != null ? reads : ReadSet.untracked());
+        }
+    }
+
+    // ===== RECORDING =====
+
+    void recordQuerySpaces(Collection<String> spaces) {
+        ReadSet readSet = current.get();
+        if (readSet != null) {
+            readSet.recordQuerySpaces(spaces);
+        }
+    }
+
+    void recordEntity(String entityName, Object id) {
+        ReadSet readSet = current.get();
+        if (readSet != null) {
+            readSet.recordEntity(new ReadSet.EntityRef(entityName, id));
+        }
+    }
+
+    void recordUntracked() {
+        ReadSet readSet = current.get();
+        if (readSet != null) {
+            readSet.recordUntracked();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.portofolio.cache;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Caffeine cache that remembers the read set of every value it loads, so
+ * {@link ReadSetInvalidator} can evict exactly the entries a change affects.
+ * Tracking needs {@code @Cacheable(sync = true)}: values stored through a plain
+ * put have no read set and are evicted by any change.
+ * <p>
+ * With a refresh-after-write, entries older than it are still served while
+ * {@link RefreshAhead} reloads them in the background. With a {@link RedisCacheTier},
+ * misses are looked up there before the cached method runs, and computed values are
+ * shared with the other nodes for as long as the region's expire-after-write.
+ */
+public class ReadSetTrackingCache extends CaffeineCache {
+
+    private final ReadSetInvalidator invalidator;
+    private final RefreshAhead refreshAhead;
+    private final Duration refreshAfterWrite;
+    private final RedisCacheTier sharedTier;
+
+    public ReadSetTrackingCache(String name,
+                                com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                boolean allowNullValues,
+                                ReadSetInvalidator invalidator,
+                                RefreshAhead refreshAhead,
+                                Duration refreshAfterWrite,
+                                RedisCacheTier sharedTier) {
+        super(name, cache, allowNullValues);
+        this.invalidator = invalidator;
+        this.refreshAhead = refreshAhead;
+        this.refreshAfterWrite = refreshAfterWrite;
+        this.sharedTier = sharedTier;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (refreshAfterWrite != null) {
+            if (refreshAhead.isRefreshing(this, key)) {
+                return reload(key, valueLoader);
+            }
+            if (isStale(key)) {
+                refreshAhead.schedule(this, key);
+            }
+        }
+
+        ReadSet[] loaded = new ReadSet[1];
+        boolean[] computed = new boolean[1];
+        boolean stored = false;
+        T value = null;
+        try {
+            value = super.get(key, () -> {
+                loaded[0] = invalidator.beginLoad();
+                RedisCacheTier.Entry shared = sharedTier == null ? null : sharedTier.get(getName(), key);
+                if (shared != null) {
+                    loaded[0].include(shared.reads());
+                    return (T) shared.value();
+                }
+                computed[0] = true;
+                return valueLoader.call();
+            });
+            stored = true;
+            return value;
+        } finally {
+            if (loaded[0] != null) {
+                invalidator.endLoad(this, key, loaded[0], stored);
+                if (stored && computed[0]) {
+                    share(key, value, loaded[0]);
+                }
+            } else if (stored) {
+                invalidator.served(this, key);
+            }
+        }
+    }
+
+    private boolean isStale(Object key) {
+        return getNativeCache().policy().expireAfterWrite()
+                .flatMap(expiry -> expiry.ageOf(key))
+                .filter(age -> age.compareTo(refreshAfterWrite) >= 0)
+                .isPresent();
+    }
+
+    // Loads past the stale value and replaces it, with the read set of the new value
+    private <T> T reload(Object key, Callable<T> valueLoader) {
+        ReadSet loaded = invalidator.beginLoad();
+        boolean stored = false;
+        T value = null;
+        try {
+            value = valueLoader.call();
+            super.put(key, value);
+            stored = true;
+            return value;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            invalidator.endLoad(this, key, loaded, stored);
+            if (stored) {
+                share(key, value, loaded);
+            }
+        }
+    }
+
+    // A change committed during the write would have found no shared entry to delete
+    private void share(Object key, Object value, ReadSet reads) {
+        if (sharedTier == null || reads.isInvalidated()) {
+            return;
+        }
+        Duration timeToLive = getNativeCache().policy().expireAfterWrite()
+                .map(Policy.FixedExpiration::getExpiresAfter)
+                .orElse(null);
+        sharedTier.put(getName(), key, value, reads, timeToLive);
+        if (reads.isInvalidated()) {
+            sharedTier.evict(getName(), key);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        invalidator.stored(this, key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = super.putIfAbsent(key, value);
+        if (existing == null) {
+            invalidator.stored(this, key);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        invalidator.removed(this, key);
+        super.evict(key);
+        if (sharedTier != null) {
+            sharedTier.evict(getName(), key);
+        }
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        invalidator.removed(this, key);
+        if (sharedTier != null) {
+            sharedTier.evict(getName(), key);
+        }
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        invalidator.cleared(this);
+        super.clear();
+        if (sharedTier != null) {
+            sharedTier.clear(getName());
+        }
+    }
+
+    @Override
+    public boolean invalidate() {
+        invalidator.cleared(this);
+        if (sharedTier != null) {
+            sharedTier.clear(getName());
+        }
+        return super.invalidate();
+    }
+
+    /**
+     * Stores the patched copy of an evicted value and shares it like a computed one;
+     * false when the entry was loaded again in the meantime
+     */
+    boolean restore(Object key, Object patched, ReadSet reads) {
+        if (getNativeCache().asMap().putIfAbsent(key, patched) != null) {
+            return false;
+        }
+        share(key, patched, reads);
+        return true;
+    }
+
+    boolean contains(Object key) {
+        return getNativeCache().asMap().containsKey(key);
+    }
+
+    void evictTracked(Object key) {
+        super.evict(key);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.portofolio.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Caffeine cache manager whose caches track the read set of their entries and, for
+ * the regions given a refresh-after-write, refresh stale entries ahead of expiry.
+ * With a shared tier, every region is backed by Redis as well.
+ */
+public class ReadSetTrackingCacheManager extends CaffeineCacheManager {
+
+    private final ReadSetInvalidator invalidator;
+    private final RefreshAhead refreshAhead;
+    private final Map<String, Duration> refreshAfterWrite;
+    private final RedisCacheTier sharedTier;
+
+    public ReadSetTrackingCacheManager(ReadSetInvalidator invalidator,
+                                       RefreshAhead refreshAhead,
+                                       Map<String, Duration> refreshAfterWrite,
+                                       RedisCacheTier sharedTier) {
+        this.invalidator = invalidator;
+        this.refreshAhead = refreshAhead;
+        this.refreshAfterWrite = Map.copyOf(refreshAfterWrite);
+        this.sharedTier = sharedTier;
+    }
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        return new ReadSetTrackingCache(name, cache, isAllowNullValues(), invalidator,
+                refreshAhead, refreshAfterWrite.get(name), sharedTier);
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.portofolio.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Shared tier behind the Caffeine near-cache of every node. A value is stored as
+ * Smile (binary JSON) together with its read set, so the node that reads it back can
+ * still invalidate it precisely. Index sets per table and per entity row let a change
+ * delete exactly the shared entries it affects.
+ * <p>
+ * Values are read back as the return type of the cached method running on the thread,
+ * see {@link CachedInvocations}. Redis failures only cost the shared tier: reads
+ * become misses and writes are skipped, the caller never fails.
+ */
+@Slf4j
+public class RedisCacheTier {
+
+    private static final String UNTRACKED_INDEX = "untracked";
+
+    // KEYS[1] value, KEYS[2..] index sets; ARGV[1] bytes, ARGV[2] time to live in ms.
+    // Index sets live as long as their longest-lived member.
+    private static final RedisScript<Long> PUT = RedisScript.of("""
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            for i = 2, #KEYS do
+                redis.call('SADD', KEYS[i], KEYS[1])
+                if redis.call('PTTL', KEYS[i]) < tonumber(ARGV[2]) then
+                    redis.call('PEXPIRE', KEYS[i], ARGV[2])
+                end
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS are index sets: deletes their members and the sets, atomically with PUT
+    private static final RedisScript<Long> INVALIDATE = RedisScript.of("""
+            local members = redis.call('SUNION', unpack(KEYS))
+            for i = 1, #members, 500 do
+                redis.call('DEL', unpack(members, i, math.min(i + 499, #members)))
+            end
+            redis.call('DEL', unpack(KEYS))
+            return #members
+            """, Long.class);
+
+    private final RedisTemplate<String, byte[]> redis;
+    private final ObjectMapper smile;
+    private final CachedInvocations invocations;
+    private final MeterRegistry meterRegistry;
+    private final String keyPrefix;
+
+    public RedisCacheTier(RedisTemplate<String, byte[]> redis,
+                          ObjectMapper smile,
+                          CachedInvocations invocations,
+                          MeterRegistry meterRegistry,
+                          String keyPrefix) {
+        this.redis = redis;
+        this.smile = smile;
+        this.invocations = invocations;
+        this.meterRegistry = meterRegistry;
+        this.keyPrefix = keyPrefix;
+    }
+
+    /**
+     * A value with the reads it was computed from
+     */
+    record Entry(Object value, ReadSet reads) {
+    }
+
+    // Stored form; entity ids are the Long ids of BaseEntity
+    record Stored(Set<String> querySpaces, Set<String> entities, boolean untracked, byte[] value) {
+    }
+
+    // ===== READS =====
+
+    /**
+     * The shared value of the entry, or null on a miss, on errors and when no cached
+     * method runs on this thread to tell the value's type
+     */
+    Entry get(String cacheName, Object key) {
+        CachedInvocations.Invocation invocation = invocations.current();
+        if (invocation == null) {
+            return null;
+        }
+        try {
+            byte[] bytes = redis.opsForValue().get(valueKey(cacheName, key));
+            if (bytes == null) {
+                count(cacheName, "miss");
+                return null;
+            }
+            Stored stored = smile.readValue(bytes, Stored.class);
+            Object value = smile.readValue(stored.value(), valueType(invocation));
+            count(cacheName, "hit");
+            return new Entry(value, ReadSet.of(stored.querySpaces(), entityRefs(stored.entities()), stored.untracked()));
+        } catch (Exception e) {
+            count(cacheName, "error");
+            log.warn("Shared cache read of '{}' key {} failed: {}", cacheName, key, e.getMessage());
+            return null;
+        }
+    }
+
+    // Spring caches the content of an Optional, the stored value is never wrapped
+    private JavaType valueType(CachedInvocations.Invocation invocation) {
+        JavaType type = smile.getTypeFactory().constructType(invocation.method().getGenericReturnType());
+        return type.hasRawClass(Optional.class) ? type.containedType(0) : type;
+    }
+
+    // ===== WRITES =====
+
+    void put(String cacheName, Object key, Object value, ReadSet reads, Duration timeToLive) {
+        if (value == null || timeToLive == null) {
+            return;
+        }
+        String valueKey = valueKey(cacheName, key);
+        try {
+            Set<String> entities = new HashSet<>();
+            reads.entities().forEach(entity -> entities.add(entity.entityName() + "#" + entity.id()));
+            byte[] bytes = smile.writeValueAsBytes(new Stored(
+                    reads.querySpaces(), entities, reads.isUntracked(), smile.writeValueAsBytes(value)));
+
+            List<String> keys = new ArrayList<>();
+            keys.add(valueKey);
+            keys.addAll(indexKeys(reads.querySpaces(), entities, reads.isUntracked()));
+            redis.execute(PUT, keys, bytes, ascii(timeToLive.toMillis()));
+        } catch (Exception e) {
+            log.warn("Shared cache write of '{}' key {} failed: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    void evict(String cacheName, Object key) {
+        try {
+            redis.delete(valueKey(cacheName, key));
+        } catch (Exception e) {
+            log.warn("Shared cache eviction of '{}' key {} failed: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    void clear(String cacheName) {
+        ScanOptions options = ScanOptions.scanOptions().match(keyPrefix + ":value:" + cacheName + ":*").count(500).build();
+        try (Cursor<String> cursor = redis.scan(options)) {
+            List<String> keys = new ArrayList<>();
+            cursor.forEachRemaining(keys::add);
+            if (!keys.isEmpty()) {
+                redis.delete(keys);
+            }
+        } catch (Exception e) {
+            log.warn("Shared cache clear of '{}' failed: {}", cacheName, e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the shared entries a committed change of the row could have altered
+     */
+    void invalidate(Collection<String> changedSpaces, ReadSet.EntityRef changedEntity) {
+        Set<String> entity = changedEntity.id() == null
+                ? Set.of()
+                : Set.of(changedEntity.entityName() + "#" + changedEntity.id());
+        try {
+            Long deleted = redis.execute(INVALIDATE, indexKeys(changedSpaces, entity, true));
+            if (deleted != null && deleted > 0) {
+                Counter.builder("cache.remote.invalidations")
+                        .description("Shared cache entries deleted by data changes")
+                        .register(meterRegistry)
+                        .increment(deleted);
+            }
+        } catch (Exception e) {
+            log.warn("Shared cache invalidation of {} failed, entries expire with their TTL: {}",
+                    changedSpaces, e.getMessage());
+        }
+    }
+
+    // ===== KEYS =====
+
+    private String valueKey(String cacheName, Object key) {
+        return keyPrefix + ":value:" + cacheName + ":" + key;
+    }
+
+    private List<String> indexKeys(Collection<String> spaces, Collection<String> entities, boolean untracked) {
+        List<String> keys = new ArrayList<>();
+        spaces.forEach(space -> keys.add(keyPrefix + ":space:" + space));
+        entities.forEach(entity -> keys.add(keyPrefix + ":entity:" + entity));
+        if (untracked) {
+            keys.add(keyPrefix + ":" + UNTRACKED_INDEX);
+        }
+        return keys;
+    }
+
+    private static Set<ReadSet.EntityRef> entityRefs(Set<String> entities) {
+        Set<ReadSet.EntityRef> refs = new HashSet<>();
+        for (String entity : entities) {
+            int separator = entity.lastIndexOf('#');
+            refs.add(new ReadSet.EntityRef(entity.substring(0, separator), Long.valueOf(entity.substring(separator + 1))));
+        }
+        return refs;
+    }
+
+    private static byte[] ascii(long number) {
+        return Long.toString(number).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private void count(String cacheName, String result) {
+        Counter.builder("cache.remote.requests")
+                .description("Near-cache misses looked up in the shared Redis tier")
+                .tags("cache", cacheName, "result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
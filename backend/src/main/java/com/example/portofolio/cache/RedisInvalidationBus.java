@@ -0,0 +1,93 @@
+package com.example.portofolio.cache;
+
+import com.example.portofolio.event.PortfolioDataChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Relays committed data changes between nodes over Redis pub/sub. A change received
+ * from another node is published here as a local {@link PortfolioDataChangedEvent},
+ * so the near-caches, data version, snapshot and response cache of every node react
+ * to it as if the write had happened locally.
+ */
+@Slf4j
+public class RedisInvalidationBus implements MessageListener {
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // Set while a remote change is published locally, which must not be relayed back
+    private final ThreadLocal<Boolean> replaying = new ThreadLocal<>();
+
+    public RedisInvalidationBus(StringRedisTemplate redis,
+                                ObjectMapper objectMapper,
+                                ApplicationEventPublisher eventPublisher,
+                                String channel) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.channel = channel;
+    }
+
+    record Change(String node, String entityClass, Long entityId, PortfolioDataChangedEvent.ChangeType changeType,
+                  Set<String> changedProperties) {
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    // After the local listeners, the shared tier is already cleaned up when others hear of it
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onDataChanged(PortfolioDataChangedEvent event) {
+        if (Boolean.TRUE.equals(replaying.get())) {
+            return;
+        }
+        Long entityId = event.entityId() instanceof Number number ? number.longValue() : null;
+        try {
+            redis.convertAndSend(channel, objectMapper.writeValueAsString(
+                    new Change(nodeId, event.entityClass().getName(), entityId, event.changeType(),
+                            event.changedProperties())));
+        } catch (Exception e) {
+            log.warn("Failed to relay {} {}#{} to other nodes, their caches expire with the TTL: {}",
+                    event.changeType(), event.entityClass().getSimpleName(), entityId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Change change = objectMapper.readValue(message.getBody(), Change.class);
+            if (nodeId.equals(change.node())) {
+                return;
+            }
+            Class<?> entityClass = ClassUtils.forName(change.entityClass(), getClass().getClassLoader());
+            replaying.set(true);
+            try {
+                eventPublisher.publishEvent(new PortfolioDataChangedEvent(entityClass, change.entityId(),
+                        change.changeType(), change.changedProperties()));
+            } finally {
+                replaying.remove();
+            }
+            log.debug("Applied {} {}#{} from node {}", change.changeType(), entityClass.getSimpleName(),
+                    change.entityId(), change.node());
+        } catch (Exception e) {
+            log.warn("Failed to apply a cache invalidation from another node: {}", e.getMessage(), e);
+        }
+    }
+}
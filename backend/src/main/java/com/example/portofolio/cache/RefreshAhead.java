@@ -0,0 +1,98 @@
+package com.example.portofolio.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stale-while-revalidate for cache regions with a refresh-after-write (soft TTL).
+ * Past the soft TTL the cached value is still served, while one background task per
+ * entry calls the cached method again through its proxy and replaces the value. The
+ * region's expire-after-write stays the hard limit: a value whose refreshes keep
+ * failing expires as usual.
+ * <p>
+ * The cached method to call is the one running when the stale entry is read, as
+ * recorded in {@link CachedInvocations}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshAhead {
+
+    private final CachedInvocations invocations;
+    private final MeterRegistry meterRegistry;
+
+    private final ThreadLocal<Refresh> refreshing = new ThreadLocal<>();
+    private final Set<Refresh> inFlight = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("cache-refresh-", 0).factory());
+
+    // ===== REFRESH =====
+
+    /**
+     * Whether this thread is the refresh of the entry, which must load instead of
+     * being served the stale value
+     */
+    boolean isRefreshing(ReadSetTrackingCache cache, Object key) {
+        return new Refresh(cache.getName(), key).equals(refreshing.get());
+    }
+
+    /**
+     * Whether this thread is running a background refresh of any entry
+     */
+    public boolean isRefreshThread() {
+        return refreshing.get() != null;
+    }
+
+    /**
+     * Starts a background refresh of the entry, unless one is already running or the
+     * cached method is unknown on this thread
+     */
+    void schedule(ReadSetTrackingCache cache, Object key) {
+        CachedInvocations.Invocation invocation = invocations.current();
+        Refresh refresh = new Refresh(cache.getName(), key);
+        if (invocation == null || !inFlight.add(refresh)) {
+            return;
+        }
+        executor.execute(() -> run(refresh, invocation));
+    }
+
+    private void run(Refresh refresh, CachedInvocations.Invocation invocation) {
+        refreshing.set(refresh);
+        long start = System.nanoTime();
+        String result = "success";
+        try {
+            AopUtils.invokeJoinpointUsingReflection(invocation.proxy(), invocation.method(), invocation.args());
+        } catch (Throwable e) {
+            result = "failure";
+            log.warn("Refresh of cache '{}' key {} failed, serving the stale value: {}",
+                    refresh.cacheName(), refresh.key(), e.getMessage());
+        } finally {
+            refreshing.remove();
+            inFlight.remove(refresh);
+            Timer.builder("cache.refresh")
+                    .description("Background refreshes of entries past their refresh-after-write")
+                    .tags("cache", refresh.cacheName(), "result", result)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record Refresh(String cacheName, Object key) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.portofolio.coalesce;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Concurrent calls with the same target, method, arguments and data version share one
+ * computation: the first call runs the method and the others wait for its result, see
+ * {@link SingleFlight}. Nothing is kept once the computation ends. Calls from within
+ * the same bean must go through its proxy, like for {@code @Cacheable}.
+ * <p>
+ * Meant for reads that are not cached: {@code @Cacheable(sync = true)} already lets
+ * one caller compute a missing entry, and would pay for the flight on every hit.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesced {
+}
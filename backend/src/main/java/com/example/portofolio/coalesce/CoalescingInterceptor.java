@@ -0,0 +1,19 @@
+package com.example.portofolio.coalesce;
+
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Runs {@link Coalesced} calls through {@link SingleFlight}
+ */
+@RequiredArgsConstructor
+public class CoalescingInterceptor implements MethodInterceptor {
+
+    private final SingleFlight singleFlight;
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        return singleFlight.execute(invocation);
+    }
+}
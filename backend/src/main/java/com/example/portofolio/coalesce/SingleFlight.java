@@ -0,0 +1,164 @@
+package com.example.portofolio.coalesce;
+
+import com.example.portofolio.cache.ReadSet;
+import com.example.portofolio.cache.ReadSetTracker;
+import com.example.portofolio.cache.RefreshAhead;
+import com.example.portofolio.event.DataVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Calls of {@link Coalesced} methods currently in flight. The first call of a key
+ * leads and runs the method; concurrent calls of the same key follow and get its
+ * result, so an expired hot entry costs one computation instead of one per request.
+ * <p>
+ * The key includes the {@link DataVersion}: a call that starts after a change never
+ * joins a computation that may have read the data before it. A failure of the leader
+ * is rethrown to the followers waiting on it, and the next call computes again. A
+ * follower waits at most the wait timeout and then computes on its own, which also
+ * breaks cycles between two flights waiting on each other.
+ */
+@Component
+@Slf4j
+public class SingleFlight {
+
+    private final DataVersion dataVersion;
+    private final ReadSetTracker readSetTracker;
+    private final RefreshAhead refreshAhead;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration waitTimeout;
+
+    private final Map<Key, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Map<List<String>, Counter> calls = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SingleFlight(DataVersion dataVersion,
+                        ReadSetTracker readSetTracker,
+                        RefreshAhead refreshAhead,
+                        MeterRegistry meterRegistry,
+                        @Value("${portfolio.single-flight.enabled:true}") boolean enabled,
+                        @Value("${portfolio.single-flight.wait-timeout:5s}") Duration waitTimeout) {
+        this.dataVersion = dataVersion;
+        this.readSetTracker = readSetTracker;
+        this.refreshAhead = refreshAhead;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.waitTimeout = waitTimeout;
+
+        Gauge.builder("portfolio.single-flight.in-flight", inFlight, Map::size)
+                .description("Coalesced computations currently running")
+                .register(meterRegistry);
+    }
+
+    // ===== EXECUTION =====
+
+    Object execute(MethodInvocation invocation) throws Throwable {
+        // A refresh must reach its cache, not take the result of a call that was served the stale value
+        if (!enabled || refreshAhead.isRefreshThread()) {
+            return invocation.proceed();
+        }
+
+        Key key = new Key(AopUtils.getTargetClass(invocation.getThis()), invocation.getMethod(),
+                Arrays.asList(invocation.getArguments().clone()), dataVersion.current());
+        Flight flight = new Flight(Thread.currentThread());
+        Flight existing = inFlight.putIfAbsent(key, flight);
+        if (existing == null) {
+            return lead(key, flight, invocation);
+        }
+        if (existing.owner() == Thread.currentThread()) {
+            // Recursive call of the same key
+            return invocation.proceed();
+        }
+        return follow(key, existing, invocation);
+    }
+
+    private Object lead(Key key, Flight flight, MethodInvocation invocation) throws Throwable {
+        ReadSet reads = readSetTracker.begin();
+        try {
+            Object result = invocation.proceed();
+            flight.reads = reads;
+            flight.result.complete(result);
+            count(key, "leader", "success");
+            return result;
+        } catch (Throwable e) {
+            flight.result.completeExceptionally(e);
+            count(key, "leader", "failure");
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+            readSetTracker.end(reads);
+        }
+    }
+
+    private Object follow(Key key, Flight flight, MethodInvocation invocation) throws Throwable {
+        Object result;
+        try {
+            result = flight.result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            count(key, "follower", "timeout");
+            log.debug("Gave up waiting {} for {}, computing on this thread", waitTimeout, key.name());
+            return invocation.proceed();
+        } catch (ExecutionException e) {
+            count(key, "follower", "failure");
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + key.name(), e);
+        }
+        // The caller depends on what the leader read
+        readSetTracker.include(flight.reads);
+        count(key, "follower", "success");
+        return result;
+    }
+
+    // Registered once per method, role and outcome
+    private void count(Key key, String role, String outcome) {
+        calls.computeIfAbsent(List.of(key.name(), role, outcome), tags -> Counter.builder("portfolio.single-flight.calls")
+                        .description("Calls of coalesced methods, by whether they computed (leader) or shared a result (follower)")
+                        .tags("method", tags.get(0), "role", tags.get(1), "outcome", tags.get(2))
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private record Key(Class<?> targetClass, Method method, List<Object> arguments, long dataVersion) {
+
+        String name() {
+            return targetClass.getSimpleName() + "." + method.getName();
+        }
+    }
+
+    private static final class Flight {
+
+        private final Thread owner;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        // Written before the result completes, read after
+        private volatile ReadSet reads;
+
+        private Flight(Thread owner) {
+            this.owner = owner;
+        }
+
+        Thread owner() {
+            return owner;
+        }
+    }
+}
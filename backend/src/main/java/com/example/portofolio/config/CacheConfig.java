@@ -0,0 +1,161 @@
+package com.example.portofolio.config;
+
+import com.example.portofolio.cache.CachedInvocationInterceptor;
+import com.example.portofolio.cache.CachedInvocations;
+import com.example.portofolio.cache.ReadSetInvalidator;
+import com.example.portofolio.cache.ReadSetTrackingCacheManager;
+import com.example.portofolio.cache.RedisCacheTier;
+import com.example.portofolio.cache.RefreshAhead;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caffeine-backed @Cacheable regions, each bounded and expiring as configured in
+ * {@link PortfolioCacheProperties} and invalidated by the read sets of their entries
+ * (see {@link ReadSetInvalidator}). Configured regions are created at startup so the
+ * actuator binds their hit, miss and eviction metrics to Micrometer; load counts and
+ * load time are bound here because the actuator only reports them for loading caches.
+ * Regions with a refresh-after-write serve stale entries while {@link RefreshAhead}
+ * reloads them. When {@link RedisCacheConfig} is enabled, the regions are near-caches
+ * in front of a shared {@link RedisCacheTier}.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(PortfolioCacheProperties.class)
+@Slf4j
+public class CacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.cache", name = "type", havingValue = "caffeine")
+    public CaffeineCacheManager cacheManager(PortfolioCacheProperties properties,
+                                             ReadSetInvalidator invalidator,
+                                             RefreshAhead refreshAhead,
+                                             ObjectProvider<RedisCacheTier> sharedTier) {
+        Map<String, Duration> refreshAfterWrite = new HashMap<>();
+        properties.getRegions().forEach((name, region) -> {
+            if (region.getRefreshAfterWrite() != null) {
+                refreshAfterWrite.put(name, region.getRefreshAfterWrite());
+            }
+        });
+        CaffeineCacheManager cacheManager = new ReadSetTrackingCacheManager(
+                invalidator, refreshAhead, refreshAfterWrite, sharedTier.getIfAvailable());
+        cacheManager.setCaffeine(builder("defaults", properties.getDefaults(), properties.getDefaults()));
+        properties.getRegions().forEach((name, region) -> {
+            cacheManager.registerCustomCache(name, builder(name, region, properties.getDefaults()).build());
+            log.debug("Cache region '{}' configured: {}", name, region);
+        });
+        log.info("Configured {} bounded cache regions", properties.getRegions().size());
+        return cacheManager;
+    }
+
+    // Outside the cache advisor, which keeps the default lowest precedence
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor cachedInvocationAdvisor(@Lazy CachedInvocations invocations) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(Cacheable.class),
+                new CachedInvocationInterceptor(invocations));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return advisor;
+    }
+
+    /**
+     * cache.load{result} and cache.load.duration per region, fed by the synchronized
+     * {@code @Cacheable(sync = true)} loads Caffeine records
+     */
+    @Bean
+    public MeterBinder cacheLoadMetrics(CacheManager cacheManager) {
+        return registry -> cacheManager.getCacheNames().forEach(name -> {
+            if (!(cacheManager.getCache(name) instanceof CaffeineCache caffeineCache)) {
+                return;
+            }
+            Cache<Object, Object> cache = caffeineCache.getNativeCache();
+            FunctionCounter.builder("cache.load", cache, c -> c.stats().loadSuccessCount())
+                    .tags("cache", name, "result", "success")
+                    .description("Values loaded into the cache by the cached method")
+                    .register(registry);
+            FunctionCounter.builder("cache.load", cache, c -> c.stats().loadFailureCount())
+                    .tags("cache", name, "result", "failure")
+                    .description("Cached method invocations that threw")
+                    .register(registry);
+            TimeGauge.builder("cache.load.duration", cache, TimeUnit.NANOSECONDS, c -> c.stats().totalLoadTime())
+                    .tags("cache", name)
+                    .description("Time spent in the cached method on misses")
+                    .register(registry);
+        });
+    }
+
+    private static Caffeine<Object, Object> builder(String name,
+                                                    PortfolioCacheProperties.Region region,
+                                                    PortfolioCacheProperties.Region defaults) {
+        Long maximumWeight = region.getMaximumWeight();
+        Long maximumSize = region.getMaximumSize() != null || maximumWeight != null
+                ? region.getMaximumSize()
+                : defaults.getMaximumSize();
+        if (maximumSize != null && maximumWeight != null) {
+            throw new IllegalStateException("Cache region '" + name + "' sets both maximum-size and maximum-weight");
+        }
+        if (maximumSize == null && maximumWeight == null) {
+            throw new IllegalStateException("Cache region '" + name + "' has no size or weight bound");
+        }
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (maximumWeight != null) {
+            builder.maximumWeight(maximumWeight).weigher(ELEMENT_WEIGHER);
+        } else {
+            builder.maximumSize(maximumSize);
+        }
+
+        Optional<Duration> expireAfterWrite = Optional.ofNullable(region.getExpireAfterWrite())
+                .or(() -> Optional.ofNullable(defaults.getExpireAfterWrite()));
+        expireAfterWrite.ifPresent(builder::expireAfterWrite);
+
+        // Staleness is measured as the entry age, which Caffeine only tracks with an expiry
+        Duration refreshAfterWrite = region.getRefreshAfterWrite();
+        if (refreshAfterWrite != null
+                && expireAfterWrite.filter(expiry -> refreshAfterWrite.compareTo(expiry) < 0).isEmpty()) {
+            throw new IllegalStateException("Cache region '" + name + "' needs a refresh-after-write shorter than its expire-after-write");
+        }
+        return builder;
+    }
+
+    // A cached list weighs as many units as it has elements, anything else one
+    private static final Weigher<Object, Object> ELEMENT_WEIGHER = (key, value) -> {
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        if (value instanceof Map<?, ?> map) {
+            return Math.max(1, map.size());
+        }
+        return 1;
+    };
+}
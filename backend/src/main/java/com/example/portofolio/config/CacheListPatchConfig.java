@@ -0,0 +1,49 @@
+package com.example.portofolio.config;
+
+import com.example.portofolio.cache.CachedListPatcher;
+import com.example.portofolio.dto.CertificateDto;
+import com.example.portofolio.dto.HobbyDto;
+import com.example.portofolio.dto.ProjectExportDto;
+import com.example.portofolio.dto.SkillDto;
+import com.example.portofolio.entity.Certificate;
+import com.example.portofolio.entity.Hobby;
+import com.example.portofolio.entity.Project;
+import com.example.portofolio.entity.Skill;
+import com.example.portofolio.service.core.CertificateService;
+import com.example.portofolio.service.core.ProjectService;
+import com.example.portofolio.service.core.SkillService;
+import com.example.portofolio.service.personal.HobbyService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The per-personal lists patched element by element when one of their entities
+ * changes, see {@link CachedListPatcher}. Each region is keyed by the personal id.
+ */
+@Configuration
+public class CacheListPatchConfig {
+
+    @Bean
+    public CachedListPatcher<ProjectExportDto> projectsByPersonalPatcher(ProjectService projectService) {
+        return new CachedListPatcher<>("projectsByPersonal", Project.class, ProjectExportDto::getId,
+                (personalId, id) -> projectService.findByPersonalIdAndId((Long) personalId, (Long) id));
+    }
+
+    @Bean
+    public CachedListPatcher<SkillDto> skillsPatcher(SkillService skillService) {
+        return new CachedListPatcher<>("skills", Skill.class, SkillDto::getId,
+                (personalId, id) -> skillService.findByPersonalIdAndId((Long) personalId, (Long) id));
+    }
+
+    @Bean
+    public CachedListPatcher<CertificateDto> certificatesByPersonalPatcher(CertificateService certificateService) {
+        return new CachedListPatcher<>("certificatesByPersonal", Certificate.class, CertificateDto::getId,
+                (personalId, id) -> certificateService.findByPersonalIdAndId((Long) personalId, (Long) id));
+    }
+
+    @Bean
+    public CachedListPatcher<HobbyDto> hobbiesByPersonalPatcher(HobbyService hobbyService) {
+        return new CachedListPatcher<>("hobbiesByPersonal", Hobby.class, HobbyDto::getId,
+                (personalId, id) -> hobbyService.findByPersonalIdAndId((Long) personalId, (Long) id));
+    }
+}
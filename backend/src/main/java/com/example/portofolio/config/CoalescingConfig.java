@@ -0,0 +1,33 @@
+package com.example.portofolio.config;
+
+import com.example.portofolio.coalesce.Coalesced;
+import com.example.portofolio.coalesce.CoalescingInterceptor;
+import com.example.portofolio.coalesce.SingleFlight;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Applies {@link Coalesced}. The advisor runs inside request memoization and outside
+ * the transaction and cache advisors, so followers neither hold a connection nor
+ * consult the cache while they wait.
+ */
+@Configuration
+public class CoalescingConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor coalescingAdvisor(@Lazy SingleFlight singleFlight) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(Coalesced.class),
+                new CoalescingInterceptor(singleFlight));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return advisor;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.portofolio.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Hibernate creates and updates the tables (ddl-auto), migrations only add what the
+ * entity mappings cannot express, such as the full-text search columns and indexes.
+ * Spring Boot migrates before the EntityManagerFactory starts, when those tables may
+ * not exist yet, so the migration is deferred until the context is refreshed and
+ * still runs before the instance reports ready.
+ * <p>
+ * On a schema without Flyway history, baseline-on-migrate records version 1 and
+ * applies every later migration.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.flyway", name = "enabled", matchIfMissing = true)
+@Slf4j
+public class FlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy deferredMigrationStrategy() {
+        return flyway -> log.debug("Deferring Flyway migration until the schema is up to date");
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public ApplicationRunner flywayMigration(Flyway flyway) {
+        return args -> {
+            int applied = flyway.migrate().migrationsExecuted;
+            log.info("Flyway applied {} migration(s)", applied);
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.portofolio.config;
+
+import com.example.portofolio.cache.ReadSetTracker;
+import com.example.portofolio.memo.MemoScopes;
+import com.example.portofolio.memo.MemoizationInterceptor;
+import com.example.portofolio.memo.RequestMemoized;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Applies {@link RequestMemoized}. The advisor runs outside the transaction and cache
+ * advisors, so a memoized hit skips both.
+ */
+@Configuration
+public class MemoizationConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor memoizationAdvisor(@Lazy MemoScopes memoScopes, @Lazy ReadSetTracker readSetTracker) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(RequestMemoized.class),
+                new MemoizationInterceptor(memoScopes, readSetTracker));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.portofolio.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounds and expiry of the @Cacheable regions (portfolio.cache in application.yml).
+ * A region without its own block uses the defaults.
+ */
+@Data
+@ConfigurationProperties(prefix = "portfolio.cache")
+public class PortfolioCacheProperties {
+
+    private Region defaults = new Region();
+    private Map<String, Region> regions = new LinkedHashMap<>();
+    private Redis redis = new Redis();
+
+    @Data
+    public static class Region {
+        // Either an entry count or a weight (elements of cached collections), not both
+        private Long maximumSize;
+        private Long maximumWeight;
+        private Duration expireAfterWrite;
+        // Soft TTL: older entries are served while refreshed, expire-after-write stays the hard one
+        private Duration refreshAfterWrite;
+    }
+
+    @Data
+    public static class Redis {
+        // Shared tier behind the regions, for deployments with more than one node
+        private boolean enabled;
+        private String keyPrefix = "portfolio:cache";
+        private String channel = "portfolio:cache:invalidation";
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.portofolio.config;
+
+import com.example.portofolio.cache.CachedInvocations;
+import com.example.portofolio.cache.RedisCacheTier;
+import com.example.portofolio.cache.RedisInvalidationBus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Shared Redis tier behind the Caffeine near-caches (portfolio.cache.redis). Values
+ * are Smile-encoded with the application's Jackson setup; committed changes travel
+ * between nodes over pub/sub so every near-cache is invalidated.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "portfolio.cache.redis", name = "enabled", havingValue = "true")
+@Slf4j
+public class RedisCacheConfig {
+
+    @Bean
+    public RedisCacheTier redisCacheTier(RedisConnectionFactory connectionFactory,
+                                         Jackson2ObjectMapperBuilder objectMapperBuilder,
+                                         CachedInvocations invocations,
+                                         MeterRegistry meterRegistry,
+                                         PortfolioCacheProperties properties) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+
+        ObjectMapper smile = objectMapperBuilder.factory(new SmileFactory()).build();
+        log.info("Shared Redis cache tier enabled under '{}'", properties.getRedis().getKeyPrefix());
+        return new RedisCacheTier(template, smile, invocations, meterRegistry, properties.getRedis().getKeyPrefix());
+    }
+
+    @Bean
+    public RedisInvalidationBus redisInvalidationBus(StringRedisTemplate redisTemplate,
+                                                     ObjectMapper objectMapper,
+                                                     ApplicationEventPublisher eventPublisher,
+                                                     PortfolioCacheProperties properties) {
+        return new RedisInvalidationBus(redisTemplate, objectMapper, eventPublisher, properties.getRedis().getChannel());
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                   RedisInvalidationBus invalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidationBus, new ChannelTopic(invalidationBus.getChannel()));
+        return container;
+    }
+}
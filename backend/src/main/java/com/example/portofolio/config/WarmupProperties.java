@@ -0,0 +1,32 @@
+package com.example.portofolio.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Startup warm-up (portfolio.warmup in application.yml). The request mix maps GET
+ * paths to relative weights; an empty mix replays every parameterless GET endpoint
+ * with the same weight.
+ */
+@Data
+@ConfigurationProperties(prefix = "portfolio.warmup")
+public class WarmupProperties {
+
+    private boolean enabled = true;
+    private Long personalId = 1L;
+    // Value of int parameters of @Cacheable methods, such as top-N limits
+    private int limit = 5;
+    private int concurrency = 4;
+    private Map<String, Integer> mix = new LinkedHashMap<>();
+    private int roundSize = 200;
+    // p99 is stable once it moves less than the tolerance for that many rounds in a row
+    private double tolerance = 0.1;
+    private int stableRounds = 3;
+    private int maxRounds = 50;
+    // Bound of the whole warm-up, calls still running then are cancelled
+    private Duration maxDuration = Duration.ofSeconds(60);
+}
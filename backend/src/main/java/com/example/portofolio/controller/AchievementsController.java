@@ -1,10 +1,14 @@
 package com.example.portofolio.controller;
 import com.example.portofolio.dto.AchievementDto;
+import com.example.portofolio.dto.CursorPageDto;
 import com.example.portofolio.service.core.AchievementService;
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -15,15 +19,30 @@ import java.util.List;
 public class AchievementsController {
     @Autowired
     private AchievementService achievementService;
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
 
     @GetMapping("/achievements")
     public ResponseEntity<List<AchievementDto>> getLearningProgress(
     ) {
 
-        List<AchievementDto> body = achievementService.findByPersonalId(1L);
+        List<AchievementDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getAchievements,
+                () -> achievementService.findByPersonalId(1L));
 
         return ResponseEntity.ok()
                 .header("Achievements", "value")
                 .body(body);
     }
+
+    // Keyset pages for infinite scroll, picked over the full list when a size is given
+    @GetMapping(value = "/achievements", params = "size")
+    public ResponseEntity<CursorPageDto<AchievementDto>> getAchievementsPage(@RequestParam(value = "cursor", required = false) String cursor,
+                                                                             @RequestParam("size") int size) {
+        try {
+            return ResponseEntity.ok(achievementService.findPageByPersonalId(1L, cursor, size));
+        } catch (IllegalArgumentException e) {
+            // Malformed cursor or page size
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
@@ -0,0 +1,32 @@
+package com.example.portofolio.controller;
+import com.example.portofolio.dto.AutocompleteSuggestionDto;
+
+import com.example.portofolio.autocomplete.AutocompleteService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+
+@RestController
+@RequestMapping("/")
+public class AutocompleteController {
+
+    @Autowired
+    private AutocompleteService autocompleteService;
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<AutocompleteSuggestionDto>> autocomplete(@RequestParam("q") String query,
+                                                                        @RequestParam(value = "limit", defaultValue = "8") int limit) {
+        try {
+            return ResponseEntity.ok(autocompleteService.suggest(query, limit));
+        } catch (IllegalArgumentException e) {
+            // Limit outside 1..max-limit
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.example.portofolio.controller;
 import com.example.portofolio.dto.ProjectCategoryDistributionDto;
 
 import com.example.portofolio.service.core.ProjectService;
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,11 +18,14 @@ public class CategoriesDistributionInProjects {
 
     @Autowired
     private ProjectService projectService;
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
 
     @GetMapping("/category-distribution")
     public ResponseEntity<List<ProjectCategoryDistributionDto>> getCategoryDistribution(){
 
-        List<ProjectCategoryDistributionDto> body = projectService.getProjectCategoryDistribution(1L);
+        List<ProjectCategoryDistributionDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getProjectCategoryDistribution,
+                () -> projectService.getProjectCategoryDistribution(1L));
 
 
         return ResponseEntity.ok().header("CategoryDistribution", "value").body(body);
@@ -1,14 +1,18 @@
 package com.example.portofolio.controller;
 import com.example.portofolio.dto.CertificateDto;
+import com.example.portofolio.dto.CursorPageDto;
 import com.example.portofolio.dto.CertificateStatisticsDto;
 import com.example.portofolio.dto.CertificationCategoryDto;
 
 import com.example.portofolio.service.core.CertificateService;
 
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -19,23 +23,39 @@ import java.util.List;
 public class CertificateController {
     @Autowired
     private CertificateService certificateService;
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
 
     @GetMapping("/certificates")
     public ResponseEntity<List<CertificateDto>> getCertifications(
     ) {
 
-        List<CertificateDto> body = certificateService.findByPersonalId(1L);
+        List<CertificateDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getCertificates,
+                () -> certificateService.findByPersonalId(1L));
 
         return ResponseEntity.ok()
                 .header("Certifications", "value")
                 .body(body);
     }
 
+    // Keyset pages for infinite scroll, picked over the full list when a size is given
+    @GetMapping(value = "/certificates", params = "size")
+    public ResponseEntity<CursorPageDto<CertificateDto>> getCertificationsPage(@RequestParam(value = "cursor", required = false) String cursor,
+                                                                               @RequestParam("size") int size) {
+        try {
+            return ResponseEntity.ok(certificateService.findPageByPersonalId(1L, cursor, size));
+        } catch (IllegalArgumentException e) {
+            // Malformed cursor or page size
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/certificates/categories")
     public ResponseEntity<List<CertificationCategoryDto>> getCertificationCategories(
     ) {
 
-        List<CertificationCategoryDto> body = certificateService.getCertificationCategories();
+        List<CertificationCategoryDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getCertificationCategories,
+                () -> certificateService.getCertificationCategories());
 
         return ResponseEntity.ok()
                 .header("CertificatesCategories", "value")
@@ -46,7 +66,8 @@ public class CertificateController {
     public ResponseEntity<CertificateStatisticsDto> getCertificationStats(
     ) {
 
-        CertificateStatisticsDto body = certificateService.getCertificateStatistics(1L);
+        CertificateStatisticsDto body = snapshotHolder.read(1L, PortfolioSnapshot::getCertificateStatistics,
+                () -> certificateService.getCertificateStatistics(1L));
 
         return ResponseEntity.ok()
                 .header("CertificatesStats", "value")
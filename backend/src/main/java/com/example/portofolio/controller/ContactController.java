@@ -2,6 +2,8 @@ package com.example.portofolio.controller;
 import com.example.portofolio.dto.ContactInfoDto;
 import com.example.portofolio.dto.ContactLocationDto;
 import com.example.portofolio.service.personal.ContactService;
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,11 +18,14 @@ import java.util.Optional;
 public class ContactController {
     @Autowired
     private ContactService contactService;
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
 
     @GetMapping("/info")
     public ResponseEntity<Optional<ContactInfoDto>> getInfo(
     ) {
-        Optional<ContactInfoDto> body = contactService.findByPersonalId(1L);
+        Optional<ContactInfoDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getContactInfo,
+                () -> contactService.findByPersonalId(1L));
 
         return ResponseEntity.ok()
                 .header("ContactInfo", "value")
@@ -30,7 +35,8 @@ public class ContactController {
     @GetMapping("/location")
     public ResponseEntity<Optional<ContactLocationDto>> getLocation(
     ) {
-        Optional<ContactLocationDto> body = contactService.findLocationByContactInfoId(1L);
+        Optional<ContactLocationDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getContactLocation,
+                () -> contactService.findLocationByContactInfoId(1L));
 
         return ResponseEntity.ok()
                 .header("ContactLocation", "value")
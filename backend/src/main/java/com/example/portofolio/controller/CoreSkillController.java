@@ -2,6 +2,8 @@ package com.example.portofolio.controller;
 import com.example.portofolio.dto.SkillDto;
 import com.example.portofolio.dto.SkillsHeroStatsDto;
 import com.example.portofolio.service.core.SkillService;
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,12 +17,15 @@ import java.util.List;
 public class CoreSkillController {
     @Autowired
     private SkillService skillService;
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
 
     @GetMapping("/skills")
     public ResponseEntity<List<SkillDto>> getTopSkills(
     ) {
 
-        List<SkillDto> body = skillService.findByPersonalId(1L);
+        List<SkillDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getSkills,
+                () -> skillService.findByPersonalId(1L));
         return ResponseEntity.ok()
                 .header("Skills", "value")
                 .body(body);
@@ -30,7 +35,8 @@ public class CoreSkillController {
     public ResponseEntity<SkillsHeroStatsDto> getSkillsStats(
     ) {
 
-        SkillsHeroStatsDto heroStats = skillService.getHeroStats(1L);
+        SkillsHeroStatsDto heroStats = snapshotHolder.read(1L, PortfolioSnapshot::getSkillsHeroStats,
+                () -> skillService.getHeroStats(1L));
 
         return ResponseEntity.ok()
                 .header("X-Years-Coding", heroStats.getYearsCoding())
@@ -4,6 +4,8 @@ import com.example.portofolio.dto.TechnologyDto;
 
 import com.example.portofolio.dto.TechnologyStatisticsDto;
 import com.example.portofolio.service.core.TechnologyService;
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,12 +18,15 @@ import java.util.List;
 public class CoreTechnologiesController {
     @Autowired
     private TechnologyService technologyService;
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
 
     @GetMapping("/core-technologies")
     public ResponseEntity<List<TechnologyDto>> getTechnologies(
     ) {
 
-        List<TechnologyDto> body = technologyService.findAllTechnologies();
+        List<TechnologyDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getTechnologies,
+                () -> technologyService.findAllTechnologies());
 
         return ResponseEntity.ok()
                 .header("Technologies", "value")
@@ -32,7 +37,8 @@ public class CoreTechnologiesController {
     public ResponseEntity<List<TechCategoryInfoDto>> getCategories(
     ) {
 
-        List<TechCategoryInfoDto> body = technologyService.getCategoriesWithCount();
+        List<TechCategoryInfoDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getTechnologyCategories,
+                () -> technologyService.getCategoriesWithCount());
 
         return ResponseEntity.ok()
                 .header("TechnologiesCategories", "value")
@@ -43,7 +49,8 @@ public class CoreTechnologiesController {
     public ResponseEntity<TechnologyStatisticsDto> getTechStats(
     ) {
 
-        TechnologyStatisticsDto body = technologyService.getTechnologyStatistics();
+        TechnologyStatisticsDto body = snapshotHolder.read(1L, PortfolioSnapshot::getTechnologyStatistics,
+                () -> technologyService.getTechnologyStatistics());
 
         return ResponseEntity.ok()
                 .header("TechnologiesStats", "value")
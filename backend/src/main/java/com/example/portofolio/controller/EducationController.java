@@ -5,6 +5,8 @@ import com.example.portofolio.dto.EducationDto;
 
 import com.example.portofolio.service.core.EducationService;
 
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,12 +21,15 @@ import java.util.List;
 public class EducationController {
     @Autowired
     private EducationService educationService;
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
 
     @GetMapping("/education")
     public ResponseEntity<List<EducationDto>> getEducation(
     ) {
 
-        List<EducationDto> body = educationService.findByPersonalId(1L);
+        List<EducationDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getEducation,
+                () -> educationService.findByPersonalId(1L));
 
         return ResponseEntity.ok()
                 .header("Education", "value")
@@ -35,7 +40,8 @@ public class EducationController {
     public ResponseEntity<List<AcademicProjectDto>> getAcademicProjects(
     ) {
 
-        List<AcademicProjectDto> body = educationService.getAcademicProjects(1L);
+        List<AcademicProjectDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getAcademicProjects,
+                () -> educationService.getAcademicProjects(1L));
 
         return ResponseEntity.ok()
                 .header("AcademicProjects", "value")
@@ -45,7 +51,8 @@ public class EducationController {
     @GetMapping("/education/stats")
     public ResponseEntity<AcademicStatsDto> getAcademicStats(
     ) {
-        AcademicStatsDto body = educationService.getAcademicStats(1L);
+        AcademicStatsDto body = snapshotHolder.read(1L, PortfolioSnapshot::getAcademicStats,
+                () -> educationService.getAcademicStats(1L));
 
 
         return ResponseEntity.ok()
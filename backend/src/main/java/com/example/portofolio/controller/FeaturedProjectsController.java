@@ -1,6 +1,8 @@
 package com.example.portofolio.controller;
 import com.example.portofolio.dto.FeaturedProjectDto;
 import com.example.portofolio.service.core.ProjectService;
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,11 +18,14 @@ import java.util.List;
 public class FeaturedProjectsController {
     @Autowired
     private ProjectService projectService;
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
 
     @GetMapping("/featured-projects")
     public ResponseEntity<List<FeaturedProjectDto>> getFeaturedProjects(){
 
-        List<FeaturedProjectDto> body = projectService.findFeaturedProjects(1L);
+        List<FeaturedProjectDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getFeaturedProjects,
+                () -> projectService.findFeaturedProjects(1L));
 
 
         return ResponseEntity.ok().header("FeaturedProjects", "value").body(body);
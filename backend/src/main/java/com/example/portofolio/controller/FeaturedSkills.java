@@ -1,6 +1,8 @@
 package com.example.portofolio.controller;
 import com.example.portofolio.dto.FeaturedSkillDto;
 import com.example.portofolio.service.core.SkillService;
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,11 +19,14 @@ public class FeaturedSkills {
 
     @Autowired
     private SkillService skillService;
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
 
     @GetMapping("/featured-skills")
     public ResponseEntity<List<FeaturedSkillDto>> getFeaturedProjects(){
 
-        List<FeaturedSkillDto> body = skillService.findFeaturedSkills(1L);
+        List<FeaturedSkillDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getFeaturedSkills,
+                () -> skillService.findFeaturedSkills(1L));
 
 
 
@@ -2,6 +2,8 @@ package com.example.portofolio.controller;
 import com.example.portofolio.dto.FeaturedSkillCategoryDto;
 
 import com.example.portofolio.service.core.SkillService;
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,11 +19,14 @@ public class FeaturedSkillsCategories {
 
     @Autowired
     private SkillService skillService;
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
 
     @GetMapping("/featured-skills/categories")
     public ResponseEntity<List<FeaturedSkillCategoryDto>> getFeaturedProjects(){
 
-        List<FeaturedSkillCategoryDto> body = skillService.getAllSkillCategories();
+        List<FeaturedSkillCategoryDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getFeaturedSkillCategories,
+                () -> skillService.getAllSkillCategories());
 
 
         return ResponseEntity.ok().header("FeaturedSkills", "value").body(body);
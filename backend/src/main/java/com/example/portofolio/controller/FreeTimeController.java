@@ -7,6 +7,8 @@ import com.example.portofolio.service.personal.HobbyService;
 import com.example.portofolio.service.personal.InterestService;
 import com.example.portofolio.service.personal.PersonalService;
 
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -26,12 +28,15 @@ public class FreeTimeController {
 
     @Autowired
     private PersonalService personalService;
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
 
     @GetMapping("/hobbies")
     public ResponseEntity<List<HobbyDto>> getHobbies(
     ) {
 
-        List<HobbyDto> body = hobbyService.findByPersonalId(1L);
+        List<HobbyDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getHobbies,
+                () -> hobbyService.findByPersonalId(1L));
 
         return ResponseEntity.ok()
                 .header("Hobbies", "value")
@@ -42,7 +47,8 @@ public class FreeTimeController {
     public ResponseEntity<List<InterestDto>> getInterests(
     ) {
 
-        List<InterestDto> body = interestService.findByPersonalId(1L);
+        List<InterestDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getInterests,
+                () -> interestService.findByPersonalId(1L));
 
         return ResponseEntity.ok()
                 .header("Interests", "value")
@@ -53,7 +59,8 @@ public class FreeTimeController {
     public ResponseEntity<List<PersonalityTraitDto>> getPersonalityTraits(
     ) {
 
-        List<PersonalityTraitDto> body = personalService.getPersonalityTraits(1L);
+        List<PersonalityTraitDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getPersonalityTraits,
+                () -> personalService.getPersonalityTraits(1L));
 
         return ResponseEntity.ok()
                 .header("PersonalityTraits", "value")
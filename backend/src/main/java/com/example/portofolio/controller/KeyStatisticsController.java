@@ -1,14 +1,13 @@
 package com.example.portofolio.controller;
-import com.example.portofolio.service.core.CertificateService;
-import com.example.portofolio.service.core.TechnologyService;
-import com.example.portofolio.service.portofolio.StatisticsService;
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotFactory;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.HashMap;
 import java.util.Map;
 
 @RestController
@@ -16,32 +15,15 @@ import java.util.Map;
 public class KeyStatisticsController {
 
     @Autowired
-    private StatisticsService statisticsService;
+    private PortfolioSnapshotFactory snapshotFactory;
     @Autowired
-    private TechnologyService technologyService;
-    @Autowired
-    private CertificateService certificateService;
-
-    private static final String KEY_PROJECTS = "projects";
-    private static final String KEY_EDUCATION_YEARS = "educationYears";
-    private static final String KEY_TECHNOLOGIES = "technologies";
-    private static final String KEY_CERTIFICATES = "certificates";
+    private PortfolioSnapshotHolder snapshotHolder;
 
     @GetMapping("/key-statistics")
     public ResponseEntity<Map<String, Long>> getStatistics(){
-        Map<String, Long> body = new HashMap<>();
-
-       Long projects  = statisticsService.getProjectStatistics(1L).getTotalProjects();
-       Long educationYears = statisticsService.getEducationStatistics(1L).getTotalEducation();
-       Long technologies = technologyService.count();
-       Long certificates = certificateService.count();
-
-        body.put(KEY_PROJECTS, projects);
-        body.put(KEY_EDUCATION_YEARS, educationYears);
-        body.put(KEY_TECHNOLOGIES, technologies);
-        body.put(KEY_CERTIFICATES, certificates);
-        
-
+        // projects, educationYears, technologies, certificates
+        Map<String, Long> body = snapshotHolder.read(1L, PortfolioSnapshot::getKeyStatistics,
+                () -> snapshotFactory.keyStatistics(1L));
 
         return ResponseEntity.ok().header("KeyStatistics", "valoare").body(body);
 
@@ -4,6 +4,8 @@ import com.example.portofolio.dto.*;
 import com.example.portofolio.service.core.LearningProgressService;
 
 import com.example.portofolio.service.personal.PersonalService;
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,12 +23,15 @@ public class LearningProgressController {
 
     @Autowired
     private PersonalService personalService;
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
 
     @GetMapping("/learning-progress")
     public ResponseEntity<List<LearningProgressDto>> getLearningProgress(
     ) {
 
-        List<LearningProgressDto> body = learningProgressService.findByPersonalId(1L);
+        List<LearningProgressDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getLearningProgress,
+                () -> learningProgressService.findByPersonalId(1L));
 
         return ResponseEntity.ok()
                 .header("LearningProgress", "value")
@@ -36,7 +41,8 @@ public class LearningProgressController {
     public ResponseEntity<List<LearningMilestoneDto>> getLearningMilestone(
     ) {
 
-        List<LearningMilestoneDto> body = learningProgressService.getLearningMilestones(1L);
+        List<LearningMilestoneDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getLearningMilestones,
+                () -> learningProgressService.getLearningMilestones(1L));
 
         return ResponseEntity.ok()
                 .header("LearningMilestones", "value")
@@ -47,7 +53,8 @@ public class LearningProgressController {
     public ResponseEntity<List<TimelineMilestoneDto>> getTimelineMilestones(
     ) {
 
-        List<TimelineMilestoneDto> body = personalService.getTimelineMilestones(1L);
+        List<TimelineMilestoneDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getTimelineMilestones,
+                () -> personalService.getTimelineMilestones(1L));
 
         return ResponseEntity.ok()
                 .header("TimelineMilestones", "value")
@@ -58,7 +65,8 @@ public class LearningProgressController {
     public ResponseEntity<List<CurrentLearningDto>> getCurrentLearning(
     ) {
 
-        List<CurrentLearningDto> body = personalService.getCurrentLearning(1L);
+        List<CurrentLearningDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getCurrentLearning,
+                () -> personalService.getCurrentLearning(1L));
 
         return ResponseEntity.ok()
                 .header("CurrentLearning", "value")
@@ -69,7 +77,8 @@ public class LearningProgressController {
     public ResponseEntity<List<FutureGoalDto>> getFutureGoals(
     ) {
 
-        List<FutureGoalDto> body = personalService.getFutureGoals(1L);
+        List<FutureGoalDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getFutureGoals,
+                () -> personalService.getFutureGoals(1L));
 
         return ResponseEntity.ok()
                 .header("FutureGoals", "value")
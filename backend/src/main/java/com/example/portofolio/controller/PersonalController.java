@@ -2,6 +2,8 @@ package com.example.portofolio.controller;
 import com.example.portofolio.dto.HighlightDto;
 import com.example.portofolio.dto.PersonalValueDto;
 import com.example.portofolio.service.personal.PersonalService;
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,12 +19,15 @@ public class PersonalController {
 
     @Autowired
     private PersonalService personalService;
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
 
     @GetMapping("/highlights")
     public ResponseEntity<List<HighlightDto>> getPersonalHighlight(
     ) {
 
-        List<HighlightDto> body = personalService.getPersonalHighlights(1L);
+        List<HighlightDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getHighlights,
+                () -> personalService.getPersonalHighlights(1L));
 
         return ResponseEntity.ok()
                 .header("Highlights", "value")
@@ -33,7 +38,8 @@ public class PersonalController {
     public ResponseEntity<List<PersonalValueDto>> getPersonalValue(
     ) {
 
-        List<PersonalValueDto> body = personalService.getPersonalValues(1L);
+        List<PersonalValueDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getPersonalValues,
+                () -> personalService.getPersonalValues(1L));
 
         return ResponseEntity.ok()
                 .header("Values", "value")
@@ -1,6 +1,8 @@
 package com.example.portofolio.controller;
 import com.example.portofolio.dto.DevelopmentExperienceDto;
 import com.example.portofolio.service.core.ProjectService;
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,11 +15,14 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProjectExperienceStatsController {
     @Autowired
     private ProjectService projectService;
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
 
     @GetMapping("/experience")
     public ResponseEntity<DevelopmentExperienceDto> getDevExp(){
 
-        DevelopmentExperienceDto body = projectService.getDevelopmentExperience(1L);
+        DevelopmentExperienceDto body = snapshotHolder.read(1L, PortfolioSnapshot::getDevelopmentExperience,
+                () -> projectService.getDevelopmentExperience(1L));
 
 
         return ResponseEntity.ok().header("ExperienceStats", "value").body(body);
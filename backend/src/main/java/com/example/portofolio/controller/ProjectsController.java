@@ -1,11 +1,15 @@
 package com.example.portofolio.controller;
+import com.example.portofolio.dto.CursorPageDto;
 import com.example.portofolio.dto.ProjectExportDto;
 
 import com.example.portofolio.service.core.ProjectService;
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -17,15 +21,30 @@ public class ProjectsController {
 
     @Autowired
     private ProjectService projectService;
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
 
     @GetMapping("/projects")
     public ResponseEntity<List<ProjectExportDto>> getProjects(){
 
-        List<ProjectExportDto> body = projectService.findByPersonalId(1L);
+        List<ProjectExportDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getProjects,
+                () -> projectService.findByPersonalId(1L));
 
 
 
         return ResponseEntity.ok().header("Projects", "value").body(body);
 
     }
+
+    // Keyset pages for infinite scroll, picked over the full list when a size is given
+    @GetMapping(value = "/projects", params = "size")
+    public ResponseEntity<CursorPageDto<ProjectExportDto>> getProjectsPage(@RequestParam(value = "cursor", required = false) String cursor,
+                                                                           @RequestParam("size") int size) {
+        try {
+            return ResponseEntity.ok(projectService.findPageByPersonalId(1L, cursor, size));
+        } catch (IllegalArgumentException e) {
+            // Malformed cursor or page size
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
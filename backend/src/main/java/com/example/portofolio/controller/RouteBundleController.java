@@ -0,0 +1,34 @@
+package com.example.portofolio.controller;
+
+import com.example.portofolio.bundle.PortfolioRoute;
+import com.example.portofolio.bundle.RouteBundleService;
+import com.example.portofolio.dto.RouteBundleDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/")
+public class RouteBundleController {
+
+    @Autowired
+    private RouteBundleService routeBundleService;
+
+    // Route from the path, or from X-Route-Context when called as plain /bundle
+    @GetMapping({"/bundle", "/bundle/{route}"})
+    public ResponseEntity<RouteBundleDto> getBundle(
+            @PathVariable(required = false) String route,
+            @RequestHeader(value = "X-Route-Context", required = false) String routeContext,
+            @RequestHeader(value = "X-Bundle-Versions", required = false) String knownVersions
+    ) {
+        return PortfolioRoute.fromKey(route != null ? route : routeContext)
+                .map(portfolioRoute -> routeBundleService.getBundle(portfolioRoute, 1L,
+                        RouteBundleService.parseKnownVersions(knownVersions)))
+                .map(body -> ResponseEntity.ok().header("RouteBundle", body.getRoute()).body(body))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
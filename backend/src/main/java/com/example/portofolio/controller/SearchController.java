@@ -0,0 +1,31 @@
+package com.example.portofolio.controller;
+import com.example.portofolio.dto.SearchPageDto;
+
+import com.example.portofolio.service.portofolio.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+
+@RestController
+@RequestMapping("/")
+public class SearchController {
+
+    @Autowired
+    private SearchService searchService;
+
+    @GetMapping("/search")
+    public ResponseEntity<SearchPageDto> search(@RequestParam("q") String query,
+                                                @RequestParam(value = "cursor", required = false) String cursor,
+                                                @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(searchService.search(1L, query, cursor, size));
+        } catch (IllegalArgumentException e) {
+            // Malformed cursor, page size or query
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -2,13 +2,15 @@ package com.example.portofolio.controller;
 import com.example.portofolio.dto.TimelineItemDto;
 
 import com.example.portofolio.service.portofolio.TimelineService;
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotFactory;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -18,11 +20,16 @@ import java.util.Map;
 public class TimelineController {
     @Autowired
     private TimelineService timelineService;
+    @Autowired
+    private PortfolioSnapshotFactory snapshotFactory;
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
 
     @GetMapping("/timeline-items")
     public ResponseEntity<List<TimelineItemDto>> getTimelineItems(
     ) {
-        List<TimelineItemDto> body = timelineService.getTimelineItems(1L);
+        List<TimelineItemDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getTimelineItems,
+                () -> timelineService.getTimelineItems(1L));
 
         return ResponseEntity.ok()
                 .header("TimelineItems", "value")
@@ -32,19 +39,9 @@ public class TimelineController {
     @GetMapping("/timeline-stats")
     public ResponseEntity<Map<String, String>> getTimelineStats(
     ) {
-        // Define map
-        Map<String,String> body = new HashMap<>();
-
-        // Dynamic data
-        String milestones = String.valueOf(timelineService.getTimelineItems(1L).size());
-        String achievements = String.valueOf(timelineService.getAchievementTimeline(1L).size());
-
-        //Static data
-        String MILESTONES = "Major Milestones";
-        String ACHIEVEMENTS = " Achievements";
-
-        body.put(MILESTONES,milestones);
-        body.put(ACHIEVEMENTS,achievements);
+        // Major Milestones, Achievements
+        Map<String,String> body = snapshotHolder.read(1L, PortfolioSnapshot::getTimelineStats,
+                () -> snapshotFactory.timelineStats(1L));
 
         return ResponseEntity.ok()
                 .header("TimelineStats", "value")
@@ -3,6 +3,8 @@ package com.example.portofolio.controller;
 import com.example.portofolio.dto.TopSkillDto;
 
 import com.example.portofolio.service.core.SkillService;
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,12 +19,15 @@ import java.util.List;
 public class TopSkillsController {
     @Autowired
     private SkillService skillService;
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
 
     @GetMapping("/skills/top")
     public ResponseEntity<List<TopSkillDto>> getTopSkills(
             ) {
 
-        List<TopSkillDto> topSkills = skillService.getTopSkills(1L, 5);
+        List<TopSkillDto> topSkills = snapshotHolder.read(1L, PortfolioSnapshot::getTopSkills,
+                () -> skillService.getTopSkills(1L, 5));
 
         return ResponseEntity.ok()
                 .header("Top-Skills", "value")
@@ -1,6 +1,7 @@
 package com.example.portofolio.controller;
-import com.example.portofolio.dto.TechnologyDto;
-import com.example.portofolio.service.core.TechnologyService;
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotFactory;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,15 +14,16 @@ import java.util.List;
 @RequestMapping("/projects")
 public class TopTechnologiesController {
     @Autowired
-    private TechnologyService technologyService;
+    private PortfolioSnapshotFactory snapshotFactory;
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
 
     @GetMapping("/top-technologies")
     public ResponseEntity<List<String>> getTopTechnologies(){
 
-        List<String> body = technologyService.findTrendingTechnologies()
-                .stream()
-                .map(TechnologyDto::getName)  // sau tech -> tech.getName()
-                .toList();
+        // names of the trending technologies
+        List<String> body = snapshotHolder.read(1L, PortfolioSnapshot::getTopTechnologies,
+                snapshotFactory::topTechnologies);
 
         return ResponseEntity.ok().header("TopTechnologies", "value").body(body);
 
@@ -3,6 +3,8 @@ import com.example.portofolio.dto.VolunteerExperienceDto;
 import com.example.portofolio.dto.VolunteerSkillDto;
 import com.example.portofolio.dto.VolunteerStatsDto;
 import com.example.portofolio.service.volunteer.VolunteerService;
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,12 +20,15 @@ import java.util.List;
 public class VolunteerController {
     @Autowired
     private VolunteerService volunteerService;
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
 
     @GetMapping("/experiences")
     public ResponseEntity<List<VolunteerExperienceDto>> getVolunteerExperiences(
     ) {
 
-        List<VolunteerExperienceDto> body = volunteerService.getAllVolunteerExperiences(1L);
+        List<VolunteerExperienceDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getVolunteerExperiences,
+                () -> volunteerService.getAllVolunteerExperiences(1L));
 
         return ResponseEntity.ok()
                 .header("VolunteerExperiences", "value")
@@ -34,7 +39,8 @@ public class VolunteerController {
     public ResponseEntity<VolunteerStatsDto> getVolunteerStats(
     ) {
 
-        VolunteerStatsDto body = volunteerService.getVolunteerStatistics(1L);
+        VolunteerStatsDto body = snapshotHolder.read(1L, PortfolioSnapshot::getVolunteerStats,
+                () -> volunteerService.getVolunteerStatistics(1L));
 
         return ResponseEntity.ok()
                 .header("VolunteerStats", "value")
@@ -45,7 +51,8 @@ public class VolunteerController {
     public ResponseEntity<List<VolunteerSkillDto>> getVolunteerSkills(
     ) {
 
-        List<VolunteerSkillDto> body = volunteerService.getVolunteerSkills(1L);
+        List<VolunteerSkillDto> body = snapshotHolder.read(1L, PortfolioSnapshot::getVolunteerSkills,
+                () -> volunteerService.getVolunteerSkills(1L));
 
         return ResponseEntity.ok()
                 .header("VolunteerSkills", "value")
@@ -0,0 +1,19 @@
+package com.example.portofolio.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AutocompleteSuggestionDto {
+    private String type;  // technology, skill, project, tag
+    private String id;    // absent for tags
+    private String text;
+}
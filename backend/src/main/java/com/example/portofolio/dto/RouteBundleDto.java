@@ -0,0 +1,20 @@
+package com.example.portofolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RouteBundleDto {
+    private String route;
+    private Long snapshotVersion;
+    private Map<String, BundlePartDto> parts;
+    private List<String> failedParts;
+}
@@ -0,0 +1,25 @@
+package com.example.portofolio.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SearchResultDto {
+    private String type;      // project, skill, certificate, technology
+    private String id;
+    private String title;
+    /**
+     * HTML fragment of the matched text: the source text is escaped and the matched
+     * terms are wrapped in {@code <mark>}, which is the only markup it contains
+     */
+    private String headline;
+    private Float rank;
+}
@@ -6,6 +6,8 @@ import java.util.Map;
 
 @lombok.Data
 @lombok.Builder
+@lombok.NoArgsConstructor
+@lombok.AllArgsConstructor
 public class TechnologyStatisticsDto {
     private Long totalTechnologies;
     private Long trendingCount;
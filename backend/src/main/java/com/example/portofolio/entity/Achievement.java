@@ -16,7 +16,8 @@ import java.time.LocalDate;
 @Table(name = "achievement", indexes = {
         @Index(name = "idx_achievement_personal_type", columnList = "personal_id, achievement_type"),
         @Index(name = "idx_achievement_date_level", columnList = "achievement_date, recognition_level"),
-        @Index(name = "idx_achievement_entity", columnList = "entity_type, entity_id")
+        @Index(name = "idx_achievement_entity", columnList = "entity_type, entity_id"),
+        @Index(name = "idx_achievement_personal_date", columnList = "personal_id, achievement_date, id")
 })
 @Data
 @NoArgsConstructor
@@ -16,7 +16,8 @@ import java.time.LocalDate;
         @Index(name = "idx_certificate_personal_category", columnList = "personal_id, category_id"),
         @Index(name = "idx_certificate_provider_date", columnList = "provider, issue_date"),
         @Index(name = "idx_certificate_verified_relevance", columnList = "is_verified, relevance_score"),
-        @Index(name = "idx_certificate_expiry", columnList = "expiry_date, has_expiry")
+        @Index(name = "idx_certificate_expiry", columnList = "expiry_date, has_expiry"),
+        @Index(name = "idx_certificate_personal_issue_date", columnList = "personal_id, issue_date, id")
 })
 @Data
 @NoArgsConstructor
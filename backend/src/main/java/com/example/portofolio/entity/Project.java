@@ -20,7 +20,8 @@ import java.util.Set;
 @Table(name = "project", indexes = {
         @Index(name = "idx_project_personal_status", columnList = "personal_id, status"),
         @Index(name = "idx_project_category_complexity", columnList = "category, complexity"),
-        @Index(name = "idx_project_timeline", columnList = "year, completion_date")
+        @Index(name = "idx_project_timeline", columnList = "year, completion_date"),
+        @Index(name = "idx_project_personal_id", columnList = "personal_id, id")
 })
 @Data
 @NoArgsConstructor
@@ -0,0 +1,50 @@
+package com.example.portofolio.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import java.io.Serializable;
+
+/**
+ * Row of the skill_usage view (V3__usage_views.sql): the projects, certificates and
+ * education entries of one personal linked to a skill. Read-only and mapped through
+ * a subselect, so no table is generated for it; reads share the query spaces of the
+ * native skill_usage queries.
+ */
+@Entity
+@Immutable
+@Subselect("SELECT personal_id, skill_id, project_count, certificate_count, education_count FROM skill_usage")
+@Synchronize({"skill_usage", "entity_skill", "project", "certificate", "education"})
+@IdClass(SkillUsage.Key.class)
+@Getter
+@NoArgsConstructor
+public class SkillUsage {
+
+    @Id
+    @Column(name = "personal_id")
+    private Long personalId;
+
+    @Id
+    @Column(name = "skill_id")
+    private Long skillId;
+
+    @Column(name = "project_count")
+    private Long projectCount;
+
+    @Column(name = "certificate_count")
+    private Long certificateCount;
+
+    @Column(name = "education_count")
+    private Long educationCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long personalId;
+        private Long skillId;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.portofolio.event;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global version of the portfolio data, bumped on every committed change. Versions
+ * are only meaningful within one run: the boot id in {@link #tag(long)} makes clients
+ * revalidate after a restart, when changes made meanwhile cannot be known.
+ */
+@Component
+public class DataVersion {
+
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+    private volatile Instant lastModified = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+    // After cache invalidation, so a request that sees the new version reads fresh values
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void onDataChanged(PortfolioDataChangedEvent event) {
+        advance();
+    }
+
+    /**
+     * Bumps the version for data that changed outside of a committed entity, such as
+     * refreshed views; call it after evicting what read the old data
+     */
+    public void advance() {
+        lastModified = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        version.incrementAndGet();
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Time of the last change, or of startup; second precision like the HTTP date format
+     */
+    public Instant lastModified() {
+        return lastModified;
+    }
+
+    public String tag(long dataVersion) {
+        return bootId + "-" + dataVersion;
+    }
+}
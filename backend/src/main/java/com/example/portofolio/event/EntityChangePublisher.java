@@ -0,0 +1,99 @@
+package com.example.portofolio.event;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bridges Hibernate post-commit entity events to {@link PortfolioDataChangedEvent}s,
+ * so read models only react to changes that actually reached the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EntityChangePublisher implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        log.debug("Registered post-commit entity change listener");
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getEntity(), event.getId(), PortfolioDataChangedEvent.ChangeType.INSERT, null);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        int[] dirty = event.getDirtyProperties();
+        String[] names = event.getPersister().getPropertyNames();
+        Set<String> changed = dirty == null ? null : Arrays.stream(dirty)
+                .mapToObj(index -> names[index])
+                .collect(Collectors.toUnmodifiableSet());
+        publish(event.getEntity(), event.getId(), PortfolioDataChangedEvent.ChangeType.UPDATE, changed);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getEntity(), event.getId(), PortfolioDataChangedEvent.ChangeType.DELETE, null);
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Nothing was committed, nothing to publish
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Nothing was committed, nothing to publish
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Nothing was committed, nothing to publish
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return true;
+    }
+
+    private void publish(Object entity, Object id, PortfolioDataChangedEvent.ChangeType changeType,
+                         Set<String> changedProperties) {
+        try {
+            eventPublisher.publishEvent(new PortfolioDataChangedEvent(entity.getClass(), id, changeType, changedProperties));
+        } catch (Exception e) {
+            // The transaction is already committed, never fail the caller
+            log.error("Failed to publish data change for {}#{}: {}",
+                    entity.getClass().getSimpleName(), id, e.getMessage());
+        }
+    }
+}
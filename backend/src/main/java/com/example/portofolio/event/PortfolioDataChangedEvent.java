@@ -0,0 +1,34 @@
+package com.example.portofolio.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Published after a transaction that inserted, updated or deleted a portfolio entity commits
+ *
+ * @param entityClass       the changed entity class
+ * @param entityId          identifier of the changed row, may be null
+ * @param changeType        what happened to the row
+ * @param changedProperties properties an update changed, null when not an update or unknown
+ */
+public record PortfolioDataChangedEvent(Class<?> entityClass, Object entityId, ChangeType changeType,
+                                        Set<String> changedProperties) {
+
+    public PortfolioDataChangedEvent(Class<?> entityClass, Object entityId, ChangeType changeType) {
+        this(entityClass, entityId, changeType, null);
+    }
+
+    /**
+     * Whether the change may have altered any of the given properties; inserts, deletes
+     * and updates of unknown properties alter them all
+     */
+    public boolean changedAny(Collection<String> properties) {
+        return changeType != ChangeType.UPDATE
+                || changedProperties == null
+                || changedProperties.stream().anyMatch(properties::contains);
+    }
+
+    public enum ChangeType {
+        INSERT, UPDATE, DELETE
+    }
+}
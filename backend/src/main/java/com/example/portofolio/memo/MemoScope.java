@@ -0,0 +1,113 @@
+package com.example.portofolio.memo;
+
+import com.example.portofolio.cache.ReadSet;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Results of {@link RequestMemoized} calls made during one request or one explicit
+ * computation. Concurrent callers of the same key wait for the first one instead of
+ * computing again. Failures are not kept.
+ */
+public final class MemoScope implements AutoCloseable {
+
+    private final MemoScopes scopes;
+    private final MemoScope previous;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    MemoScope(MemoScopes scopes, MemoScope previous) {
+        this.scopes = scopes;
+        this.previous = previous;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    MemoScope previous() {
+        return previous;
+    }
+
+    /**
+     * The entry to compute, or null when another call already owns the key
+     */
+    Entry claim(Key key) {
+        Entry fresh = new Entry(Thread.currentThread());
+        Entry existing = entries.putIfAbsent(key, fresh);
+        if (existing == null) {
+            misses.incrementAndGet();
+            return fresh;
+        }
+        return null;
+    }
+
+    Entry existing(Key key) {
+        return entries.get(key);
+    }
+
+    void hit() {
+        hits.incrementAndGet();
+    }
+
+    void forget(Key key, Entry entry) {
+        entries.remove(key, entry);
+    }
+
+    @Override
+    public void close() {
+        scopes.close(this);
+    }
+
+    // ===== ENTRIES =====
+
+    record Key(Class<?> targetClass, Method method, List<Object> arguments) {
+    }
+
+    static final class Entry {
+
+        private final Thread owner;
+        private final CompletableFuture<Object> value = new CompletableFuture<>();
+        private volatile ReadSet reads;
+
+        private Entry(Thread owner) {
+            this.owner = owner;
+        }
+
+        boolean isOwnedBy(Thread thread) {
+            return owner == thread && !value.isDone();
+        }
+
+        void complete(Object result, ReadSet readSet) {
+            reads = readSet;
+            value.complete(result);
+        }
+
+        void fail(Throwable failure) {
+            value.completeExceptionally(failure);
+        }
+
+        ReadSet reads() {
+            return reads;
+        }
+
+        Object await() throws Throwable {
+            try {
+                return value.join();
+            } catch (CompletionException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.portofolio.memo;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * One {@link MemoScope} per servlet request. Its hit count is left on the request
+ * under {@link #HITS_ATTRIBUTE} for access logs and tests.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class MemoScopeFilter extends OncePerRequestFilter {
+
+    public static final String HITS_ATTRIBUTE = MemoScopeFilter.class.getName() + ".hits";
+
+    private final MemoScopes memoScopes;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        MemoScope scope = memoScopes.open();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            scope.close();
+            request.setAttribute(HITS_ATTRIBUTE, scope.getHits());
+        }
+    }
+}
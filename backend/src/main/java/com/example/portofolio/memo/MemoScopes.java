@@ -0,0 +1,109 @@
+package com.example.portofolio.memo;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Binds {@link MemoScope}s to threads. A scope is opened per servlet request by
+ * {@link MemoScopeFilter}, or explicitly around a computation; work handed to other
+ * threads joins the caller's scope through {@link #propagate(Callable)}.
+ */
+@Component
+@Slf4j
+public class MemoScopes {
+
+    private final ThreadLocal<MemoScope> current = new ThreadLocal<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Autowired
+    public MemoScopes(ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        this.hitCounter = registry != null ? counter(registry, "hit") : null;
+        this.missCounter = registry != null ? counter(registry, "miss") : null;
+    }
+
+    public MemoScope current() {
+        return current.get();
+    }
+
+    /**
+     * Opens a scope on the current thread; closing it restores the enclosing one
+     */
+    public MemoScope open() {
+        MemoScope scope = new MemoScope(this, current.get());
+        current.set(scope);
+        return scope;
+    }
+
+    void close(MemoScope scope) {
+        if (current.get() != scope) {
+            throw new IllegalStateException("Memo scopes must be closed in the order they were opened");
+        }
+        restore(scope.previous());
+
+        if (hitCounter != null) {
+            hitCounter.increment(scope.getHits());
+            missCounter.increment(scope.getMisses());
+        }
+        if (scope.getHits() > 0) {
+            log.debug("Memo scope closed: {} hits, {} computed", scope.getHits(), scope.getMisses());
+        }
+    }
+
+    // ===== PROPAGATION =====
+
+    public <T> Callable<T> propagate(Callable<T> task) {
+        MemoScope captured = current.get();
+        if (captured == null) {
+            return task;
+        }
+        return () -> {
+            MemoScope previous = current.get();
+            current.set(captured);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    public <T> Supplier<T> propagateSupplier(Supplier<T> task) {
+        MemoScope captured = current.get();
+        if (captured == null) {
+            return task;
+        }
+        return () -> {
+            MemoScope previous = current.get();
+            current.set(captured);
+            try {
+                return task.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private void restore(MemoScope scope) {
+        if (scope == null) {
+            current.remove();
+        } else {
+            current.set(scope);
+        }
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("portfolio.memo.calls")
+                .description("@RequestMemoized calls served from the scope (hit) or computed (miss)")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.portofolio.memo;
+
+import com.example.portofolio.cache.ReadSet;
+import com.example.portofolio.cache.ReadSetTracker;
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+
+import java.util.Arrays;
+
+/**
+ * Serves {@link RequestMemoized} calls from the current {@link MemoScope}. A result
+ * keeps the read set of its computation, so a cached method that reuses it still
+ * depends on what it read.
+ */
+@RequiredArgsConstructor
+public class MemoizationInterceptor implements MethodInterceptor {
+
+    private final MemoScopes memoScopes;
+    private final ReadSetTracker readSetTracker;
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MemoScope scope = memoScopes.current();
+        if (scope == null) {
+            return invocation.proceed();
+        }
+
+        MemoScope.Key key = new MemoScope.Key(AopUtils.getTargetClass(invocation.getThis()),
+                invocation.getMethod(), Arrays.asList(invocation.getArguments().clone()));
+        MemoScope.Entry entry = scope.claim(key);
+        if (entry == null) {
+            return await(scope, key, invocation);
+        }
+
+        ReadSet reads = readSetTracker.begin();
+        try {
+            Object result = invocation.proceed();
+            entry.complete(result, reads);
+            return result;
+        } catch (Throwable e) {
+            scope.forget(key, entry);
+            entry.fail(e);
+            throw e;
+        } finally {
+            readSetTracker.end(reads);
+        }
+    }
+
+    private Object await(MemoScope scope, MemoScope.Key key, MethodInvocation invocation) throws Throwable {
+        MemoScope.Entry existing = scope.existing(key);
+        if (existing == null || existing.isOwnedBy(Thread.currentThread())) {
+            // Failed and forgotten meanwhile, or a recursive call of the same key
+            return invocation.proceed();
+        }
+        Object result = existing.await();
+        scope.hit();
+        readSetTracker.include(existing.reads());
+        return result;
+    }
+}
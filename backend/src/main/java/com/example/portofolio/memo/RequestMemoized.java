@@ -0,0 +1,19 @@
+package com.example.portofolio.memo;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Computes the method once per target, method and arguments inside the current
+ * {@link MemoScope}, and serves the same result to later calls in that scope.
+ * Outside a scope the method runs as usual. Calls from within the same bean must go
+ * through its proxy, like for {@code @Cacheable}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequestMemoized {
+}
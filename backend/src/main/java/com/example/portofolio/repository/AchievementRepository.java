@@ -1,13 +1,16 @@
 package com.example.portofolio.repository;
 
 import com.example.portofolio.entity.Achievement;
+import com.example.portofolio.entity.enums.AchievementType;
 import com.example.portofolio.entity.enums.EntityType;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
@@ -18,6 +21,15 @@ public interface AchievementRepository extends JpaRepository<Achievement, Long>
 
     List<Achievement> findByPersonalIdOrderByAchievementDateDesc(Long personalId);
 
+    // Keyset page in (achievement date, id) descending order, no count query
+    @Query("SELECT a FROM Achievement a " +
+            "WHERE a.personal.id = :personalId AND (a.achievementDate, a.id) < (:afterDate, :afterId) " +
+            "ORDER BY a.achievementDate DESC, a.id DESC")
+    Slice<Achievement> findPageByPersonalId(@Param("personalId") Long personalId,
+                                            @Param("afterDate") LocalDate afterDate,
+                                            @Param("afterId") long afterId,
+                                            Pageable pageable);
+
     // Entity-related achievements
     List<Achievement> findByPersonalIdAndEntityTypeAndEntityId(Long personalId,
                                                                EntityType entityType,
@@ -48,5 +60,30 @@ public interface AchievementRepository extends JpaRepository<Achievement, Long>
             "WHERE a.personal.id = :personalId AND em.featured = true ORDER BY a.achievementDate DESC")
     List<Achievement> findFeaturedByPersonalId(@Param("personalId") Long personalId, Pageable pageable);
 
+    // ===== LIST PROJECTIONS =====
 
-}
\ No newline at end of file
+    /**
+     * The columns a timeline item is built from, with its metadata joined in. Read as
+     * plain values: nothing enters the persistence context.
+     */
+    record TimelineRow(Long id,
+                       LocalDate achievementDate,
+                       String title,
+                       AchievementType achievementType,
+                       String description,
+                       String certificateUrl,
+                       String iconName,
+                       String primaryColor,
+                       String secondaryColor) {
+    }
+
+    @Query("SELECT new com.example.portofolio.repository.AchievementRepository$TimelineRow(" +
+            "a.id, a.achievementDate, a.title, a.achievementType, a.description, a.certificateUrl, " +
+            "i.name, em.primaryColor, em.secondaryColor) " +
+            "FROM Achievement a " +
+            "LEFT JOIN EntityMetadata em ON em.entityType = 'ACHIEVEMENT' AND em.entityId = a.id " +
+            "LEFT JOIN em.icon i " +
+            "WHERE a.personal.id = :personalId " +
+            "ORDER BY a.id")
+    List<TimelineRow> findTimelineRowsByPersonalId(@Param("personalId") Long personalId);
+}
@@ -2,6 +2,8 @@ package com.example.portofolio.repository;
 
 import com.example.portofolio.entity.Certificate;
 import com.example.portofolio.entity.CertificationCategory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,6 +11,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CertificateRepository extends JpaRepository<Certificate, Long> {
@@ -16,15 +19,13 @@ public interface CertificateRepository extends JpaRepository<Certificate, Long>
     // Basic queries
     List<Certificate> findByPersonalId(Long personalId);
 
-    // Optimized queries
-    @Query("SELECT c FROM Certificate c " +
-            "LEFT JOIN FETCH c.category " +
-            "WHERE c.personal.id = :personalId")
-    List<Certificate> findByPersonalIdWithCategory(@Param("personalId") Long personalId);
-
     // Verification status
     List<Certificate> findByPersonalIdAndVerifiedTrue(Long personalId);
 
+    @Query("SELECT COUNT(c), MAX(c.updatedAt) FROM Certificate c " +
+            "WHERE c.personal.id = :personalId AND c.verified = true")
+    List<Object[]> findVerifiedVersionStamp(@Param("personalId") Long personalId);
+
     // Featured certificates
     @Query("SELECT c FROM Certificate c " +
             "JOIN EntityMetadata em ON em.entityType = 'CERTIFICATE' AND em.entityId = c.id " +
@@ -84,4 +85,59 @@ public interface CertificateRepository extends JpaRepository<Certificate, Long>
             "ORDER BY cc.name ASC")
     List<CertificationCategory> findAllWithIcon();
 
-}
\ No newline at end of file
+    // ===== LIST PROJECTIONS =====
+
+    /**
+     * The columns a certificate card is built from, with its metadata joined in. The
+     * description is cut in SQL to the given length. Read as plain values: nothing
+     * enters the persistence context.
+     */
+    record CertificateRow(Long id,
+                          String name,
+                          String provider,
+                          LocalDate issueDate,
+                          String credentialId,
+                          String description,
+                          String categoryName,
+                          String certificateUrl,
+                          Boolean verified,
+                          Integer relevanceScore,
+                          String iconName,
+                          String primaryColor,
+                          Boolean featured) {
+    }
+
+    String CERTIFICATE_ROW = "SELECT new com.example.portofolio.repository.CertificateRepository$CertificateRow(" +
+            "c.id, c.name, c.provider, c.issueDate, c.credentialId, SUBSTRING(c.description, 1, :descriptionLength), " +
+            "cc.name, c.certificateUrl, c.verified, c.relevanceScore, i.name, em.primaryColor, em.featured) " +
+            "FROM Certificate c " +
+            "LEFT JOIN c.category cc " +
+            "LEFT JOIN EntityMetadata em ON em.entityType = 'CERTIFICATE' AND em.entityId = c.id " +
+            "LEFT JOIN em.icon i ";
+
+    @Query(CERTIFICATE_ROW + "WHERE c.personal.id = :personalId ORDER BY c.id")
+    List<CertificateRow> findRowsByPersonalId(@Param("personalId") Long personalId,
+                                              @Param("descriptionLength") int descriptionLength);
+
+    @Query(CERTIFICATE_ROW + "WHERE c.personal.id = :personalId AND c.id = :certificateId")
+    Optional<CertificateRow> findRowByPersonalIdAndId(@Param("personalId") Long personalId,
+                                                      @Param("certificateId") Long certificateId,
+                                                      @Param("descriptionLength") int descriptionLength);
+
+    /**
+     * The rows after a position in (issue date, id) descending order, read as a slice:
+     * no count query, and the row comparison seeks straight to the page
+     */
+    @Query(CERTIFICATE_ROW + "WHERE c.personal.id = :personalId " +
+            "AND (c.issueDate, c.id) < (:afterDate, :afterId) " +
+            "ORDER BY c.issueDate DESC, c.id DESC")
+    Slice<CertificateRow> findRowPageByPersonalId(@Param("personalId") Long personalId,
+                                                  @Param("afterDate") LocalDate afterDate,
+                                                  @Param("afterId") long afterId,
+                                                  @Param("descriptionLength") int descriptionLength,
+                                                  Pageable pageable);
+
+    @Query(CERTIFICATE_ROW + "WHERE c.personal.id = :personalId AND em.featured = true ORDER BY c.issueDate DESC")
+    List<CertificateRow> findFeaturedRowsByPersonalId(@Param("personalId") Long personalId,
+                                                      @Param("descriptionLength") int descriptionLength);
+}
@@ -16,6 +16,7 @@ public interface CourseProjectRepository extends JpaRepository<CourseProject, Lo
      */
     @Query("SELECT cp FROM CourseProject cp " +
             "LEFT JOIN FETCH cp.project p " +
+            "LEFT JOIN FETCH p.metrics " +
             "LEFT JOIN FETCH cp.course c " +
             "LEFT JOIN FETCH c.education e " +
             "WHERE e.personal.id = :personalId " +
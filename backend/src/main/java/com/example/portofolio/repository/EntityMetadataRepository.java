@@ -3,8 +3,12 @@ package com.example.portofolio.repository;
 import com.example.portofolio.entity.EntityMetadata;
 import com.example.portofolio.entity.enums.EntityType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,5 +17,11 @@ public interface EntityMetadataRepository extends JpaRepository<EntityMetadata,
     // Basic queries
     Optional<EntityMetadata> findByEntityTypeAndEntityId(EntityType entityType, Long entityId);
 
+    // Batch queries
+    @Query("SELECT em FROM EntityMetadata em " +
+            "LEFT JOIN FETCH em.icon " +
+            "WHERE em.entityType IN :entityTypes AND em.entityId IN :entityIds")
+    List<EntityMetadata> findByEntityTypesAndEntityIdsWithIcon(@Param("entityTypes") Collection<EntityType> entityTypes,
+                                                               @Param("entityIds") Collection<Long> entityIds);
 
-}
\ No newline at end of file
+}
@@ -2,11 +2,15 @@ package com.example.portofolio.repository;
 
 import com.example.portofolio.entity.EntitySkill;
 import com.example.portofolio.entity.enums.EntityType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -20,11 +24,43 @@ public interface EntitySkillRepository extends JpaRepository<EntitySkill, Long>
     List<EntitySkill> findByEntityTypeAndEntityIdWithSkill(@Param("entityType") EntityType entityType,
                                                            @Param("entityId") Long entityId);
 
-    Integer countByEntityTypeAndSkillId(EntityType entityType, Long skillId);
+    /**
+     * Links of a skill to projects, certificates or education, read from the skill_usage
+     * view (V3__usage_views.sql); other entity types are not counted there
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "skill_usage"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "entity_skill"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "certificate"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "education")})
+    @Query(value = "SELECT CAST(COALESCE(SUM(CASE CAST(:#{#entityType.name()} AS varchar) " +
+            "WHEN 'PROJECT' THEN su.project_count " +
+            "WHEN 'CERTIFICATE' THEN su.certificate_count " +
+            "WHEN 'EDUCATION' THEN su.education_count " +
+            "ELSE 0 END), 0) AS integer) " +
+            "FROM skill_usage su WHERE su.skill_id = :skillId",
+            nativeQuery = true)
+    Integer countByEntityTypeAndSkillId(@Param("entityType") EntityType entityType, @Param("skillId") Long skillId);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "entity_skill"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project")})
     @Query(value = "SELECT p.title FROM entity_skill es " +
             "JOIN project p ON p.id = es.entity_id " +
             "WHERE es.entity_type = 'PROJECT' AND es.skill_id = :skillId",
             nativeQuery = true)
     List<String> findProjectNamesBySkillId(@Param("skillId") Long skillId);
+
+    /**
+     * Names of the skills linked to each entity, without loading the links or skills
+     */
+    record SkillNameRow(Long entityId, String skillName) {
+    }
+
+    @Query("SELECT new com.example.portofolio.repository.EntitySkillRepository$SkillNameRow(es.entityId, s.name) " +
+            "FROM EntitySkill es JOIN es.skill s " +
+            "WHERE es.entityType = :entityType AND es.entityId IN :entityIds")
+    List<SkillNameRow> findSkillNamesByEntityIds(@Param("entityType") EntityType entityType,
+                                                 @Param("entityIds") Collection<Long> entityIds);
 }
@@ -2,11 +2,15 @@ package com.example.portofolio.repository;
 
 import com.example.portofolio.entity.EntityTechnology;
 import com.example.portofolio.entity.enums.EntityType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -21,23 +25,49 @@ public interface EntityTechnologyRepository extends JpaRepository<EntityTechnolo
     List<EntityTechnology> findByEntityTypeAndEntityIdWithTechnology(@Param("entityType") EntityType entityType,
                                                                      @Param("entityId") Long entityId);
 
-    @Query("SELECT COUNT(et) FROM EntityTechnology et " +
-            "JOIN Project p ON et.entityId = p.id " +
-            "WHERE et.entityType = 'PROJECT' " +
-            "AND et.technology.id = :technologyId " +
-            "AND p.personal.id = :personalId")
+    // ===== USAGE =====
+    // Read from the technology_usage view (V3__usage_views.sql), keyed by (personal_id,
+    // technology_id). The query spaces name the view, evicted by UsageViewRefresher once
+    // it is refreshed, and the tables behind it, so cached results are invalidated by
+    // changes to them.
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "technology_usage"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "entity_technology"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project")})
+    @Query(value = "SELECT CAST(COALESCE(SUM(tu.project_count), 0) AS integer) FROM technology_usage tu " +
+            "WHERE tu.technology_id = :technologyId AND tu.personal_id = :personalId",
+            nativeQuery = true)
     Integer countProjectsForTechnologyAndPersonal(@Param("technologyId") Long technologyId,
                                                   @Param("personalId") Long personalId);
 
-    @Query("SELECT COUNT(DISTINCT et.technology.id) FROM EntityTechnology et " +
-            "WHERE et.entityType = 'PROJECT' AND et.entityId IN " +
-            "(SELECT p.id FROM Project p WHERE p.personal.id = :personalId)")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "technology_usage"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "entity_technology"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project")})
+    @Query(value = "SELECT tu.technology_id, tu.project_count FROM technology_usage tu " +
+            "WHERE tu.personal_id = :personalId AND tu.project_count > 0",
+            nativeQuery = true)
+    List<Object[]> countProjectsPerTechnologyForPersonal(@Param("personalId") Long personalId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "technology_usage"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "entity_technology"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project")})
+    @Query(value = "SELECT CAST(COUNT(*) AS integer) FROM technology_usage tu " +
+            "WHERE tu.personal_id = :personalId AND tu.project_count > 0",
+            nativeQuery = true)
     Integer countDistinctTechnologiesByPersonalId(@Param("personalId") Long personalId);
 
     @Query("SELECT t.name FROM EntityTechnology et JOIN et.technology t " +
             "WHERE et.entityType = 'PROJECT' AND et.entityId = :projectId")
     List<String> findTechnologyNamesByProjectId(@Param("projectId") Long projectId);
 
+    @Query("SELECT et.entityId, t.name FROM EntityTechnology et JOIN et.technology t " +
+            "WHERE et.entityType = 'PROJECT' AND et.entityId IN :projectIds " +
+            "ORDER BY et.entityId, et.id")
+    List<Object[]> findTechnologyNamesByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
     @Query("SELECT et FROM EntityTechnology et " +
             "LEFT JOIN FETCH et.technology t " +
             "LEFT JOIN FETCH t.category " +
@@ -11,8 +11,9 @@ import java.util.List;
 @Repository
 public interface HobbyRepository extends JpaRepository<Hobby, Long> {
 
-    // Basic queries
-    List<Hobby> findByPersonalId(Long personalId);
+    // Basic queries, in id order: the order CachedListPatcher appends new hobbies in
+    @Query("SELECT h FROM Hobby h WHERE h.personal.id = :personalId ORDER BY h.id")
+    List<Hobby> findByPersonalId(@Param("personalId") Long personalId);
 
     // Featured hobbies
     @Query("SELECT h FROM Hobby h " +
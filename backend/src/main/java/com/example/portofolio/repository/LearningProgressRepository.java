@@ -14,6 +14,12 @@ public interface LearningProgressRepository extends JpaRepository<LearningProgre
 
     List<LearningProgress> findBySkillIdAndStatus(Long skillId, LearningStatus status);
 
+    @Query("SELECT lp FROM LearningProgress lp " +
+            "JOIN FETCH lp.skill s " +
+            "WHERE s.personal.id = :personalId AND lp.status = :status")
+    List<LearningProgress> findByPersonalIdAndStatusWithSkill(@Param("personalId") Long personalId,
+                                                              @Param("status") LearningStatus status);
+
     // Personal queries
     @Query("SELECT lp FROM LearningProgress lp " +
             "WHERE lp.skill.personal.id = :personalId")
@@ -0,0 +1,66 @@
+package com.example.portofolio.repository;
+
+import com.example.portofolio.entity.Personal;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Full-text search across projects, skills, certificates and technologies in one
+ * statement. Every table is matched through the GIN index on its generated
+ * search_vector column (see V2__full_text_search.sql) and hits are ranked with
+ * ts_rank. Every page matches and ranks all hits again: the keyset on (rank, type, id)
+ * only filters the ranked hits, it saves the OFFSET sort and skip but not the
+ * matching. ts_headline, the costly part, only runs for the rows of the page.
+ * <p>
+ * Headlines are HTML: the source text is escaped before highlighting, so the
+ * {@code <mark>} tags are the only markup in them.
+ * <p>
+ * PostgreSQL only: the test profile's H2 database has no text search.
+ */
+@Repository
+public interface PortfolioSearchRepository extends org.springframework.data.repository.Repository<Personal, Long> {
+
+    String TS_QUERY = "websearch_to_tsquery('simple', :query)";
+
+    // Text the headline is cut from, HTML-escaped so stored markup cannot reach the page
+    String HEADLINE_SOURCE = "replace(replace(replace(replace(replace(coalesce(h.body, h.title), " +
+            "'&', '&amp;'), '<', '&lt;'), '>', '&gt;'), '\"', '&quot;'), '''', '&#39;')";
+
+    @Query(value = "WITH hits AS (" +
+            "SELECT 'PROJECT' AS type, p.id, p.title, p.description AS body, ts_rank(p.search_vector, " + TS_QUERY + ") AS rank " +
+            "FROM project p WHERE p.personal_id = :personalId AND p.search_vector @@ " + TS_QUERY + " " +
+            "UNION ALL " +
+            "SELECT 'SKILL', s.id, s.name, s.description, ts_rank(s.search_vector, " + TS_QUERY + ") " +
+            "FROM skill s WHERE s.personal_id = :personalId AND s.search_vector @@ " + TS_QUERY + " " +
+            "UNION ALL " +
+            "SELECT 'CERTIFICATE', c.id, c.name, c.description, ts_rank(c.search_vector, " + TS_QUERY + ") " +
+            "FROM certificate c WHERE c.personal_id = :personalId AND c.search_vector @@ " + TS_QUERY + " " +
+            "UNION ALL " +
+            "SELECT 'TECHNOLOGY', t.id, t.name, t.description, ts_rank(t.search_vector, " + TS_QUERY + ") " +
+            "FROM technology t WHERE t.search_vector @@ " + TS_QUERY + ") " +
+            "SELECT h.type AS \"type\", h.id AS \"id\", h.title AS \"title\", h.rank AS \"rank\", " +
+            "ts_headline('simple', " + HEADLINE_SOURCE + ", " + TS_QUERY + ", " +
+            "'StartSel=<mark>, StopSel=</mark>, MinWords=10, MaxWords=25, MaxFragments=2') AS \"headline\" " +
+            "FROM hits h " +
+            "WHERE (h.rank, h.type, h.id) < (CAST(:afterRank AS real), CAST(:afterType AS text), CAST(:afterId AS bigint)) " +
+            "ORDER BY h.rank DESC, h.type DESC, h.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<SearchHit> search(@Param("personalId") Long personalId,
+                           @Param("query") String query,
+                           @Param("afterRank") float afterRank,
+                           @Param("afterType") String afterType,
+                           @Param("afterId") long afterId,
+                           @Param("limit") int limit);
+
+    interface SearchHit {
+        String getType();
+        Long getId();
+        String getTitle();
+        Float getRank();
+        String getHeadline();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.portofolio.repository;
+
+import com.example.portofolio.entity.Personal;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+/**
+ * Aggregate counters of a personal, one row per entity family. Each query scans its
+ * table once and derives every counter with COUNT(*) FILTER and MIN/MAX, replacing
+ * the separate count/min/max queries the statistics methods used to issue. The tables
+ * are declared as native query spaces so cached results can be invalidated by them.
+ */
+@Repository
+public interface PortfolioStatisticsRepository extends org.springframework.data.repository.Repository<Personal, Long> {
+
+    // ===== PROJECTS =====
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project"))
+    @Query(value = "SELECT COUNT(*) AS \"totalProjects\", " +
+            "COUNT(*) FILTER (WHERE p.status IN ('PRODUCTION', 'MAINTENANCE')) AS \"deployedProjects\", " +
+            "COUNT(*) FILTER (WHERE p.demo_url IS NOT NULL AND p.demo_url <> '') AS \"liveProjects\", " +
+            "MIN(p.year) AS \"oldestYear\", " +
+            "MAX(p.year) AS \"newestYear\", " +
+            "COUNT(*) FILTER (WHERE p.complexity = 'BEGINNER') AS \"beginnerProjects\", " +
+            "COUNT(*) FILTER (WHERE p.complexity = 'INTERMEDIATE') AS \"intermediateProjects\", " +
+            "COUNT(*) FILTER (WHERE p.complexity = 'ADVANCED') AS \"advancedProjects\" " +
+            "FROM project p " +
+            "WHERE p.personal_id = :personalId",
+            nativeQuery = true)
+    ProjectCounters findProjectCounters(@Param("personalId") Long personalId);
+
+    interface ProjectCounters {
+        Long getTotalProjects();
+        Long getDeployedProjects();
+        Long getLiveProjects();
+        Integer getOldestYear();
+        Integer getNewestYear();
+        Long getBeginnerProjects();
+        Long getIntermediateProjects();
+        Long getAdvancedProjects();
+    }
+
+    // ===== CERTIFICATES =====
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "certificate"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "entity_metadata")})
+    @Query(value = "SELECT COUNT(*) AS \"totalCertificates\", " +
+            "COUNT(*) FILTER (WHERE c.is_verified = TRUE) AS \"verifiedCertificates\", " +
+            "AVG(CAST(c.relevance_score AS DOUBLE PRECISION)) AS \"averageRelevanceScore\", " +
+            "COUNT(*) FILTER (WHERE c.has_expiry = TRUE AND c.expiry_date <= :expiryDate) AS \"expiringCertificates\", " +
+            "COUNT(*) FILTER (WHERE em.featured = TRUE) AS \"featuredCertificates\", " +
+            "COUNT(*) FILTER (WHERE c.relevance_score >= :highRelevanceScore) AS \"highRelevanceCertificates\" " +
+            "FROM certificate c " +
+            "LEFT JOIN entity_metadata em ON em.entity_type = 'CERTIFICATE' AND em.entity_id = c.id " +
+            "WHERE c.personal_id = :personalId",
+            nativeQuery = true)
+    CertificateCounters findCertificateCounters(@Param("personalId") Long personalId,
+                                                @Param("expiryDate") LocalDate expiryDate,
+                                                @Param("highRelevanceScore") Integer highRelevanceScore);
+
+    interface CertificateCounters {
+        Long getTotalCertificates();
+        Long getVerifiedCertificates();
+        Double getAverageRelevanceScore();
+        Long getExpiringCertificates();
+        Long getFeaturedCertificates();
+        Long getHighRelevanceCertificates();
+    }
+
+    // ===== SKILLS HERO =====
+
+    // Every derived table aggregates without GROUP BY, so each yields exactly one row
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "certificate"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "skill"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "entity_technology")})
+    @Query(value = "SELECT pr.oldest_year AS \"oldestProjectYear\", " +
+            "pr.total AS \"totalProjects\", " +
+            "ce.total AS \"totalCertificates\", " +
+            "sk.average_level AS \"averageSkillLevel\", " +
+            "sk.oldest_year AS \"oldestSkillYear\", " +
+            "te.total AS \"technologyCount\" " +
+            "FROM (SELECT MIN(p.year) AS oldest_year, COUNT(*) AS total " +
+            "      FROM project p WHERE p.personal_id = :personalId) pr " +
+            "CROSS JOIN (SELECT COUNT(*) AS total " +
+            "      FROM certificate c WHERE c.personal_id = :personalId) ce " +
+            "CROSS JOIN (SELECT AVG(CAST(s.level AS DOUBLE PRECISION)) AS average_level, " +
+            "             EXTRACT(YEAR FROM MIN(s.created_at)) AS oldest_year " +
+            "      FROM skill s WHERE s.personal_id = :personalId) sk " +
+            "CROSS JOIN (SELECT COUNT(DISTINCT et.technology_id) AS total " +
+            "      FROM entity_technology et JOIN project p ON p.id = et.entity_id " +
+            "      WHERE et.entity_type = 'PROJECT' AND p.personal_id = :personalId) te",
+            nativeQuery = true)
+    SkillHeroCounters findSkillHeroCounters(@Param("personalId") Long personalId);
+
+    interface SkillHeroCounters {
+        Integer getOldestProjectYear();
+        Long getTotalProjects();
+        Long getTotalCertificates();
+        Double getAverageSkillLevel();
+        Integer getOldestSkillYear();
+        Long getTechnologyCount();
+    }
+}
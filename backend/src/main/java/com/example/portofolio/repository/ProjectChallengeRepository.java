@@ -0,0 +1,19 @@
+package com.example.portofolio.repository;
+
+import com.example.portofolio.entity.ProjectChallenge;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProjectChallengeRepository extends JpaRepository<ProjectChallenge, Long> {
+
+    @Query("SELECT c FROM ProjectChallenge c " +
+            "WHERE c.project.id IN :projectIds " +
+            "ORDER BY c.project.id, c.id")
+    List<ProjectChallenge> findByProjectIdIn(@Param("projectIds") Collection<Long> projectIds);
+}
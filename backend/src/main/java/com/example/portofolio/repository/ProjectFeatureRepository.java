@@ -0,0 +1,19 @@
+package com.example.portofolio.repository;
+
+import com.example.portofolio.entity.ProjectFeature;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProjectFeatureRepository extends JpaRepository<ProjectFeature, Long> {
+
+    @Query("SELECT f FROM ProjectFeature f " +
+            "WHERE f.project.id IN :projectIds " +
+            "ORDER BY f.project.id, f.sortOrder, f.id")
+    List<ProjectFeature> findByProjectIdIn(@Param("projectIds") Collection<Long> projectIds);
+}
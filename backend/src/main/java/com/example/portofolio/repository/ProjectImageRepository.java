@@ -0,0 +1,32 @@
+package com.example.portofolio.repository;
+
+import com.example.portofolio.entity.ProjectImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProjectImageRepository extends JpaRepository<ProjectImage, Long> {
+
+    @Query("SELECT i FROM ProjectImage i " +
+            "WHERE i.project.id IN :projectIds " +
+            "ORDER BY i.project.id, i.sortOrder, i.id")
+    List<ProjectImage> findByProjectIdIn(@Param("projectIds") Collection<Long> projectIds);
+
+    /**
+     * The columns needed to pick the image a project card shows
+     */
+    record ImageUrlRow(Long projectId, String imageUrl, Boolean primary) {
+    }
+
+    @Query("SELECT new com.example.portofolio.repository.ProjectImageRepository$ImageUrlRow(" +
+            "i.project.id, i.imageUrl, i.primary) " +
+            "FROM ProjectImage i " +
+            "WHERE i.project.id IN :projectIds " +
+            "ORDER BY i.project.id, i.sortOrder, i.id")
+    List<ImageUrlRow> findImageUrlsByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+}
@@ -2,6 +2,7 @@ package com.example.portofolio.repository;
 
 import com.example.portofolio.entity.Project;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,6 +17,14 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     // Basic queries
     List<Project> findByPersonalId(Long personalId);
 
+    // Metrics is the inverse side of a one-to-one and would otherwise load one query per project.
+    // Id order, the order CachedListPatcher appends new projects in
+    @Query("SELECT p FROM Project p " +
+            "LEFT JOIN FETCH p.metrics " +
+            "WHERE p.personal.id = :personalId " +
+            "ORDER BY p.id")
+    List<Project> findByPersonalIdWithMetrics(@Param("personalId") Long personalId);
+
     // Featured projects
     @Query("SELECT p FROM Project p " +
             "JOIN EntityMetadata em ON em.entityType = 'PROJECT' AND em.entityId = p.id " +
@@ -113,4 +122,55 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
             "AND p.demoUrl IS NOT NULL AND p.demoUrl != ''")
     Long countLiveProjects(@Param("personalId") Long personalId);
 
-}
\ No newline at end of file
+    // ===== LIST PROJECTIONS =====
+
+    /**
+     * The columns a project card is built from, with its metadata joined in; the long
+     * description, metrics and collections are left out. Read as plain values: nothing
+     * enters the persistence context.
+     */
+    record ProjectCardRow(Long id,
+                          String title,
+                          String description,
+                          String githubUrl,
+                          String demoUrl,
+                          String category,
+                          Boolean featured,
+                          String primaryColor) {
+    }
+
+    @Query("SELECT new com.example.portofolio.repository.ProjectRepository$ProjectCardRow(" +
+            "p.id, p.title, p.description, p.githubUrl, p.demoUrl, p.category, em.featured, em.primaryColor) " +
+            "FROM Project p " +
+            "LEFT JOIN EntityMetadata em ON em.entityType = 'PROJECT' AND em.entityId = p.id " +
+            "WHERE p.personal.id = :personalId " +
+            "ORDER BY p.id")
+    List<ProjectCardRow> findCardRowsByPersonalId(@Param("personalId") Long personalId);
+
+    // ===== KEYSET PAGES =====
+
+    /**
+     * The projects after a position in id order, read as a slice: no count query, and
+     * the id predicate seeks straight to the page however deep it is
+     */
+    @Query("SELECT p FROM Project p " +
+            "LEFT JOIN FETCH p.metrics " +
+            "WHERE p.personal.id = :personalId AND p.id > :afterId " +
+            "ORDER BY p.id")
+    Slice<Project> findPageByPersonalIdWithMetrics(@Param("personalId") Long personalId,
+                                                   @Param("afterId") long afterId,
+                                                   Pageable pageable);
+
+    // ===== AUTOCOMPLETE =====
+
+    record TitleRow(Long id, String title, List<String> tags) {
+    }
+
+    @Query("SELECT new com.example.portofolio.repository.ProjectRepository$TitleRow(p.id, p.title, p.tags) " +
+            "FROM Project p WHERE p.personal.id = :personalId")
+    List<TitleRow> findTitleRowsByPersonalId(@Param("personalId") Long personalId);
+
+    @Query("SELECT new com.example.portofolio.repository.ProjectRepository$TitleRow(p.id, p.title, p.tags) " +
+            "FROM Project p WHERE p.personal.id = :personalId AND p.id = :projectId")
+    Optional<TitleRow> findTitleRowByPersonalIdAndId(@Param("personalId") Long personalId, @Param("projectId") Long projectId);
+}
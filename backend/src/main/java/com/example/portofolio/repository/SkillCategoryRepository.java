@@ -1,8 +1,11 @@
 package com.example.portofolio.repository;
 
 import com.example.portofolio.entity.SkillCategory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -17,6 +20,7 @@ public interface SkillCategoryRepository extends JpaRepository<SkillCategory, Lo
             "ORDER BY sc.sortOrder, sc.name")
     List<SkillCategory> findAllWithParentAndIcon();
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "skill_category"))
     @Query(value = "WITH RECURSIVE CategoryHierarchy AS (" +
             "  SELECT id, name, parent_id, 0 as level FROM skill_category WHERE id = :categoryId " +
             "  UNION ALL " +
@@ -1,14 +1,17 @@
 package com.example.portofolio.repository;
 
 import com.example.portofolio.entity.Skill;
+import com.example.portofolio.entity.enums.ProficiencyLevel;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 
 @Repository
@@ -17,13 +20,6 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     // Basic queries
     List<Skill> findByPersonalId(Long personalId);
 
-    // Optimized queries cu JOIN FETCH
-    @Query("SELECT s FROM Skill s " +
-            "LEFT JOIN FETCH s.category " +
-            "LEFT JOIN FETCH s.tags " +
-            "WHERE s.personal.id = :personalId")
-    List<Skill> findByPersonalIdWithCategoryAndTags(@Param("personalId") Long personalId);
-
     // Featured/Trending skills
     @Query("SELECT s FROM Skill s " +
             "JOIN EntityMetadata em ON em.entityType = 'SKILL' AND em.entityId = s.id " +
@@ -50,16 +46,6 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
             "WHERE s.personal.id = :personalId AND em.featured = true ORDER BY s.level DESC")
     List<Skill> findFeaturedByPersonalId(@Param("personalId") Long personalId, Pageable pageable);
 
-    /**
-     * Return top skills ordered after level  (descendant) and limited for N skills
-     * Use LEFT JOIN for including metadata (color)
-     */
-    @Query("SELECT s, em FROM Skill s " +
-            "LEFT JOIN EntityMetadata em ON em.entityType = 'SKILL' AND em.entityId = s.id " +
-            "WHERE s.personal.id = :personalId AND s.level IS NOT NULL " +
-            "ORDER BY s.level DESC, s.name ASC")
-    List<Object[]> findTopSkillsByLevel(@Param("personalId") Long personalId, Pageable pageable);
-
     /**
      * Find the skills by category name
      */
@@ -78,4 +64,52 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     @Query("SELECT MIN(s.createdAt) FROM Skill s WHERE s.personal.id = :personalId")
     LocalDate findOldestSkillDate(@Param("personalId") Long personalId);
 
-}
\ No newline at end of file
+    // ===== LIST PROJECTIONS =====
+
+    /**
+     * The columns a skill card is built from, with its metadata and project count joined
+     * in. Read as plain values: nothing enters the persistence context. The count comes
+     * from the skill_usage view, like {@link EntitySkillRepository#countByEntityTypeAndSkillId}.
+     */
+    record SkillRow(Long id,
+                    String name,
+                    Integer level,
+                    ProficiencyLevel proficiency,
+                    String description,
+                    BigDecimal yearsOfExperience,
+                    String categoryName,
+                    String iconName,
+                    String primaryColor,
+                    Long projectCount) {
+    }
+
+    String SKILL_ROW = "SELECT new com.example.portofolio.repository.SkillRepository$SkillRow(" +
+            "s.id, s.name, s.level, s.proficiency, s.description, s.yearsOfExperience, c.name, i.name, em.primaryColor, " +
+            "(SELECT COALESCE(SUM(su.projectCount), 0) FROM SkillUsage su WHERE su.skillId = s.id)) " +
+            "FROM Skill s " +
+            "LEFT JOIN s.category c " +
+            "LEFT JOIN EntityMetadata em ON em.entityType = 'SKILL' AND em.entityId = s.id " +
+            "LEFT JOIN em.icon i ";
+
+    @Query(SKILL_ROW + "WHERE s.personal.id = :personalId ORDER BY s.id")
+    List<SkillRow> findRowsByPersonalId(@Param("personalId") Long personalId);
+
+    @Query(SKILL_ROW + "WHERE s.personal.id = :personalId AND s.id = :skillId")
+    Optional<SkillRow> findRowByPersonalIdAndId(@Param("personalId") Long personalId, @Param("skillId") Long skillId);
+
+    @Query(SKILL_ROW + "WHERE s.personal.id = :personalId AND s.level IS NOT NULL ORDER BY s.level DESC, s.name ASC")
+    List<SkillRow> findTopRowsByLevel(@Param("personalId") Long personalId, Pageable pageable);
+
+    // ===== AUTOCOMPLETE =====
+
+    record NameRow(Long id, String name) {
+    }
+
+    @Query("SELECT new com.example.portofolio.repository.SkillRepository$NameRow(s.id, s.name) " +
+            "FROM Skill s WHERE s.personal.id = :personalId")
+    List<NameRow> findNameRowsByPersonalId(@Param("personalId") Long personalId);
+
+    @Query("SELECT new com.example.portofolio.repository.SkillRepository$NameRow(s.id, s.name) " +
+            "FROM Skill s WHERE s.personal.id = :personalId AND s.id = :skillId")
+    Optional<NameRow> findNameRowByPersonalIdAndId(@Param("personalId") Long personalId, @Param("skillId") Long skillId);
+}
@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TechnologyRepository extends JpaRepository<Technology, Long> {
@@ -17,6 +18,24 @@ public interface TechnologyRepository extends JpaRepository<Technology, Long> {
             "ORDER BY t.popularityScore DESC, t.name ASC")
     List<Technology> findTrendingTechnologies();
 
+    @Query("SELECT DISTINCT t FROM Technology t " +
+            "LEFT JOIN FETCH t.category " +
+            "LEFT JOIN FETCH t.features " +
+            "WHERE t.trending = true " +
+            "ORDER BY t.popularityScore DESC, t.name ASC")
+    List<Technology> findTrendingWithCategoryAndFeatures();
+
+    @Query("SELECT DISTINCT t FROM Technology t " +
+            "LEFT JOIN FETCH t.category " +
+            "LEFT JOIN FETCH t.features")
+    List<Technology> findAllWithCategoryAndFeatures();
+
+    @Query("SELECT t.name FROM Technology t")
+    List<String> findAllNames();
+
+    @Query("SELECT COUNT(t), MAX(t.updatedAt) FROM Technology t")
+    List<Object[]> findVersionStamp();
+
     @Query("SELECT COUNT(t) FROM Technology t WHERE t.trending = true")
     Long countTrendingTechnologies();
 
@@ -47,5 +66,15 @@ public interface TechnologyRepository extends JpaRepository<Technology, Long> {
             "ORDER BY t.releaseDate DESC")
     List<Technology> findRecentlyReleased(@Param("since") java.time.LocalDate since);
 
+    // ===== AUTOCOMPLETE =====
+
+    record NameRow(Long id, String name) {
+    }
+
+    @Query("SELECT new com.example.portofolio.repository.TechnologyRepository$NameRow(t.id, t.name) FROM Technology t")
+    List<NameRow> findNameRows();
 
-}
\ No newline at end of file
+    @Query("SELECT new com.example.portofolio.repository.TechnologyRepository$NameRow(t.id, t.name) " +
+            "FROM Technology t WHERE t.id = :technologyId")
+    Optional<NameRow> findNameRowById(@Param("technologyId") Long technologyId);
+}
@@ -0,0 +1,40 @@
+package com.example.portofolio.repository.base;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a keyset page: the sort key and id of that row.
+ * The next page reads the rows strictly after it in (sort key, id) order, so it costs
+ * the same however deep it is, and rows inserted meanwhile never shift a page the way
+ * they shift an offset. Clients only see it as an opaque Base64url string.
+ */
+public record KeysetCursor(String key, long id) {
+
+    public static KeysetCursor of(Object key, long id) {
+        return new KeysetCursor(String.valueOf(key), id);
+    }
+
+    public LocalDate dateKey() {
+        try {
+            return LocalDate.parse(key);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid page cursor", e);
+        }
+    }
+
+    public String encode() {
+        String value = id + ":" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 2);
+            return new KeysetCursor(parts[1], Long.parseLong(parts[0]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid page cursor", e);
+        }
+    }
+}
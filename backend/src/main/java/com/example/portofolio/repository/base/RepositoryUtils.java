@@ -3,6 +3,8 @@ package com.example.portofolio.repository.base;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
+
 /**
  * Utility class for repository operations
  */
@@ -10,6 +12,11 @@ public class RepositoryUtils {
 
     private static final int MAX_PAGE_SIZE = 100;
 
+    // Keys the first page of a descending keyset starts after; dates stay inside what
+    // every database can store
+    public static final LocalDate KEYSET_FIRST_DATE = LocalDate.of(9999, 12, 31);
+    public static final long KEYSET_FIRST_ID = Long.MAX_VALUE;
+
     // ===== PAGINATION UTILITIES =====
 
     /**
@@ -35,6 +42,23 @@ public class RepositoryUtils {
         return PageRequest.of(page, size);
     }
 
+    /**
+     * Pageable for a keyset query returning a Slice: always the first page, as the
+     * query's own (sort key, id) predicate skips the rows before the cursor. Spring Data
+     * reads one extra row to tell whether there is a next slice, and runs no count.
+     */
+    public static Pageable createKeysetPageable(int size) {
+        validatePageParameters(0, size);
+        return PageRequest.of(0, size);
+    }
+
+    /**
+     * Decode an optional page cursor, null on the first page
+     */
+    public static KeysetCursor decodeCursor(String cursor) {
+        return cursor != null && !cursor.isBlank() ? KeysetCursor.decode(cursor) : null;
+    }
+
     // ===== ID VALIDATION UTILITIES =====
 
     /**
@@ -1,13 +1,18 @@
 package com.example.portofolio.service.base;
 
+import com.example.portofolio.dto.CursorPageDto;
+import com.example.portofolio.memo.RequestMemoized;
+import com.example.portofolio.repository.base.KeysetCursor;
 import com.example.portofolio.repository.base.RepositoryUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 @Transactional(readOnly = true)
 @Slf4j
@@ -36,7 +41,8 @@ public abstract class BaseService<T, ID, R extends JpaRepository<T, ID>> {
     }
 
     /**
-     * Find all entities with default pagination
+     * Find all entities with default pagination. Offset based: every page runs a count
+     * and scans the rows before it, prefer a keyset page for long or deep listings.
      */
     public Page<T> findAll(int page, int size) {
         RepositoryUtils.validatePageParameters(page, size);
@@ -54,10 +60,31 @@ public abstract class BaseService<T, ID, R extends JpaRepository<T, ID>> {
     /**
      * Count total entities
      */
+    @RequestMemoized
     public long count() {
         return repository.count();
     }
 
+    // ===== KEYSET PAGINATION =====
+
+    /**
+     * Turn a slice read after a cursor into a page of DTOs. The next cursor points after
+     * the slice's last row and is absent on the last page.
+     *
+     * @param toDtos   converts the rows of the page at once, so associations load in batches
+     * @param cursorOf the (sort key, id) position of a row
+     */
+    protected <E, D> CursorPageDto<D> toCursorPage(Slice<E> slice,
+                                                   Function<List<E>, List<D>> toDtos,
+                                                   Function<E, KeysetCursor> cursorOf) {
+        List<E> rows = slice.getContent();
+        String nextCursor = slice.hasNext() && !rows.isEmpty() ? cursorOf.apply(rows.getLast()).encode() : null;
+        return CursorPageDto.<D>builder()
+                .items(toDtos.apply(rows))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     // ===== SEARCH & FILTERING (using existing repository methods) =====
 
     /**
@@ -4,11 +4,16 @@ import com.example.portofolio.dto.*;
 import com.example.portofolio.entity.*;
 import com.example.portofolio.entity.enums.*;
 import com.example.portofolio.repository.*;
+import com.example.portofolio.repository.base.KeysetCursor;
+import com.example.portofolio.repository.base.RepositoryUtils;
 import com.example.portofolio.service.base.BaseService;
 import com.example.portofolio.service.base.ServiceUtils;
+import com.example.portofolio.service.support.EntityMetadataResolver;
+import com.example.portofolio.service.support.MetadataLookup;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import jakarta.validation.Valid;
@@ -25,13 +30,13 @@ import java.util.Optional;
 @Slf4j
 public class AchievementService extends BaseService<Achievement, Long, AchievementRepository> {
 
-    private final EntityMetadataRepository entityMetadataRepository;
+    private final EntityMetadataResolver metadataResolver;
 
     @Autowired
     public AchievementService(AchievementRepository achievementRepository,
-                              EntityMetadataRepository entityMetadataRepository) {
+                              EntityMetadataResolver metadataResolver) {
         super(achievementRepository);
-        this.entityMetadataRepository = entityMetadataRepository;
+        this.metadataResolver = metadataResolver;
     }
 
     @Override
@@ -41,25 +46,37 @@ public class AchievementService extends BaseService<Achievement, Long, Achieveme
 
     @Override
     protected AchievementDto toDto(Achievement achievement) {
-        return toAchievementDto(achievement);
+        return toAchievementDto(achievement, resolveMetadata(List.of(achievement)));
     }
 
     // ===== CORE ACHIEVEMENT QUERIES =====
 
-    @Cacheable(value = "achievementsByPersonal", key = "#personalId")
+    @Cacheable(value = "achievementsByPersonal", key = "#personalId", sync = true)
     public List<AchievementDto> findByPersonalId(@Valid @NotNull @Positive Long personalId) {
         ServiceUtils.logMethodEntry("findByPersonalId", personalId);
         ServiceUtils.validatePersonalId(personalId);
 
         List<Achievement> achievements = repository.findByPersonalIdOrderByAchievementDateDesc(personalId);
-        List<AchievementDto> result = achievements.stream()
-                .map(this::toAchievementDto)
-                .toList();
+        List<AchievementDto> result = toAchievementDtos(achievements);
 
         ServiceUtils.logMethodExit("findByPersonalId", result.size());
         return result;
     }
 
+    /**
+     * Keyset page of {@link #findByPersonalId}, newest first
+     */
+    public CursorPageDto<AchievementDto> findPageByPersonalId(Long personalId, String cursor, int size) {
+        ServiceUtils.validatePersonalId(personalId);
+        KeysetCursor after = RepositoryUtils.decodeCursor(cursor);
+
+        Slice<Achievement> slice = repository.findPageByPersonalId(personalId,
+                after != null ? after.dateKey() : RepositoryUtils.KEYSET_FIRST_DATE,
+                after != null ? after.id() : RepositoryUtils.KEYSET_FIRST_ID,
+                RepositoryUtils.createKeysetPageable(size));
+        return toCursorPage(slice, this::toAchievementDtos,
+                achievement -> KeysetCursor.of(achievement.getAchievementDate(), achievement.getId()));
+    }
 
     // ===== ENTITY-RELATED ACHIEVEMENTS =====
 
@@ -72,9 +89,7 @@ public class AchievementService extends BaseService<Achievement, Long, Achieveme
 
         List<Achievement> achievements = repository.findByPersonalIdAndEntityTypeAndEntityId(
                 personalId, entityType, entityId);
-        List<AchievementDto> result = achievements.stream()
-                .map(this::toAchievementDto)
-                .toList();
+        List<AchievementDto> result = toAchievementDtos(achievements);
 
         ServiceUtils.logMethodExit("findByEntityTypeAndEntityId", result.size());
         return result;
@@ -82,9 +97,15 @@ public class AchievementService extends BaseService<Achievement, Long, Achieveme
 
     // ===== DTO CONVERSION =====
 
-    private AchievementDto toAchievementDto(Achievement achievement) {
-        Optional<EntityMetadata> metadata = entityMetadataRepository
-                .findByEntityTypeAndEntityId(EntityType.ACHIEVEMENT, achievement.getId());
+    private List<AchievementDto> toAchievementDtos(List<Achievement> achievements) {
+        MetadataLookup metadata = resolveMetadata(achievements);
+        return achievements.stream()
+                .map(achievement -> toAchievementDto(achievement, metadata))
+                .toList();
+    }
+
+    private AchievementDto toAchievementDto(Achievement achievement, MetadataLookup metadataLookup) {
+        Optional<EntityMetadata> metadata = metadataLookup.find(EntityType.ACHIEVEMENT, achievement.getId());
 
         String formattedDate = ServiceUtils.formatDateAsIso(achievement.getAchievementDate());
 
@@ -156,15 +177,17 @@ public class AchievementService extends BaseService<Achievement, Long, Achieveme
 
     @Override
     public List<Achievement> findFeatured() {
-        return repository.findAll().stream()
-                .filter(achievement -> {
-                    Optional<EntityMetadata> metadata = entityMetadataRepository
-                            .findByEntityTypeAndEntityId(EntityType.ACHIEVEMENT, achievement.getId());
-                    return ServiceUtils.isFeatured(metadata);
-                })
+        List<Achievement> achievements = repository.findAll();
+        MetadataLookup metadata = resolveMetadata(achievements);
+        return achievements.stream()
+                .filter(achievement -> metadata.isFeatured(EntityType.ACHIEVEMENT, achievement.getId()))
                 .toList();
     }
 
+    private MetadataLookup resolveMetadata(List<Achievement> achievements) {
+        return metadataResolver.resolve(EntityType.ACHIEVEMENT, achievements, Achievement::getId);
+    }
+
 
 }
 
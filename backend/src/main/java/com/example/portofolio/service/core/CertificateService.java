@@ -4,11 +4,21 @@ import com.example.portofolio.dto.*;
 import com.example.portofolio.entity.*;
 import com.example.portofolio.entity.enums.*;
 import com.example.portofolio.repository.*;
+import com.example.portofolio.repository.CertificateRepository.CertificateRow;
+import com.example.portofolio.repository.EntitySkillRepository.SkillNameRow;
+import com.example.portofolio.repository.PortfolioStatisticsRepository.CertificateCounters;
+import com.example.portofolio.repository.base.KeysetCursor;
+import com.example.portofolio.repository.base.RepositoryUtils;
+import com.example.portofolio.memo.RequestMemoized;
 import com.example.portofolio.service.base.BaseService;
 import com.example.portofolio.service.base.ServiceUtils;
+import com.example.portofolio.service.support.EntityMetadataResolver;
+import com.example.portofolio.service.support.MetadataLookup;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import jakarta.validation.Valid;
@@ -17,8 +27,8 @@ import jakarta.validation.constraints.Positive;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
@@ -28,16 +38,27 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CertificateService extends BaseService<Certificate, Long, CertificateRepository> {
 
-    private final EntityMetadataRepository entityMetadataRepository;
+    private static final int EXPIRY_WINDOW_DAYS = 90;
+    private static final int HIGH_RELEVANCE_SCORE = 80;
+    private static final int DESCRIPTION_LENGTH = 300;
+
+    private final EntityMetadataResolver metadataResolver;
     private final EntitySkillRepository entitySkillRepository;
+    private final PortfolioStatisticsRepository statisticsRepository;
+    // Proxy of this service, so internal calls are cached and memoized too
+    private final CertificateService self;
 
     @Autowired
     public CertificateService(CertificateRepository certificateRepository,
-                              EntityMetadataRepository entityMetadataRepository,
-                              EntitySkillRepository entitySkillRepository) {
+                              EntityMetadataResolver metadataResolver,
+                              EntitySkillRepository entitySkillRepository,
+                              PortfolioStatisticsRepository statisticsRepository,
+                              @Lazy CertificateService self) {
         super(certificateRepository);
-        this.entityMetadataRepository = entityMetadataRepository;
+        this.metadataResolver = metadataResolver;
         this.entitySkillRepository = entitySkillRepository;
+        this.statisticsRepository = statisticsRepository;
+        this.self = self;
     }
 
     @Override
@@ -47,35 +68,57 @@ public class CertificateService extends BaseService<Certificate, Long, Certifica
 
     @Override
     protected CertificateDto toDto(Certificate certificate) {
-        return toCertificateDto(certificate);
+        return toCertificateDtos(List.of(certificate)).getFirst();
     }
 
     // ===== CORE CERTIFICATE QUERIES =====
 
-    @Cacheable(value = "certificatesByPersonal", key = "#personalId")
+    @Cacheable(value = "certificatesByPersonal", key = "#personalId", sync = true)
     public List<CertificateDto> findByPersonalId(@Valid @NotNull @Positive Long personalId) {
         ServiceUtils.logMethodEntry("findByPersonalId", personalId);
         ServiceUtils.validatePersonalId(personalId);
 
-        List<Certificate> certificates = repository.findByPersonalIdWithCategory(personalId);
-        List<CertificateDto> result = certificates.stream()
-                .map(this::toCertificateDto)
-                .toList();
+        List<CertificateDto> result = toCertificateRowDtos(
+                repository.findRowsByPersonalId(personalId, DESCRIPTION_LENGTH + 1));
 
         ServiceUtils.logMethodExit("findByPersonalId", result.size());
         return result;
     }
 
+    /**
+     * Keyset page of {@link #findByPersonalId}, newest issue date first
+     */
+    public CursorPageDto<CertificateDto> findPageByPersonalId(Long personalId, String cursor, int size) {
+        ServiceUtils.validatePersonalId(personalId);
+        KeysetCursor after = RepositoryUtils.decodeCursor(cursor);
+
+        Slice<CertificateRow> slice = repository.findRowPageByPersonalId(personalId,
+                after != null ? after.dateKey() : RepositoryUtils.KEYSET_FIRST_DATE,
+                after != null ? after.id() : RepositoryUtils.KEYSET_FIRST_ID,
+                DESCRIPTION_LENGTH + 1, RepositoryUtils.createKeysetPageable(size));
+        return toCursorPage(slice, this::toCertificateRowDtos, row -> KeysetCursor.of(row.issueDate(), row.id()));
+    }
 
-    @Cacheable(value = "featuredCertificates", key = "#personalId")
+    /**
+     * One certificate as {@link #findByPersonalId} lists it, empty when it is gone or
+     * belongs to another personal
+     */
+    public Optional<CertificateDto> findByPersonalIdAndId(Long personalId, Long certificateId) {
+        ServiceUtils.validatePersonalId(personalId);
+        ServiceUtils.validateEntityId(certificateId);
+
+        return repository.findRowByPersonalIdAndId(personalId, certificateId, DESCRIPTION_LENGTH + 1)
+                .map(row -> toCertificateRowDtos(List.of(row)).getFirst());
+    }
+
+
+    @Cacheable(value = "featuredCertificates", key = "#personalId", sync = true)
     public List<CertificateDto> findFeaturedCertificates(@Valid @NotNull @Positive Long personalId) {
         ServiceUtils.logMethodEntry("findFeaturedCertificates", personalId);
         ServiceUtils.validatePersonalId(personalId);
 
-        List<Certificate> certificates = repository.findFeaturedByPersonalId(personalId);
-        List<CertificateDto> result = certificates.stream()
-                .map(this::toCertificateDto)
-                .toList();
+        List<CertificateDto> result = toCertificateRowDtos(
+                repository.findFeaturedRowsByPersonalId(personalId, DESCRIPTION_LENGTH + 1));
 
         ServiceUtils.logMethodExit("findFeaturedCertificates", result.size());
         return result;
@@ -94,9 +137,7 @@ public class CertificateService extends BaseService<Certificate, Long, Certifica
 
         LocalDate expiryDate = LocalDate.now().plusDays(daysAhead);
         List<Certificate> certificates = repository.findExpiringByPersonalId(personalId, expiryDate);
-        List<CertificateDto> result = certificates.stream()
-                .map(this::toCertificateDto)
-                .toList();
+        List<CertificateDto> result = toCertificateDtos(certificates);
 
         ServiceUtils.logMethodExit("findExpiringCertificates", result.size());
         return result;
@@ -106,7 +147,8 @@ public class CertificateService extends BaseService<Certificate, Long, Certifica
     // ===== PROVIDER QUERIES =====
 
 
-    @Cacheable(value = "certificatesByProvider", key = "#personalId")
+    @Cacheable(value = "certificatesByProvider", key = "#personalId", sync = true)
+    @RequestMemoized
     public Map<String, Long> getCertificatesByProvider(@Valid @NotNull @Positive Long personalId) {
         ServiceUtils.logMethodEntry("getCertificatesByProvider", personalId);
         ServiceUtils.validatePersonalId(personalId);
@@ -133,9 +175,7 @@ public class CertificateService extends BaseService<Certificate, Long, Certifica
         }
 
         List<Certificate> certificates = repository.findByPersonalIdAndMinRelevanceScore(personalId, minScore);
-        List<CertificateDto> result = certificates.stream()
-                .map(this::toCertificateDto)
-                .toList();
+        List<CertificateDto> result = toCertificateDtos(certificates);
 
         ServiceUtils.logMethodExit("findByMinRelevanceScore", result.size());
         return result;
@@ -146,37 +186,32 @@ public class CertificateService extends BaseService<Certificate, Long, Certifica
         ServiceUtils.validatePersonalId(personalId);
 
         // High relevance = 80+ score
-        return findByMinRelevanceScore(personalId, 80);
+        return findByMinRelevanceScore(personalId, HIGH_RELEVANCE_SCORE);
     }
 
 
     // ===== STATISTICS =====
 
-    @Cacheable(value = "certificateStats", key = "#personalId")
+    @Cacheable(value = "certificateStats", key = "#personalId", sync = true)
     public CertificateStatisticsDto getCertificateStatistics(@Valid @NotNull @Positive Long personalId) {
         ServiceUtils.logMethodEntry("getCertificateStatistics", personalId);
         ServiceUtils.validatePersonalId(personalId);
 
-        Long totalCertificates = repository.countByPersonalId(personalId);
-        Long verifiedCount = repository.countVerifiedByPersonalId(personalId);
-        Double avgRelevanceScore = repository.findAverageRelevanceScoreByPersonalId(personalId);
-
-        Map<String, Long> providerStats = getCertificatesByProvider(personalId);
-
-        // Calculate expiring certificates (next 90 days)
-        Long expiringCount = (long) findExpiringCertificates(personalId, 90).size();
+        // Counters in one row; providers need their own GROUP BY
+        CertificateCounters counters = statisticsRepository.findCertificateCounters(
+                personalId, LocalDate.now().plusDays(EXPIRY_WINDOW_DAYS), HIGH_RELEVANCE_SCORE);
+        Map<String, Long> providerStats = self.getCertificatesByProvider(personalId);
 
-        // Get featured count
-        Long featuredCount = (long) findFeaturedCertificates(personalId).size();
+        Double avgRelevanceScore = counters.getAverageRelevanceScore();
 
         CertificateStatisticsDto result = CertificateStatisticsDto.builder()
-                .totalCertificates(totalCertificates)
-                .verifiedCount(verifiedCount)
+                .totalCertificates(counters.getTotalCertificates())
+                .verifiedCount(counters.getVerifiedCertificates())
                 .averageRelevanceScore(avgRelevanceScore != null ? avgRelevanceScore : 0.0)
                 .providerDistribution(providerStats)
-                .expiringCount(expiringCount)
-                .featuredCount(featuredCount)
-                .highRelevanceCount((long) findHighRelevanceCertificates(personalId).size())
+                .expiringCount(counters.getExpiringCertificates())
+                .featuredCount(counters.getFeaturedCertificates())
+                .highRelevanceCount(counters.getHighRelevanceCertificates())
                 .build();
 
         ServiceUtils.logMethodExit("getCertificateStatistics", result);
@@ -186,73 +221,98 @@ public class CertificateService extends BaseService<Certificate, Long, Certifica
 
     // ===== DTO CONVERSION =====
 
-    private CertificateDto toCertificateDto(Certificate certificate) {
-        Optional<EntityMetadata> metadata = entityMetadataRepository
-                .findByEntityTypeAndEntityId(EntityType.CERTIFICATE, certificate.getId());
+    private List<CertificateDto> toCertificateDtos(List<Certificate> certificates) {
+        MetadataLookup metadata = resolveMetadata(certificates);
+        return toCertificateRowDtos(certificates.stream()
+                .map(certificate -> toCertificateRow(certificate, metadata))
+                .toList());
+    }
 
-        // Get skills gained from this certificate
-        List<String> skillsGained = getSkillsGainedFromCertificate(certificate.getId());
+    // Same values as the projection reads, so loaded entities and rows map alike
+    private CertificateRow toCertificateRow(Certificate certificate, MetadataLookup metadataLookup) {
+        Optional<EntityMetadata> metadata = metadataLookup.find(EntityType.CERTIFICATE, certificate.getId());
+        return new CertificateRow(
+                certificate.getId(),
+                certificate.getName(),
+                certificate.getProvider(),
+                certificate.getIssueDate(),
+                certificate.getCredentialId(),
+                certificate.getDescription(),
+                certificate.getCategory() != null ? certificate.getCategory().getName() : null,
+                certificate.getCertificateUrl(),
+                certificate.getVerified(),
+                certificate.getRelevanceScore(),
+                metadata.map(em -> em.getIcon() != null ? em.getIcon().getName() : null).orElse(null),
+                metadata.map(EntityMetadata::getPrimaryColor).orElse(null),
+                metadata.map(EntityMetadata::getFeatured).orElse(null));
+    }
 
+    private List<CertificateDto> toCertificateRowDtos(List<CertificateRow> rows) {
+        Map<Long, List<String>> skillsGained = getSkillsGainedFromCertificates(rows.stream()
+                .map(CertificateRow::id)
+                .toList());
+        return rows.stream()
+                .map(row -> toCertificateDto(row, skillsGained.getOrDefault(row.id(), List.of())))
+                .toList();
+    }
+
+    private CertificateDto toCertificateDto(CertificateRow row, List<String> skillsGained) {
         // Determine category name
-        String categoryName = certificate.getCategory() != null ?
-                certificate.getCategory().getName() : "General";
+        String categoryName = row.categoryName() != null ? row.categoryName() : "General";
 
         // Determine colors based on verification status and relevance
-        String defaultColor = getColorForCertificate(certificate);
+        String defaultColor = getColorForCertificate(row);
         String defaultIcon = getIconForCategory(categoryName);
 
         return CertificateDto.builder()
-                .id(certificate.getId().toString())
-                .name(certificate.getName())
-                .issuer(certificate.getProvider())
-                .date(ServiceUtils.formatDateAsIso(certificate.getIssueDate()))
-                .certificateId(certificate.getCredentialId())
-                .description(ServiceUtils.truncateText(certificate.getDescription(), 300))
+                .id(row.id().toString())
+                .name(row.name())
+                .issuer(row.provider())
+                .date(ServiceUtils.formatDateAsIso(row.issueDate()))
+                .certificateId(row.credentialId())
+                .description(ServiceUtils.truncateText(row.description(), DESCRIPTION_LENGTH))
                 .skillsGained(skillsGained)
                 .categoryName(categoryName)
-                .link(certificate.getCertificateUrl())
-                .icon(ServiceUtils.getIconFromMetadata(metadata, defaultIcon))
-                .primaryColor(ServiceUtils.getColorFromMetadata(metadata, defaultColor))
-                .secondaryColor(ServiceUtils.getColorFromMetadata(metadata, getLightColorForCertificate(certificate)))
-                .verified(certificate.getVerified())
-                .featured(ServiceUtils.isFeatured(metadata))
+                .link(row.certificateUrl())
+                .icon(row.iconName() != null ? row.iconName() : defaultIcon)
+                .primaryColor(row.primaryColor() != null ? row.primaryColor() : defaultColor)
+                .secondaryColor(row.primaryColor() != null ? row.primaryColor() : getLightColorForCertificate(row))
+                .verified(row.verified())
+                .featured(Boolean.TRUE.equals(row.featured()))
                 .build();
     }
 
-    // ===== HELPER METHODS =====
-
-    private List<String> getSkillsGainedFromCertificate(Long certificateId) {
-        List<EntitySkill> entitySkills = entitySkillRepository
-                .findByEntityTypeAndEntityIdWithSkill(EntityType.CERTIFICATE, certificateId);
-
-        return entitySkills.stream()
-                .filter(es -> es.getSkill() != null)
-                .map(es -> es.getSkill().getName())
-                .filter(Objects::nonNull)
-                .distinct()
-                .sorted()
-                .toList();
+    // Skill names per certificate, sorted and distinct, with one query for all certificates
+    private Map<Long, List<String>> getSkillsGainedFromCertificates(List<Long> certificateIds) {
+        if (certificateIds.isEmpty()) {
+            return Map.of();
+        }
+        return entitySkillRepository.findSkillNamesByEntityIds(EntityType.CERTIFICATE, certificateIds).stream()
+                .filter(row -> row.skillName() != null)
+                .collect(Collectors.groupingBy(SkillNameRow::entityId, Collectors.collectingAndThen(
+                        Collectors.mapping(SkillNameRow::skillName, Collectors.toCollection(TreeSet::new)),
+                        List::copyOf)));
     }
 
-    private String getColorForCertificate(Certificate certificate) {
+    private String getColorForCertificate(CertificateRow certificate) {
         // Priority: Verified > High Relevance > Default
-        if (certificate.getVerified() != null && certificate.getVerified()) {
+        if (certificate.verified() != null && certificate.verified()) {
             return "#10B981"; // Green for verified
         }
 
-        if (certificate.getRelevanceScore() != null && certificate.getRelevanceScore() >= 80) {
+        if (certificate.relevanceScore() != null && certificate.relevanceScore() >= 80) {
             return "#3B82F6"; // Blue for high relevance
         }
 
         return "#6B7280"; // Gray default
     }
 
-    private String getLightColorForCertificate(Certificate certificate) {
-        if (certificate.getVerified() != null && certificate.getVerified()) {
+    private String getLightColorForCertificate(CertificateRow certificate) {
+        if (certificate.verified() != null && certificate.verified()) {
             return "#D1FAE5"; // Light Green
         }
 
-        if (certificate.getRelevanceScore() != null && certificate.getRelevanceScore() >= 80) {
+        if (certificate.relevanceScore() != null && certificate.relevanceScore() >= 80) {
             return "#DBEAFE"; // Light Blue
         }
 
@@ -280,21 +340,23 @@ public class CertificateService extends BaseService<Certificate, Long, Certifica
 
     @Override
     public List<Certificate> findFeatured() {
-        return repository.findAll().stream()
-                .filter(certificate -> {
-                    Optional<EntityMetadata> metadata = entityMetadataRepository
-                            .findByEntityTypeAndEntityId(EntityType.CERTIFICATE, certificate.getId());
-                    return ServiceUtils.isFeatured(metadata);
-                })
+        List<Certificate> certificates = repository.findAll();
+        MetadataLookup metadata = resolveMetadata(certificates);
+        return certificates.stream()
+                .filter(certificate -> metadata.isFeatured(EntityType.CERTIFICATE, certificate.getId()))
                 .toList();
     }
 
+    private MetadataLookup resolveMetadata(List<Certificate> certificates) {
+        return metadataResolver.resolve(EntityType.CERTIFICATE, certificates, Certificate::getId);
+    }
+
 
 
     /**
      * Return all available certification categories
      */
-    @Cacheable(value = "certificationCategories")
+    @Cacheable(value = "certificationCategories", sync = true)
     public List<CertificationCategoryDto> getCertificationCategories() {
         ServiceUtils.logMethodEntry("getCertificationCategories");
 
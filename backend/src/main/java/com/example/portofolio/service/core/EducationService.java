@@ -6,6 +6,12 @@ import com.example.portofolio.entity.enums.*;
 import com.example.portofolio.repository.*;
 import com.example.portofolio.service.base.BaseService;
 import com.example.portofolio.service.base.ServiceUtils;
+import com.example.portofolio.service.support.AchievementIndex;
+import com.example.portofolio.service.support.AchievementIndexResolver;
+import com.example.portofolio.service.support.EntityMetadataResolver;
+import com.example.portofolio.service.support.MetadataLookup;
+import com.example.portofolio.service.support.ProjectGraph;
+import com.example.portofolio.service.support.ProjectGraphAssembler;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
@@ -26,29 +32,32 @@ import java.util.stream.Collectors;
 @Slf4j
 public class EducationService extends BaseService<Education, Long, EducationRepository> {
 
-    private final EntityMetadataRepository entityMetadataRepository;
+    private final EntityMetadataResolver metadataResolver;
+    private final AchievementIndexResolver achievementIndexResolver;
     private final AchievementRepository achievementRepository;
     private final CourseRepository courseRepository;
     private final CourseProjectRepository courseProjectRepository;
-    private final EntityTechnologyRepository entityTechnologyRepository;
+    private final ProjectGraphAssembler projectGraphAssembler;
     private final ProjectRepository projectRepository;
     private final SkillRepository skillRepository;
 
     @Autowired
     public EducationService(EducationRepository educationRepository,
-                            EntityMetadataRepository entityMetadataRepository,
+                            EntityMetadataResolver metadataResolver,
+                            AchievementIndexResolver achievementIndexResolver,
                             AchievementRepository achievementRepository,
                             CourseRepository courseRepository,
                             CourseProjectRepository courseProjectRepository,
-                            EntityTechnologyRepository entityTechnologyRepository,
+                            ProjectGraphAssembler projectGraphAssembler,
                             SkillRepository skillRepository,
                             ProjectRepository projectRepository) {
         super(educationRepository);
-        this.entityMetadataRepository = entityMetadataRepository;
+        this.metadataResolver = metadataResolver;
+        this.achievementIndexResolver = achievementIndexResolver;
         this.achievementRepository = achievementRepository;
         this.courseRepository = courseRepository;
         this.courseProjectRepository = courseProjectRepository;
-        this.entityTechnologyRepository = entityTechnologyRepository;
+        this.projectGraphAssembler = projectGraphAssembler;
         this.projectRepository = projectRepository;
         this.skillRepository = skillRepository;
     }
@@ -60,19 +69,22 @@ public class EducationService extends BaseService<Education, Long, EducationRepo
 
     @Override
     protected EducationDto toDto(Education education) {
-        return toEducationDto(education);
+        return toEducationDto(education, resolveMetadata(List.of(education)),
+                achievementIndexResolver.resolveForPersonal(education.getPersonal().getId()));
     }
 
     // ===== CORE EDUCATION QUERIES =====
 
-    @Cacheable(value = "educationByPersonal", key = "#personalId")
+    @Cacheable(value = "educationByPersonal", key = "#personalId", sync = true)
     public List<EducationDto> findByPersonalId(@Valid @NotNull @Positive Long personalId) {
         ServiceUtils.logMethodEntry("findByPersonalId", personalId);
         ServiceUtils.validatePersonalId(personalId);
 
         List<Education> educations = repository.findByPersonalIdWithCoursesAndAchievements(personalId);
+        MetadataLookup metadata = resolveMetadata(educations);
+        AchievementIndex achievementIndex = achievementIndexResolver.resolveForPersonal(personalId);
         List<EducationDto> result = educations.stream()
-                .map(this::toEducationDto)
+                .map(education -> toEducationDto(education, metadata, achievementIndex))
                 .toList();
 
         ServiceUtils.logMethodExit("findByPersonalId", result.size());
@@ -105,8 +117,9 @@ public class EducationService extends BaseService<Education, Long, EducationRepo
 
         List<Achievement> achievements = achievementRepository
                 .findByPersonalIdAndEntityTypeAndEntityId(personalId, EntityType.EDUCATION, educationId);
+        MetadataLookup metadata = metadataResolver.resolve(EntityType.ACHIEVEMENT, achievements, Achievement::getId);
         List<AchievementDto> result = achievements.stream()
-                .map(this::toAchievementDto)
+                .map(achievement -> toAchievementDto(achievement, metadata))
                 .toList();
 
         ServiceUtils.logMethodExit("findEducationAchievements", result.size());
@@ -115,12 +128,13 @@ public class EducationService extends BaseService<Education, Long, EducationRepo
 
     // ===== DTO CONVERSION WITH SERVICEUTILS =====
 
-    private EducationDto toEducationDto(Education education) {
-        Optional<EntityMetadata> metadata = entityMetadataRepository
-                .findByEntityTypeAndEntityId(EntityType.EDUCATION, education.getId());
+    private EducationDto toEducationDto(Education education, MetadataLookup metadataLookup,
+                                        AchievementIndex achievementIndex) {
+        Optional<EntityMetadata> metadata = metadataLookup.find(EntityType.EDUCATION, education.getId());
 
-        List<AchievementDto> achievements = findEducationAchievements(
-                education.getPersonal().getId(), education.getId());
+        List<AchievementDto> achievements = achievementIndex.forOwner(EntityType.EDUCATION, education.getId()).stream()
+                .map(achievement -> toAchievementDto(achievement, achievementIndex.metadata()))
+                .toList();
 
         List<CourseDto> relevantCourses = findRelevantCourses(education.getId());
 
@@ -159,9 +173,8 @@ public class EducationService extends BaseService<Education, Long, EducationRepo
                 .build();
     }
 
-    private AchievementDto toAchievementDto(Achievement achievement) {
-        Optional<EntityMetadata> metadata = entityMetadataRepository
-                .findByEntityTypeAndEntityId(EntityType.ACHIEVEMENT, achievement.getId());
+    private AchievementDto toAchievementDto(Achievement achievement, MetadataLookup metadataLookup) {
+        Optional<EntityMetadata> metadata = metadataLookup.find(EntityType.ACHIEVEMENT, achievement.getId());
 
         String formattedDate = ServiceUtils.formatDateAsIso(achievement.getAchievementDate());
 
@@ -181,7 +194,7 @@ public class EducationService extends BaseService<Education, Long, EducationRepo
     /**
      * Returns all academic projects for a person from all stages of education
      */
-    @Cacheable(value = "academicProjects", key = "#personalId")
+    @Cacheable(value = "academicProjects", key = "#personalId", sync = true)
     public List<AcademicProjectDto> getAcademicProjects(@Valid @NotNull @Positive Long personalId) {
         ServiceUtils.logMethodEntry("getAcademicProjects", personalId);
         ServiceUtils.validatePersonalId(personalId);
@@ -189,8 +202,11 @@ public class EducationService extends BaseService<Education, Long, EducationRepo
         // Obține toate proiectele academice prin relația CourseProject DIRECT
         List<CourseProject> courseProjects = courseProjectRepository.findByPersonalIdWithDetails(personalId);
 
+        ProjectGraph graph = projectGraphAssembler.assemble(courseProjects.stream()
+                .map(CourseProject::getProject)
+                .toList());
         List<AcademicProjectDto> result = courseProjects.stream()
-                .map(this::toAcademicProjectDto)
+                .map(courseProject -> toAcademicProjectDto(courseProject, graph))
                 .collect(Collectors.toList());
 
         log.debug("Found {} academic projects for personalId: {}", result.size(), personalId);
@@ -201,20 +217,15 @@ public class EducationService extends BaseService<Education, Long, EducationRepo
     /**
      * Helper method for DTO conversion
      */
-    private AcademicProjectDto toAcademicProjectDto(CourseProject courseProject) {
+    private AcademicProjectDto toAcademicProjectDto(CourseProject courseProject, ProjectGraph graph) {
         Project project = courseProject.getProject();
         Course course = courseProject.getCourse();
 
         // Obține tehnologiile pentru proiect
-        List<String> technologies = entityTechnologyRepository
-                .findByEntityTypeAndEntityIdWithTechnology(EntityType.PROJECT, project.getId())
-                .stream()
-                .map(et -> et.getTechnology().getName())
-                .collect(Collectors.toList());
+        List<String> technologies = graph.technologyNames(project.getId());
 
         // Obține metadata pentru culori și icon
-        Optional<EntityMetadata> metadata = entityMetadataRepository
-                .findByEntityTypeAndEntityId(EntityType.PROJECT, project.getId());
+        Optional<EntityMetadata> metadata = graph.metadata().find(EntityType.PROJECT, project.getId());
 
         return AcademicProjectDto.builder()
                 .id(project.getId().toString())
@@ -300,15 +311,17 @@ public class EducationService extends BaseService<Education, Long, EducationRepo
 
     @Override
     public List<Education> findFeatured() {
-        return repository.findAll().stream()
-                .filter(education -> {
-                    Optional<EntityMetadata> metadata = entityMetadataRepository
-                            .findByEntityTypeAndEntityId(EntityType.EDUCATION, education.getId());
-                    return ServiceUtils.isFeatured(metadata);
-                })
+        List<Education> educations = repository.findAll();
+        MetadataLookup metadata = resolveMetadata(educations);
+        return educations.stream()
+                .filter(education -> metadata.isFeatured(EntityType.EDUCATION, education.getId()))
                 .toList();
     }
 
+    private MetadataLookup resolveMetadata(List<Education> educations) {
+        return metadataResolver.resolve(EntityType.EDUCATION, educations, Education::getId);
+    }
+
 
     /**
      * Returns the current year of study for ongoing education
@@ -370,7 +383,7 @@ public class EducationService extends BaseService<Education, Long, EducationRepo
         return result;
     }
 
-    @Cacheable(value = "academicStats", key = "#personalId")
+    @Cacheable(value = "academicStats", key = "#personalId", sync = true)
     public AcademicStatsDto getAcademicStats(@Valid @NotNull @Positive Long personalId) {
         ServiceUtils.logMethodEntry("getAcademicStats", personalId);
         ServiceUtils.validatePersonalId(personalId);
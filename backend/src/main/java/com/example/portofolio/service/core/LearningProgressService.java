@@ -7,6 +7,8 @@ import com.example.portofolio.entity.enums.*;
 import com.example.portofolio.repository.*;
 import com.example.portofolio.service.base.BaseService;
 import com.example.portofolio.service.base.ServiceUtils;
+import com.example.portofolio.service.support.EntityMetadataResolver;
+import com.example.portofolio.service.support.MetadataLookup;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
@@ -31,19 +33,19 @@ import java.util.Optional;
 @Slf4j
 public class LearningProgressService extends BaseService<LearningProgress, Long, LearningProgressRepository> {
 
-    private final EntityMetadataRepository entityMetadataRepository;
+    private final EntityMetadataResolver metadataResolver;
     private final SkillRepository skillRepository;
     private final ProjectRepository projectRepository;
     private final EntityTechnologyRepository entityTechnologyRepository;
 
     @Autowired
     public LearningProgressService(LearningProgressRepository learningProgressRepository,
-                                   EntityMetadataRepository entityMetadataRepository,
+                                   EntityMetadataResolver metadataResolver,
                                    SkillRepository skillRepository,
                                    ProjectRepository projectRepository,
                                    EntityTechnologyRepository entityTechnologyRepository) {
         super(learningProgressRepository);
-        this.entityMetadataRepository = entityMetadataRepository;
+        this.metadataResolver = metadataResolver;
         this.skillRepository = skillRepository;
         this.entityTechnologyRepository = entityTechnologyRepository;
         this.projectRepository = projectRepository;
@@ -57,18 +59,20 @@ public class LearningProgressService extends BaseService<LearningProgress, Long,
 
     @Override
     protected LearningProgressDto toDto(LearningProgress learningProgress) {
-        return toLearningProgressDto(learningProgress);
+        return toLearningProgressDto(learningProgress, resolveSkillMetadata(List.of(learningProgress)));
     }
 
     // ===== CORE QUERIES =====
 
-    @Cacheable(value = "learningProgressByPersonal", key = "#personalId")
+    @Cacheable(value = "learningProgressByPersonal", key = "#personalId", sync = true)
     public List<LearningProgressDto> findByPersonalId(@Valid @NotNull @Positive Long personalId) {
         ServiceUtils.logMethodEntry("findByPersonalId", personalId);
         ServiceUtils.validatePersonalId(personalId);
 
         List<LearningProgress> learningProgresses = repository.findByPersonalIdWithSkillAndCategory(personalId);
-        List<LearningProgressDto> result = ServiceUtils.safeMap(learningProgresses, this::toLearningProgressDto);
+        MetadataLookup skillMetadata = resolveSkillMetadata(learningProgresses);
+        List<LearningProgressDto> result = ServiceUtils.safeMap(learningProgresses,
+                learningProgress -> toLearningProgressDto(learningProgress, skillMetadata));
 
         ServiceUtils.logMethodExit("findByPersonalId", result.size());
         return result;
@@ -79,7 +83,7 @@ public class LearningProgressService extends BaseService<LearningProgress, Long,
      * Returns all learning milestones for one person
      * Combines achievements and important projects in a unified list
      */
-    @Cacheable(value = "learningMilestones", key = "#personalId")
+    @Cacheable(value = "learningMilestones", key = "#personalId", sync = true)
     public List<LearningMilestoneDto> getLearningMilestones(@Valid @NotNull @Positive Long personalId) {
         ServiceUtils.logMethodEntry("getLearningMilestones", personalId);
         ServiceUtils.validatePersonalId(personalId);
@@ -199,9 +203,9 @@ public class LearningProgressService extends BaseService<LearningProgress, Long,
 
     // ===== DTO CONVERSION =====
 
-    private LearningProgressDto toLearningProgressDto(LearningProgress learningProgress) {
-        Optional<EntityMetadata> skillMetadata = entityMetadataRepository
-                .findByEntityTypeAndEntityId(EntityType.SKILL, learningProgress.getSkill().getId());
+    private LearningProgressDto toLearningProgressDto(LearningProgress learningProgress, MetadataLookup metadataLookup) {
+        Optional<EntityMetadata> skillMetadata = metadataLookup
+                .find(EntityType.SKILL, learningProgress.getSkill().getId());
 
         String color = skillMetadata
                 .map(EntityMetadata::getPrimaryColor)
@@ -232,6 +236,11 @@ public class LearningProgressService extends BaseService<LearningProgress, Long,
 
     // ===== HELPER METHODS =====
 
+    private MetadataLookup resolveSkillMetadata(List<LearningProgress> learningProgresses) {
+        return metadataResolver.resolve(EntityType.SKILL, learningProgresses,
+                learningProgress -> learningProgress.getSkill().getId());
+    }
+
     private String getDefaultColorByProgress(Integer progress) {
         if (progress == null) return "#6B7280"; // Gray
 
@@ -4,18 +4,30 @@ import com.example.portofolio.dto.*;
 import com.example.portofolio.entity.*;
 import com.example.portofolio.entity.enums.*;
 import com.example.portofolio.repository.*;
+import com.example.portofolio.repository.PortfolioStatisticsRepository.ProjectCounters;
+import com.example.portofolio.repository.ProjectRepository.ProjectCardRow;
+import com.example.portofolio.repository.base.KeysetCursor;
+import com.example.portofolio.repository.base.RepositoryUtils;
 import com.example.portofolio.service.base.BaseService;
 import com.example.portofolio.service.base.ServiceUtils;
+import com.example.portofolio.service.support.EntityMetadataResolver;
+import com.example.portofolio.service.support.MetadataLookup;
+import com.example.portofolio.service.support.ProjectGraph;
+import com.example.portofolio.service.support.ProjectGraphAssembler;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import java.time.LocalDate;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -25,16 +37,19 @@ import java.util.Optional;
 @Slf4j
 public class ProjectService extends BaseService<Project, Long, ProjectRepository> {
 
-    private final EntityMetadataRepository entityMetadataRepository;
-    private final EntityTechnologyRepository entityTechnologyRepository;
+    private final EntityMetadataResolver metadataResolver;
+    private final ProjectGraphAssembler projectGraphAssembler;
+    private final PortfolioStatisticsRepository statisticsRepository;
 
     @Autowired
     public ProjectService(ProjectRepository projectRepository,
-                          EntityMetadataRepository entityMetadataRepository,
-                          EntityTechnologyRepository entityTechnologyRepository) {
+                          EntityMetadataResolver metadataResolver,
+                          ProjectGraphAssembler projectGraphAssembler,
+                          PortfolioStatisticsRepository statisticsRepository) {
         super(projectRepository);
-        this.entityMetadataRepository = entityMetadataRepository;
-        this.entityTechnologyRepository = entityTechnologyRepository;
+        this.metadataResolver = metadataResolver;
+        this.projectGraphAssembler = projectGraphAssembler;
+        this.statisticsRepository = statisticsRepository;
     }
 
     @Override
@@ -44,26 +59,24 @@ public class ProjectService extends BaseService<Project, Long, ProjectRepository
 
     @Override
     protected ProjectExportDto toDto(Project project) {
-        return toProjectExportDto(project);
+        return toProjectExportDto(project, projectGraphAssembler.assemble(List.of(project)));
     }
 
 
     // ===== LIVE PROJECTS =====
 
-    @Cacheable(value = "liveProjects", key = "#personalId")
+    @Cacheable(value = "liveProjects", key = "#personalId", sync = true)
     public List<FeaturedProjectDto> findLiveProjects(@Valid @NotNull @Positive Long personalId) {
         ServiceUtils.logMethodEntry("findLiveProjects", personalId);
         ServiceUtils.validatePersonalId(personalId);
 
-        List<Project> projects = repository.findByPersonalId(personalId);
-
-
-        List<Project> liveProjects = projects.stream()
-                .filter(project -> project.getDemoUrl() != null &&
-                        !project.getDemoUrl().trim().isEmpty())
+        List<ProjectCardRow> projects = repository.findCardRowsByPersonalId(personalId);
+        List<ProjectCardRow> liveProjects = projects.stream()
+                .filter(project -> project.demoUrl() != null &&
+                        !project.demoUrl().trim().isEmpty())
                 .toList();
 
-        List<FeaturedProjectDto> result = ServiceUtils.safeMap(liveProjects, this::toFeaturedProjectDto);
+        List<FeaturedProjectDto> result = toFeaturedProjectDtos(liveProjects);
 
         log.debug("Found {} live projects out of {} total projects for personalId: {}",
                 result.size(), projects.size(), personalId);
@@ -73,35 +86,58 @@ public class ProjectService extends BaseService<Project, Long, ProjectRepository
     }
     // ===== CORE PROJECT QUERIES =====
 
-    @Cacheable(value = "projectsByPersonal", key = "#personalId")
+    @Cacheable(value = "projectsByPersonal", key = "#personalId", sync = true)
     public List<ProjectExportDto> findByPersonalId(@Valid @NotNull @Positive Long personalId) {
         ServiceUtils.logMethodEntry("findByPersonalId", personalId);
         ServiceUtils.validatePersonalId(personalId);
 
-        List<Project> projects = repository.findByPersonalId(personalId);
-        List<ProjectExportDto> result = ServiceUtils.safeMap(projects, this::toProjectExportDto);
+        ProjectGraph graph = projectGraphAssembler.assembleForPersonal(personalId);
+        List<ProjectExportDto> result = ServiceUtils.safeMap(graph.projects(),
+                project -> toProjectExportDto(project, graph));
 
         ServiceUtils.logMethodExit("findByPersonalId", result.size());
         return result;
     }
 
-    @Cacheable(value = "featuredProjects", key = "#personalId")
+    /**
+     * Keyset page of {@link #findByPersonalId}, in id order. Only the page's projects
+     * are assembled, so a deep page costs what the first one does.
+     */
+    public CursorPageDto<ProjectExportDto> findPageByPersonalId(Long personalId, String cursor, int size) {
+        ServiceUtils.validatePersonalId(personalId);
+        KeysetCursor after = RepositoryUtils.decodeCursor(cursor);
+
+        Slice<Project> slice = repository.findPageByPersonalIdWithMetrics(personalId,
+                after != null ? after.id() : 0L, RepositoryUtils.createKeysetPageable(size));
+        return toCursorPage(slice, projects -> {
+            ProjectGraph graph = projectGraphAssembler.assemble(projects);
+            return ServiceUtils.safeMap(graph.projects(), project -> toProjectExportDto(project, graph));
+        }, project -> KeysetCursor.of(project.getId(), project.getId()));
+    }
+
+    /**
+     * One project as {@link #findByPersonalId} lists it, empty when it is gone or
+     * belongs to another personal
+     */
+    public Optional<ProjectExportDto> findByPersonalIdAndId(Long personalId, Long projectId) {
+        ServiceUtils.validatePersonalId(personalId);
+        ServiceUtils.validateEntityId(projectId);
+
+        return repository.findById(projectId)
+                .filter(project -> project.getPersonal() != null && personalId.equals(project.getPersonal().getId()))
+                .map(project -> toProjectExportDto(project, projectGraphAssembler.assemble(List.of(project))));
+    }
+
+    @Cacheable(value = "featuredProjects", key = "#personalId", sync = true)
     public List<FeaturedProjectDto> findFeaturedProjects(@Valid @NotNull @Positive Long personalId) {
         ServiceUtils.logMethodEntry("findFeaturedProjects", personalId);
         ServiceUtils.validatePersonalId(personalId);
 
-        List<Project> allProjects = repository.findByPersonalId(personalId);
-        List<Project> featuredProjects = ServiceUtils.filterAndMap(
-                allProjects,
-                project -> {
-                    Optional<EntityMetadata> metadata = entityMetadataRepository
-                            .findByEntityTypeAndEntityId(EntityType.PROJECT, project.getId());
-                    return ServiceUtils.isFeatured(metadata);
-                },
-                java.util.function.Function.identity()
-        );
-
-        List<FeaturedProjectDto> result = ServiceUtils.safeMap(featuredProjects, this::toFeaturedProjectDto);
+        List<ProjectCardRow> featuredProjects = repository.findCardRowsByPersonalId(personalId).stream()
+                .filter(project -> Boolean.TRUE.equals(project.featured()))
+                .toList();
+
+        List<FeaturedProjectDto> result = toFeaturedProjectDtos(featuredProjects);
         ServiceUtils.logMethodExit("findFeaturedProjects", result.size());
         return result;
     }
@@ -109,32 +145,27 @@ public class ProjectService extends BaseService<Project, Long, ProjectRepository
 
     // ===== DTO CONVERSION WITH SERVICEUTILS =====
 
-    private ProjectExportDto toProjectExportDto(Project project) {
-        Optional<EntityMetadata> metadata = entityMetadataRepository
-                .findByEntityTypeAndEntityId(EntityType.PROJECT, project.getId());
-
-        List<String> technologies = ServiceUtils.safeMap(
-                entityTechnologyRepository.findByEntityTypeAndEntityIdWithTechnology(EntityType.PROJECT, project.getId()),
-                et -> et.getTechnology().getName()
-        );
+    private ProjectExportDto toProjectExportDto(Project project, ProjectGraph graph) {
+        Optional<EntityMetadata> metadata = graph.metadata().find(EntityType.PROJECT, project.getId());
+        ProjectMetrics metrics = graph.metrics(project);
 
         return ProjectExportDto.builder()
                 .id(project.getId().toString())
                 .title(project.getTitle())
                 .description(project.getDescription())
                 .longDescription(project.getDescription()) // Use same for now
-                .technologies(technologies)
+                .technologies(graph.technologyNames(project.getId()))
                 .category(project.getCategory())
                 .status(ServiceUtils.enumToLowerString(project.getStatus()))
                 .featured(ServiceUtils.isFeatured(metadata))
-                .images(getProjectImages(project))
+                .images(getProjectImages(graph.images(project.getId())))
                 .demoUrl(project.getDemoUrl())
                 .githubUrl(project.getGithubUrl())
-                .features(getProjectFeatures(project))
-                .challenges(getProjectChallenges(project))
+                .features(getProjectFeatures(graph.features(project.getId())))
+                .challenges(getProjectChallenges(graph.challenges(project.getId())))
                 .developmentTime(project.getDevelopmentTime())
                 .complexity(ServiceUtils.enumToLowerString(project.getComplexity()))
-                .metrics(project.getMetrics() != null ? toProjectMetricsDto(project.getMetrics()) : null)
+                .metrics(metrics != null ? toProjectMetricsDto(metrics) : null)
                 .tags(ServiceUtils.processTags(project.getTags().toString()))
                 .year(project.getYear())
                 .primaryColor(ServiceUtils.getColorFromMetadata(metadata, "#3B82F6"))
@@ -142,29 +173,29 @@ public class ProjectService extends BaseService<Project, Long, ProjectRepository
                 .build();
     }
 
-    private FeaturedProjectDto toFeaturedProjectDto(Project project) {
-        Optional<EntityMetadata> metadata = entityMetadataRepository
-                .findByEntityTypeAndEntityId(EntityType.PROJECT, project.getId());
-
-        List<String> technologies = ServiceUtils.safeMap(
-                entityTechnologyRepository.findByEntityTypeAndEntityIdWithTechnology(EntityType.PROJECT, project.getId()),
-                et -> et.getTechnology().getName()
-        );
-
-        return FeaturedProjectDto.builder()
-                .id(project.getId().toString())
-                .title(project.getTitle())
-                .description(project.getDescription())
-                .shortDescription(ServiceUtils.generateShortDescription(project.getDescription(), 150))
-                .technologies(technologies)
-                .image(getPrimaryImage(project))
-                .githubUrl(project.getGithubUrl())
-                .liveUrl(project.getDemoUrl())
-                .featured(ServiceUtils.isFeatured(metadata))
-                .category(project.getCategory())
-                .primaryColor(ServiceUtils.getColorFromMetadata(metadata, "#3B82F6"))
-                .secondaryColor(ServiceUtils.getColorFromMetadata(metadata, "#93C5FD"))
-                .build();
+    /**
+     * Project cards from their rows, with the technology names and image URL of all
+     * cards read in one query each
+     */
+    private List<FeaturedProjectDto> toFeaturedProjectDtos(List<ProjectCardRow> projects) {
+        List<Long> projectIds = projects.stream().map(ProjectCardRow::id).toList();
+        Map<Long, List<String>> technologyNames = projectGraphAssembler.technologyNames(projectIds);
+        Map<Long, String> imageUrls = projectGraphAssembler.primaryImageUrls(projectIds);
+
+        return ServiceUtils.safeMap(projects, project -> FeaturedProjectDto.builder()
+                .id(project.id().toString())
+                .title(project.title())
+                .description(project.description())
+                .shortDescription(ServiceUtils.generateShortDescription(project.description(), 150))
+                .technologies(technologyNames.getOrDefault(project.id(), List.of()))
+                .image(imageUrls.get(project.id()))
+                .githubUrl(project.githubUrl())
+                .liveUrl(project.demoUrl())
+                .featured(Boolean.TRUE.equals(project.featured()))
+                .category(project.category())
+                .primaryColor(Objects.requireNonNullElse(project.primaryColor(), "#3B82F6"))
+                .secondaryColor(Objects.requireNonNullElse(project.primaryColor(), "#93C5FD"))
+                .build());
     }
 
     private ProjectMetricsDto toProjectMetricsDto(ProjectMetrics metrics) {
@@ -181,42 +212,22 @@ public class ProjectService extends BaseService<Project, Long, ProjectRepository
 
     // ===== HELPER METHODS =====
 
-    private List<String> getProjectImages(Project project) {
-        if (project.getImages() == null || project.getImages().isEmpty()) {
-            return List.of();
-        }
-        return project.getImages().stream()
+    private List<String> getProjectImages(List<ProjectImage> images) {
+        return images.stream()
                 .map(ProjectImage::getImageUrl)
                 .filter(java.util.Objects::nonNull)
                 .toList();
     }
 
-    private String getPrimaryImage(Project project) {
-        if (project.getImages() == null || project.getImages().isEmpty()) {
-            return null;
-        }
-        return project.getImages().stream()
-                .filter(img -> img.getPrimary() != null && img.getPrimary())
-                .findFirst()
-                .map(ProjectImage::getImageUrl)
-                .orElse(project.getImages().iterator().next().getImageUrl());
-    }
-
-    private List<String> getProjectFeatures(Project project) {
-        if (project.getFeatures() == null || project.getFeatures().isEmpty()) {
-            return List.of();
-        }
-        return project.getFeatures().stream()
+    private List<String> getProjectFeatures(List<ProjectFeature> features) {
+        return features.stream()
                 .map(ProjectFeature::getTitle)
                 .filter(java.util.Objects::nonNull)
                 .toList();
     }
 
-    private List<String> getProjectChallenges(Project project) {
-        if (project.getChallenges() == null || project.getChallenges().isEmpty()) {
-            return List.of();
-        }
-        return project.getChallenges().stream()
+    private List<String> getProjectChallenges(List<ProjectChallenge> challenges) {
+        return challenges.stream()
                 .map(ProjectChallenge::getDescription)
                 .filter(java.util.Objects::nonNull)
                 .toList();
@@ -226,21 +237,23 @@ public class ProjectService extends BaseService<Project, Long, ProjectRepository
 
     @Override
     public List<Project> findFeatured() {
-        return repository.findAll().stream()
-                .filter(project -> {
-                    Optional<EntityMetadata> metadata = entityMetadataRepository
-                            .findByEntityTypeAndEntityId(EntityType.PROJECT, project.getId());
-                    return ServiceUtils.isFeatured(metadata);
-                })
+        List<Project> projects = repository.findAll();
+        MetadataLookup metadata = resolveMetadata(projects);
+        return projects.stream()
+                .filter(project -> metadata.isFeatured(EntityType.PROJECT, project.getId()))
                 .toList();
     }
 
+    private MetadataLookup resolveMetadata(List<Project> projects) {
+        return metadataResolver.resolve(EntityType.PROJECT, projects, Project::getId);
+    }
+
 
     /**
      * Returns the distribution of project categories with percentages
      * Exactly as in your image - each category with number and percentage
      */
-    @Cacheable(value = "projectCategoryDistribution", key = "#personalId")
+    @Cacheable(value = "projectCategoryDistribution", key = "#personalId", sync = true)
     public List<ProjectCategoryDistributionDto> getProjectCategoryDistribution(@Valid @NotNull @Positive Long personalId) {
         ServiceUtils.logMethodEntry("getProjectCategoryDistribution", personalId);
         ServiceUtils.validatePersonalId(personalId);
@@ -279,14 +292,16 @@ public class ProjectService extends BaseService<Project, Long, ProjectRepository
      * Calculate project-based development experience
      * Exactly as in your image - Years Active, Avg. Complexity, Success Rate
      */
-    @Cacheable(value = "developmentExperience", key = "#personalId")
+    @Cacheable(value = "developmentExperience", key = "#personalId", sync = true)
     public DevelopmentExperienceDto getDevelopmentExperience(@Valid @NotNull @Positive Long personalId) {
         ServiceUtils.logMethodEntry("getDevelopmentExperience", personalId);
         ServiceUtils.validatePersonalId(personalId);
 
+        // All counters in one scan of the project table
+        ProjectCounters counters = statisticsRepository.findProjectCounters(personalId);
 
-        Integer firstYear = repository.findOldestProjectYear(personalId);
-        Integer latestYear = repository.findNewestProjectYear(personalId);
+        Integer firstYear = counters.getOldestYear();
+        Integer latestYear = counters.getNewestYear();
         int currentYear = LocalDate.now().getYear();
 
         int yearsActive = 0;
@@ -299,22 +314,13 @@ public class ProjectService extends BaseService<Project, Long, ProjectRepository
         log.debug("Years calculation: first={}, latest={}, active={}", firstYear, latestYear, yearsActive);
 
 
-        List<Object[]> complexityDistribution = repository.findComplexityDistribution(personalId);
-        String avgComplexity = "INTERMEDIATE"; // default
+        String avgComplexity = dominantComplexity(counters);
+        log.debug("Most frequent complexity: {}", avgComplexity);
 
-        if (!complexityDistribution.isEmpty()) {
-            Object[] mostFrequent = complexityDistribution.getFirst();
-            ComplexityLevel complexityEnum = (ComplexityLevel) mostFrequent[0];
-            avgComplexity = complexityEnum.name();
 
-            log.debug("Complexity distribution: {}, most frequent: {}",
-                    complexityDistribution.size(), avgComplexity);
-        }
-
-
-        Long totalProjects = repository.countByPersonalId(personalId);
-        Long deployedProjects = repository.countDeployedProjects(personalId);
-        Long liveProjects = repository.countLiveProjects(personalId);
+        Long totalProjects = counters.getTotalProjects();
+        Long deployedProjects = counters.getDeployedProjects();
+        Long liveProjects = counters.getLiveProjects();
 
 
 
@@ -342,5 +348,23 @@ public class ProjectService extends BaseService<Project, Long, ProjectRepository
         return result;
     }
 
+    // Most frequent complexity, ties going to the lower level; INTERMEDIATE without projects
+    private String dominantComplexity(ProjectCounters counters) {
+        Map<ComplexityLevel, Long> distribution = new EnumMap<>(ComplexityLevel.class);
+        distribution.put(ComplexityLevel.BEGINNER, counters.getBeginnerProjects());
+        distribution.put(ComplexityLevel.INTERMEDIATE, counters.getIntermediateProjects());
+        distribution.put(ComplexityLevel.ADVANCED, counters.getAdvancedProjects());
+
+        ComplexityLevel dominant = ComplexityLevel.INTERMEDIATE;
+        long highest = 0;
+        for (Map.Entry<ComplexityLevel, Long> entry : distribution.entrySet()) {
+            if (entry.getValue() != null && entry.getValue() > highest) {
+                dominant = entry.getKey();
+                highest = entry.getValue();
+            }
+        }
+        return dominant.name();
+    }
+
 }
 
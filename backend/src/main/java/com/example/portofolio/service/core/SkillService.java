@@ -4,7 +4,14 @@ import com.example.portofolio.entity.Education;
 import com.example.portofolio.entity.SkillCategory;
 import com.example.portofolio.entity.enums.EducationStatus;
 import com.example.portofolio.repository.*;
+import com.example.portofolio.repository.PortfolioStatisticsRepository.SkillHeroCounters;
+import com.example.portofolio.repository.SkillRepository.SkillRow;
 import com.example.portofolio.service.base.ServiceUtils;
+import com.example.portofolio.service.support.EntityMetadataResolver;
+import com.example.portofolio.service.support.FanOutExecutor;
+import com.example.portofolio.service.support.FanOutScope;
+import com.example.portofolio.service.support.FanOutScope.Subtask;
+import com.example.portofolio.service.support.MetadataLookup;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -21,6 +28,8 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 
 import java.time.LocalDate;
@@ -32,38 +41,35 @@ import java.util.Optional;
 @Slf4j
 public class SkillService extends BaseService<Skill, Long, SkillRepository> {
 
-    private final EntityMetadataRepository entityMetadataRepository;
+    private final EntityMetadataResolver metadataResolver;
     private final EntitySkillRepository entitySkillRepository;
     private final SkillCategoryRepository skillCategoryRepository;
-    private final ProjectRepository projectRepository;
-    private final CertificateRepository certificateRepository;
-    private final EntityTechnologyRepository entityTechnologyRepository;
     private final EducationRepository educationRepository;
+    private final PortfolioStatisticsRepository statisticsRepository;
+    private final FanOutExecutor fanOutExecutor;
 
     @Autowired
     public SkillService(SkillRepository skillRepository,
-                        EntityMetadataRepository entityMetadataRepository,
+                        EntityMetadataResolver metadataResolver,
                         EntitySkillRepository entitySkillRepository,
                         SkillCategoryRepository skillCategoryRepository,
-                        ProjectRepository projectRepository,
-                        CertificateRepository certificateRepository,
-                        EntityTechnologyRepository entityTechnologyRepository,
-                        EducationRepository educationRepository) {
+                        EducationRepository educationRepository,
+                        PortfolioStatisticsRepository statisticsRepository,
+                        FanOutExecutor fanOutExecutor) {
         super(skillRepository);
-        this.entityMetadataRepository = entityMetadataRepository;
+        this.metadataResolver = metadataResolver;
         this.entitySkillRepository = entitySkillRepository;
         this.skillCategoryRepository = skillCategoryRepository;
-        this.projectRepository = projectRepository;
-        this.certificateRepository = certificateRepository;
-        this.entityTechnologyRepository = entityTechnologyRepository;
         this.educationRepository = educationRepository;
+        this.statisticsRepository = statisticsRepository;
+        this.fanOutExecutor = fanOutExecutor;
     }
     @Override
     protected String getEntityTypeName() {
         return EntityType.SKILL.name();
     }
 
-    @Cacheable(value = "skills", key = "#personalId")
+    @Cacheable(value = "skills", key = "#personalId", sync = true)
     public List<SkillDto> findByPersonalId(@Valid @NotNull @Positive Long personalId) {
         log.debug("Finding skills for personal ID: {}", personalId);
 
@@ -72,21 +78,38 @@ public class SkillService extends BaseService<Skill, Long, SkillRepository> {
             throw new IllegalArgumentException("Personal ID must be positive");
         }
 
-        List<Skill> skills = repository.findByPersonalIdWithCategoryAndTags(personalId);
-        return skills.stream().map(this::toSkillDto).toList();
+        return repository.findRowsByPersonalId(personalId).stream()
+                .map(this::toSkillDto)
+                .toList();
+    }
+
+    /**
+     * One skill as {@link #findByPersonalId} lists it, empty when it is gone or belongs
+     * to another personal
+     */
+    public Optional<SkillDto> findByPersonalIdAndId(Long personalId, Long skillId) {
+        ServiceUtils.validatePersonalId(personalId);
+        ServiceUtils.validateEntityId(skillId);
+
+        return repository.findRowByPersonalIdAndId(personalId, skillId)
+                .map(this::toSkillDto);
     }
 
     // ===== DTO CONVERSION =====
 
     @Override
     protected SkillDto toDto(Skill skill) {
-        return toSkillDto(skill);
+        return toSkillDto(skill, resolveMetadata(List.of(skill)));
+    }
+
+    private MetadataLookup resolveMetadata(List<Skill> skills) {
+        return metadataResolver.resolve(EntityType.SKILL, skills, Skill::getId);
     }
 
     /**
      * Taking over all categories of skills (without skills)
      */
-    @Cacheable(value = "allSkillCategories")
+    @Cacheable(value = "allSkillCategories", sync = true)
     public List<FeaturedSkillCategoryDto> getAllSkillCategories() {
         log.debug("Getting all skill categories");
 
@@ -120,32 +143,45 @@ public class SkillService extends BaseService<Skill, Long, SkillRepository> {
         };
     }
 
-    private SkillDto toSkillDto(Skill skill) {
-        Optional<EntityMetadata> metadata = entityMetadataRepository
-                .findByEntityTypeAndEntityId(EntityType.SKILL, skill.getId());
+    private SkillDto toSkillDto(Skill skill, MetadataLookup metadataLookup) {
+        Optional<EntityMetadata> metadata = metadataLookup.find(EntityType.SKILL, skill.getId());
 
         Integer projectCount = entitySkillRepository
                 .countByEntityTypeAndSkillId(EntityType.PROJECT, skill.getId());
 
+        return toSkillDto(new SkillRow(
+                skill.getId(),
+                skill.getName(),
+                skill.getLevel(),
+                skill.getProficiency(),
+                skill.getDescription(),
+                skill.getYearsOfExperience(),
+                skill.getCategory() != null ? skill.getCategory().getName() : null,
+                metadata.map(em -> em.getIcon() != null ? em.getIcon().getName() : null).orElse(null),
+                metadata.map(EntityMetadata::getPrimaryColor).orElse(null),
+                projectCount != null ? projectCount.longValue() : null));
+    }
+
+    private SkillDto toSkillDto(SkillRow row) {
         return SkillDto.builder()
-                .id(skill.getId().toString())
-                .name(skill.getName())
-                .level(skill.getLevel())
-                .proficiency(skill.getProficiency() != null ?
-                        skill.getProficiency().toString().toLowerCase() : null)
-                .description(skill.getDescription())
-                .yearsOfExperience(skill.getYearsOfExperience() != null ?
-                        skill.getYearsOfExperience().doubleValue() : null)
-                .projects(projectCount)
-                .icon(metadata.map(em -> em.getIcon() != null ? em.getIcon().getName() : null).orElse(null))
-                .color(metadata.map(EntityMetadata::getPrimaryColor).orElse(null))
-                .category(skill.getCategory() != null ? skill.getCategory().getName() : null)
+                .id(row.id().toString())
+                .name(row.name())
+                .level(row.level())
+                .proficiency(row.proficiency() != null ?
+                        row.proficiency().toString().toLowerCase() : null)
+                .description(row.description())
+                .yearsOfExperience(row.yearsOfExperience() != null ?
+                        row.yearsOfExperience().doubleValue() : null)
+                .projects(row.projectCount() != null ? Math.toIntExact(row.projectCount()) : null)
+                .icon(row.iconName())
+                .color(row.primaryColor())
+                .category(row.categoryName())
                 .build();
     }
 
     // ===== FEATURED SKILLS =====
 
-    @Cacheable(value = "featuredSkills", key = "#personalId")
+    @Cacheable(value = "featuredSkills", key = "#personalId", sync = true)
     public List<FeaturedSkillDto> findFeaturedSkills(@Valid @NotNull @Positive Long personalId) {
         log.debug("Finding featured skills for personal ID: {}", personalId);
 
@@ -154,12 +190,12 @@ public class SkillService extends BaseService<Skill, Long, SkillRepository> {
         }
 
         List<Skill> skills = repository.findFeaturedByPersonalId(personalId);
-        return skills.stream().map(this::toFeaturedSkillDto).toList();
+        MetadataLookup metadata = resolveMetadata(skills);
+        return skills.stream().map(skill -> toFeaturedSkillDto(skill, metadata)).toList();
     }
 
-    private FeaturedSkillDto toFeaturedSkillDto(Skill skill) {
-        Optional<EntityMetadata> metadata = entityMetadataRepository
-                .findByEntityTypeAndEntityId(EntityType.SKILL, skill.getId());
+    private FeaturedSkillDto toFeaturedSkillDto(Skill skill, MetadataLookup metadataLookup) {
+        Optional<EntityMetadata> metadata = metadataLookup.find(EntityType.SKILL, skill.getId());
 
         List<String> projectTitles = entitySkillRepository
                 .findProjectNamesBySkillId(skill.getId());
@@ -188,7 +224,8 @@ public class SkillService extends BaseService<Skill, Long, SkillRepository> {
 
     // Replace the getSkillStatistics method in SkillService with this:
 
-    @Cacheable(value = "heroStats", key = "#personalId")
+    @Cacheable(value = "heroStats", key = "#personalId", sync = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SkillsHeroStatsDto getHeroStats(@Valid @NotNull @Positive Long personalId) {
         log.debug("Getting hero statistics for personal ID: {}", personalId);
 
@@ -196,21 +233,32 @@ public class SkillService extends BaseService<Skill, Long, SkillRepository> {
             throw new IllegalArgumentException("Personal ID must be positive");
         }
 
+        // One aggregate row for the counters, the ongoing education beside it
+        Subtask<SkillHeroCounters> heroCounters;
+        Subtask<List<Education>> ongoingEducations;
+        try (FanOutScope scope = fanOutExecutor.open()) {
+            heroCounters = scope.fork("heroCounters", () -> statisticsRepository.findSkillHeroCounters(personalId));
+            ongoingEducations = scope.fork("ongoingEducations",
+                    () -> educationRepository.findByPersonalIdAndStatus(personalId, EducationStatus.ONGOING));
+            scope.join();
+        }
+        SkillHeroCounters counters = heroCounters.get();
 
-        Integer yearsCoding = calculateYearsCoding(personalId);
 
+        Integer yearsCoding = calculateYearsCoding(counters.getOldestProjectYear(), counters.getOldestSkillYear());
 
-        Long totalProjects = projectRepository.countByPersonalId(personalId);
 
+        Long totalProjects = counters.getTotalProjects();
 
-        Long totalCertifications = certificateRepository.countByPersonalId(personalId);
 
+        Long totalCertifications = counters.getTotalCertificates();
 
-        Double avgLevel = repository.findAverageSkillLevelByPersonalId(personalId);
+
+        Double avgLevel = counters.getAverageSkillLevel();
         double avgProficiencyPercent = avgLevel != null ? avgLevel : 0.0;
 
 
-        Integer totalTechnologies = entityTechnologyRepository.countDistinctTechnologiesByPersonalId(personalId);
+        Long totalTechnologies = counters.getTechnologyCount();
 
 
         String yearsCodingText = yearsCoding + "+";
@@ -218,7 +266,7 @@ public class SkillService extends BaseService<Skill, Long, SkillRepository> {
         String avgProficiencyText = Math.round(avgProficiencyPercent) + "%";
 
 
-        String description = buildHeroDescription(personalId);
+        String description = buildHeroDescription(ongoingEducations.get());
         String projectsBuiltText = totalProjects + "+ projects built";
         String technologiesMasteredText = totalTechnologies + " technologies mastered";
 
@@ -240,17 +288,11 @@ public class SkillService extends BaseService<Skill, Long, SkillRepository> {
     /**
      * Calculate your programming years based on your first project or skill
      */
-    private Integer calculateYearsCoding(Long personalId) {
-
-        Integer oldestProjectYear = projectRepository.findOldestProjectYear(personalId);
-
-
-        LocalDate oldestSkillDate = repository.findOldestSkillDate(personalId);
-
+    private Integer calculateYearsCoding(Integer oldestProjectYear, Integer oldestSkillYear) {
 
         int currentYear = LocalDate.now().getYear();
         int yearsFromProjects = oldestProjectYear != null ? currentYear - oldestProjectYear : 0;
-        int yearsFromSkills = oldestSkillDate != null ? currentYear - oldestSkillDate.getYear() : 0;
+        int yearsFromSkills = oldestSkillYear != null ? currentYear - oldestSkillYear : 0;
 
 
         int yearsCoding = Math.max(yearsFromProjects, yearsFromSkills);
@@ -262,9 +304,8 @@ public class SkillService extends BaseService<Skill, Long, SkillRepository> {
     /**
      * Build the main description for the hero section
      */
-    private String buildHeroDescription(Long personalId) {
+    private String buildHeroDescription(List<Education> ongoingEducations) {
 
-        List<Education> ongoingEducations = educationRepository.findByPersonalIdAndStatus(personalId, EducationStatus.ONGOING);
         Optional<Education> currentEducation = ongoingEducations.stream().findFirst();
 
         String specialization = "Computer Science Economics"; // Default
@@ -281,7 +322,7 @@ public class SkillService extends BaseService<Skill, Long, SkillRepository> {
      * Returns top 5 level-based skills
      * Respect TopSkill interface: {name, level, color}
      */
-    @Cacheable(value = "topSkills", key = "#personalId + '_' + #limit")
+    @Cacheable(value = "topSkills", key = "#personalId + '_' + #limit", sync = true)
     public List<TopSkillDto> getTopSkills(@Valid @NotNull @Positive Long personalId,
                                           @Valid @Positive Integer limit) {
         ServiceUtils.logMethodEntry("getTopSkills", personalId, limit);
@@ -292,31 +333,17 @@ public class SkillService extends BaseService<Skill, Long, SkillRepository> {
         Pageable pageable = PageRequest.of(0, skillLimit);
 
 
-        List<Object[]> results = repository.findTopSkillsByLevel(personalId, pageable);
-
-        List<TopSkillDto> topSkills = results.stream()
-                .map(row -> {
-                    Skill skill = (Skill) row[0];
-                    EntityMetadata metadata = (EntityMetadata) row[1];
-
-
-                    Integer projectCount = entitySkillRepository
-                            .countByEntityTypeAndSkillId(EntityType.PROJECT, skill.getId());
-
-
-                    String color = getSkillColor(skill, metadata);
-
-                    return TopSkillDto.builder()
-                            .name(skill.getName())
-                            .level(skill.getLevel())
-                            .color(color)
-                            // Optional fields
-                            .category(skill.getCategory() != null ? skill.getCategory().getName() : null)
-                            .proficiency(skill.getProficiency() != null ?
-                                    skill.getProficiency().toString().toLowerCase() : null)
-                            .projects(projectCount)
-                            .build();
-                })
+        List<TopSkillDto> topSkills = repository.findTopRowsByLevel(personalId, pageable).stream()
+                .map(row -> TopSkillDto.builder()
+                        .name(row.name())
+                        .level(row.level())
+                        .color(getSkillColor(row))
+                        // Optional fields
+                        .category(row.categoryName())
+                        .proficiency(row.proficiency() != null ?
+                                row.proficiency().toString().toLowerCase() : null)
+                        .projects(row.projectCount() != null ? Math.toIntExact(row.projectCount()) : null)
+                        .build())
                 .toList();
 
         log.debug("Found {} top skills for personalId: {}", topSkills.size(), personalId);
@@ -327,20 +354,20 @@ public class SkillService extends BaseService<Skill, Long, SkillRepository> {
     /**
      * Helper method to determine the color of the skill
      */
-    private String getSkillColor(Skill skill, EntityMetadata metadata) {
+    private String getSkillColor(SkillRow row) {
 
-        if (metadata != null && metadata.getPrimaryColor() != null) {
-            return metadata.getPrimaryColor();
+        if (row.primaryColor() != null) {
+            return row.primaryColor();
         }
 
 
-        if (skill.getLevel() != null) {
-            return getColorByLevel(skill.getLevel());
+        if (row.level() != null) {
+            return getColorByLevel(row.level());
         }
 
 
-        if (skill.getCategory() != null) {
-            return getColorByCategory(skill.getCategory().getName());
+        if (row.categoryName() != null) {
+            return getColorByCategory(row.categoryName());
         }
 
         // 4. Default
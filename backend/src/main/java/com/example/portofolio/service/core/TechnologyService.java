@@ -4,11 +4,20 @@ import com.example.portofolio.dto.*;
 import com.example.portofolio.entity.*;
 import com.example.portofolio.entity.enums.*;
 import com.example.portofolio.repository.*;
+import com.example.portofolio.memo.RequestMemoized;
 import com.example.portofolio.service.base.BaseService;
 import com.example.portofolio.service.base.ServiceUtils;
+import com.example.portofolio.service.support.CertificateMatchingIndex;
+import com.example.portofolio.service.support.CertificateTechnologyMatcher;
+import com.example.portofolio.service.support.EntityMetadataResolver;
+import com.example.portofolio.service.support.MetadataLookup;
+import com.example.portofolio.service.support.TechnologyLearningResolver;
+import com.example.portofolio.service.support.TechnologyUsage;
+import com.example.portofolio.service.support.TechnologyUsageResolver;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import jakarta.validation.Valid;
@@ -25,31 +34,32 @@ import java.util.stream.Collectors;
 @Slf4j
 public class TechnologyService extends BaseService<Technology, Long, TechnologyRepository> {
 
-    private final EntityMetadataRepository entityMetadataRepository;
-    private final EntityTechnologyRepository entityTechnologyRepository;
+    // Technologies are shared, usage is reported for the portfolio owner
+    private static final Long PORTFOLIO_OWNER_ID = 1L;
+
+    private final EntityMetadataResolver metadataResolver;
+    private final TechnologyUsageResolver technologyUsageResolver;
+    private final CertificateTechnologyMatcher certificateTechnologyMatcher;
+    private final TechnologyLearningResolver technologyLearningResolver;
     private final TechnologyCategoryRepository technologyCategoryRepository;
-    private final ProjectRepository projectRepository;
-    private final LearningProgressRepository learningProgressRepository;
-    private final SkillRepository skillRepository;
-    private final CertificateRepository certificateRepository;
+    // Proxy of this service, so internal calls are cached and memoized too
+    private final TechnologyService self;
 
     @Autowired
     public TechnologyService(TechnologyRepository technologyRepository,
-                             EntityMetadataRepository entityMetadataRepository,
-                             EntityTechnologyRepository entityTechnologyRepository,
+                             EntityMetadataResolver metadataResolver,
+                             TechnologyUsageResolver technologyUsageResolver,
+                             CertificateTechnologyMatcher certificateTechnologyMatcher,
+                             TechnologyLearningResolver technologyLearningResolver,
                              TechnologyCategoryRepository technologyCategoryRepository,
-                             ProjectRepository projectRepository,
-                             CertificateRepository certificateRepository,
-                             LearningProgressRepository learningProgressRepository,
-                             SkillRepository skillRepository) {
+                             @Lazy TechnologyService self) {
         super(technologyRepository);
-        this.entityMetadataRepository = entityMetadataRepository;
-        this.entityTechnologyRepository = entityTechnologyRepository;
+        this.metadataResolver = metadataResolver;
+        this.technologyUsageResolver = technologyUsageResolver;
+        this.certificateTechnologyMatcher = certificateTechnologyMatcher;
+        this.technologyLearningResolver = technologyLearningResolver;
         this.technologyCategoryRepository = technologyCategoryRepository;
-        this.projectRepository = projectRepository;
-        this.learningProgressRepository = learningProgressRepository;
-        this.skillRepository = skillRepository;
-        this.certificateRepository = certificateRepository;
+        this.self = self;
     }
 
     @Override
@@ -59,19 +69,17 @@ public class TechnologyService extends BaseService<Technology, Long, TechnologyR
 
     @Override
     protected TechnologyDto toDto(Technology technology) {
-        return toTechnologyDto(technology);
+        return toTechnologyDtos(List.of(technology)).getFirst();
     }
 
     // ===== CORE TECHNOLOGY QUERIES =====
 
-    @Cacheable(value = "allTechnologies")
+    @Cacheable(value = "allTechnologies", sync = true)
     public List<TechnologyDto> findAllTechnologies() {
         ServiceUtils.logMethodEntry("findAllTechnologies");
 
-        List<Technology> technologies = repository.findAll();
-        List<TechnologyDto> result = technologies.stream()
-                .map(this::toTechnologyDto)
-                .toList();
+        List<Technology> technologies = repository.findAllWithCategoryAndFeatures();
+        List<TechnologyDto> result = toTechnologyDtos(technologies);
 
         ServiceUtils.logMethodExit("findAllTechnologies", result.size());
         return result;
@@ -79,14 +87,12 @@ public class TechnologyService extends BaseService<Technology, Long, TechnologyR
 
     // ===== TRENDING & POPULAR TECHNOLOGIES =====
 
-    @Cacheable(value = "trendingTechnologies")
+    @Cacheable(value = "trendingTechnologies", sync = true)
     public List<TechnologyDto> findTrendingTechnologies() {
         ServiceUtils.logMethodEntry("findTrendingTechnologies");
 
-        List<Technology> technologies = repository.findTrendingTechnologies();
-        List<TechnologyDto> result = technologies.stream()
-                .map(this::toTechnologyDto)
-                .toList();
+        List<Technology> technologies = repository.findTrendingWithCategoryAndFeatures();
+        List<TechnologyDto> result = toTechnologyDtos(technologies);
 
         ServiceUtils.logMethodExit("findTrendingTechnologies", result.size());
         return result;
@@ -104,9 +110,7 @@ public class TechnologyService extends BaseService<Technology, Long, TechnologyR
 
         LocalDate since = LocalDate.now().minusDays(days);
         List<Technology> technologies = repository.findRecentlyReleased(since);
-        List<TechnologyDto> result = technologies.stream()
-                .map(this::toTechnologyDto)
-                .toList();
+        List<TechnologyDto> result = toTechnologyDtos(technologies);
 
         ServiceUtils.logMethodExit("findRecentlyReleased", result.size());
         return result;
@@ -115,7 +119,8 @@ public class TechnologyService extends BaseService<Technology, Long, TechnologyR
 
     // ===== STATISTICS =====
 
-    @Cacheable(value = "technologyStatsByCategory")
+    @Cacheable(value = "technologyStatsByCategory", sync = true)
+    @RequestMemoized
     public Map<String, Long> getTechnologyStatsByCategory() {
         ServiceUtils.logMethodEntry("getTechnologyStatsByCategory");
 
@@ -129,14 +134,14 @@ public class TechnologyService extends BaseService<Technology, Long, TechnologyR
         return stats;
     }
 
-    @Cacheable(value = "technologyStats")
+    @Cacheable(value = "technologyStats", sync = true)
     public TechnologyStatisticsDto getTechnologyStatistics() {
         ServiceUtils.logMethodEntry("getTechnologyStatistics");
 
-        Long totalTechnologies = count();
+        Long totalTechnologies = self.count();
         Long trendingCount = repository.countTrendingTechnologies();
         Double avgPopularityScore = repository.findAveragePopularityScore();
-        Map<String, Long> categoryStats = getTechnologyStatsByCategory();
+        Map<String, Long> categoryStats = self.getTechnologyStatsByCategory();
 
         TechnologyStatisticsDto result = TechnologyStatisticsDto.builder()
                 .totalTechnologies(totalTechnologies)
@@ -152,7 +157,7 @@ public class TechnologyService extends BaseService<Technology, Long, TechnologyR
 
     // ===== CATEGORY MANAGEMENT =====
 
-    @Cacheable(value = "technologyCategoriesWithCount")
+    @Cacheable(value = "technologyCategoriesWithCount", sync = true)
     public List<TechCategoryInfoDto> getCategoriesWithCount() {
         ServiceUtils.logMethodEntry("getCategoriesWithCount");
 
@@ -182,21 +187,28 @@ public class TechnologyService extends BaseService<Technology, Long, TechnologyR
 
     // ===== DTO CONVERSION =====
 
-    private TechnologyDto toTechnologyDto(Technology technology) {
-        return toTechnologyDtoForPersonal(technology);
-    }
-
-    private TechnologyDto toTechnologyDtoForPersonal(Technology technology) {
-        Optional<EntityMetadata> metadata = entityMetadataRepository
-                .findByEntityTypeAndEntityId(EntityType.TECHNOLOGY, technology.getId());
+    private List<TechnologyDto> toTechnologyDtos(List<Technology> technologies) {
+        if (technologies.isEmpty()) {
+            return List.of();
+        }
 
-        // Get usage information
-        Integer projectCount = getProjectCountForPersonal(technology.getId());
+        MetadataLookup metadata = metadataResolver.resolve(EntityType.TECHNOLOGY, technologies, Technology::getId);
+        Map<Long, TechnologyUsage> usage = technologyUsageResolver.resolveForPersonal(PORTFOLIO_OWNER_ID);
+        CertificateMatchingIndex certificates = certificateTechnologyMatcher.indexFor(PORTFOLIO_OWNER_ID);
+        Set<Long> learning = technologyLearningResolver.resolveLearningTechnologyIds(PORTFOLIO_OWNER_ID, technologies);
 
-        // Get proficiency and experience for personal usage
-        String proficiency = calculateProficiencyForPersonal(technology.getId());
+        return technologies.stream()
+                .map(technology -> toTechnologyDtoForPersonal(technology, metadata,
+                        usage.getOrDefault(technology.getId(), TechnologyUsage.UNUSED), certificates,
+                        learning.contains(technology.getId())))
+                .toList();
+    }
 
-        Double yearsOfExperience = calculateExperienceForPersonal(technology.getId());
+    private TechnologyDto toTechnologyDtoForPersonal(Technology technology, MetadataLookup metadataLookup,
+                                                     TechnologyUsage usage, CertificateMatchingIndex certificates,
+                                                     boolean learning) {
+        Optional<EntityMetadata> metadata = metadataLookup.find(EntityType.TECHNOLOGY, technology.getId());
+        String proficiency = usage.proficiency();
 
         // Get features
         List<String> features = getTechnologyFeatures(technology);
@@ -207,16 +219,16 @@ public class TechnologyService extends BaseService<Technology, Long, TechnologyR
                 .category(technology.getCategory() != null ? technology.getCategory().getName() : "Other")
                 .proficiency(proficiency)
                 .level(ServiceUtils.proficiencyToLevel(proficiency))
-                .yearsOfExperience(yearsOfExperience)
-                .projects(projectCount)
+                .yearsOfExperience(usage.yearsOfExperience())
+                .projects(usage.projectCount())
                 .description(ServiceUtils.truncateText(technology.getDescription(), 300))
                 .icon(ServiceUtils.getIconFromMetadata(metadata, getDefaultIconForTechnology(technology.getName())))
                 .color(ServiceUtils.getColorFromMetadata(metadata, getColorForTechnology(technology)))
                 .backgroundColor(ServiceUtils.getColorFromMetadata(metadata, getBgColorForTechnology(technology)))
                 .features(features)
                 .trending(technology.getTrending())
-                .certification(hasCertification(technology.getId()))
-                .learning(isCurrentlyLearning(technology.getId()))
+                .certification(certificates.isCertified(technology.getName()))
+                .learning(learning)
                 .build();
     }
 
@@ -233,209 +245,6 @@ public class TechnologyService extends BaseService<Technology, Long, TechnologyR
                 .toList();
     }
 
-    private Integer getProjectCountForPersonal(Long technologyId) {
-        List<EntityTechnology> entityTechs = entityTechnologyRepository
-                .findByEntityTypeAndTechnologyId(EntityType.PROJECT, technologyId);
-
-        return (int) entityTechs.stream()
-                .filter(et -> {
-                    // Verifică dacă proiectul aparține personal-ului cu ID 1
-                    Optional<Project> project = projectRepository.findById(et.getEntityId());
-                    return project.isPresent() && project.get().getPersonal().getId().equals(1L);
-                })
-                .count();
-    }
-
-    private String calculateProficiencyForPersonal(Long technologyId) {
-
-        Integer projectCount = getProjectCountForPersonal(technologyId);
-
-        if (projectCount >= 5) return "expert";
-        if (projectCount >= 3) return "advanced";
-        if (projectCount >= 1) return "intermediate";
-        return "beginner";
-    }
-
-    private Double calculateExperienceForPersonal(Long technologyId) {
-
-        // Simplified calculation - could be enhanced with actual project dates
-        Integer projectCount = getProjectCountForPersonal(technologyId);
-        return Math.min(projectCount * 0.5, 5.0); // Max 5 years experience
-    }
-
-
-    private Boolean hasCertification(Long technologyId) {
-        if (technologyId == null) {
-            return false;
-        }
-
-        try {
-            // Get the technology to check its name
-            Optional<Technology> technologyOpt = repository.findById(technologyId);
-            if (technologyOpt.isEmpty()) {
-                return false;
-            }
-
-            Technology technology = technologyOpt.get();
-            String techName = technology.getName().toLowerCase();
-
-            // Find certificates for this personal that might be related to the technology
-            List<Certificate> certificates = certificateRepository.findByPersonalIdAndVerifiedTrue(1L);
-
-            // Check if any certificate is related to this technology
-            return certificates.stream().anyMatch(cert -> {
-                String certName = cert.getName().toLowerCase();
-                String certDescription = cert.getDescription() != null ? cert.getDescription().toLowerCase() : "";
-                String provider = cert.getProvider().toLowerCase();
-
-                // Direct name match
-                if (certName.contains(techName)) {
-                    return true;
-                }
-
-                // Description contains technology name
-                if (certDescription.contains(techName)) {
-                    return true;
-                }
-
-                // Check for common technology-provider combinations
-                return isProviderKnownForTechnology(provider, techName);
-            });
-
-        } catch (Exception e) {
-            log.error("Error checking certification for technology {} and personal {}: {}",
-                    technologyId, 1L, e.getMessage());
-            return false;
-        }
-    }
-
-    private Boolean isCurrentlyLearning(Long technologyId) {
-        if (technologyId == null) {
-            return false;
-        }
-
-        try {
-            // Get the technology to check its name
-            Optional<Technology> technologyOpt = repository.findById(technologyId);
-            if (technologyOpt.isEmpty()) {
-                return false;
-            }
-
-            Technology technology = technologyOpt.get();
-            String techName = technology.getName().toLowerCase();
-
-            // Find skills related to this technology for the personal
-            List<Skill> relatedSkills = skillRepository.findByPersonalId(1L).stream()
-                    .filter(skill -> {
-                        String skillName = skill.getName().toLowerCase();
-                        return skillName.contains(techName) ||
-                                (skill.getDescription() != null &&
-                                        skill.getDescription().toLowerCase().contains(techName));
-                    })
-                    .toList();
-
-            if (relatedSkills.isEmpty()) {
-                return false;
-            }
-
-            // Check if any of these skills have active learning progress
-            return relatedSkills.stream().anyMatch(skill -> {
-                List<LearningProgress> activeProgress = learningProgressRepository
-                        .findBySkillIdAndStatus(skill.getId(), LearningStatus.IN_PROGRESS);
-
-                return !activeProgress.isEmpty() &&
-                        activeProgress.stream().anyMatch(progress ->
-                                progress.getProgressPercentage() < 100 &&
-                                        progress.getCompletionDate() == null);
-            });
-
-        } catch (Exception e) {
-            log.error("Error checking learning status for technology {} and personal {}: {}",
-                    technologyId, 1L, e.getMessage());
-            return false;
-        }
-    }
-
-    private boolean isProviderKnownForTechnology(String provider, String techName) {
-        if (provider == null || techName == null) {
-            return false;
-        }
-
-        // Create a map of known technology-provider relationships
-        // Using Map.of() has a limit of 10 entries, so we'll use a builder pattern
-        Map<String, List<String>> techProviders = new HashMap<>();
-
-        // Programming Languages & Frameworks
-        techProviders.put("java", List.of("oracle", "sun", "redhat", "ibm"));
-        techProviders.put("python", List.of("python", "psf", "jetbrains"));
-        techProviders.put("javascript", List.of("mozilla", "ecma"));
-        techProviders.put("typescript", List.of("microsoft"));
-        techProviders.put("node", List.of("nodejs", "node"));
-        techProviders.put("react", List.of("meta", "facebook"));
-        techProviders.put("angular", List.of("google"));
-        techProviders.put("vue", List.of("vue"));
-        techProviders.put("spring", List.of("pivotal", "vmware", "spring"));
-
-        // Cloud & Infrastructure
-        techProviders.put("aws", List.of("amazon", "aws"));
-        techProviders.put("microsoft", List.of("microsoft", "azure", "office"));
-        techProviders.put("google", List.of("google", "gcp"));
-        techProviders.put("docker", List.of("docker", "mirantis"));
-        techProviders.put("kubernetes", List.of("cncf", "kubernetes", "redhat"));
-        techProviders.put("terraform", List.of("hashicorp"));
-        techProviders.put("ansible", List.of("redhat"));
-        techProviders.put("puppet", List.of("puppet"));
-        techProviders.put("chef", List.of("chef"));
-
-        // Databases
-        techProviders.put("mongodb", List.of("mongodb", "mongo"));
-        techProviders.put("postgresql", List.of("postgresql", "postgres"));
-        techProviders.put("mysql", List.of("mysql", "oracle"));
-        techProviders.put("redis", List.of("redis", "redislabs"));
-        techProviders.put("elasticsearch", List.of("elastic"));
-
-        // DevOps & Tools
-        techProviders.put("jenkins", List.of("cloudbees", "jenkins"));
-        techProviders.put("git", List.of("git", "github", "gitlab", "atlassian"));
-        techProviders.put("jira", List.of("atlassian"));
-        techProviders.put("confluence", List.of("atlassian"));
-
-        // Business Applications
-        techProviders.put("salesforce", List.of("salesforce"));
-        techProviders.put("tableau", List.of("tableau"));
-        techProviders.put("powerbi", List.of("microsoft"));
-
-        // Methodologies & Certifications
-        techProviders.put("scrum", List.of("scrum", "scrumalliance", "scrum.org"));
-        techProviders.put("agile", List.of("scaled", "safe", "agile"));
-        techProviders.put("pmp", List.of("pmi", "project management institute"));
-        techProviders.put("itil", List.of("axelos", "itil"));
-
-        // Hardware & Networking
-        techProviders.put("cisco", List.of("cisco"));
-        techProviders.put("comptia", List.of("comptia"));
-
-        // Operating Systems
-        techProviders.put("linux", List.of("redhat", "suse", "canonical", "lpi"));
-        techProviders.put("ubuntu", List.of("canonical"));
-        techProviders.put("centos", List.of("redhat"));
-
-        // Check if the provider is known for this technology
-        return techProviders.entrySet().stream()
-                .anyMatch(entry -> {
-                    String techKey = entry.getKey();
-                    List<String> providers = entry.getValue();
-
-                    // Check if technology name contains the key (case-insensitive)
-                    boolean techMatches = techName.toLowerCase().contains(techKey);
-
-                    // Check if any provider matches (case-insensitive)
-                    boolean providerMatches = providers.stream()
-                            .anyMatch(knownProvider -> provider.toLowerCase().contains(knownProvider.toLowerCase()));
-
-                    return techMatches && providerMatches;
-                });
-    }
     // ===== COLOR & ICON HELPERS =====
 
     private String getColorForTechnology(Technology technology) {
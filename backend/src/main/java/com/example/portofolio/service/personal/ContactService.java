@@ -46,7 +46,7 @@ public class ContactService extends BaseService<ContactInfo, Long, ContactInfoRe
 
     // ===== CORE CONTACT QUERIES  =====
 
-    @Cacheable(value = "contactByPersonal", key = "#personalId")
+    @Cacheable(value = "contactByPersonal", key = "#personalId", sync = true)
     public Optional<ContactInfoDto> findByPersonalId(@Valid @NotNull @Positive Long personalId) {
         ServiceUtils.logMethodEntry("findByPersonalId", personalId);
         ServiceUtils.validatePersonalId(personalId);
@@ -6,6 +6,10 @@ import com.example.portofolio.entity.enums.*;
 import com.example.portofolio.repository.*;
 import com.example.portofolio.service.base.BaseService;
 import com.example.portofolio.service.base.ServiceUtils;
+import com.example.portofolio.service.support.AchievementIndex;
+import com.example.portofolio.service.support.AchievementIndexResolver;
+import com.example.portofolio.service.support.EntityMetadataResolver;
+import com.example.portofolio.service.support.MetadataLookup;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
@@ -25,15 +29,18 @@ import java.util.Optional;
 @Slf4j
 public class HobbyService extends BaseService<Hobby, Long, HobbyRepository> {
 
-    private final EntityMetadataRepository entityMetadataRepository;
+    private final EntityMetadataResolver metadataResolver;
+    private final AchievementIndexResolver achievementIndexResolver;
     private final AchievementRepository achievementRepository;
 
     @Autowired
     public HobbyService(HobbyRepository hobbyRepository,
-                        EntityMetadataRepository entityMetadataRepository,
+                        EntityMetadataResolver metadataResolver,
+                        AchievementIndexResolver achievementIndexResolver,
                         AchievementRepository achievementRepository) {
         super(hobbyRepository);
-        this.entityMetadataRepository = entityMetadataRepository;
+        this.metadataResolver = metadataResolver;
+        this.achievementIndexResolver = achievementIndexResolver;
         this.achievementRepository = achievementRepository;
     }
 
@@ -44,25 +51,42 @@ public class HobbyService extends BaseService<Hobby, Long, HobbyRepository> {
 
     @Override
     protected HobbyDto toDto(Hobby hobby) {
-        return toHobbyDto(hobby);
+        return toHobbyDto(hobby, resolveMetadata(List.of(hobby)),
+                achievementIndexResolver.resolveForPersonal(hobby.getPersonal().getId()));
     }
 
     // ===== CORE HOBBY QUERIES =====
 
-    @Cacheable(value = "hobbiesByPersonal", key = "#personalId")
+    @Cacheable(value = "hobbiesByPersonal", key = "#personalId", sync = true)
     public List<HobbyDto> findByPersonalId(@Valid @NotNull @Positive Long personalId) {
         ServiceUtils.logMethodEntry("findByPersonalId", personalId);
         ServiceUtils.validatePersonalId(personalId);
 
         List<Hobby> hobbies = repository.findByPersonalId(personalId);
+        MetadataLookup metadata = resolveMetadata(hobbies);
+        AchievementIndex achievementIndex = achievementIndexResolver.resolveForPersonal(personalId);
         List<HobbyDto> result = hobbies.stream()
-                .map(this::toHobbyDto)
+                .map(hobby -> toHobbyDto(hobby, metadata, achievementIndex))
                 .toList();
 
         ServiceUtils.logMethodExit("findByPersonalId", result.size());
         return result;
     }
 
+    /**
+     * One hobby as {@link #findByPersonalId} lists it, empty when it is gone or belongs
+     * to another personal
+     */
+    public Optional<HobbyDto> findByPersonalIdAndId(Long personalId, Long hobbyId) {
+        ServiceUtils.validatePersonalId(personalId);
+        ServiceUtils.validateEntityId(hobbyId);
+
+        return repository.findById(hobbyId)
+                .filter(hobby -> hobby.getPersonal() != null && personalId.equals(hobby.getPersonal().getId()))
+                .map(hobby -> toHobbyDto(hobby, resolveMetadata(List.of(hobby)),
+                        achievementIndexResolver.resolveForPersonal(personalId)));
+    }
+
 
     // ===== ACHIEVEMENTS INTEGRATION =====
 
@@ -74,8 +98,9 @@ public class HobbyService extends BaseService<Hobby, Long, HobbyRepository> {
 
         List<Achievement> achievements = achievementRepository
                 .findByPersonalIdAndEntityTypeAndEntityId(personalId, EntityType.HOBBY, hobbyId);
+        MetadataLookup metadata = metadataResolver.resolve(EntityType.ACHIEVEMENT, achievements, Achievement::getId);
         List<AchievementDto> result = achievements.stream()
-                .map(this::toAchievementDto)
+                .map(achievement -> toAchievementDto(achievement, metadata))
                 .toList();
 
         ServiceUtils.logMethodExit("findHobbyAchievements", result.size());
@@ -84,13 +109,13 @@ public class HobbyService extends BaseService<Hobby, Long, HobbyRepository> {
 
     // ===== DTO CONVERSION =====
 
-    private HobbyDto toHobbyDto(Hobby hobby) {
-        Optional<EntityMetadata> metadata = entityMetadataRepository
-                .findByEntityTypeAndEntityId(EntityType.HOBBY, hobby.getId());
+    private HobbyDto toHobbyDto(Hobby hobby, MetadataLookup metadataLookup, AchievementIndex achievementIndex) {
+        Optional<EntityMetadata> metadata = metadataLookup.find(EntityType.HOBBY, hobby.getId());
 
         // Get achievements for this hobby
-        List<AchievementDto> achievements = findHobbyAchievements(
-                hobby.getPersonal().getId(), hobby.getId());
+        List<AchievementDto> achievements = achievementIndex.forOwner(EntityType.HOBBY, hobby.getId()).stream()
+                .map(achievement -> toAchievementDto(achievement, achievementIndex.metadata()))
+                .toList();
 
         // Get related skills (simplified - could be enhanced)
         List<String> relatedSkills = getRelatedSkills();
@@ -116,9 +141,8 @@ public class HobbyService extends BaseService<Hobby, Long, HobbyRepository> {
                 .build();
     }
 
-    private AchievementDto toAchievementDto(Achievement achievement) {
-        Optional<EntityMetadata> metadata = entityMetadataRepository
-                .findByEntityTypeAndEntityId(EntityType.ACHIEVEMENT, achievement.getId());
+    private AchievementDto toAchievementDto(Achievement achievement, MetadataLookup metadataLookup) {
+        Optional<EntityMetadata> metadata = metadataLookup.find(EntityType.ACHIEVEMENT, achievement.getId());
 
         String formattedDate = ServiceUtils.formatDateAsIso(achievement.getAchievementDate());
 
@@ -201,13 +225,15 @@ public class HobbyService extends BaseService<Hobby, Long, HobbyRepository> {
 
     @Override
     public List<Hobby> findFeatured() {
-        return repository.findAll().stream()
-                .filter(hobby -> {
-                    Optional<EntityMetadata> metadata = entityMetadataRepository
-                            .findByEntityTypeAndEntityId(EntityType.HOBBY, hobby.getId());
-                    return ServiceUtils.isFeatured(metadata);
-                })
+        List<Hobby> hobbies = repository.findAll();
+        MetadataLookup metadata = resolveMetadata(hobbies);
+        return hobbies.stream()
+                .filter(hobby -> metadata.isFeatured(EntityType.HOBBY, hobby.getId()))
                 .toList();
     }
 
+    private MetadataLookup resolveMetadata(List<Hobby> hobbies) {
+        return metadataResolver.resolve(EntityType.HOBBY, hobbies, Hobby::getId);
+    }
+
 }
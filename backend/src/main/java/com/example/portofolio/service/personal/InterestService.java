@@ -6,6 +6,8 @@ import com.example.portofolio.entity.enums.*;
 import com.example.portofolio.repository.*;
 import com.example.portofolio.service.base.BaseService;
 import com.example.portofolio.service.base.ServiceUtils;
+import com.example.portofolio.service.support.EntityMetadataResolver;
+import com.example.portofolio.service.support.MetadataLookup;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
@@ -25,13 +27,13 @@ import java.util.Optional;
 @Slf4j
 public class InterestService extends BaseService<Interest, Long, InterestRepository> {
 
-    private final EntityMetadataRepository entityMetadataRepository;
+    private final EntityMetadataResolver metadataResolver;
 
     @Autowired
     public InterestService(InterestRepository interestRepository,
-                           EntityMetadataRepository entityMetadataRepository) {
+                           EntityMetadataResolver metadataResolver) {
         super(interestRepository);
-        this.entityMetadataRepository = entityMetadataRepository;
+        this.metadataResolver = metadataResolver;
     }
 
     @Override
@@ -41,19 +43,20 @@ public class InterestService extends BaseService<Interest, Long, InterestReposit
 
     @Override
     protected InterestDto toDto(Interest interest) {
-        return toInterestDto(interest);
+        return toInterestDto(interest, resolveMetadata(List.of(interest)));
     }
 
     // ===== CORE INTEREST QUERIES  =====
 
-    @Cacheable(value = "interestsByPersonal", key = "#personalId")
+    @Cacheable(value = "interestsByPersonal", key = "#personalId", sync = true)
     public List<InterestDto> findByPersonalId(@Valid @NotNull @Positive Long personalId) {
         ServiceUtils.logMethodEntry("findByPersonalId", personalId);
         ServiceUtils.validatePersonalId(personalId);
 
         List<Interest> interests = repository.findByPersonalId(personalId);
+        MetadataLookup metadata = resolveMetadata(interests);
         List<InterestDto> result = interests.stream()
-                .map(this::toInterestDto)
+                .map(interest -> toInterestDto(interest, metadata))
                 .toList();
 
         ServiceUtils.logMethodExit("findByPersonalId", result.size());
@@ -62,9 +65,8 @@ public class InterestService extends BaseService<Interest, Long, InterestReposit
 
     // ===== DTO CONVERSION =====
 
-    private InterestDto toInterestDto(Interest interest) {
-        Optional<EntityMetadata> metadata = entityMetadataRepository
-                .findByEntityTypeAndEntityId(EntityType.INTEREST, interest.getId());
+    private InterestDto toInterestDto(Interest interest, MetadataLookup metadataLookup) {
+        Optional<EntityMetadata> metadata = metadataLookup.find(EntityType.INTEREST, interest.getId());
 
         // Basic conversion without discoveries
         String defaultColor = getColorForInterestCategory(interest.getCategory());
@@ -152,14 +154,16 @@ public class InterestService extends BaseService<Interest, Long, InterestReposit
 
     @Override
     public List<Interest> findFeatured() {
-        return repository.findAll().stream()
-                .filter(interest -> {
-                    Optional<EntityMetadata> metadata = entityMetadataRepository
-                            .findByEntityTypeAndEntityId(EntityType.INTEREST, interest.getId());
-                    return ServiceUtils.isFeatured(metadata);
-                })
+        List<Interest> interests = repository.findAll();
+        MetadataLookup metadata = resolveMetadata(interests);
+        return interests.stream()
+                .filter(interest -> metadata.isFeatured(EntityType.INTEREST, interest.getId()))
                 .toList();
     }
 
+    private MetadataLookup resolveMetadata(List<Interest> interests) {
+        return metadataResolver.resolve(EntityType.INTEREST, interests, Interest::getId);
+    }
+
 }
 
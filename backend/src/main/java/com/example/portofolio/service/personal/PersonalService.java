@@ -1,12 +1,20 @@
 package com.example.portofolio.service.personal;
 
+import com.example.portofolio.coalesce.Coalesced;
 import com.example.portofolio.dto.*;
 import com.example.portofolio.entity.*;
 import com.example.portofolio.entity.enums.EntityType;
 import com.example.portofolio.repository.*;
+import com.example.portofolio.service.support.EntityMetadataResolver;
+import com.example.portofolio.service.support.FanOutExecutor;
+import com.example.portofolio.service.support.FanOutScope;
+import com.example.portofolio.service.support.FanOutScope.Subtask;
+import com.example.portofolio.service.support.MetadataKey;
+import com.example.portofolio.service.support.MetadataLookup;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.format.DateTimeFormatter;
@@ -28,13 +36,14 @@ public class PersonalService {
     private final AchievementRepository achievementRepository;
     private final EducationRepository educationRepository;
     private final ContactInfoRepository contactInfoRepository;
-    private final EntityMetadataRepository entityMetadataRepository;
+    private final EntityMetadataResolver metadataResolver;
     private final LearningProgressRepository learningProgressRepository;
     private final FutureGoalRepository futureGoalRepository;
     private final EntityTechnologyRepository entityTechnologyRepository;
     private final HighlightRepository highlightRepository;
     private final PersonalValueRepository personalValueRepository;
     private final PersonalityTraitRepository personalityTraitRepository;
+    private final FanOutExecutor fanOutExecutor;
 
     private final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("MMM yyyy");
 
@@ -143,44 +152,73 @@ public class PersonalService {
 
     // ===== TIMELINE AND LEARNING =====
 
+    @Coalesced
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<TimelineMilestoneDto> getTimelineMilestones(Long personalId) {
         log.debug("Getting timeline milestones for personal: {}", personalId);
 
+        // The three sources are independent, load them side by side
+        Subtask<List<Achievement>> achievementSource;
+        Subtask<List<Education>> educationSource;
+        Subtask<List<Project>> projectSource;
+        try (FanOutScope scope = fanOutExecutor.open()) {
+            achievementSource = scope.fork("achievements",
+                    () -> achievementRepository.findByPersonalIdOrderByAchievementDateDesc(personalId));
+            educationSource = scope.fork("educations",
+                    () -> educationRepository.findByPersonalIdOrderByStartDateDesc(personalId));
+            projectSource = scope.fork("majorProjects",
+                    () -> projectRepository.findMajorProjectsByPersonalId(personalId));
+            scope.join();
+        }
+        List<Achievement> achievements = achievementSource.get();
+        List<Education> educations = educationSource.get();
+        List<Project> projects = projectSource.get();
+
+        // Resolve metadata for all three sources in one round trip
+        List<MetadataKey> metadataKeys = new java.util.ArrayList<>();
+        achievements.forEach(achievement -> metadataKeys.add(MetadataKey.of(EntityType.ACHIEVEMENT, achievement.getId())));
+        educations.forEach(education -> metadataKeys.add(MetadataKey.of(EntityType.EDUCATION, education.getId())));
+        projects.forEach(project -> metadataKeys.add(MetadataKey.of(EntityType.PROJECT, project.getId())));
+        MetadataLookup metadata = metadataResolver.resolve(metadataKeys);
+
         List<TimelineMilestoneDto> milestones = new java.util.ArrayList<>();
 
         // Add achievements to timeline
-        achievementRepository.findByPersonalIdOrderByAchievementDateDesc(personalId)
-                .forEach(achievement -> milestones.add(mapAchievementToTimeline(achievement)));
+        achievements.forEach(achievement -> milestones.add(mapAchievementToTimeline(achievement, metadata)));
 
         // Add education milestones
-        educationRepository.findByPersonalIdOrderByStartDateDesc(personalId)
-                .forEach(education -> milestones.add(mapEducationToTimeline(education)));
+        educations.forEach(education -> milestones.add(mapEducationToTimeline(education, metadata)));
 
         // Add major projects
-        projectRepository.findMajorProjectsByPersonalId(personalId)
-                .forEach(project -> milestones.add(mapProjectToTimeline(project)));
+        projects.forEach(project -> milestones.add(mapProjectToTimeline(project, metadata)));
 
         // Sort by year descending
+        // Shared between coalesced callers, so unmodifiable
         return milestones.stream()
                 .sorted((a, b) -> b.getYear().compareTo(a.getYear()))
-                .collect(Collectors.toList());
+                .toList();
     }
 
     public List<CurrentLearningDto> getCurrentLearning(Long personalId) {
         log.debug("Getting current learning for personal: {}", personalId);
 
-        return learningProgressRepository.findActiveByPersonalId(personalId)
-                .stream()
-                .map(this::mapToCurrentLearningDto)
+        List<LearningProgress> activeLearning = learningProgressRepository.findActiveByPersonalId(personalId);
+        MetadataLookup metadata = metadataResolver.resolve(EntityType.SKILL, activeLearning,
+                learning -> learning.getSkill().getId());
+
+        return activeLearning.stream()
+                .map(learning -> mapToCurrentLearningDto(learning, metadata))
                 .collect(Collectors.toList());
     }
 
     public List<FutureGoalDto> getFutureGoals(Long personalId) {
         log.debug("Getting future goals for personal: {}", personalId);
 
-        return futureGoalRepository.findByPersonalIdOrderByPriorityDesc(personalId)
-                .stream()
-                .map(this::mapToFutureGoalDto)
+        List<FutureGoal> goals = futureGoalRepository.findByPersonalIdOrderByPriorityDesc(personalId);
+        MetadataLookup metadata = metadataResolver.resolve(EntityType.SKILL, goals, FutureGoal::getId);
+
+        return goals.stream()
+                .map(goal -> mapToFutureGoalDto(goal, metadata))
                 .collect(Collectors.toList());
     }
     /**
@@ -213,8 +251,8 @@ public class PersonalService {
 
     // ===== PRIVATE MAPPING METHODS =====
 
-    private TimelineMilestoneDto mapAchievementToTimeline(Achievement achievement) {
-        EntityMetadata metadata = getEntityMetadata(EntityType.ACHIEVEMENT, achievement.getId());
+    private TimelineMilestoneDto mapAchievementToTimeline(Achievement achievement, MetadataLookup metadataLookup) {
+        EntityMetadata metadata = metadataLookup.getOrNull(EntityType.ACHIEVEMENT, achievement.getId());
 
         return TimelineMilestoneDto.builder()
                 .id(achievement.getId().toString())
@@ -230,8 +268,8 @@ public class PersonalService {
                 .build();
     }
 
-    private TimelineMilestoneDto mapEducationToTimeline(Education education) {
-        EntityMetadata metadata = getEntityMetadata(EntityType.EDUCATION, education.getId());
+    private TimelineMilestoneDto mapEducationToTimeline(Education education, MetadataLookup metadataLookup) {
+        EntityMetadata metadata = metadataLookup.getOrNull(EntityType.EDUCATION, education.getId());
 
         return TimelineMilestoneDto.builder()
                 .id(education.getId().toString())
@@ -249,8 +287,8 @@ public class PersonalService {
 
 
 
-    private TimelineMilestoneDto mapProjectToTimeline(Project project) {
-        EntityMetadata metadata = getEntityMetadata(EntityType.PROJECT, project.getId());
+    private TimelineMilestoneDto mapProjectToTimeline(Project project, MetadataLookup metadataLookup) {
+        EntityMetadata metadata = metadataLookup.getOrNull(EntityType.PROJECT, project.getId());
 
         return TimelineMilestoneDto.builder()
                 .id(project.getId().toString())
@@ -266,8 +304,8 @@ public class PersonalService {
                 .build();
     }
 
-    private CurrentLearningDto mapToCurrentLearningDto(LearningProgress learning) {
-        EntityMetadata metadata = getEntityMetadata(EntityType.SKILL, learning.getSkill().getId());
+    private CurrentLearningDto mapToCurrentLearningDto(LearningProgress learning, MetadataLookup metadataLookup) {
+        EntityMetadata metadata = metadataLookup.getOrNull(EntityType.SKILL, learning.getSkill().getId());
 
         return CurrentLearningDto.builder()
                 .id(learning.getId().toString())
@@ -283,8 +321,8 @@ public class PersonalService {
                 .build();
     }
 
-    private FutureGoalDto mapToFutureGoalDto(FutureGoal goal) {
-        EntityMetadata metadata = getEntityMetadata(EntityType.SKILL, goal.getId()); // Assuming goals can have metadata
+    private FutureGoalDto mapToFutureGoalDto(FutureGoal goal, MetadataLookup metadataLookup) {
+        EntityMetadata metadata = metadataLookup.getOrNull(EntityType.SKILL, goal.getId()); // Assuming goals can have metadata
 
         return FutureGoalDto.builder()
                 .id(goal.getId().toString())
@@ -372,11 +410,6 @@ public class PersonalService {
 
     // ===== UTILITY METHODS =====
 
-    private EntityMetadata getEntityMetadata(EntityType entityType, Long entityId) {
-        return entityMetadataRepository.findByEntityTypeAndEntityId(entityType, entityId)
-                .orElse(null);
-    }
-
     private List<String> getTechnologiesForProject(Long projectId) {
         return entityTechnologyRepository.findTechnologyNamesByProjectId(projectId);
     }
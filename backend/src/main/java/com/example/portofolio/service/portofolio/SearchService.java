@@ -0,0 +1,100 @@
+package com.example.portofolio.service.portofolio;
+
+import com.example.portofolio.dto.SearchPageDto;
+import com.example.portofolio.dto.SearchResultDto;
+import com.example.portofolio.repository.PortfolioSearchRepository;
+import com.example.portofolio.repository.PortfolioSearchRepository.SearchHit;
+import com.example.portofolio.repository.base.RepositoryUtils;
+import com.example.portofolio.service.base.ServiceUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Ranked, highlighted search across the portfolio, paged by an opaque cursor. The
+ * cursor holds the (rank, type, id) of the last hit of a page, the next page starts
+ * right after it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class SearchService {
+
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    private final PortfolioSearchRepository searchRepository;
+
+    // ===== SEARCH =====
+
+    public SearchPageDto search(Long personalId, String query, String cursor, int size) {
+        ServiceUtils.validatePersonalId(personalId);
+        RepositoryUtils.validatePageParameters(0, size);
+        if (query == null || query.isBlank()) {
+            return SearchPageDto.builder().results(List.of()).build();
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query cannot exceed " + MAX_QUERY_LENGTH + " characters");
+        }
+
+        Cursor after = cursor != null ? Cursor.decode(cursor) : Cursor.FIRST;
+        // One extra hit tells whether there is a next page
+        List<SearchHit> hits = searchRepository.search(personalId, query.trim(),
+                after.rank(), after.type(), after.id(), size + 1);
+
+        List<SearchHit> page = hits.size() > size ? hits.subList(0, size) : hits;
+        String nextCursor = hits.size() > size ? Cursor.of(page.getLast()).encode() : null;
+        log.debug("Search '{}' for personal {} returned {} hits", query, personalId, page.size());
+
+        return SearchPageDto.builder()
+                .results(page.stream().map(this::toSearchResultDto).toList())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private SearchResultDto toSearchResultDto(SearchHit hit) {
+        return SearchResultDto.builder()
+                .type(hit.getType().toLowerCase())
+                .id(hit.getId().toString())
+                .title(hit.getTitle())
+                .headline(hit.getHeadline())
+                .rank(hit.getRank())
+                .build();
+    }
+
+    // ===== CURSOR =====
+
+    /**
+     * Position after a hit. The rank travels as its exact float bits, so the keyset
+     * comparison in SQL sees the same value the hit had.
+     */
+    private record Cursor(float rank, String type, long id) {
+
+        // Sorts after every hit: ranks are finite
+        static final Cursor FIRST = new Cursor(Float.POSITIVE_INFINITY, "", 0);
+
+        static Cursor of(SearchHit hit) {
+            return new Cursor(hit.getRank(), hit.getType(), hit.getId());
+        }
+
+        String encode() {
+            String value = Integer.toHexString(Float.floatToIntBits(rank)) + ":" + type + ":" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 3);
+                return new Cursor(Float.intBitsToFloat(Integer.parseUnsignedInt(parts[0], 16)),
+                        parts[1], Long.parseLong(parts[2]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid search cursor", e);
+            }
+        }
+    }
+}
@@ -4,7 +4,10 @@ import com.example.portofolio.dto.*;
 import com.example.portofolio.entity.*;
 import com.example.portofolio.entity.enums.EntityType;
 import com.example.portofolio.entity.enums.EducationLevel;
+import com.example.portofolio.memo.RequestMemoized;
 import com.example.portofolio.repository.*;
+import com.example.portofolio.service.support.EntityMetadataResolver;
+import com.example.portofolio.service.support.MetadataLookup;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,10 +26,11 @@ public class StatisticsService {
 
     private final ProjectRepository projectRepository;
     private final EducationRepository educationRepository;
-    private final EntityMetadataRepository entityMetadataRepository;
+    private final EntityMetadataResolver metadataResolver;
 
     // ===== PROJECT STATISTICS =====
 
+    @RequestMemoized
     public ProjectStatisticsDto getProjectStatistics(Long personalId) {
         log.debug("Getting project statistics for personal: {}", personalId);
 
@@ -41,11 +45,9 @@ public class StatisticsService {
                 .collect(Collectors.groupingBy(p -> p.getStatus().toString(), Collectors.counting()));
 
         // Featured count
+        MetadataLookup metadata = metadataResolver.resolve(EntityType.PROJECT, projects, Project::getId);
         Long featuredCount = projects.stream()
-                .filter(project -> entityMetadataRepository
-                        .findByEntityTypeAndEntityId(EntityType.PROJECT, project.getId())
-                        .map(EntityMetadata::getFeatured)
-                        .orElse(false))
+                .filter(project -> metadata.isFeatured(EntityType.PROJECT, project.getId()))
                 .count();
 
         return ProjectStatisticsDto.builder()
@@ -59,6 +61,7 @@ public class StatisticsService {
 
     // ===== EDUCATION STATISTICS =====
 
+    @RequestMemoized
     public EducationStatisticsDto getEducationStatistics(Long personalId) {
         log.debug("Getting education statistics for personal: {}", personalId);
 
@@ -86,11 +89,9 @@ public class StatisticsService {
                 .collect(Collectors.groupingBy(Education::getLevel, Collectors.counting()));
 
         // Featured count
+        MetadataLookup metadata = metadataResolver.resolve(EntityType.EDUCATION, educationList, Education::getId);
         Long featuredCount = educationList.stream()
-                .filter(education -> entityMetadataRepository
-                        .findByEntityTypeAndEntityId(EntityType.EDUCATION, education.getId())
-                        .map(EntityMetadata::getFeatured)
-                        .orElse(false))
+                .filter(education -> metadata.isFeatured(EntityType.EDUCATION, education.getId()))
                 .count();
 
         return EducationStatisticsDto.builder()
@@ -3,7 +3,11 @@ package com.example.portofolio.service.portofolio;
 import com.example.portofolio.dto.*;
 import com.example.portofolio.entity.*;
 import com.example.portofolio.entity.enums.EntityType;
+import com.example.portofolio.memo.RequestMemoized;
 import com.example.portofolio.repository.*;
+import com.example.portofolio.repository.AchievementRepository.TimelineRow;
+import com.example.portofolio.service.support.EntityMetadataResolver;
+import com.example.portofolio.service.support.MetadataLookup;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,17 +23,17 @@ import java.util.stream.Collectors;
 public class TimelineService {
 
     private final AchievementRepository achievementRepository;
-    private final EntityMetadataRepository entityMetadataRepository;
+    private final EntityMetadataResolver metadataResolver;
 
 
 
     // ===== TIMELINE ITEMS =====
 
+    @RequestMemoized
     public List<TimelineItemDto> getTimelineItems(Long personalId) {
         log.debug("Getting timeline items for personal: {}", personalId);
 
-        return achievementRepository.findByPersonalId(personalId)
-                .stream()
+        return achievementRepository.findTimelineRowsByPersonalId(personalId).stream()
                 .map(this::mapAchievementToTimelineItem)
                 .sorted((a, b) -> b.getYear().compareTo(a.getYear()))
                 .collect(Collectors.toList());
@@ -37,20 +41,23 @@ public class TimelineService {
 
     // ===== TIMELINE BY CATEGORY =====
 
+    @RequestMemoized
     public List<TimelineMilestoneDto> getAchievementTimeline(Long personalId) {
         log.debug("Getting achievement timeline for personal: {}", personalId);
 
-        return achievementRepository.findByPersonalId(personalId)
-                .stream()
-                .map(this::mapAchievementToMilestone)
+        List<Achievement> achievements = achievementRepository.findByPersonalId(personalId);
+        MetadataLookup metadata = resolveMetadata(achievements);
+
+        return achievements.stream()
+                .map(achievement -> mapAchievementToMilestone(achievement, metadata))
                 .sorted((a, b) -> b.getYear().compareTo(a.getYear()))
                 .collect(Collectors.toList());
     }
 
     // ===== MAPPING METHODS =====
 
-    private TimelineMilestoneDto mapAchievementToMilestone(Achievement achievement) {
-        EntityMetadata metadata = getEntityMetadata(achievement.getId());
+    private TimelineMilestoneDto mapAchievementToMilestone(Achievement achievement, MetadataLookup metadataLookup) {
+        EntityMetadata metadata = metadataLookup.getOrNull(EntityType.ACHIEVEMENT, achievement.getId());
 
         return TimelineMilestoneDto.builder()
                 .id(achievement.getId().toString())
@@ -67,30 +74,26 @@ public class TimelineService {
                 .build();
     }
 
-    private TimelineItemDto mapAchievementToTimelineItem(Achievement achievement) {
-        EntityMetadata metadata = getEntityMetadata(achievement.getId());
-
+    private TimelineItemDto mapAchievementToTimelineItem(TimelineRow achievement) {
         return TimelineItemDto.builder()
-                .id(achievement.getId().toString())
-                .year(String.valueOf(achievement.getAchievementDate().getYear()))
-                .title(achievement.getTitle())
-                .subtitle(achievement.getAchievementType().toString())
-                .description(achievement.getDescription())
+                .id(achievement.id().toString())
+                .year(String.valueOf(achievement.achievementDate().getYear()))
+                .title(achievement.title())
+                .subtitle(achievement.achievementType().toString())
+                .description(achievement.description())
                 .type("achievement")
                 .current(false)
-                .link(achievement.getCertificateUrl())
-                .icon(metadata != null && metadata.getIcon() != null ?
-                        metadata.getIcon().getName() : "Award")
-                .primaryColor(metadata != null ? metadata.getPrimaryColor() : "#3B82F6")
-                .secondaryColor(metadata != null ? metadata.getSecondaryColor() : "#1E40AF")
+                .link(achievement.certificateUrl())
+                .icon(achievement.iconName() != null ? achievement.iconName() : "Award")
+                .primaryColor(achievement.primaryColor() != null ? achievement.primaryColor() : "#3B82F6")
+                .secondaryColor(achievement.secondaryColor() != null ? achievement.secondaryColor() : "#1E40AF")
                 .build();
     }
 
     // ===== UTILITY METHODS =====
 
-    private EntityMetadata getEntityMetadata(Long entityId) {
-        return entityMetadataRepository.findByEntityTypeAndEntityId(EntityType.ACHIEVEMENT, entityId)
-                .orElse(null);
+    private MetadataLookup resolveMetadata(List<Achievement> achievements) {
+        return metadataResolver.resolve(EntityType.ACHIEVEMENT, achievements, Achievement::getId);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.example.portofolio.service.support;
+
+import com.example.portofolio.entity.Achievement;
+import com.example.portofolio.entity.enums.EntityType;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A personal's achievements grouped by the entity they belong to, with their metadata.
+ * Produced by {@link AchievementIndexResolver}; owners without achievements resolve to an empty list.
+ */
+public final class AchievementIndex {
+
+    private static final AchievementIndex EMPTY = new AchievementIndex(Map.of(), MetadataLookup.empty());
+
+    private final Map<MetadataKey, List<Achievement>> achievementsByOwner;
+    private final MetadataLookup metadata;
+
+    AchievementIndex(Map<MetadataKey, List<Achievement>> achievementsByOwner, MetadataLookup metadata) {
+        this.achievementsByOwner = Map.copyOf(achievementsByOwner);
+        this.metadata = metadata;
+    }
+
+    public static AchievementIndex empty() {
+        return EMPTY;
+    }
+
+    public List<Achievement> forOwner(EntityType entityType, Long entityId) {
+        if (entityType == null || entityId == null) {
+            return List.of();
+        }
+        return achievementsByOwner.getOrDefault(MetadataKey.of(entityType, entityId), List.of());
+    }
+
+    /**
+     * Metadata of the indexed achievements
+     */
+    public MetadataLookup metadata() {
+        return metadata;
+    }
+}
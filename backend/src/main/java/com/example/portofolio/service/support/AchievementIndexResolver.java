@@ -0,0 +1,54 @@
+package com.example.portofolio.service.support;
+
+import com.example.portofolio.entity.Achievement;
+import com.example.portofolio.entity.enums.EntityType;
+import com.example.portofolio.repository.AchievementRepository;
+import com.example.portofolio.service.base.ServiceUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads a personal's achievements and their metadata in two queries and indexes them
+ * by owning entity, replacing the per-owner achievement lookups in the list mappers.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class AchievementIndexResolver {
+
+    private final AchievementRepository achievementRepository;
+    private final EntityMetadataResolver metadataResolver;
+
+    public AchievementIndex resolveForPersonal(Long personalId) {
+        ServiceUtils.validatePersonalId(personalId);
+
+        List<Achievement> achievements = achievementRepository.findByPersonalIdOrderByAchievementDateDesc(personalId);
+        if (achievements.isEmpty()) {
+            return AchievementIndex.empty();
+        }
+
+        Map<MetadataKey, List<Achievement>> achievementsByOwner = new HashMap<>();
+        for (Achievement achievement : achievements) {
+            if (achievement.getEntityType() != null && achievement.getEntityId() != null) {
+                achievementsByOwner
+                        .computeIfAbsent(MetadataKey.of(achievement.getEntityType(), achievement.getEntityId()),
+                                key -> new ArrayList<>())
+                        .add(achievement);
+            }
+        }
+
+        MetadataLookup metadata = metadataResolver.resolve(EntityType.ACHIEVEMENT, achievements, Achievement::getId);
+
+        log.debug("Indexed {} achievements of {} owners for personalId: {}",
+                achievements.size(), achievementsByOwner.size(), personalId);
+        return new AchievementIndex(achievementsByOwner, metadata);
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.portofolio.service.support;
+
+import com.example.portofolio.entity.Certificate;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Precompiled answer to "does the personal hold a certificate for this technology?".
+ * A technology counts as certified when a verified certificate mentions it in its
+ * name or description, or when the certificate provider is known for it.
+ * The certificate corpus is scanned once at build time; lookups are set probes.
+ */
+public final class CertificateMatchingIndex {
+
+    // ===== KNOWN TECHNOLOGY PROVIDERS =====
+
+    static final Map<String, List<String>> KNOWN_TECHNOLOGY_PROVIDERS = knownTechnologyProviders();
+
+    // Finds which technology keys a technology name contains
+    private static final KeywordAutomaton TECHNOLOGY_KEYS = KeywordAutomaton.of(KNOWN_TECHNOLOGY_PROVIDERS.keySet());
+
+    // Finds which known providers a certificate provider contains
+    private static final KeywordAutomaton PROVIDER_VOCABULARY = KeywordAutomaton.of(
+            KNOWN_TECHNOLOGY_PROVIDERS.values().stream()
+                    .flatMap(List::stream)
+                    .toList());
+
+    private final Object version;
+    private final Set<String> certifiedTechnologies;
+
+    private CertificateMatchingIndex(Object version, Set<String> certifiedTechnologies) {
+        this.version = version;
+        this.certifiedTechnologies = Set.copyOf(certifiedTechnologies);
+    }
+
+    /**
+     * Builds the index for a technology vocabulary against a certificate corpus
+     *
+     * @param version         opaque stamp of the data the index was built from
+     * @param technologyNames every technology name that may be looked up
+     * @param certificates    the verified certificates of the personal
+     */
+    public static CertificateMatchingIndex build(Object version,
+                                                 Collection<String> technologyNames,
+                                                 Collection<Certificate> certificates) {
+        Set<String> normalizedNames = new HashSet<>();
+        for (String name : technologyNames) {
+            if (name != null) {
+                normalizedNames.add(normalize(name));
+            }
+        }
+
+        if (certificates.isEmpty()) {
+            return new CertificateMatchingIndex(version, Set.of());
+        }
+
+        KeywordAutomaton technologyNameAutomaton = KeywordAutomaton.of(normalizedNames);
+        Set<String> certified = new HashSet<>();
+        Set<String> matchedProviders = new HashSet<>();
+
+        // Single pass over the certificate corpus
+        for (Certificate certificate : certificates) {
+            technologyNameAutomaton.forEachMatch(normalize(certificate.getName()), certified::add);
+            technologyNameAutomaton.forEachMatch(normalize(certificate.getDescription()), certified::add);
+            PROVIDER_VOCABULARY.forEachMatch(normalize(certificate.getProvider()), matchedProviders::add);
+        }
+
+        Set<String> backedKeys = new HashSet<>();
+        KNOWN_TECHNOLOGY_PROVIDERS.forEach((key, providers) -> {
+            if (providers.stream().anyMatch(matchedProviders::contains)) {
+                backedKeys.add(key);
+            }
+        });
+
+        for (String name : normalizedNames) {
+            // An empty name is contained in every certificate name
+            if (name.isEmpty() || TECHNOLOGY_KEYS.findAll(name).stream().anyMatch(backedKeys::contains)) {
+                certified.add(name);
+            }
+        }
+
+        return new CertificateMatchingIndex(version, certified);
+    }
+
+    public static CertificateMatchingIndex empty(Object version) {
+        return new CertificateMatchingIndex(version, Set.of());
+    }
+
+    public boolean isCertified(String technologyName) {
+        return technologyName != null && certifiedTechnologies.contains(normalize(technologyName));
+    }
+
+    public Object version() {
+        return version;
+    }
+
+    public int certifiedCount() {
+        return certifiedTechnologies.size();
+    }
+
+    private static String normalize(String text) {
+        return text != null ? text.toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static Map<String, List<String>> knownTechnologyProviders() {
+        Map<String, List<String>> techProviders = new LinkedHashMap<>();
+
+        // Programming Languages & Frameworks
+        techProviders.put("java", List.of("oracle", "sun", "redhat", "ibm"));
+        techProviders.put("python", List.of("python", "psf", "jetbrains"));
+        techProviders.put("javascript", List.of("mozilla", "ecma"));
+        techProviders.put("typescript", List.of("microsoft"));
+        techProviders.put("node", List.of("nodejs", "node"));
+        techProviders.put("react", List.of("meta", "facebook"));
+        techProviders.put("angular", List.of("google"));
+        techProviders.put("vue", List.of("vue"));
+        techProviders.put("spring", List.of("pivotal", "vmware", "spring"));
+
+        // Cloud & Infrastructure
+        techProviders.put("aws", List.of("amazon", "aws"));
+        techProviders.put("microsoft", List.of("microsoft", "azure", "office"));
+        techProviders.put("google", List.of("google", "gcp"));
+        techProviders.put("docker", List.of("docker", "mirantis"));
+        techProviders.put("kubernetes", List.of("cncf", "kubernetes", "redhat"));
+        techProviders.put("terraform", List.of("hashicorp"));
+        techProviders.put("ansible", List.of("redhat"));
+        techProviders.put("puppet", List.of("puppet"));
+        techProviders.put("chef", List.of("chef"));
+
+        // Databases
+        techProviders.put("mongodb", List.of("mongodb", "mongo"));
+        techProviders.put("postgresql", List.of("postgresql", "postgres"));
+        techProviders.put("mysql", List.of("mysql", "oracle"));
+        techProviders.put("redis", List.of("redis", "redislabs"));
+        techProviders.put("elasticsearch", List.of("elastic"));
+
+        // DevOps & Tools
+        techProviders.put("jenkins", List.of("cloudbees", "jenkins"));
+        techProviders.put("git", List.of("git", "github", "gitlab", "atlassian"));
+        techProviders.put("jira", List.of("atlassian"));
+        techProviders.put("confluence", List.of("atlassian"));
+
+        // Business Applications
+        techProviders.put("salesforce", List.of("salesforce"));
+        techProviders.put("tableau", List.of("tableau"));
+        techProviders.put("powerbi", List.of("microsoft"));
+
+        // Methodologies & Certifications
+        techProviders.put("scrum", List.of("scrum", "scrumalliance", "scrum.org"));
+        techProviders.put("agile", List.of("scaled", "safe", "agile"));
+        techProviders.put("pmp", List.of("pmi", "project management institute"));
+        techProviders.put("itil", List.of("axelos", "itil"));
+
+        // Hardware & Networking
+        techProviders.put("cisco", List.of("cisco"));
+        techProviders.put("comptia", List.of("comptia"));
+
+        // Operating Systems
+        techProviders.put("linux", List.of("redhat", "suse", "canonical", "lpi"));
+        techProviders.put("ubuntu", List.of("canonical"));
+        techProviders.put("centos", List.of("redhat"));
+
+        return Collections.unmodifiableMap(techProviders);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.portofolio.service.support;
+
+import com.example.portofolio.entity.Certificate;
+import com.example.portofolio.repository.CertificateRepository;
+import com.example.portofolio.repository.TechnologyRepository;
+import com.example.portofolio.service.base.ServiceUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps one CertificateMatchingIndex per personal and rebuilds it only when the
+ * verified certificates or the technology catalogue change.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class CertificateTechnologyMatcher {
+
+    private final CertificateRepository certificateRepository;
+    private final TechnologyRepository technologyRepository;
+
+    private final Map<Long, CertificateMatchingIndex> indexByPersonal = new ConcurrentHashMap<>();
+
+    public CertificateMatchingIndex indexFor(Long personalId) {
+        ServiceUtils.validatePersonalId(personalId);
+
+        DataVersion version = new DataVersion(
+                certificateRepository.findVerifiedVersionStamp(personalId),
+                technologyRepository.findVersionStamp());
+
+        CertificateMatchingIndex current = indexByPersonal.get(personalId);
+        if (current != null && current.version().equals(version)) {
+            return current;
+        }
+
+        long start = System.nanoTime();
+        List<Certificate> certificates = certificateRepository.findByPersonalIdAndVerifiedTrue(personalId);
+        CertificateMatchingIndex rebuilt = CertificateMatchingIndex.build(
+                version, technologyRepository.findAllNames(), certificates);
+        indexByPersonal.put(personalId, rebuilt);
+
+        log.debug("Rebuilt certificate matching index for personalId: {} ({} certificates, {} certified technologies) in {} µs",
+                personalId, certificates.size(), rebuilt.certifiedCount(), (System.nanoTime() - start) / 1_000);
+        return rebuilt;
+    }
+
+    /**
+     * Row count and last modification of both inputs; any insert, update or delete changes it
+     */
+    private record DataVersion(String certificates, String technologies) {
+
+        DataVersion(List<Object[]> certificateStamp, List<Object[]> technologyStamp) {
+            this(stamp(certificateStamp), stamp(technologyStamp));
+        }
+
+        private static String stamp(List<Object[]> rows) {
+            if (rows.isEmpty()) {
+                return "";
+            }
+            Object[] row = rows.getFirst();
+            return row[0] + "@" + row[1];
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.portofolio.service.support;
+
+import com.example.portofolio.entity.EntityMetadata;
+import com.example.portofolio.entity.enums.EntityType;
+import com.example.portofolio.repository.EntityMetadataRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Resolves EntityMetadata (with its icon) for whole lists of entities at once.
+ * One IN-query per call replaces the per-row findByEntityTypeAndEntityId lookups.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class EntityMetadataResolver {
+
+    private final EntityMetadataRepository entityMetadataRepository;
+
+    // ===== RESOLUTION =====
+
+    public MetadataLookup resolve(Collection<MetadataKey> keys) {
+        Set<MetadataKey> requested = new HashSet<>();
+        Set<EntityType> entityTypes = EnumSet.noneOf(EntityType.class);
+        Set<Long> entityIds = new HashSet<>();
+
+        for (MetadataKey key : keys) {
+            if (key == null || key.entityType() == null || key.entityId() == null) {
+                continue;
+            }
+            requested.add(key);
+            entityTypes.add(key.entityType());
+            entityIds.add(key.entityId());
+        }
+
+        if (requested.isEmpty()) {
+            return MetadataLookup.empty();
+        }
+
+        // Types and ids are matched independently, so drop cross-product rows nobody asked for
+        Map<MetadataKey, EntityMetadata> metadataByKey = new HashMap<>();
+        for (EntityMetadata metadata : entityMetadataRepository
+                .findByEntityTypesAndEntityIdsWithIcon(entityTypes, entityIds)) {
+            MetadataKey key = MetadataKey.of(metadata.getEntityType(), metadata.getEntityId());
+            if (requested.contains(key)) {
+                metadataByKey.put(key, metadata);
+            }
+        }
+
+        log.debug("Resolved {} metadata rows for {} requested entities", metadataByKey.size(), requested.size());
+        return new MetadataLookup(metadataByKey);
+    }
+
+    public MetadataLookup resolve(EntityType entityType, Collection<Long> entityIds) {
+        return resolve(entityIds.stream()
+                .filter(Objects::nonNull)
+                .map(id -> MetadataKey.of(entityType, id))
+                .toList());
+    }
+
+    public <T> MetadataLookup resolve(EntityType entityType, Collection<T> entities, Function<T, Long> idExtractor) {
+        return resolve(entityType, entities.stream()
+                .map(idExtractor)
+                .toList());
+    }
+}
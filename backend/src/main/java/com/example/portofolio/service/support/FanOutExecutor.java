@@ -0,0 +1,78 @@
+package com.example.portofolio.service.support;
+
+import com.example.portofolio.cache.ReadSetTracker;
+import com.example.portofolio.memo.MemoScopes;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs the independent queries of a composite read concurrently on virtual threads.
+ * A shared semaphore caps the subtasks in flight across all callers, so fan-out never
+ * takes more than its share of the connection pool.
+ */
+@Component
+@Slf4j
+public class FanOutExecutor {
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("fan-out-", 0).factory());
+    private final Semaphore permits;
+    private final Duration subtaskTimeout;
+    private final ReadSetTracker readSetTracker;
+    private final MemoScopes memoScopes;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Autowired
+    public FanOutExecutor(DataSource dataSource,
+                          PlatformTransactionManager transactionManager,
+                          ReadSetTracker readSetTracker,
+                          MemoScopes memoScopes,
+                          @Value("${portfolio.fan-out.max-concurrency:0}") int maxConcurrency,
+                          @Value("${portfolio.fan-out.subtask-timeout:5s}") Duration subtaskTimeout) {
+        int limit = maxConcurrency > 0 ? maxConcurrency : defaultConcurrency(dataSource);
+        this.permits = new Semaphore(limit, true);
+        this.subtaskTimeout = subtaskTimeout;
+        this.readSetTracker = readSetTracker;
+        this.memoScopes = memoScopes;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        log.info("Fan-out executor limited to {} concurrent subtasks, timeout {}", limit, subtaskTimeout);
+    }
+
+    /**
+     * Opens a scope with the default per-subtask timeout; close it to cancel leftovers
+     *
+     * @throws IllegalStateException when called from a subtask, see {@link FanOutScope}
+     */
+    public FanOutScope open() {
+        if (FanOutScope.inSubtask()) {
+            throw new IllegalStateException("Fan-out subtasks cannot open nested scopes");
+        }
+        return new FanOutScope(executor, permits, subtaskTimeout, readSetTracker, memoScopes, readOnlyTransaction);
+    }
+
+    // Half the pool, leaving the rest for callers and plain single-query endpoints
+    private static int defaultConcurrency(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return Math.max(1, hikari.getMaximumPoolSize() / 2);
+        }
+        return 4;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
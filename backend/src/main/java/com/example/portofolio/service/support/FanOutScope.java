@@ -0,0 +1,201 @@
+package com.example.portofolio.service.support;
+
+import com.example.portofolio.cache.ReadSetTracker;
+import com.example.portofolio.memo.MemoScopes;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Structured fan-out: subtasks forked here never outlive the scope. The first failure
+ * or timeout cancels the remaining subtasks and is rethrown by {@link #join()}.
+ * Subtasks run outside the caller's transaction, each in a read-only transaction of
+ * its own. A subtask holds a permit while it runs, so it can neither open a scope nor
+ * fork into one: once every permit is held by a subtask waiting on nested ones, none
+ * could start.
+ * They share the caller's memo scope, and their reads count towards the read set of
+ * the cached method that forked them.
+ * <p>
+ * A subtask's timeout starts once it holds its permit; time spent queuing for one
+ * does not count against it.
+ */
+public class FanOutScope implements AutoCloseable {
+
+    private static final ThreadLocal<Boolean> IN_SUBTASK = new ThreadLocal<>();
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final Duration defaultTimeout;
+    private final ReadSetTracker readSetTracker;
+    private final MemoScopes memoScopes;
+    private final TransactionTemplate readOnlyTransaction;
+    private final List<Subtask<?>> subtasks = new CopyOnWriteArrayList<>();
+
+    FanOutScope(ExecutorService executor, Semaphore permits, Duration defaultTimeout,
+                ReadSetTracker readSetTracker, MemoScopes memoScopes, TransactionTemplate readOnlyTransaction) {
+        this.executor = executor;
+        this.permits = permits;
+        this.defaultTimeout = defaultTimeout;
+        this.readSetTracker = readSetTracker;
+        this.memoScopes = memoScopes;
+        this.readOnlyTransaction = readOnlyTransaction;
+    }
+
+    // ===== FORK / JOIN =====
+
+    public <T> Subtask<T> fork(String name, Callable<T> task) {
+        return fork(name, task, defaultTimeout);
+    }
+
+    /**
+     * @throws IllegalStateException when called from a subtask
+     */
+    public <T> Subtask<T> fork(String name, Callable<T> task, Duration timeout) {
+        if (inSubtask()) {
+            throw new IllegalStateException("Fan-out subtasks cannot fork further subtasks");
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Callable<T> tracked = memoScopes.propagate(readSetTracker.propagate(task));
+        Future<?> running = executor.submit(() -> {
+            try {
+                permits.acquire();
+                IN_SUBTASK.set(Boolean.TRUE);
+                try {
+                    result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+                    result.complete(readOnlyTransaction.execute(status -> call(tracked)));
+                } finally {
+                    IN_SUBTASK.remove();
+                    permits.release();
+                }
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        Subtask<T> subtask = new Subtask<>(name, result, running);
+        result.whenComplete((value, error) -> {
+            if (error != null) {
+                running.cancel(true);
+                cancelAll();
+            }
+        });
+        subtasks.add(subtask);
+        return subtask;
+    }
+
+    /**
+     * Waits for every subtask; throws the first failure once the others are cancelled
+     */
+    public void join() {
+        try {
+            CompletableFuture.allOf(subtasks.stream()
+                            .map(subtask -> subtask.result)
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        } catch (CompletionException | CancellationException e) {
+            // Report the subtask that failed first rather than one cancelled because of it
+            subtasks.stream()
+                    .filter(subtask -> subtask.failure() != null && !(subtask.failure() instanceof CancellationException))
+                    .findFirst()
+                    .ifPresent(subtask -> {
+                        throw subtask.asException();
+                    });
+            throw new IllegalStateException("Fan-out cancelled", e);
+        }
+    }
+
+    /**
+     * Whether the current thread runs a subtask, which must not open a scope or fork
+     */
+    static boolean inSubtask() {
+        return IN_SUBTASK.get() != null;
+    }
+
+    // Checked exceptions leave the transaction callback wrapped, and are unwrapped by Subtask
+    private static <T> T call(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+    }
+
+    private void cancelAll() {
+        subtasks.forEach(Subtask::cancel);
+    }
+
+    // ===== SUBTASK =====
+
+    public static final class Subtask<T> {
+
+        private final String name;
+        private final CompletableFuture<T> result;
+        private final Future<?> running;
+
+        private Subtask(String name, CompletableFuture<T> result, Future<?> running) {
+            this.name = name;
+            this.result = result;
+            this.running = running;
+        }
+
+        /**
+         * Result of a subtask, available once {@link FanOutScope#join()} returned
+         */
+        public T get() {
+            if (!result.isDone() || result.isCompletedExceptionally()) {
+                throw new IllegalStateException("Subtask '" + name + "' has no result");
+            }
+            return result.join();
+        }
+
+        private void cancel() {
+            if (!result.isDone()) {
+                result.cancel(true);
+                running.cancel(true);
+            }
+        }
+
+        private Throwable failure() {
+            if (!result.isCompletedExceptionally()) {
+                return null;
+            }
+            try {
+                result.join();
+                return null;
+            } catch (CompletionException e) {
+                return e.getCause();
+            } catch (CancellationException e) {
+                return e;
+            }
+        }
+
+        private RuntimeException asException() {
+            Throwable failure = failure();
+            if (failure instanceof TimeoutException) {
+                return new IllegalStateException("Subtask '" + name + "' timed out", failure);
+            }
+            if (failure instanceof RuntimeException runtimeException) {
+                return runtimeException;
+            }
+            return new IllegalStateException("Subtask '" + name + "' failed", failure);
+        }
+    }
+}
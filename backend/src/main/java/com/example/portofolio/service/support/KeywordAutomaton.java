@@ -0,0 +1,149 @@
+package com.example.portofolio.service.support;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Aho-Corasick automaton over a fixed keyword set.
+ * Finds every keyword occurring in a text in a single left-to-right pass,
+ * which is equivalent to calling {@code text.contains(keyword)} for each keyword.
+ * Keywords and texts are compared as given, callers normalize case.
+ */
+public final class KeywordAutomaton {
+
+    private final Node root = new Node();
+    private final List<String> keywords;
+
+    private KeywordAutomaton(Collection<String> keywords) {
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            if (keyword != null && !keyword.isEmpty()) {
+                distinct.add(keyword);
+            }
+        }
+        this.keywords = List.copyOf(distinct);
+
+        for (int i = 0; i < this.keywords.size(); i++) {
+            insert(this.keywords.get(i), i);
+        }
+        linkFailures();
+    }
+
+    public static KeywordAutomaton of(Collection<String> keywords) {
+        return new KeywordAutomaton(keywords);
+    }
+
+    public List<String> keywords() {
+        return keywords;
+    }
+
+    /**
+     * Reports each distinct keyword found in the text, in order of first occurrence
+     */
+    public void forEachMatch(CharSequence text, Consumer<String> consumer) {
+        if (text == null || keywords.isEmpty()) {
+            return;
+        }
+
+        boolean[] reported = new boolean[keywords.size()];
+        Node state = root;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, text.charAt(i));
+            for (int keywordIndex : state.outputs) {
+                if (!reported[keywordIndex]) {
+                    reported[keywordIndex] = true;
+                    consumer.accept(keywords.get(keywordIndex));
+                }
+            }
+        }
+    }
+
+    public Set<String> findAll(CharSequence text) {
+        Set<String> matches = new LinkedHashSet<>();
+        forEachMatch(text, matches::add);
+        return matches;
+    }
+
+    public boolean matchesAny(CharSequence text) {
+        if (text == null || keywords.isEmpty()) {
+            return false;
+        }
+
+        Node state = root;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, text.charAt(i));
+            if (state.outputs.length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ===== CONSTRUCTION =====
+
+    private void insert(String keyword, int keywordIndex) {
+        Node node = root;
+        for (int i = 0; i < keyword.length(); i++) {
+            node = node.children.computeIfAbsent(keyword.charAt(i), c -> new Node());
+        }
+        node.outputs = new int[]{keywordIndex};
+    }
+
+    private void linkFailures() {
+        Queue<Node> queue = new ArrayDeque<>();
+        for (Node child : root.children.values()) {
+            child.failure = root;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (Map.Entry<Character, Node> edge : node.children.entrySet()) {
+                Node child = edge.getValue();
+                Node fallback = node.failure;
+                while (fallback != root && !fallback.children.containsKey(edge.getKey())) {
+                    fallback = fallback.failure;
+                }
+                Node target = fallback.children.get(edge.getKey());
+                child.failure = target != null && target != child ? target : root;
+                child.outputs = merge(child.outputs, child.failure.outputs);
+                queue.add(child);
+            }
+        }
+    }
+
+    private Node step(Node state, char c) {
+        while (state != root && !state.children.containsKey(c)) {
+            state = state.failure;
+        }
+        Node next = state.children.get(c);
+        return next != null ? next : root;
+    }
+
+    private static int[] merge(int[] own, int[] inherited) {
+        if (inherited.length == 0) {
+            return own;
+        }
+        if (own.length == 0) {
+            return inherited;
+        }
+        List<Integer> merged = new ArrayList<>(own.length + inherited.length);
+        for (int index : own) merged.add(index);
+        for (int index : inherited) merged.add(index);
+        return merged.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Node failure;
+        private int[] outputs = new int[0];
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.portofolio.service.support;
+
+import com.example.portofolio.entity.enums.EntityType;
+
+/**
+ * Identifies the metadata row of a single entity
+ */
+public record MetadataKey(EntityType entityType, Long entityId) {
+
+    public static MetadataKey of(EntityType entityType, Long entityId) {
+        return new MetadataKey(entityType, entityId);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.portofolio.service.support;
+
+import com.example.portofolio.entity.EntityMetadata;
+import com.example.portofolio.entity.enums.EntityType;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable metadata map produced by {@link EntityMetadataResolver}.
+ * Entities without a metadata row simply resolve to {@link Optional#empty()}.
+ */
+public final class MetadataLookup {
+
+    private static final MetadataLookup EMPTY = new MetadataLookup(Map.of());
+
+    private final Map<MetadataKey, EntityMetadata> metadataByKey;
+
+    MetadataLookup(Map<MetadataKey, EntityMetadata> metadataByKey) {
+        this.metadataByKey = Map.copyOf(metadataByKey);
+    }
+
+    public static MetadataLookup empty() {
+        return EMPTY;
+    }
+
+    public Optional<EntityMetadata> find(EntityType entityType, Long entityId) {
+        if (entityType == null || entityId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(metadataByKey.get(MetadataKey.of(entityType, entityId)));
+    }
+
+    public EntityMetadata getOrNull(EntityType entityType, Long entityId) {
+        return find(entityType, entityId).orElse(null);
+    }
+
+    public boolean isFeatured(EntityType entityType, Long entityId) {
+        return find(entityType, entityId)
+                .map(EntityMetadata::getFeatured)
+                .orElse(false);
+    }
+
+    public int size() {
+        return metadataByKey.size();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.portofolio.service.support;
+
+import com.example.portofolio.entity.Project;
+import com.example.portofolio.entity.ProjectChallenge;
+import com.example.portofolio.entity.ProjectFeature;
+import com.example.portofolio.entity.ProjectImage;
+import com.example.portofolio.entity.ProjectMetrics;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Projects together with every association their DTOs need, loaded in batch.
+ * Mappers read associations from here instead of the lazy collections on Project.
+ */
+public final class ProjectGraph {
+
+    private final List<Project> projects;
+    private final MetadataLookup metadata;
+    private final Map<Long, List<String>> technologyNames;
+    private final Map<Long, List<ProjectImage>> images;
+    private final Map<Long, List<ProjectFeature>> features;
+    private final Map<Long, List<ProjectChallenge>> challenges;
+
+    ProjectGraph(List<Project> projects,
+                 MetadataLookup metadata,
+                 Map<Long, List<String>> technologyNames,
+                 Map<Long, List<ProjectImage>> images,
+                 Map<Long, List<ProjectFeature>> features,
+                 Map<Long, List<ProjectChallenge>> challenges) {
+        this.projects = List.copyOf(projects);
+        this.metadata = metadata;
+        this.technologyNames = Map.copyOf(technologyNames);
+        this.images = Map.copyOf(images);
+        this.features = Map.copyOf(features);
+        this.challenges = Map.copyOf(challenges);
+    }
+
+    public static ProjectGraph empty() {
+        return new ProjectGraph(List.of(), MetadataLookup.empty(), Map.of(), Map.of(), Map.of(), Map.of());
+    }
+
+    public List<Project> projects() {
+        return projects;
+    }
+
+    public MetadataLookup metadata() {
+        return metadata;
+    }
+
+    public List<String> technologyNames(Long projectId) {
+        return technologyNames.getOrDefault(projectId, List.of());
+    }
+
+    /**
+     * Images ordered by sort order
+     */
+    public List<ProjectImage> images(Long projectId) {
+        return images.getOrDefault(projectId, List.of());
+    }
+
+    public List<ProjectFeature> features(Long projectId) {
+        return features.getOrDefault(projectId, List.of());
+    }
+
+    public List<ProjectChallenge> challenges(Long projectId) {
+        return challenges.getOrDefault(projectId, List.of());
+    }
+
+    /**
+     * Metrics are fetched together with the project rows
+     */
+    public ProjectMetrics metrics(Project project) {
+        return project.getMetrics();
+    }
+}
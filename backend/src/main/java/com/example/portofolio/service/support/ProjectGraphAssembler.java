@@ -0,0 +1,127 @@
+package com.example.portofolio.service.support;
+
+import com.example.portofolio.entity.Project;
+import com.example.portofolio.entity.ProjectChallenge;
+import com.example.portofolio.entity.ProjectFeature;
+import com.example.portofolio.entity.ProjectImage;
+import com.example.portofolio.entity.enums.EntityType;
+import com.example.portofolio.repository.EntityTechnologyRepository;
+import com.example.portofolio.repository.ProjectChallengeRepository;
+import com.example.portofolio.repository.ProjectFeatureRepository;
+import com.example.portofolio.repository.ProjectImageRepository;
+import com.example.portofolio.repository.ProjectImageRepository.ImageUrlRow;
+import com.example.portofolio.repository.ProjectRepository;
+import com.example.portofolio.service.base.ServiceUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Loads projects and their DTO associations with a fixed number of queries:
+ * projects with metrics, metadata, technology names, images, features and challenges,
+ * each association batched by project id regardless of how many projects there are.
+ * Project cards only need technology names and one image URL, which are loaded on
+ * their own without any entity.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ProjectGraphAssembler {
+
+    private final ProjectRepository projectRepository;
+    private final EntityMetadataResolver metadataResolver;
+    private final EntityTechnologyRepository entityTechnologyRepository;
+    private final ProjectImageRepository projectImageRepository;
+    private final ProjectFeatureRepository projectFeatureRepository;
+    private final ProjectChallengeRepository projectChallengeRepository;
+
+    public ProjectGraph assembleForPersonal(Long personalId) {
+        ServiceUtils.validatePersonalId(personalId);
+        return assemble(projectRepository.findByPersonalIdWithMetrics(personalId));
+    }
+
+    /**
+     * Builds the graph for already loaded projects; load them with their metrics fetched
+     * to keep the one-to-one from adding a query per project
+     */
+    public ProjectGraph assemble(Collection<Project> projects) {
+        List<Project> ordered = projects.stream()
+                .filter(Objects::nonNull)
+                .toList();
+        if (ordered.isEmpty()) {
+            return ProjectGraph.empty();
+        }
+
+        List<Long> projectIds = ordered.stream()
+                .map(Project::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        MetadataLookup metadata = metadataResolver.resolve(EntityType.PROJECT, projectIds);
+
+        ProjectGraph graph = new ProjectGraph(ordered, metadata,
+                technologyNames(projectIds),
+                groupByProject(projectImageRepository.findByProjectIdIn(projectIds), ProjectImage::getProject),
+                groupByProject(projectFeatureRepository.findByProjectIdIn(projectIds), ProjectFeature::getProject),
+                groupByProject(projectChallengeRepository.findByProjectIdIn(projectIds), ProjectChallenge::getProject));
+
+        log.debug("Assembled project graph for {} projects", ordered.size());
+        return graph;
+    }
+
+    // ===== CARD ASSOCIATIONS =====
+
+    /**
+     * Technology names of each project, in link order
+     */
+    public Map<Long, List<String>> technologyNames(Collection<Long> projectIds) {
+        Map<Long, List<String>> technologyNames = new HashMap<>();
+        if (projectIds.isEmpty()) {
+            return technologyNames;
+        }
+        for (Object[] row : entityTechnologyRepository.findTechnologyNamesByProjectIds(projectIds)) {
+            technologyNames.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return technologyNames;
+    }
+
+    /**
+     * The image each project card shows: its primary image, else its first by sort order.
+     * Only the URLs are read, no image entity is loaded.
+     */
+    public Map<Long, String> primaryImageUrls(Collection<Long> projectIds) {
+        Map<Long, String> imageUrls = new HashMap<>();
+        if (projectIds.isEmpty()) {
+            return imageUrls;
+        }
+        Map<Long, String> primaryUrls = new HashMap<>();
+        for (ImageUrlRow row : projectImageRepository.findImageUrlsByProjectIds(projectIds)) {
+            imageUrls.putIfAbsent(row.projectId(), row.imageUrl());
+            if (Boolean.TRUE.equals(row.primary())) {
+                primaryUrls.putIfAbsent(row.projectId(), row.imageUrl());
+            }
+        }
+        imageUrls.putAll(primaryUrls);
+        return imageUrls;
+    }
+
+    // Project is a lazy proxy here, reading its id does not initialize it
+    private static <T> Map<Long, List<T>> groupByProject(List<T> rows, Function<T, Project> projectOf) {
+        Map<Long, List<T>> grouped = new HashMap<>();
+        for (T row : rows) {
+            grouped.computeIfAbsent(projectOf.apply(row).getId(), id -> new ArrayList<>()).add(row);
+        }
+        return grouped;
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.portofolio.service.support;
+
+import com.example.portofolio.entity.LearningProgress;
+import com.example.portofolio.entity.Skill;
+import com.example.portofolio.entity.Technology;
+import com.example.portofolio.entity.enums.LearningStatus;
+import com.example.portofolio.repository.LearningProgressRepository;
+import com.example.portofolio.service.base.ServiceUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves which technologies the personal is currently learning.
+ * A technology is being learned when its name appears in the name or description
+ * of a skill with unfinished IN_PROGRESS learning progress.
+ * Progress rows are loaded once and the matching skills are indexed by token suffix.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class TechnologyLearningResolver {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{Alnum}]+");
+
+    private final LearningProgressRepository learningProgressRepository;
+
+    /**
+     * @return ids of the given technologies that are currently being learned
+     */
+    public Set<Long> resolveLearningTechnologyIds(Long personalId, Collection<Technology> technologies) {
+        ServiceUtils.validatePersonalId(personalId);
+
+        if (technologies.isEmpty()) {
+            return Set.of();
+        }
+
+        SkillTokenIndex index = SkillTokenIndex.of(findSkillsInProgress(personalId));
+        if (index.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> learning = new HashSet<>();
+        for (Technology technology : technologies) {
+            if (technology.getId() != null && technology.getName() != null
+                    && index.anyMentions(normalize(technology.getName()))) {
+                learning.add(technology.getId());
+            }
+        }
+
+        log.debug("Resolved {} technologies in learning for personalId: {}", learning.size(), personalId);
+        return Set.copyOf(learning);
+    }
+
+    private List<Skill> findSkillsInProgress(Long personalId) {
+        Map<Long, Skill> skills = new LinkedHashMap<>();
+        for (LearningProgress progress : learningProgressRepository
+                .findByPersonalIdAndStatusWithSkill(personalId, LearningStatus.IN_PROGRESS)) {
+            if (isUnfinished(progress)) {
+                skills.putIfAbsent(progress.getSkill().getId(), progress.getSkill());
+            }
+        }
+        return List.copyOf(skills.values());
+    }
+
+    private static boolean isUnfinished(LearningProgress progress) {
+        return progress.getProgressPercentage() != null
+                && progress.getProgressPercentage() < 100
+                && progress.getCompletionDate() == null;
+    }
+
+    private static String normalize(String text) {
+        return text != null ? text.toLowerCase(Locale.ROOT) : "";
+    }
+
+    // ===== TOKEN INDEX =====
+
+    /**
+     * Skill texts keyed by every suffix of the alphanumeric tokens they contain.
+     * A name occurring in a text has its first token inside one of the text's tokens,
+     * that is at the start of one of their suffixes, so candidates come from a range
+     * of the sorted suffixes and are confirmed with contains().
+     */
+    private static final class SkillTokenIndex {
+
+        private final List<String> texts;
+        private final NavigableMap<String, List<Integer>> textsBySuffix;
+
+        private SkillTokenIndex(List<String> texts, NavigableMap<String, List<Integer>> textsBySuffix) {
+            this.texts = texts;
+            this.textsBySuffix = textsBySuffix;
+        }
+
+        static SkillTokenIndex of(List<Skill> skills) {
+            List<String> texts = new ArrayList<>();
+            NavigableMap<String, List<Integer>> textsBySuffix = new TreeMap<>();
+
+            for (Skill skill : skills) {
+                addText(normalize(skill.getName()), texts, textsBySuffix);
+                if (skill.getDescription() != null) {
+                    addText(normalize(skill.getDescription()), texts, textsBySuffix);
+                }
+            }
+            return new SkillTokenIndex(texts, textsBySuffix);
+        }
+
+        private static void addText(String text, List<String> texts, Map<String, List<Integer>> textsBySuffix) {
+            int position = texts.size();
+            texts.add(text);
+            for (String token : TOKEN_SEPARATOR.split(text)) {
+                for (int start = 0; start < token.length(); start++) {
+                    List<Integer> positions = textsBySuffix.computeIfAbsent(token.substring(start), t -> new ArrayList<>());
+                    if (positions.isEmpty() || positions.getLast() != position) {
+                        positions.add(position);
+                    }
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return texts.isEmpty();
+        }
+
+        boolean anyMentions(String name) {
+            String anchor = firstToken(name);
+            if (anchor == null) {
+                // Nothing to anchor on (e.g. punctuation only), fall back to a plain scan
+                return texts.stream().anyMatch(text -> text.contains(name));
+            }
+
+            // Tokens are ASCII alphanumerics, every suffix starting with the anchor sorts below this bound
+            Set<Integer> checked = new HashSet<>();
+            for (List<Integer> positions : textsBySuffix.subMap(anchor, anchor + Character.MAX_VALUE).values()) {
+                for (int position : positions) {
+                    if (checked.add(position) && texts.get(position).contains(name)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private static String firstToken(String name) {
+            for (String token : TOKEN_SEPARATOR.split(name)) {
+                if (!token.isEmpty()) {
+                    return token;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.portofolio.service.support;
+
+/**
+ * Usage of one technology across a personal's projects, with the
+ * proficiency and experience derived from the project count
+ */
+public record TechnologyUsage(int projectCount, String proficiency, double yearsOfExperience) {
+
+    public static final TechnologyUsage UNUSED = of(0);
+
+    public static TechnologyUsage of(int projectCount) {
+        return new TechnologyUsage(projectCount, proficiencyFor(projectCount), experienceFor(projectCount));
+    }
+
+    private static String proficiencyFor(int projectCount) {
+        if (projectCount >= 5) return "expert";
+        if (projectCount >= 3) return "advanced";
+        if (projectCount >= 1) return "intermediate";
+        return "beginner";
+    }
+
+    private static double experienceFor(int projectCount) {
+        // Simplified calculation - could be enhanced with actual project dates
+        return Math.min(projectCount * 0.5, 5.0); // Max 5 years experience
+    }
+}
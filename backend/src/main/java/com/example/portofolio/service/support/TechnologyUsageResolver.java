@@ -0,0 +1,38 @@
+package com.example.portofolio.service.support;
+
+import com.example.portofolio.repository.EntityTechnologyRepository;
+import com.example.portofolio.service.base.ServiceUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Aggregates technology usage for a personal with one grouped query,
+ * replacing the per-technology project scans in TechnologyService.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class TechnologyUsageResolver {
+
+    private final EntityTechnologyRepository entityTechnologyRepository;
+
+    public Map<Long, TechnologyUsage> resolveForPersonal(Long personalId) {
+        ServiceUtils.validatePersonalId(personalId);
+
+        Map<Long, TechnologyUsage> usageByTechnology = new HashMap<>();
+        for (Object[] row : entityTechnologyRepository.countProjectsPerTechnologyForPersonal(personalId)) {
+            Long technologyId = (Long) row[0];
+            int projectCount = ((Number) row[1]).intValue();
+            usageByTechnology.put(technologyId, TechnologyUsage.of(projectCount));
+        }
+
+        log.debug("Aggregated usage of {} technologies for personalId: {}", usageByTechnology.size(), personalId);
+        return Map.copyOf(usageByTechnology);
+    }
+}
@@ -5,6 +5,10 @@ import com.example.portofolio.entity.*;
 import com.example.portofolio.entity.enums.EntityType;
 import com.example.portofolio.repository.*;
 import com.example.portofolio.service.base.ServiceUtils;
+import com.example.portofolio.service.support.AchievementIndex;
+import com.example.portofolio.service.support.AchievementIndexResolver;
+import com.example.portofolio.service.support.EntityMetadataResolver;
+import com.example.portofolio.service.support.MetadataLookup;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -28,9 +32,9 @@ import java.util.stream.Collectors;
 public class VolunteerService {
 
     private final VolunteerExperienceRepository volunteerRepository;
-    private final AchievementRepository achievementRepository;
+    private final AchievementIndexResolver achievementIndexResolver;
     private final SkillRepository skillRepository;
-    private final EntityMetadataRepository entityMetadataRepository;
+    private final EntityMetadataResolver metadataResolver;
     private final EntitySkillRepository entitySkillRepository;
 
     private final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("MMM yyyy");
@@ -40,9 +44,12 @@ public class VolunteerService {
     public List<VolunteerExperienceDto> getAllVolunteerExperiences(Long personalId) {
         log.debug("Getting all volunteer experiences for personal: {}", personalId);
 
-        return volunteerRepository.findByPersonalId(personalId)
-                .stream()
-                .map(this::mapToVolunteerExperienceDto)
+        List<VolunteerExperience> experiences = volunteerRepository.findByPersonalId(personalId);
+        MetadataLookup metadata = metadataResolver.resolve(EntityType.VOLUNTEER, experiences, VolunteerExperience::getId);
+        AchievementIndex achievementIndex = achievementIndexResolver.resolveForPersonal(personalId);
+
+        return experiences.stream()
+                .map(volunteer -> mapToVolunteerExperienceDto(volunteer, metadata, achievementIndex))
                 .sorted((a, b) -> extractYear(b.getPeriod()).compareTo(extractYear(a.getPeriod())))
                 .collect(Collectors.toList());
     }
@@ -81,8 +88,9 @@ public class VolunteerService {
 
     // ===== MAPPING METHODS =====
 
-    private VolunteerExperienceDto mapToVolunteerExperienceDto(VolunteerExperience volunteer) {
-        EntityMetadata metadata = getEntityMetadata(volunteer.getId());
+    private VolunteerExperienceDto mapToVolunteerExperienceDto(VolunteerExperience volunteer, MetadataLookup metadataLookup,
+                                                               AchievementIndex achievementIndex) {
+        EntityMetadata metadata = metadataLookup.getOrNull(EntityType.VOLUNTEER, volunteer.getId());
 
         return VolunteerExperienceDto.builder()
                 .id(volunteer.getId().toString())
@@ -94,7 +102,7 @@ public class VolunteerService {
                 .status(volunteer.getStatus().toString())
                 .description(volunteer.getDescription())
                 .responsibilities(mapResponsibilities(volunteer.getResponsibilities()))
-                .achievements(getVolunteerAchievements(volunteer))
+                .achievements(getVolunteerAchievements(volunteer, achievementIndex))
                 .skillsGained(getSkillsForVolunteer(volunteer.getId()))
                 .impactLevel(volunteer.getImpactDescription())
                 .website(volunteer.getWebsite())
@@ -117,17 +125,14 @@ public class VolunteerService {
                 .collect(Collectors.toList());
     }
 
-    private List<AchievementDto> getVolunteerAchievements(VolunteerExperience volunteer) {
-        return achievementRepository.findByPersonalId(volunteer.getPersonal().getId())
-                .stream()
-                .filter(achievement -> achievement.getEntityType() == EntityType.VOLUNTEER &&
-                        achievement.getEntityId().equals(volunteer.getId()))
-                .map(this::mapToAchievementDto)
+    private List<AchievementDto> getVolunteerAchievements(VolunteerExperience volunteer, AchievementIndex achievementIndex) {
+        return achievementIndex.forOwner(EntityType.VOLUNTEER, volunteer.getId()).stream()
+                .map(achievement -> mapToAchievementDto(achievement, achievementIndex.metadata()))
                 .collect(Collectors.toList());
     }
 
-    private AchievementDto mapToAchievementDto(Achievement achievement) {
-        EntityMetadata metadata = getEntityMetadata(achievement.getId());
+    private AchievementDto mapToAchievementDto(Achievement achievement, MetadataLookup metadataLookup) {
+        EntityMetadata metadata = metadataLookup.getOrNull(EntityType.ACHIEVEMENT, achievement.getId());
 
         return AchievementDto.builder()
                 .id(achievement.getId().toString())
@@ -145,11 +150,6 @@ public class VolunteerService {
 
     // ===== UTILITY METHODS =====
 
-    private EntityMetadata getEntityMetadata(Long entityId) {
-        return entityMetadataRepository.findByEntityTypeAndEntityId(EntityType.VOLUNTEER, entityId)
-                .orElse(null);
-    }
-
     private String formatVolunteerPeriod(VolunteerExperience volunteer) {
         String start = volunteer.getStartDate().format(dateFormatter);
         if (volunteer.getEndDate() == null) {
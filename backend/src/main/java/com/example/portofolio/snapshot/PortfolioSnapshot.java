@@ -0,0 +1,79 @@
+package com.example.portofolio.snapshot;
+
+import com.example.portofolio.dto.*;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Fully materialized response bodies of every GET endpoint for one personal.
+ * Built off-thread by {@link PortfolioSnapshotService} and never mutated afterwards.
+ * A null view means it failed to build; readers fall back to the service path for it.
+ */
+@Value
+@Builder
+public class PortfolioSnapshot {
+
+    Long personalId;
+    long version;
+    // DataVersion the build started from, the snapshot reflects at least this data
+    long dataVersion;
+    Instant builtAt;
+
+    // ===== PERSONAL =====
+    List<HighlightDto> highlights;
+    List<PersonalValueDto> personalValues;
+    List<PersonalityTraitDto> personalityTraits;
+    List<HobbyDto> hobbies;
+    List<InterestDto> interests;
+    Optional<ContactInfoDto> contactInfo;
+    Optional<ContactLocationDto> contactLocation;
+
+    // ===== PROJECTS =====
+    List<ProjectExportDto> projects;
+    List<FeaturedProjectDto> featuredProjects;
+    List<ProjectCategoryDistributionDto> projectCategoryDistribution;
+    DevelopmentExperienceDto developmentExperience;
+    Map<String, Long> projectStats;
+
+    // ===== SKILLS & TECHNOLOGIES =====
+    List<SkillDto> skills;
+    SkillsHeroStatsDto skillsHeroStats;
+    List<TopSkillDto> topSkills;
+    List<FeaturedSkillDto> featuredSkills;
+    List<FeaturedSkillCategoryDto> featuredSkillCategories;
+    List<TechnologyDto> technologies;
+    List<TechCategoryInfoDto> technologyCategories;
+    TechnologyStatisticsDto technologyStatistics;
+    List<String> topTechnologies;
+
+    // ===== EDUCATION & CERTIFICATES =====
+    List<EducationDto> education;
+    List<AcademicProjectDto> academicProjects;
+    AcademicStatsDto academicStats;
+    List<CertificateDto> certificates;
+    List<CertificationCategoryDto> certificationCategories;
+    CertificateStatisticsDto certificateStatistics;
+    List<AchievementDto> achievements;
+
+    // ===== LEARNING & TIMELINE =====
+    List<LearningProgressDto> learningProgress;
+    List<LearningMilestoneDto> learningMilestones;
+    List<TimelineMilestoneDto> timelineMilestones;
+    List<CurrentLearningDto> currentLearning;
+    List<FutureGoalDto> futureGoals;
+    List<TimelineItemDto> timelineItems;
+    Map<String, String> timelineStats;
+
+    // ===== VOLUNTEER =====
+    List<VolunteerExperienceDto> volunteerExperiences;
+    VolunteerStatsDto volunteerStats;
+    List<VolunteerSkillDto> volunteerSkills;
+
+    // ===== STATISTICS =====
+    Map<String, Long> keyStatistics;
+}
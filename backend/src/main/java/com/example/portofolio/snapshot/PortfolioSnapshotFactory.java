@@ -0,0 +1,225 @@
+package com.example.portofolio.snapshot;
+
+import com.example.portofolio.dto.TechnologyDto;
+import com.example.portofolio.service.core.*;
+import com.example.portofolio.service.personal.ContactService;
+import com.example.portofolio.service.personal.HobbyService;
+import com.example.portofolio.service.personal.InterestService;
+import com.example.portofolio.service.personal.PersonalService;
+import com.example.portofolio.service.portofolio.StatisticsService;
+import com.example.portofolio.service.portofolio.TimelineService;
+import com.example.portofolio.service.support.FanOutExecutor;
+import com.example.portofolio.service.support.FanOutScope;
+import com.example.portofolio.service.support.FanOutScope.Subtask;
+import com.example.portofolio.service.volunteer.VolunteerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.portofolio.snapshot.SnapshotView.*;
+
+/**
+ * Materializes every GET response body of a personal through the existing services.
+ * The composite views assembled in controllers live here too, so the snapshot and
+ * the controller fallback compute them the same way.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioSnapshotFactory {
+
+    private static final int TOP_SKILLS_LIMIT = 5;
+
+    private final PersonalService personalService;
+    private final HobbyService hobbyService;
+    private final InterestService interestService;
+    private final ContactService contactService;
+    private final ProjectService projectService;
+    private final SkillService skillService;
+    private final TechnologyService technologyService;
+    private final EducationService educationService;
+    private final CertificateService certificateService;
+    private final AchievementService achievementService;
+    private final LearningProgressService learningProgressService;
+    private final TimelineService timelineService;
+    private final VolunteerService volunteerService;
+    private final StatisticsService statisticsService;
+    private final FanOutExecutor fanOutExecutor;
+
+    public PortfolioSnapshot build(Long personalId, long version, long dataVersion) {
+        return PortfolioSnapshot.builder()
+                .personalId(personalId)
+                .version(version)
+                .dataVersion(dataVersion)
+                .builtAt(Instant.now())
+                // Personal
+                .highlights(capture(HIGHLIGHTS, personalId))
+                .personalValues(capture(VALUES, personalId))
+                .personalityTraits(capture(PERSONALITY_TRAITS, personalId))
+                .hobbies(capture(HOBBIES, personalId))
+                .interests(capture(INTERESTS, personalId))
+                .contactInfo(capture(CONTACT_INFO, personalId))
+                .contactLocation(capture(CONTACT_LOCATION, personalId))
+                // Projects
+                .projects(capture(PROJECTS, personalId))
+                .featuredProjects(capture(FEATURED_PROJECTS, personalId))
+                .projectCategoryDistribution(capture(CATEGORY_DISTRIBUTION, personalId))
+                .developmentExperience(capture(PROJECT_EXPERIENCE, personalId))
+                .projectStats(capture(PROJECT_STATS, personalId))
+                // Skills & technologies
+                .skills(capture(SKILLS, personalId))
+                .skillsHeroStats(capture(SKILLS_STATS, personalId))
+                .topSkills(capture(TOP_SKILLS, personalId))
+                .featuredSkills(capture(FEATURED_SKILLS, personalId))
+                .featuredSkillCategories(capture(SKILLS_CATEGORIES, personalId))
+                .technologies(capture(TECHNOLOGIES, personalId))
+                .technologyCategories(capture(TECHNOLOGIES_CATEGORIES, personalId))
+                .technologyStatistics(capture(TECHNOLOGIES_STATS, personalId))
+                .topTechnologies(capture(TOP_TECHNOLOGIES, personalId))
+                // Education & certificates
+                .education(capture(EDUCATION, personalId))
+                .academicProjects(capture(ACADEMIC_PROJECTS, personalId))
+                .academicStats(capture(EDUCATION_STATS, personalId))
+                .certificates(capture(CERTIFICATES, personalId))
+                .certificationCategories(capture(CERTIFICATE_CATEGORIES, personalId))
+                .certificateStatistics(capture(CERTIFICATE_STATS, personalId))
+                .achievements(capture(ACHIEVEMENTS, personalId))
+                // Learning & timeline
+                .learningProgress(capture(LEARNING_PROGRESS, personalId))
+                .learningMilestones(capture(LEARNING_MILESTONES, personalId))
+                .timelineMilestones(capture(TIMELINE_MILESTONES, personalId))
+                .currentLearning(capture(CURRENT_LEARNING, personalId))
+                .futureGoals(capture(FUTURE_GOALS, personalId))
+                .timelineItems(capture(TIMELINE_ITEMS, personalId))
+                .timelineStats(capture(TIMELINE_STATS, personalId))
+                // Volunteer
+                .volunteerExperiences(capture(VOLUNTEER_EXPERIENCES, personalId))
+                .volunteerStats(capture(VOLUNTEER_STATS, personalId))
+                .volunteerSkills(capture(VOLUNTEER_SKILLS, personalId))
+                // Statistics
+                .keyStatistics(capture(KEY_STATS, personalId))
+                .build();
+    }
+
+    /**
+     * Computes one view through the service path, exactly as its GET endpoint would
+     */
+    public Object compute(SnapshotView view, Long personalId) {
+        return switch (view) {
+            case HIGHLIGHTS -> personalService.getPersonalHighlights(personalId);
+            case VALUES -> personalService.getPersonalValues(personalId);
+            case PERSONALITY_TRAITS -> personalService.getPersonalityTraits(personalId);
+            case HOBBIES -> hobbyService.findByPersonalId(personalId);
+            case INTERESTS -> interestService.findByPersonalId(personalId);
+            case CONTACT_INFO -> contactService.findByPersonalId(personalId);
+            case CONTACT_LOCATION -> contactService.findLocationByContactInfoId(personalId);
+            case PROJECTS -> projectService.findByPersonalId(personalId);
+            case FEATURED_PROJECTS -> projectService.findFeaturedProjects(personalId);
+            case CATEGORY_DISTRIBUTION -> projectService.getProjectCategoryDistribution(personalId);
+            case PROJECT_EXPERIENCE -> projectService.getDevelopmentExperience(personalId);
+            case PROJECT_STATS -> projectStats(personalId);
+            case SKILLS -> skillService.findByPersonalId(personalId);
+            case SKILLS_STATS -> skillService.getHeroStats(personalId);
+            case TOP_SKILLS -> skillService.getTopSkills(personalId, TOP_SKILLS_LIMIT);
+            case FEATURED_SKILLS -> skillService.findFeaturedSkills(personalId);
+            case SKILLS_CATEGORIES -> skillService.getAllSkillCategories();
+            case TECHNOLOGIES -> technologyService.findAllTechnologies();
+            case TECHNOLOGIES_CATEGORIES -> technologyService.getCategoriesWithCount();
+            case TECHNOLOGIES_STATS -> technologyService.getTechnologyStatistics();
+            case TOP_TECHNOLOGIES -> topTechnologies();
+            case EDUCATION -> educationService.findByPersonalId(personalId);
+            case ACADEMIC_PROJECTS -> educationService.getAcademicProjects(personalId);
+            case EDUCATION_STATS -> educationService.getAcademicStats(personalId);
+            case CERTIFICATES -> certificateService.findByPersonalId(personalId);
+            case CERTIFICATE_CATEGORIES -> certificateService.getCertificationCategories();
+            case CERTIFICATE_STATS -> certificateService.getCertificateStatistics(personalId);
+            case ACHIEVEMENTS -> achievementService.findByPersonalId(personalId);
+            case LEARNING_PROGRESS -> learningProgressService.findByPersonalId(personalId);
+            case LEARNING_MILESTONES -> learningProgressService.getLearningMilestones(personalId);
+            case TIMELINE_MILESTONES -> personalService.getTimelineMilestones(personalId);
+            case CURRENT_LEARNING -> personalService.getCurrentLearning(personalId);
+            case FUTURE_GOALS -> personalService.getFutureGoals(personalId);
+            case TIMELINE_ITEMS -> timelineService.getTimelineItems(personalId);
+            case TIMELINE_STATS -> timelineStats(personalId);
+            case VOLUNTEER_EXPERIENCES -> volunteerService.getAllVolunteerExperiences(personalId);
+            case VOLUNTEER_STATS -> volunteerService.getVolunteerStatistics(personalId);
+            case VOLUNTEER_SKILLS -> volunteerService.getVolunteerSkills(personalId);
+            case KEY_STATS -> keyStatistics(personalId);
+        };
+    }
+
+    // ===== COMPOSITE VIEWS =====
+
+    public Map<String, Long> keyStatistics(Long personalId) {
+        try (FanOutScope scope = fanOutExecutor.open()) {
+            Subtask<Long> projects = scope.fork("projects",
+                    () -> statisticsService.getProjectStatistics(personalId).getTotalProjects());
+            Subtask<Long> educationYears = scope.fork("educationYears",
+                    () -> statisticsService.getEducationStatistics(personalId).getTotalEducation());
+            Subtask<Long> technologies = scope.fork("technologies", technologyService::count);
+            Subtask<Long> certificates = scope.fork("certificates", certificateService::count);
+            scope.join();
+
+            Map<String, Long> body = new HashMap<>();
+            body.put("projects", projects.get());
+            body.put("educationYears", educationYears.get());
+            body.put("technologies", technologies.get());
+            body.put("certificates", certificates.get());
+            return body;
+        }
+    }
+
+    public Map<String, Long> projectStats(Long personalId) {
+        try (FanOutScope scope = fanOutExecutor.open()) {
+            Subtask<Long> totalProjects = scope.fork("totalProjects", projectService::count);
+            Subtask<Long> technologies = scope.fork("technologies", technologyService::count);
+            Subtask<Integer> liveProjects = scope.fork("liveProjects",
+                    () -> projectService.findLiveProjects(personalId).size());
+            scope.join();
+
+            Map<String, Long> body = new HashMap<>();
+            body.put("totalProjects", totalProjects.get());
+            body.put("technologies", technologies.get());
+            body.put("liveProjects", (long) liveProjects.get());
+            return body;
+        }
+    }
+
+    public Map<String, String> timelineStats(Long personalId) {
+        try (FanOutScope scope = fanOutExecutor.open()) {
+            Subtask<Integer> milestones = scope.fork("milestones",
+                    () -> timelineService.getTimelineItems(personalId).size());
+            Subtask<Integer> achievements = scope.fork("achievements",
+                    () -> timelineService.getAchievementTimeline(personalId).size());
+            scope.join();
+
+            Map<String, String> body = new HashMap<>();
+            body.put("Major Milestones", String.valueOf(milestones.get()));
+            body.put(" Achievements", String.valueOf(achievements.get()));
+            return body;
+        }
+    }
+
+    public List<String> topTechnologies() {
+        return technologyService.findTrendingTechnologies()
+                .stream()
+                .map(TechnologyDto::getName)
+                .toList();
+    }
+
+    // One broken view must not cost the whole snapshot
+    @SuppressWarnings("unchecked")
+    private <T> T capture(SnapshotView view, Long personalId) {
+        try {
+            return (T) compute(view, personalId);
+        } catch (Exception e) {
+            log.warn("Snapshot view '{}' failed to build, it will be served live: {}", view.getKey(), e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.portofolio.snapshot;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Holds the current {@link PortfolioSnapshot}. Publishing swaps the reference atomically,
+ * readers never block and always see one complete snapshot.
+ */
+@Component
+public class PortfolioSnapshotHolder {
+
+    private final AtomicReference<PortfolioSnapshot> current = new AtomicReference<>();
+
+    public Optional<PortfolioSnapshot> current() {
+        return Optional.ofNullable(current.get());
+    }
+
+    public void publish(PortfolioSnapshot snapshot) {
+        current.set(snapshot);
+    }
+
+    /**
+     * Reads a view from the current snapshot of the personal, or computes it through
+     * the service path while no snapshot is available or the view failed to build
+     */
+    public <T> T read(Long personalId, Function<PortfolioSnapshot, T> view, Supplier<T> fallback) {
+        PortfolioSnapshot snapshot = current.get();
+        if (snapshot != null && snapshot.getPersonalId().equals(personalId)) {
+            T value = view.apply(snapshot);
+            if (value != null) {
+                return value;
+            }
+        }
+        return fallback.get();
+    }
+}
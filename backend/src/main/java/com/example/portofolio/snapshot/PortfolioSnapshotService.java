@@ -0,0 +1,111 @@
+package com.example.portofolio.snapshot;
+
+import com.example.portofolio.event.DataVersion;
+import com.example.portofolio.event.PortfolioDataChangedEvent;
+import com.example.portofolio.memo.MemoScope;
+import com.example.portofolio.memo.MemoScopes;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Builds the portfolio snapshot on a background thread once the application is ready
+ * and rebuilds it after committed data changes. Bursts of changes coalesce into one
+ * rebuild; a failed build keeps serving the previous snapshot.
+ */
+@Service
+@Slf4j
+public class PortfolioSnapshotService {
+
+    private final PortfolioSnapshotFactory snapshotFactory;
+    private final PortfolioSnapshotHolder snapshotHolder;
+    private final MemoScopes memoScopes;
+    private final DataVersion dataVersion;
+    private final boolean enabled;
+    private final Long personalId;
+
+    private final ExecutorService builder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "portfolio-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildPending = new AtomicBoolean(false);
+    private final AtomicLong versionCounter = new AtomicLong();
+
+    @Autowired
+    public PortfolioSnapshotService(PortfolioSnapshotFactory snapshotFactory,
+                                    PortfolioSnapshotHolder snapshotHolder,
+                                    MemoScopes memoScopes,
+                                    DataVersion dataVersion,
+                                    @Value("${portfolio.snapshot.enabled:true}") boolean enabled,
+                                    @Value("${portfolio.snapshot.personal-id:1}") Long personalId) {
+        this.snapshotFactory = snapshotFactory;
+        this.snapshotHolder = snapshotHolder;
+        this.memoScopes = memoScopes;
+        this.dataVersion = dataVersion;
+        this.enabled = enabled;
+        this.personalId = personalId;
+    }
+
+    // ===== TRIGGERS =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        requestRebuild("startup");
+    }
+
+    @EventListener
+    public void onDataChanged(PortfolioDataChangedEvent event) {
+        requestRebuild(event.entityClass().getSimpleName() + " " + event.changeType());
+    }
+
+    /**
+     * Schedules a rebuild unless one is already waiting to start
+     */
+    public void requestRebuild(String reason) {
+        if (!enabled) {
+            return;
+        }
+        if (rebuildPending.compareAndSet(false, true)) {
+            log.debug("Portfolio snapshot rebuild scheduled ({})", reason);
+            builder.execute(this::rebuild);
+        }
+    }
+
+    // ===== BUILD =====
+
+    private void rebuild() {
+        // Changes arriving from now on need another pass
+        rebuildPending.set(false);
+
+        long version = versionCounter.incrementAndGet();
+        long builtFrom = dataVersion.current();
+        long start = System.nanoTime();
+        // Views share sub-computations (counts, timeline items) within one build
+        try (MemoScope memoScope = memoScopes.open()) {
+            PortfolioSnapshot snapshot = snapshotFactory.build(personalId, version, builtFrom);
+            snapshotHolder.publish(snapshot);
+            log.info("Published portfolio snapshot v{} for personalId: {} in {} ms ({} memoized calls reused)",
+                    version, personalId, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                    memoScope.getHits());
+        } catch (Exception e) {
+            log.error("Failed to build portfolio snapshot v{} for personalId: {}: {}",
+                    version, personalId, e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        builder.shutdownNow();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.portofolio.snapshot;
+
+import java.util.function.Function;
+
+/**
+ * One GET response body held by {@link PortfolioSnapshot}. The key matches the
+ * endpoint name the Angular client caches the payload under.
+ */
+public enum SnapshotView {
+
+    // ===== PERSONAL =====
+    HIGHLIGHTS("highlights", PortfolioSnapshot::getHighlights),
+    VALUES("values", PortfolioSnapshot::getPersonalValues),
+    PERSONALITY_TRAITS("personality-traits", PortfolioSnapshot::getPersonalityTraits),
+    HOBBIES("hobbies", PortfolioSnapshot::getHobbies),
+    INTERESTS("interests", PortfolioSnapshot::getInterests),
+    CONTACT_INFO("contact-info", PortfolioSnapshot::getContactInfo),
+    CONTACT_LOCATION("contact-location", PortfolioSnapshot::getContactLocation),
+
+    // ===== PROJECTS =====
+    PROJECTS("projects", PortfolioSnapshot::getProjects),
+    FEATURED_PROJECTS("featured-projects", PortfolioSnapshot::getFeaturedProjects),
+    CATEGORY_DISTRIBUTION("category-distribution", PortfolioSnapshot::getProjectCategoryDistribution),
+    PROJECT_EXPERIENCE("project-experience", PortfolioSnapshot::getDevelopmentExperience),
+    PROJECT_STATS("project-stats", PortfolioSnapshot::getProjectStats),
+
+    // ===== SKILLS & TECHNOLOGIES =====
+    SKILLS("skills", PortfolioSnapshot::getSkills),
+    SKILLS_STATS("skills-stats", PortfolioSnapshot::getSkillsHeroStats),
+    TOP_SKILLS("top-skills", PortfolioSnapshot::getTopSkills),
+    FEATURED_SKILLS("featured-skills", PortfolioSnapshot::getFeaturedSkills),
+    SKILLS_CATEGORIES("skills-categories", PortfolioSnapshot::getFeaturedSkillCategories),
+    TECHNOLOGIES("technologies", PortfolioSnapshot::getTechnologies),
+    TECHNOLOGIES_CATEGORIES("technologies-categories", PortfolioSnapshot::getTechnologyCategories),
+    TECHNOLOGIES_STATS("technologies-stats", PortfolioSnapshot::getTechnologyStatistics),
+    TOP_TECHNOLOGIES("top-technologies", PortfolioSnapshot::getTopTechnologies),
+
+    // ===== EDUCATION & CERTIFICATES =====
+    EDUCATION("education", PortfolioSnapshot::getEducation),
+    ACADEMIC_PROJECTS("academic-projects", PortfolioSnapshot::getAcademicProjects),
+    EDUCATION_STATS("education-stats", PortfolioSnapshot::getAcademicStats),
+    CERTIFICATES("certificates", PortfolioSnapshot::getCertificates),
+    CERTIFICATE_CATEGORIES("certificate-categories", PortfolioSnapshot::getCertificationCategories),
+    CERTIFICATE_STATS("certificate-stats", PortfolioSnapshot::getCertificateStatistics),
+    ACHIEVEMENTS("achievements", PortfolioSnapshot::getAchievements),
+
+    // ===== LEARNING & TIMELINE =====
+    LEARNING_PROGRESS("learning-progress", PortfolioSnapshot::getLearningProgress),
+    LEARNING_MILESTONES("learning-milestones", PortfolioSnapshot::getLearningMilestones),
+    TIMELINE_MILESTONES("timeline-milestones", PortfolioSnapshot::getTimelineMilestones),
+    CURRENT_LEARNING("current-learning", PortfolioSnapshot::getCurrentLearning),
+    FUTURE_GOALS("future-goals", PortfolioSnapshot::getFutureGoals),
+    TIMELINE_ITEMS("timeline-items", PortfolioSnapshot::getTimelineItems),
+    TIMELINE_STATS("timeline-stats", PortfolioSnapshot::getTimelineStats),
+
+    // ===== VOLUNTEER =====
+    VOLUNTEER_EXPERIENCES("volunteer-experiences", PortfolioSnapshot::getVolunteerExperiences),
+    VOLUNTEER_STATS("volunteer-stats", PortfolioSnapshot::getVolunteerStats),
+    VOLUNTEER_SKILLS("volunteer-skills", PortfolioSnapshot::getVolunteerSkills),
+
+    // ===== STATISTICS =====
+    KEY_STATS("key-stats", PortfolioSnapshot::getKeyStatistics);
+
+    private final String key;
+    private final Function<PortfolioSnapshot, ?> reader;
+
+    SnapshotView(String key, Function<PortfolioSnapshot, ?> reader) {
+        this.key = key;
+        this.reader = reader;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Reads this view from the snapshot, null when it failed to build
+     */
+    public Object readFrom(PortfolioSnapshot snapshot) {
+        return reader.apply(snapshot);
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.portofolio.usage;
+
+import com.example.portofolio.cache.ReadSetInvalidator;
+import com.example.portofolio.entity.Certificate;
+import com.example.portofolio.entity.Education;
+import com.example.portofolio.entity.EntitySkill;
+import com.example.portofolio.entity.EntityTechnology;
+import com.example.portofolio.entity.Project;
+import com.example.portofolio.event.DataVersion;
+import com.example.portofolio.event.PortfolioDataChangedEvent;
+import com.example.portofolio.event.PortfolioDataChangedEvent.ChangeType;
+import com.example.portofolio.snapshot.PortfolioSnapshotService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the technology_usage and skill_usage materialized views (V3__usage_views.sql)
+ * in step with the tables they summarize. They are refreshed once at startup, after
+ * the migrations, and after commits that insert or delete a link, delete an entity
+ * that can own one, or change a column the views read.
+ * <p>
+ * A transaction only marks the views dirty, once however many rows it changed; the
+ * refresh runs after it on a background thread, and changes committed while one runs
+ * are coalesced into the next. It runs CONCURRENTLY, so readers keep the previous
+ * contents instead of waiting. Values read from the views meanwhile are evicted once
+ * it completes, and the data version and snapshot move on with them.
+ * <p>
+ * Only present where Flyway runs, as the views come from its migrations.
+ */
+@Component
+@ConditionalOnProperty(prefix = "spring.flyway", name = "enabled", matchIfMissing = true)
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Slf4j
+public class UsageViewRefresher implements ApplicationRunner {
+
+    private static final List<String> VIEWS = List.of("technology_usage", "skill_usage");
+
+    private static final List<Class<?>> LINKS = List.of(EntityTechnology.class, EntitySkill.class);
+    private static final List<Class<?>> OWNERS = List.of(Project.class, Certificate.class, Education.class);
+
+    // Properties behind the columns the views read
+    private static final Set<String> LINK_PROPERTIES = Set.of("entityType", "entityId", "technology", "skill");
+    private static final Set<String> OWNER_PROPERTIES = Set.of("personal");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadSetInvalidator readSetInvalidator;
+    private final DataVersion dataVersion;
+    private final PortfolioSnapshotService snapshotService;
+    private final Timer refreshTimer;
+    // One thread: concurrent refreshes of a view would only queue on its lock
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("usage-refresh").factory());
+    private final AtomicBoolean refreshPending = new AtomicBoolean(false);
+
+    public UsageViewRefresher(JdbcTemplate jdbcTemplate,
+                              ReadSetInvalidator readSetInvalidator,
+                              DataVersion dataVersion,
+                              PortfolioSnapshotService snapshotService,
+                              MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readSetInvalidator = readSetInvalidator;
+        this.dataVersion = dataVersion;
+        this.snapshotService = snapshotService;
+        this.refreshTimer = Timer.builder("portfolio.usage.refresh")
+                .description("Refresh of the technology and skill usage views")
+                .register(meterRegistry);
+    }
+
+    // ===== TRIGGERS =====
+
+    // After the Flyway migration runner, changes made while the application was down
+    @Override
+    public void run(ApplicationArguments args) {
+        refreshViews();
+    }
+
+    @EventListener
+    public void onDataChanged(PortfolioDataChangedEvent event) {
+        if (!affectsViews(event)) {
+            return;
+        }
+        // Hibernate publishes from within the commit, once per row: mark the transaction instead
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            requestRefresh();
+        } else if (!TransactionSynchronizationManager.hasResource(this)) {
+            TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(UsageViewRefresher.this);
+                    requestRefresh();
+                }
+            });
+        }
+    }
+
+    private static boolean affectsViews(PortfolioDataChangedEvent event) {
+        Class<?> changed = event.entityClass();
+        if (LINKS.stream().anyMatch(link -> link.isAssignableFrom(changed))) {
+            return event.changedAny(LINK_PROPERTIES);
+        }
+        // Links of a new owner are inserted themselves
+        return OWNERS.stream().anyMatch(owner -> owner.isAssignableFrom(changed))
+                && event.changeType() != ChangeType.INSERT
+                && event.changedAny(OWNER_PROPERTIES);
+    }
+
+    /**
+     * Schedules a refresh unless one is already waiting to start
+     */
+    public void requestRefresh() {
+        if (refreshPending.compareAndSet(false, true)) {
+            refreshExecutor.execute(this::refresh);
+        }
+    }
+
+    // ===== REFRESH =====
+
+    private void refresh() {
+        // Changes arriving from now on need another pass
+        refreshPending.set(false);
+        if (!refreshViews()) {
+            return;
+        }
+        readSetInvalidator.invalidateQuerySpaces(Set.copyOf(VIEWS));
+        dataVersion.advance();
+        snapshotService.requestRebuild("usage views refreshed");
+    }
+
+    /**
+     * Refreshes both views; a failure is logged and the views lag until the next change
+     */
+    private boolean refreshViews() {
+        try {
+            refreshTimer.record(() -> VIEWS.forEach(view ->
+                    jdbcTemplate.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY " + view)));
+            log.debug("Refreshed usage views {}", VIEWS);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Refresh of usage views {} failed, they lag until the next change", VIEWS, e);
+            return false;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.portofolio.warmup;
+
+import com.example.portofolio.config.WarmupProperties;
+import com.example.portofolio.warmup.WarmupTargets.WarmupCall;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Warms caches, Hibernate query plans and the JIT before the instance takes traffic.
+ * Every @Cacheable read and every GET endpoint runs once concurrently, then rounds
+ * of the configured request mix replay until their p99 latency stops moving. The
+ * whole warm-up is bounded by the maximum duration: calls still running then are
+ * cancelled and count as failed.
+ * <p>
+ * Runs inside the ApplicationReadyEvent listener on purpose: Spring Boot reports
+ * ACCEPTING_TRAFFIC only after the ready listeners return, so readiness probes see
+ * REFUSING_TRAFFIC for the whole warm-up.
+ */
+@Component
+@Slf4j
+public class StartupWarmup {
+
+    // Fixed seed, every start replays the same order
+    private static final long MIX_SEED = 42;
+
+    private final WarmupTargets targets;
+    private final WarmupProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private volatile double lastP99Millis = Double.NaN;
+    private final AtomicInteger rounds = new AtomicInteger();
+
+    @Autowired
+    public StartupWarmup(WarmupTargets targets,
+                         WarmupProperties properties,
+                         ApplicationEventPublisher eventPublisher,
+                         MeterRegistry meterRegistry) {
+        this.targets = targets;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("portfolio.warmup.p99", this, warmup -> warmup.lastP99Millis)
+                .description("p99 latency of the last warm-up round")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("portfolio.warmup.rounds", rounds, AtomicInteger::get)
+                .description("Request mix rounds replayed until p99 was stable")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        long start = System.nanoTime();
+        long deadline = start + properties.getMaxDuration().toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, properties.getConcurrency()), runnable -> {
+            Thread thread = new Thread(runnable, "portfolio-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Map<String, WarmupCall> endpoints = targets.endpoints();
+            phase("cacheable-reads", () -> runOnce(executor, targets.cacheableReads(properties), deadline));
+            phase("endpoints", () -> runOnce(executor, new ArrayList<>(endpoints.values()), deadline));
+            phase("request-mix", () -> replayMix(executor, mix(endpoints), deadline));
+        } catch (Exception e) {
+            // A failed warm-up costs latency, never availability
+            log.warn("Warm-up aborted: {}", e.getMessage(), e);
+        } finally {
+            executor.shutdownNow();
+            log.info("Warm-up finished in {} ms, accepting traffic",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+    }
+
+    // ===== PHASES =====
+
+    private void phase(String name, Callable<String> phase) throws Exception {
+        Timer timer = Timer.builder("portfolio.warmup.duration")
+                .description("Time spent in each startup warm-up phase")
+                .tag("phase", name)
+                .register(meterRegistry);
+        long start = System.nanoTime();
+        String outcome = phase.call();
+        long elapsed = System.nanoTime() - start;
+        timer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Warm-up phase '{}' took {} ms: {}", name, TimeUnit.NANOSECONDS.toMillis(elapsed), outcome);
+    }
+
+    private String runOnce(ExecutorService executor, List<WarmupCall> calls, long deadline)
+            throws InterruptedException {
+        long[] latencies = run(executor, calls, deadline);
+        long failed = Arrays.stream(latencies).filter(latency -> latency < 0).count();
+        return calls.size() + " calls, " + failed + " failed";
+    }
+
+    private String replayMix(ExecutorService executor, List<WarmupCall> mix, long deadline)
+            throws InterruptedException {
+        if (mix.isEmpty()) {
+            return "empty mix";
+        }
+
+        double previous = Double.NaN;
+        int stable = 0;
+        while (rounds.get() < properties.getMaxRounds() && System.nanoTime() < deadline) {
+            double p99 = p99Millis(run(executor, mix, deadline));
+            rounds.incrementAndGet();
+            lastP99Millis = p99;
+            log.debug("Warm-up round {}: p99 {} ms", rounds.get(), p99);
+            if (Double.isNaN(p99)) {
+                return "every call of the mix failed";
+            }
+
+            stable = Math.abs(p99 - previous) <= properties.getTolerance() * previous ? stable + 1 : 0;
+            if (stable >= properties.getStableRounds()) {
+                return String.format("p99 stable at %.2f ms after %d rounds", p99, rounds.get());
+            }
+            previous = p99;
+        }
+        return String.format("p99 %.2f ms, not stable after %d rounds", lastP99Millis, rounds.get());
+    }
+
+    /**
+     * One round of the configured mix: each path repeated by its weight, spread evenly
+     * over the round size, in a shuffled order
+     */
+    private List<WarmupCall> mix(Map<String, WarmupCall> endpoints) {
+        Map<String, Integer> weights = properties.getMix();
+        List<WarmupCall> weighted = new ArrayList<>();
+        if (weights.isEmpty()) {
+            weighted.addAll(endpoints.values());
+        }
+        weights.forEach((path, weight) -> {
+            WarmupCall call = endpoints.get(path);
+            if (call == null) {
+                log.warn("Warm-up mix path '{}' is not a parameterless GET endpoint, ignored", path);
+                return;
+            }
+            weighted.addAll(Collections.nCopies(Math.max(0, weight), call));
+        });
+        if (weighted.isEmpty()) {
+            return weighted;
+        }
+
+        List<WarmupCall> round = new ArrayList<>(properties.getRoundSize());
+        for (int i = 0; i < properties.getRoundSize(); i++) {
+            round.add(weighted.get(i % weighted.size()));
+        }
+        Collections.shuffle(round, new Random(MIX_SEED));
+        return round;
+    }
+
+    // ===== EXECUTION =====
+
+    // Latency of each call in nanoseconds, -1 for failed calls and calls cut off by the deadline
+    private static long[] run(ExecutorService executor, List<WarmupCall> calls, long deadline)
+            throws InterruptedException {
+        List<Callable<Long>> timed = calls.stream().map(StartupWarmup::timed).toList();
+        List<Future<Long>> futures = executor.invokeAll(timed, deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        long[] latencies = new long[futures.size()];
+        for (int i = 0; i < latencies.length; i++) {
+            Future<Long> future = futures.get(i);
+            latencies[i] = future.state() == Future.State.SUCCESS ? future.resultNow() : -1L;
+        }
+        return latencies;
+    }
+
+    private static Callable<Long> timed(WarmupCall call) {
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                call.action().run();
+                return System.nanoTime() - start;
+            } catch (Exception e) {
+                log.debug("Warm-up call {} failed: {}", call.name(), e.getMessage());
+                return -1L;
+            }
+        };
+    }
+
+    private static double p99Millis(long[] latencies) {
+        long[] succeeded = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+        if (succeeded.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(0.99 * succeeded.length) - 1;
+        return succeeded[Math.max(0, index)] / (double) Duration.ofMillis(1).toNanos();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.portofolio.warmup;
+
+import com.example.portofolio.PortfolioApplication;
+import com.example.portofolio.config.WarmupProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Finds what the warm-up exercises: every @Cacheable read method of the application
+ * beans, called through their proxies, and every parameterless GET handler, invoked
+ * directly and serialized with the application's ObjectMapper. Handlers are not
+ * dispatched over HTTP, which would need credentials outside the dev profile.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WarmupTargets {
+
+    private static final String BASE_PACKAGE = ClassUtils.getPackageName(PortfolioApplication.class);
+
+    private final ApplicationContext applicationContext;
+    private final ObjectMapper objectMapper;
+
+    public record WarmupCall(String name, Runnable action) {
+    }
+
+    // ===== @CACHEABLE READS =====
+
+    public List<WarmupCall> cacheableReads(WarmupProperties properties) {
+        List<WarmupCall> calls = new ArrayList<>();
+        for (String beanName : applicationContext.getBeanDefinitionNames()) {
+            Class<?> type = applicationContext.getType(beanName);
+            if (type == null || !ClassUtils.getUserClass(type).getPackageName().startsWith(BASE_PACKAGE)) {
+                continue;
+            }
+            Class<?> userClass = ClassUtils.getUserClass(type);
+            for (Method method : ReflectionUtils.getUniqueDeclaredMethods(userClass)) {
+                if (!AnnotatedElementUtils.hasAnnotation(method, Cacheable.class)) {
+                    continue;
+                }
+                Object[] args = arguments(method, properties);
+                String name = userClass.getSimpleName() + "." + method.getName();
+                if (args == null) {
+                    log.debug("Warm-up skips {}: no value for its parameters", name);
+                    continue;
+                }
+                calls.add(new WarmupCall(name, () -> ReflectionUtils.invokeMethod(
+                        method, applicationContext.getBean(beanName), args)));
+            }
+        }
+        calls.sort(Comparator.comparing(WarmupCall::name));
+        return calls;
+    }
+
+    // Read methods take the personal id and, for top-N lists, a limit
+    private static Object[] arguments(Method method, WarmupProperties properties) {
+        Class<?>[] types = method.getParameterTypes();
+        Object[] args = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == Long.class || types[i] == long.class) {
+                args[i] = properties.getPersonalId();
+            } else if (types[i] == Integer.class || types[i] == int.class) {
+                args[i] = properties.getLimit();
+            } else {
+                return null;
+            }
+        }
+        return args;
+    }
+
+    // ===== GET ENDPOINTS =====
+
+    /**
+     * Parameterless GET handlers of the application by path, in path order
+     */
+    public Map<String, WarmupCall> endpoints() {
+        // Actuator registers handler mappings of the same type, MVC's own is the named one
+        RequestMappingHandlerMapping handlerMapping = applicationContext.getBean(
+                "requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+        Map<String, WarmupCall> endpoints = new TreeMap<>();
+        handlerMapping.getHandlerMethods().forEach((info, handlerMethod) -> {
+            if (!isApplicationGet(info, handlerMethod)) {
+                return;
+            }
+            for (String path : info.getDirectPaths()) {
+                endpoints.putIfAbsent(path, new WarmupCall("GET " + path, () -> invoke(handlerMethod)));
+            }
+        });
+        return endpoints;
+    }
+
+    private boolean isApplicationGet(RequestMappingInfo info, HandlerMethod handlerMethod) {
+        var methods = info.getMethodsCondition().getMethods();
+        return handlerMethod.getBeanType().getPackageName().startsWith(BASE_PACKAGE)
+                && handlerMethod.getMethodParameters().length == 0
+                && (methods.isEmpty() || methods.contains(RequestMethod.GET));
+    }
+
+    private void invoke(HandlerMethod handlerMethod) {
+        HandlerMethod resolved = handlerMethod.createWithResolvedBean();
+        Object result = ReflectionUtils.invokeMethod(resolved.getMethod(), resolved.getBean());
+        Object body = result instanceof HttpEntity<?> entity ? entity.getBody() : result;
+        try {
+            objectMapper.writeValueAsBytes(body);
+        } catch (Exception e) {
+            throw new IllegalStateException("Serialization failed: " + e.getMessage(), e);
+        }
+    }
+}
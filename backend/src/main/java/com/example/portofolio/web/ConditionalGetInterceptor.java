@@ -0,0 +1,58 @@
+package com.example.portofolio.web;
+
+import com.example.portofolio.autocomplete.AutocompleteService;
+import com.example.portofolio.controller.AutocompleteController;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.OptionalLong;
+
+/**
+ * Conditional GET for the portfolio endpoints. The ETag and Last-Modified come from
+ * {@link ResponseValidators}, and a matching If-None-Match (or If-Modified-Since) is
+ * answered with 304 before the controller runs. While the snapshot lags behind the
+ * data, responses carry no validators at all, and so do suggestions until the
+ * autocomplete index is first built.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final ResponseValidators validators;
+    private final AutocompleteService autocompleteService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method) || !isSafeRead(request)) {
+            return true;
+        }
+        // The index starts empty, suggestions served before its build do not match any version
+        if (method.getBeanType() == AutocompleteController.class && !autocompleteService.isReady()) {
+            return true;
+        }
+
+        OptionalLong version = validators.servedVersion();
+        if (version.isEmpty()) {
+            return true;
+        }
+
+        String etag = validators.etag(version.getAsLong(), request);
+        validators.write(response, etag);
+        if (validators.notModified(request, etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            log.debug("304 for {} {}", request.getMethod(), request.getRequestURI());
+            return false;
+        }
+        return true;
+    }
+
+    static boolean isSafeRead(HttpServletRequest request) {
+        return "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+    }
+}
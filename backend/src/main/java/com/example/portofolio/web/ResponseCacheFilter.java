@@ -0,0 +1,254 @@
+package com.example.portofolio.web;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.example.portofolio.event.PortfolioDataChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response-level cache for the hottest list endpoints. The first request of a data
+ * version goes through the controller; its JSON body is stored once as is, gzip and
+ * brotli, and later requests get the negotiated variant copied straight to the output
+ * stream without serialization or compression. Entries are keyed by the ETag, so a
+ * new data version never serves old bytes, and the cache is emptied on every change.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 10)
+@Slf4j
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+    private static final String BROTLI = "br";
+    private static final String IDENTITY = "identity";
+
+    private final ResponseValidators validators;
+    private final boolean enabled;
+    private final Set<String> paths;
+    private final Cache<Key, Encoded> cache;
+    private final boolean brotliAvailable;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public ResponseCacheFilter(ResponseValidators validators,
+                               MeterRegistry meterRegistry,
+                               @Value("${portfolio.response-cache.enabled:true}") boolean enabled,
+                               @Value("${portfolio.response-cache.paths:/projects,/featured-projects,/skills,/education}") Set<String> paths,
+                               @Value("${portfolio.response-cache.max-size:16MB}") DataSize maxSize) {
+        this.validators = validators;
+        this.enabled = enabled;
+        this.paths = paths;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Key key, Encoded encoded) -> encoded.weight())
+                .recordStats()
+                .build();
+        this.brotliAvailable = Brotli4jLoader.isAvailable();
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "responseCache");
+
+        if (enabled && !brotliAvailable) {
+            log.warn("Brotli native library not available, caching gzip variants only: {}",
+                    Brotli4jLoader.getUnavailabilityCause().getMessage());
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !ConditionalGetInterceptor.isSafeRead(request)
+                || !paths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        // Bodies may be older than the data while the snapshot lags, nothing to key them by
+        OptionalLong version = validators.servedVersion();
+        if (version.isEmpty()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String etag = validators.etag(version.getAsLong(), request);
+        Key key = new Key(request.getRequestURI(), request.getQueryString(), etag);
+        Encoded cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            write(request, response, cached, etag);
+            return;
+        }
+
+        misses.increment();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+
+        if (!isCacheable(wrapper) || validators.servedVersion().orElse(-1) != version.getAsLong()) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        Encoded encoded = encode(wrapper.getContentAsByteArray(), wrapper.getContentType());
+        cache.put(key, encoded);
+        write(request, response, encoded, etag);
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE + 2)
+    public void onDataChanged(PortfolioDataChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    // ===== ENCODING =====
+
+    private static boolean isCacheable(ContentCachingResponseWrapper response) {
+        return response.getStatus() == HttpServletResponse.SC_OK
+                && response.getContentSize() > 0
+                && response.getHeader(HttpHeaders.CONTENT_ENCODING) == null
+                && response.getContentType() != null
+                && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(response.getContentType()));
+    }
+
+    private Encoded encode(byte[] json, String contentType) throws IOException {
+        byte[] gzip = smallerThan(json, gzip(json));
+        byte[] brotli = brotliAvailable ? smallerThan(json, Encoder.compress(json)) : null;
+        return new Encoded(contentType, json, gzip, brotli);
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(json);
+        }
+        return bytes.toByteArray();
+    }
+
+    // Tiny bodies can grow when compressed, those are only served as is
+    private static byte[] smallerThan(byte[] json, byte[] compressed) {
+        return compressed.length < json.length ? compressed : null;
+    }
+
+    /**
+     * Writes the negotiated variant, or a 304 when the client holds any variant of the
+     * version. Each coding has its own strong ETag (RFC 9110, 8.8.3).
+     */
+    private void write(HttpServletRequest request, HttpServletResponse response, Encoded encoded, String etag)
+            throws IOException {
+        String coding = negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING), encoded);
+        validators.write(response, ResponseValidators.withCoding(etag, coding));
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (validators.notModified(request, etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] body = encoded.body(coding);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(encoded.contentType());
+        if (!IDENTITY.equals(coding)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, coding);
+        }
+        response.setContentLength(body.length);
+        if (!"HEAD".equals(request.getMethod())) {
+            response.getOutputStream().write(body);
+        }
+    }
+
+    /**
+     * Picks the stored coding with the highest q-value, identity included; ties prefer
+     * br, then gzip. Identity is served when nothing listed is acceptable.
+     */
+    static String negotiate(String acceptEncoding, Encoded encoded) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return IDENTITY;
+        }
+
+        Map<String, Double> weights = new HashMap<>();
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            double q = 1.0;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        q = Double.parseDouble(param.substring(2));
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            weights.put(tokens[0].trim().toLowerCase(Locale.ROOT), q);
+        }
+
+        double wildcard = weights.getOrDefault("*", 0.0);
+        String best = IDENTITY;
+        double bestWeight = 0;
+        for (String coding : List.of(BROTLI, GZIP, IDENTITY)) {
+            double weight = weights.getOrDefault(coding, wildcard);
+            if (encoded.body(coding) != null && weight > bestWeight) {
+                best = coding;
+                bestWeight = weight;
+            }
+        }
+        return best;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("portfolio.response-cache.requests")
+                .description("Requests to cached endpoints, answered from stored bytes or by the controller")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // The query string stays part of the key, the endpoints may grow parameters
+    private record Key(String uri, String query, String etag) {
+    }
+
+    record Encoded(String contentType, byte[] json, byte[] gzip, byte[] brotli) {
+
+        byte[] body(String coding) {
+            return switch (coding) {
+                case BROTLI -> brotli;
+                case GZIP -> gzip;
+                default -> json;
+            };
+        }
+
+        int weight() {
+            return json.length
+                    + (gzip == null ? 0 : gzip.length)
+                    + (brotli == null ? 0 : brotli.length);
+        }
+    }
+}
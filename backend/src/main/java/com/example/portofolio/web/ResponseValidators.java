@@ -0,0 +1,135 @@
+package com.example.portofolio.web;
+
+import com.example.portofolio.event.DataVersion;
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * ETag and Last-Modified of the portfolio responses. Every body is a function of the
+ * global {@link DataVersion}, as long as the snapshot serving it is not behind.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseValidators {
+
+    // Request headers that select a different body for the same URL
+    private static final List<String> VARIANT_HEADERS = List.of("X-Route-Context", "X-Bundle-Versions");
+    private static final int VARIANT_LENGTH = 12;
+    // Content codings ResponseCacheFilter suffixes its ETags with
+    private static final List<String> CODINGS = List.of("gzip", "br");
+
+    private final DataVersion dataVersion;
+    private final PortfolioSnapshotHolder snapshotHolder;
+
+    /**
+     * The data version responses reflect right now, empty while the snapshot lags
+     * behind the data and bodies may be older than the current version
+     */
+    public OptionalLong servedVersion() {
+        long version = dataVersion.current();
+        boolean snapshotBehind = snapshotHolder.current()
+                .map(PortfolioSnapshot::getDataVersion)
+                .filter(builtFrom -> builtFrom != version)
+                .isPresent();
+        return snapshotBehind ? OptionalLong.empty() : OptionalLong.of(version);
+    }
+
+    public String etag(long version, HttpServletRequest request) {
+        return "\"" + dataVersion.tag(version) + variant(request) + "\"";
+    }
+
+    /**
+     * The ETag of the body sent with the given content coding
+     */
+    public static String withCoding(String etag, String coding) {
+        if (coding == null || "identity".equals(coding)) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-" + coding + "\"";
+    }
+
+    /**
+     * Sets the validators of the version. Last-Modified is left out while the second of
+     * the last change is still running, as another change within it would keep the same
+     * date (RFC 9110, 8.8.2.2).
+     */
+    public void write(HttpServletResponse response, String etag) {
+        response.setHeader(HttpHeaders.ETAG, etag);
+        Instant lastModified = dataVersion.lastModified();
+        if (isSettled(lastModified)) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified.toEpochMilli());
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+    }
+
+    /**
+     * Whether the client holds a body of the version, in any content coding.
+     * If-None-Match wins over If-Modified-Since when both are sent (RFC 9110, 13.2.2).
+     */
+    public boolean notModified(HttpServletRequest request, String etag) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || matches(stripWeak(tag), etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        try {
+            long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            Instant lastModified = dataVersion.lastModified();
+            return ifModifiedSince != -1 && isSettled(lastModified) && lastModified.toEpochMilli() <= ifModifiedSince;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // Whether no later change can fall within the second of the given one
+    private static boolean isSettled(Instant lastModified) {
+        return !lastModified.plusSeconds(1).isAfter(Instant.now());
+    }
+
+    private static boolean matches(String tag, String etag) {
+        return tag.equals(etag) || CODINGS.stream().anyMatch(coding -> tag.equals(withCoding(etag, coding)));
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static String variant(HttpServletRequest request) {
+        StringBuilder values = new StringBuilder();
+        for (String header : VARIANT_HEADERS) {
+            String value = request.getHeader(header);
+            if (value != null) {
+                values.append(header).append('=').append(value).append('\n');
+            }
+        }
+        if (values.isEmpty()) {
+            return "";
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(values.toString().getBytes(StandardCharsets.UTF_8));
+            return "-" + HexFormat.of().formatHex(digest).substring(0, VARIANT_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
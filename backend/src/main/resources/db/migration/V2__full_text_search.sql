@@ -0,0 +1,46 @@
+-- Full-text search over projects, skills, certificates and technologies.
+--
+-- Each table gets a stored tsvector generated from its searchable columns, weighted
+-- A (name/title), B (category/provider), C (descriptions) and D (long descriptions),
+-- and a GIN index on it.
+-- The 'simple' configuration does no stemming: portfolio content mixes languages and
+-- is mostly names of technologies, which stemming would only mangle.
+
+ALTER TABLE project
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+            setweight(to_tsvector('simple', coalesce(category, '')), 'B') ||
+            setweight(to_tsvector('simple', coalesce(description, '')), 'C') ||
+            setweight(to_tsvector('simple', coalesce(long_description, '')), 'D')
+        ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_project_search_vector ON project USING GIN (search_vector);
+
+ALTER TABLE skill
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+            setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+        ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_skill_search_vector ON skill USING GIN (search_vector);
+
+ALTER TABLE certificate
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+            setweight(to_tsvector('simple', coalesce(provider, '')), 'B') ||
+            setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+        ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_certificate_search_vector ON certificate USING GIN (search_vector);
+
+ALTER TABLE technology
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+            setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+        ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_technology_search_vector ON technology USING GIN (search_vector);
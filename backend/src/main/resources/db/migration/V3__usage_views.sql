@@ -0,0 +1,46 @@
+-- Per-personal usage of technologies and skills.
+--
+-- entity_technology and entity_skill link to projects, certificates and education
+-- through (entity_type, entity_id), without a foreign key, so finding the personal
+-- behind a link needs a join through the owning table. These views resolve that join
+-- once: one row per (personal_id, technology_id) and (personal_id, skill_id) with
+-- the number of linked projects, certificates and education entries. Links whose
+-- owner is gone are not counted.
+--
+-- The unique indexes let UsageViewRefresher refresh them CONCURRENTLY, so readers
+-- are never blocked by a refresh.
+
+CREATE MATERIALIZED VIEW IF NOT EXISTS technology_usage AS
+SELECT owner.personal_id,
+       et.technology_id,
+       COUNT(*) FILTER (WHERE et.entity_type = 'PROJECT')     AS project_count,
+       COUNT(*) FILTER (WHERE et.entity_type = 'CERTIFICATE') AS certificate_count,
+       COUNT(*) FILTER (WHERE et.entity_type = 'EDUCATION')   AS education_count
+FROM entity_technology et
+JOIN (SELECT 'PROJECT' AS entity_type, id, personal_id FROM project
+      UNION ALL
+      SELECT 'CERTIFICATE', id, personal_id FROM certificate
+      UNION ALL
+      SELECT 'EDUCATION', id, personal_id FROM education) owner
+  ON owner.entity_type = et.entity_type AND owner.id = et.entity_id
+GROUP BY owner.personal_id, et.technology_id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_technology_usage_key ON technology_usage (personal_id, technology_id);
+
+CREATE MATERIALIZED VIEW IF NOT EXISTS skill_usage AS
+SELECT owner.personal_id,
+       es.skill_id,
+       COUNT(*) FILTER (WHERE es.entity_type = 'PROJECT')     AS project_count,
+       COUNT(*) FILTER (WHERE es.entity_type = 'CERTIFICATE') AS certificate_count,
+       COUNT(*) FILTER (WHERE es.entity_type = 'EDUCATION')   AS education_count
+FROM entity_skill es
+JOIN (SELECT 'PROJECT' AS entity_type, id, personal_id FROM project
+      UNION ALL
+      SELECT 'CERTIFICATE', id, personal_id FROM certificate
+      UNION ALL
+      SELECT 'EDUCATION', id, personal_id FROM education) owner
+  ON owner.entity_type = es.entity_type AND owner.id = es.entity_id
+GROUP BY owner.personal_id, es.skill_id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_skill_usage_key ON skill_usage (personal_id, skill_id);
+CREATE INDEX IF NOT EXISTS idx_skill_usage_skill ON skill_usage (skill_id);
@@ -0,0 +1,77 @@
+package com.example.portofolio.autocomplete;
+
+import com.example.portofolio.autocomplete.AutocompleteIndex.Kind;
+import com.example.portofolio.autocomplete.AutocompleteIndex.Suggestion;
+import com.example.portofolio.autocomplete.AutocompleteIndex.Term;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Autocomplete Index Tests")
+class AutocompleteIndexTest {
+
+    private AutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AutocompleteIndex(100, 5);
+        index.update(Kind.TECHNOLOGY, 1, List.of(new Term(Kind.TECHNOLOGY, "Spring Boot")));
+        index.update(Kind.TECHNOLOGY, 2, List.of(new Term(Kind.TECHNOLOGY, "Spring")));
+        index.update(Kind.SKILL, 1, List.of(new Term(Kind.SKILL, "Aplicații Web")));
+        index.update(Kind.PROJECT, 7, List.of(
+                new Term(Kind.PROJECT, "Portfolio Platform"),
+                new Term(Kind.TAG, "springboot")));
+    }
+
+    @Test
+    @DisplayName("Should suggest word prefixes shortest first, ignoring case and diacritics")
+    void shouldSuggestPrefixes() {
+        assertThat(index.suggest("SPR", 5)).containsExactly(
+                new Suggestion(Kind.TECHNOLOGY, "Spring", 2L),
+                new Suggestion(Kind.TAG, "springboot", null),
+                new Suggestion(Kind.TECHNOLOGY, "Spring Boot", 1L));
+        assertThat(index.suggest("boot", 1)).containsExactly(new Suggestion(Kind.TECHNOLOGY, "Spring Boot", 1L));
+        assertThat(index.suggest("aplicatii", 5)).containsExactly(new Suggestion(Kind.SKILL, "Aplicații Web", 1L));
+        assertThat(index.suggest("spr", 2)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should complete prefix suggestions with terms containing the query")
+    void shouldCompleteWithInfixMatches() {
+        assertThat(index.suggest("boot", 5)).containsExactly(
+                new Suggestion(Kind.TECHNOLOGY, "Spring Boot", 1L),
+                new Suggestion(Kind.TAG, "springboot", null));
+        assertThat(index.suggest("form", 5)).containsExactly(new Suggestion(Kind.PROJECT, "Portfolio Platform", 7L));
+        assertThat(index.suggest("ringb", 5)).containsExactly(new Suggestion(Kind.TAG, "springboot", null));
+        assertThat(index.suggest("xyz", 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should replace and remove the terms of a source")
+    void shouldReplaceAndRemoveSources() {
+        index.update(Kind.TECHNOLOGY, 2, List.of(new Term(Kind.TECHNOLOGY, "Angular")));
+        index.remove(Kind.PROJECT, 7);
+
+        assertThat(index.suggest("spr", 5)).containsExactly(new Suggestion(Kind.TECHNOLOGY, "Spring Boot", 1L));
+        assertThat(index.suggest("ang", 5)).containsExactly(new Suggestion(Kind.TECHNOLOGY, "Angular", 2L));
+        assertThat(index.suggest("platform", 5)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should drop terms past the maximum and reject out-of-range limits")
+    void shouldBoundTermsAndLimits() {
+        AutocompleteIndex small = new AutocompleteIndex(2, 5);
+
+        assertThat(small.update(Kind.TECHNOLOGY, 1, List.of(new Term(Kind.TECHNOLOGY, "Java")))).isTrue();
+        assertThat(small.update(Kind.PROJECT, 1, List.of(
+                new Term(Kind.PROJECT, "Shop"), new Term(Kind.TAG, "java")))).isFalse();
+        assertThat(small.size()).isEqualTo(2);
+        assertThatThrownBy(() -> small.suggest("java", 6)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> small.suggest("java", 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
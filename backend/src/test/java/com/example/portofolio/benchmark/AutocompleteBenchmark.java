@@ -0,0 +1,147 @@
+package com.example.portofolio.benchmark;
+
+import com.example.portofolio.autocomplete.AutocompleteIndex;
+import com.example.portofolio.autocomplete.AutocompleteIndex.Kind;
+import com.example.portofolio.autocomplete.AutocompleteIndex.Term;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Autocomplete lookups and updates on an index of about 30k terms: 10k technologies,
+ * 10k skills and 5k projects with two tags each. Sampled, so the output carries the
+ * p99 and p99.9 of every operation. The index's estimated size and the heap it
+ * retains (measured around the build, after GC) are printed at setup.
+ * <p>
+ * Prefix queries are two to four letters of a word, answered from the trie; infix
+ * queries are three to five letters from inside a word, answered from the trigram
+ * postings. An update renames one project and its tags.
+ *
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.example.portofolio.benchmark.AutocompleteBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AutocompleteBenchmark {
+
+    private static final String[] SYLLABLES = {
+            "ja", "va", "spr", "ing", "ang", "ul", "ar", "re", "act", "py", "thon", "do", "cker", "kub",
+            "er", "net", "es", "pos", "gre", "sql", "red", "is", "li", "nux", "clo", "ud", "da", "ta",
+            "web", "mo", "bi", "le", "se", "cu", "ri", "ty", "pla", "tform", "ser", "vi", "ce", "de", "sign"
+    };
+
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"10000"})
+    private int technologyCount;
+
+    @Param({"10000"})
+    private int skillCount;
+
+    @Param({"5000"})
+    private int projectCount;
+
+    private AutocompleteIndex index;
+    private String[] prefixQueries;
+    private String[] infixQueries;
+    private List<List<Term>> projectRenames;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<String> words = new ArrayList<>();
+
+        long heapBefore = usedHeap();
+        index = new AutocompleteIndex(50_000, 10);
+        for (int i = 0; i < technologyCount; i++) {
+            index.update(Kind.TECHNOLOGY, i, List.of(new Term(Kind.TECHNOLOGY, phrase(random, 1, words) + " " + i)));
+        }
+        for (int i = 0; i < skillCount; i++) {
+            index.update(Kind.SKILL, i, List.of(new Term(Kind.SKILL, phrase(random, 2, words))));
+        }
+        for (int i = 0; i < projectCount; i++) {
+            index.update(Kind.PROJECT, i, projectTerms(random, words));
+        }
+        long heapAfter = usedHeap();
+        System.out.printf("%nAutocomplete index: %d terms, estimated %d KB, retained heap %d KB%n",
+                index.size(), index.estimatedBytes() / 1024, (heapAfter - heapBefore) / 1024);
+
+        prefixQueries = new String[QUERY_COUNT];
+        infixQueries = new String[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            String word = words.get(random.nextInt(words.size()));
+            prefixQueries[i] = word.substring(0, Math.min(word.length(), 2 + random.nextInt(3)));
+            int start = Math.min(1, word.length() - 3);
+            infixQueries[i] = word.substring(start, Math.min(word.length(), start + 3 + random.nextInt(3)));
+        }
+        projectRenames = new ArrayList<>(QUERY_COUNT);
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            projectRenames.add(projectTerms(random, words));
+        }
+    }
+
+    @Benchmark
+    public void prefixLookup(Blackhole blackhole) {
+        blackhole.consume(index.suggest(prefixQueries[next++ & (QUERY_COUNT - 1)], 8));
+    }
+
+    @Benchmark
+    public void infixLookup(Blackhole blackhole) {
+        blackhole.consume(index.suggest(infixQueries[next++ & (QUERY_COUNT - 1)], 8));
+    }
+
+    @Benchmark
+    public void projectUpdate(Blackhole blackhole) {
+        int i = next++ & (QUERY_COUNT - 1);
+        blackhole.consume(index.update(Kind.PROJECT, i % projectCount, projectRenames.get(i)));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AutocompleteBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    // ===== TEST DATA =====
+
+    private static List<Term> projectTerms(Random random, List<String> words) {
+        return List.of(
+                new Term(Kind.PROJECT, phrase(random, 3, words)),
+                new Term(Kind.TAG, phrase(random, 1, words)),
+                new Term(Kind.TAG, phrase(random, 1, words)));
+    }
+
+    private static String phrase(Random random, int wordCount, List<String> words) {
+        StringBuilder phrase = new StringBuilder();
+        for (int w = 0; w < wordCount; w++) {
+            StringBuilder word = new StringBuilder();
+            for (int s = 1 + random.nextInt(3); s >= 0; s--) {
+                word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            words.add(word.toString());
+            phrase.append(w == 0 ? "" : " ").append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+        }
+        return phrase.toString();
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.portofolio.benchmark;
+
+import com.example.portofolio.entity.Certificate;
+import com.example.portofolio.service.support.CertificateMatchingIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Certificate/technology matching: legacy per-technology scan vs precompiled index,
+ * at 1k technologies × 500 certificates. Database access is left out of both sides.
+ *
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.example.portofolio.benchmark.CertificateMatchingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CertificateMatchingBenchmark {
+
+    private static final String[] BASE_TECHNOLOGIES = {
+            "java", "python", "javascript", "typescript", "node", "react", "angular", "vue", "spring",
+            "aws", "docker", "kubernetes", "terraform", "mongodb", "postgresql", "mysql", "redis",
+            "jenkins", "git", "linux", "scrum", "kotlin", "rust", "go", "graphql", "kafka"
+    };
+
+    private static final String[] PROVIDERS = {
+            "Oracle", "Amazon Web Services", "Microsoft", "Google Cloud", "Coursera", "Udemy",
+            "HashiCorp", "Red Hat", "Linux Foundation", "Scrum.org", "MongoDB University", "Atlassian"
+    };
+
+    @Param({"1000"})
+    private int technologyCount;
+
+    @Param({"500"})
+    private int certificateCount;
+
+    private List<String> technologyNames;
+    private List<Certificate> certificates;
+    private CertificateMatchingIndex prebuiltIndex;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        technologyNames = new ArrayList<>(technologyCount);
+        for (int i = 0; i < technologyCount; i++) {
+            String base = BASE_TECHNOLOGIES[i % BASE_TECHNOLOGIES.length];
+            technologyNames.add(i < BASE_TECHNOLOGIES.length ? base : base + " Toolkit " + i);
+        }
+
+        certificates = new ArrayList<>(certificateCount);
+        for (int i = 0; i < certificateCount; i++) {
+            String technology = technologyNames.get(random.nextInt(technologyCount));
+            certificates.add(Certificate.builder()
+                    .name("Certified " + technology + " Professional " + i)
+                    .description("Covers advanced " + technology + " topics, tooling, deployment and best practices "
+                            + "for production systems, including monitoring and security hardening.")
+                    .provider(PROVIDERS[random.nextInt(PROVIDERS.length)])
+                    .verified(true)
+                    .build());
+        }
+
+        prebuiltIndex = CertificateMatchingIndex.build("benchmark", technologyNames, certificates);
+    }
+
+    @Benchmark
+    public void legacyPerTechnologyScan(Blackhole blackhole) {
+        for (String technologyName : technologyNames) {
+            blackhole.consume(legacyHasCertification(technologyName, certificates));
+        }
+    }
+
+    @Benchmark
+    public void indexBuildAndLookup(Blackhole blackhole) {
+        CertificateMatchingIndex index = CertificateMatchingIndex.build("benchmark", technologyNames, certificates);
+        for (String technologyName : technologyNames) {
+            blackhole.consume(index.isCertified(technologyName));
+        }
+    }
+
+    @Benchmark
+    public void prebuiltIndexLookup(Blackhole blackhole) {
+        for (String technologyName : technologyNames) {
+            blackhole.consume(prebuiltIndex.isCertified(technologyName));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CertificateMatchingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    // ===== LEGACY PATH (TechnologyService.hasCertification before the index) =====
+
+    private static boolean legacyHasCertification(String technologyName, List<Certificate> certificates) {
+        String techName = technologyName.toLowerCase();
+        return certificates.stream().anyMatch(cert -> {
+            String certName = cert.getName().toLowerCase();
+            String certDescription = cert.getDescription() != null ? cert.getDescription().toLowerCase() : "";
+            String provider = cert.getProvider().toLowerCase();
+
+            if (certName.contains(techName)) {
+                return true;
+            }
+            if (certDescription.contains(techName)) {
+                return true;
+            }
+            return legacyIsProviderKnownForTechnology(provider, techName);
+        });
+    }
+
+    private static boolean legacyIsProviderKnownForTechnology(String provider, String techName) {
+        Map<String, List<String>> techProviders = new HashMap<>();
+        techProviders.put("java", List.of("oracle", "sun", "redhat", "ibm"));
+        techProviders.put("python", List.of("python", "psf", "jetbrains"));
+        techProviders.put("javascript", List.of("mozilla", "ecma"));
+        techProviders.put("typescript", List.of("microsoft"));
+        techProviders.put("node", List.of("nodejs", "node"));
+        techProviders.put("react", List.of("meta", "facebook"));
+        techProviders.put("angular", List.of("google"));
+        techProviders.put("vue", List.of("vue"));
+        techProviders.put("spring", List.of("pivotal", "vmware", "spring"));
+        techProviders.put("aws", List.of("amazon", "aws"));
+        techProviders.put("microsoft", List.of("microsoft", "azure", "office"));
+        techProviders.put("google", List.of("google", "gcp"));
+        techProviders.put("docker", List.of("docker", "mirantis"));
+        techProviders.put("kubernetes", List.of("cncf", "kubernetes", "redhat"));
+        techProviders.put("terraform", List.of("hashicorp"));
+        techProviders.put("ansible", List.of("redhat"));
+        techProviders.put("puppet", List.of("puppet"));
+        techProviders.put("chef", List.of("chef"));
+        techProviders.put("mongodb", List.of("mongodb", "mongo"));
+        techProviders.put("postgresql", List.of("postgresql", "postgres"));
+        techProviders.put("mysql", List.of("mysql", "oracle"));
+        techProviders.put("redis", List.of("redis", "redislabs"));
+        techProviders.put("elasticsearch", List.of("elastic"));
+        techProviders.put("jenkins", List.of("cloudbees", "jenkins"));
+        techProviders.put("git", List.of("git", "github", "gitlab", "atlassian"));
+        techProviders.put("jira", List.of("atlassian"));
+        techProviders.put("confluence", List.of("atlassian"));
+        techProviders.put("salesforce", List.of("salesforce"));
+        techProviders.put("tableau", List.of("tableau"));
+        techProviders.put("powerbi", List.of("microsoft"));
+        techProviders.put("scrum", List.of("scrum", "scrumalliance", "scrum.org"));
+        techProviders.put("agile", List.of("scaled", "safe", "agile"));
+        techProviders.put("pmp", List.of("pmi", "project management institute"));
+        techProviders.put("itil", List.of("axelos", "itil"));
+        techProviders.put("cisco", List.of("cisco"));
+        techProviders.put("comptia", List.of("comptia"));
+        techProviders.put("linux", List.of("redhat", "suse", "canonical", "lpi"));
+        techProviders.put("ubuntu", List.of("canonical"));
+        techProviders.put("centos", List.of("redhat"));
+
+        return techProviders.entrySet().stream()
+                .anyMatch(entry -> techName.toLowerCase().contains(entry.getKey()) &&
+                        entry.getValue().stream()
+                                .anyMatch(knownProvider -> provider.toLowerCase().contains(knownProvider.toLowerCase())));
+    }
+}
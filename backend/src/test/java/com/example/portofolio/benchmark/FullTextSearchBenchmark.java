@@ -0,0 +1,178 @@
+package com.example.portofolio.benchmark;
+
+import com.example.portofolio.PortfolioApplication;
+import com.example.portofolio.repository.CertificateRepository;
+import com.example.portofolio.repository.ProjectRepository;
+import com.example.portofolio.repository.SkillRepository;
+import com.example.portofolio.repository.TechnologyRepository;
+import com.example.portofolio.service.portofolio.SearchService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Portfolio search: the LIKE '%term%' queries of the four repositories vs the unified
+ * full-text query of {@link SearchService}, on PostgreSQL with 100k rows (25k each of
+ * projects, skills, certificates and technologies). The application runs against a
+ * Testcontainers database, so the schema is Hibernate's and the search columns come
+ * from the Flyway migration. Caches are off, both sides hit the database.
+ * <p>
+ * The search term is in about 1% of the descriptions. The LIKE side returns every
+ * match as entities, as those queries do; the full-text side returns the first page
+ * of 20 ranked, highlighted hits, and the page after it.
+ *
+ * Run with (needs Docker):
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.example.portofolio.benchmark.FullTextSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FullTextSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "application", "platform", "service", "design", "data", "pipeline", "cloud", "web", "mobile",
+            "backend", "frontend", "testing", "deployment", "monitoring", "security", "performance", "api",
+            "java", "spring", "angular", "react", "python", "docker", "postgresql", "redis", "linux"
+    };
+
+    private static final String TERM = "kubernetes";
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"25000"})
+    private int rowsPerTable;
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext context;
+
+    private Long personalId;
+    private String secondPageCursor;
+
+    private ProjectRepository projectRepository;
+    private SkillRepository skillRepository;
+    private CertificateRepository certificateRepository;
+    private TechnologyRepository technologyRepository;
+    private SearchService searchService;
+
+    @Setup
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+
+        context = new SpringApplicationBuilder(PortfolioApplication.class).run(
+                "--spring.profiles.active=prod",
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--spring.cache.type=none",
+                "--server.port=0",
+                "--portfolio.snapshot.enabled=false",
+                "--portfolio.warmup.enabled=false",
+                "--logging.level.root=WARN");
+
+        seed(context.getBean(JdbcTemplate.class));
+
+        projectRepository = context.getBean(ProjectRepository.class);
+        skillRepository = context.getBean(SkillRepository.class);
+        certificateRepository = context.getBean(CertificateRepository.class);
+        technologyRepository = context.getBean(TechnologyRepository.class);
+        searchService = context.getBean(SearchService.class);
+        secondPageCursor = searchService.search(personalId, TERM, null, PAGE_SIZE).getNextCursor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public void likeQueries(Blackhole blackhole) {
+        blackhole.consume(projectRepository.findByPersonalIdAndSearchTerm(personalId, TERM));
+        blackhole.consume(skillRepository.findByPersonalIdAndNameOrDescriptionContaining(personalId, TERM));
+        blackhole.consume(certificateRepository.findByPersonalIdAndSearchTerm(personalId, TERM));
+        blackhole.consume(technologyRepository.findByNameOrDescriptionContaining(TERM));
+    }
+
+    @Benchmark
+    public void fullTextFirstPage(Blackhole blackhole) {
+        blackhole.consume(searchService.search(personalId, TERM, null, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public void fullTextNextPage(Blackhole blackhole) {
+        blackhole.consume(searchService.search(personalId, TERM, secondPageCursor, PAGE_SIZE));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FullTextSearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    // ===== TEST DATA =====
+
+    private void seed(JdbcTemplate jdbc) {
+        Random random = new Random(42);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        personalId = jdbc.queryForObject("INSERT INTO personal (first_name, last_name, created_at) "
+                + "VALUES ('John', 'Doe', ?) RETURNING id", Long.class, now);
+        Long skillCategoryId = jdbc.queryForObject("INSERT INTO skill_category (name, created_at) "
+                + "VALUES ('Benchmark', ?) RETURNING id", Long.class, now);
+        Long certificationCategoryId = jdbc.queryForObject("INSERT INTO certification_category (name, created_at) "
+                + "VALUES ('Benchmark', ?) RETURNING id", Long.class, now);
+        Long technologyCategoryId = jdbc.queryForObject("INSERT INTO technology_category (name, created_at) "
+                + "VALUES ('Benchmark', ?) RETURNING id", Long.class, now);
+
+        List<Object[]> projects = new ArrayList<>(rowsPerTable);
+        List<Object[]> skills = new ArrayList<>(rowsPerTable);
+        List<Object[]> certificates = new ArrayList<>(rowsPerTable);
+        List<Object[]> technologies = new ArrayList<>(rowsPerTable);
+        for (int i = 0; i < rowsPerTable; i++) {
+            projects.add(new Object[]{personalId, "Project " + i, description(random), now});
+            skills.add(new Object[]{personalId, skillCategoryId, "Skill " + i, description(random), now});
+            certificates.add(new Object[]{personalId, certificationCategoryId, "Certificate " + i,
+                    description(random), java.sql.Date.valueOf(LocalDate.of(2024, 1, 1)), now});
+            technologies.add(new Object[]{technologyCategoryId, "Technology " + i, description(random), now});
+        }
+
+        jdbc.batchUpdate("INSERT INTO project (personal_id, title, description, category, status, complexity, tags, created_at) "
+                + "VALUES (?, ?, ?, 'Web Development', 'PRODUCTION', 'INTERMEDIATE', '{java}', ?)", projects);
+        jdbc.batchUpdate("INSERT INTO skill (personal_id, category_id, name, description, proficiency, created_at) "
+                + "VALUES (?, ?, ?, ?, 'INTERMEDIATE', ?)", skills);
+        jdbc.batchUpdate("INSERT INTO certificate (personal_id, category_id, name, description, provider, issue_date, created_at) "
+                + "VALUES (?, ?, ?, ?, 'Cloud Academy', ?, ?)", certificates);
+        jdbc.batchUpdate("INSERT INTO technology (category_id, name, description, created_at) "
+                + "VALUES (?, ?, ?, ?)", technologies);
+        jdbc.execute("ANALYZE");
+    }
+
+    private static String description(Random random) {
+        StringBuilder description = new StringBuilder();
+        for (int word = 0; word < 40; word++) {
+            description.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        if (random.nextInt(100) == 0) {
+            description.append(TERM);
+        }
+        return description.toString().trim();
+    }
+}
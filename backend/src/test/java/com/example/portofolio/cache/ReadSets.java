@@ -0,0 +1,22 @@
+package com.example.portofolio.cache;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Records and inspects read sets from tests outside this package, standing in for the
+ * Hibernate reads {@link ReadSetRecorder} attributes to them
+ */
+public final class ReadSets {
+
+    private ReadSets() {
+    }
+
+    public static void recordQuerySpace(ReadSetTracker tracker, String space) {
+        tracker.recordQuerySpaces(List.of(space));
+    }
+
+    public static Set<String> querySpaces(ReadSet readSet) {
+        return readSet.querySpaces();
+    }
+}
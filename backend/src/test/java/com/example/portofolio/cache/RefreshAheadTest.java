@@ -0,0 +1,254 @@
+package com.example.portofolio.cache;
+
+import com.example.portofolio.config.CacheConfig;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.Advisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@SpringJUnitConfig(RefreshAheadTest.Config.class)
+@DisplayName("Refresh Ahead Tests")
+class RefreshAheadTest {
+
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration SOFT_TTL = Duration.ofMinutes(5);
+    private static final Duration HARD_TTL = Duration.ofMinutes(30);
+
+    @Autowired
+    private Rates rates;
+
+    @Autowired
+    private FakeTicker ticker;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        rates.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        rates.release();
+        cacheManager.getCache("rates").clear();
+        meterRegistry.clear();
+    }
+
+    @Test
+    @DisplayName("Should serve the stale value past the soft TTL while one background reload runs")
+    void shouldServeStaleValueWhileReloading() {
+        assertThat(rates.rate("EUR")).isEqualTo("EUR 1");
+        ticker.advance(SOFT_TTL.plusMinutes(1));
+        rates.holdLoads();
+
+        assertThat(rates.rate("EUR")).isEqualTo("EUR 1");
+        awaitTrue(() -> rates.loads() == 2);
+        assertThat(rates.rate("EUR")).isEqualTo("EUR 1");
+        assertThat(rates.rate("EUR")).isEqualTo("EUR 1");
+
+        rates.release();
+        awaitTrue(() -> refreshes("success") == 1);
+        assertThat(rates.rate("EUR")).isEqualTo("EUR 2");
+        assertThat(rates.loads()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep the old value and record the failure when a reload fails")
+    void shouldKeepOldValueWhenReloadFails() {
+        assertThat(rates.rate("EUR")).isEqualTo("EUR 1");
+        ticker.advance(SOFT_TTL.plusMinutes(1));
+        rates.failLoads();
+
+        assertThat(rates.rate("EUR")).isEqualTo("EUR 1");
+        awaitTrue(() -> refreshes("failure") == 1);
+
+        assertThat(cacheManager.getCache("rates").get("EUR"))
+                .isNotNull()
+                .extracting(Cache.ValueWrapper::get)
+                .isEqualTo("EUR 1");
+        assertThat(refreshes("success")).isZero();
+        assertThat(rates.loads()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should still expire the entry past the hard TTL")
+    void shouldExpireAfterHardTtl() {
+        assertThat(rates.rate("EUR")).isEqualTo("EUR 1");
+        ticker.advance(HARD_TTL.plusMinutes(1));
+
+        assertThat(rates.rate("EUR")).isEqualTo("EUR 2");
+        assertThat(rates.loads()).isEqualTo(2);
+        assertThat(refreshes("success") + refreshes("failure")).isZero();
+    }
+
+    private long refreshes(String result) {
+        Timer timer = meterRegistry.find("cache.refresh").tags("cache", "rates", "result", result).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + AWAIT_TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition met within %s", AWAIT_TIMEOUT).isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    // ===== CONTEXT =====
+
+    @Configuration
+    @EnableCaching(proxyTargetClass = true)
+    @EnableAspectJAutoProxy(proxyTargetClass = true)
+    static class Config {
+
+        @Bean
+        static Advisor cachedInvocationAdvisor(@Lazy CachedInvocations invocations) {
+            return CacheConfig.cachedInvocationAdvisor(invocations);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        CachedInvocations cachedInvocations() {
+            return new CachedInvocations();
+        }
+
+        @Bean
+        RefreshAhead refreshAhead(CachedInvocations invocations, MeterRegistry meterRegistry) {
+            return new RefreshAhead(invocations, meterRegistry);
+        }
+
+        @Bean
+        ReadSetInvalidator readSetInvalidator(ObjectProvider<RedisCacheTier> sharedTier,
+                                              ObjectProvider<CachedListPatcher<?>> listPatchers,
+                                              MeterRegistry meterRegistry) {
+            return new ReadSetInvalidator(mock(EntityManagerFactory.class), new ReadSetTracker(),
+                    sharedTier, listPatchers, meterRegistry);
+        }
+
+        @Bean
+        FakeTicker ticker() {
+            return new FakeTicker();
+        }
+
+        @Bean
+        CacheManager cacheManager(ReadSetInvalidator invalidator, RefreshAhead refreshAhead, FakeTicker ticker) {
+            ReadSetTrackingCacheManager cacheManager = new ReadSetTrackingCacheManager(
+                    invalidator, refreshAhead, Map.of("rates", SOFT_TTL), null);
+            cacheManager.registerCustomCache("rates", Caffeine.newBuilder()
+                    .expireAfterWrite(HARD_TTL)
+                    .ticker(ticker)
+                    .executor(Runnable::run)
+                    .build());
+            return cacheManager;
+        }
+
+        @Bean
+        Rates rates() {
+            return new Rates();
+        }
+    }
+
+    static class FakeTicker implements Ticker {
+
+        private final AtomicLong nanos = new AtomicLong();
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+
+        void advance(Duration duration) {
+            nanos.addAndGet(duration.toNanos());
+        }
+    }
+
+    /**
+     * Cached method the refreshes call again; state goes through methods, the test
+     * holds the proxy and not the target
+     */
+    static class Rates {
+
+        private final AtomicInteger loads = new AtomicInteger();
+        private volatile CountDownLatch gate;
+        private volatile boolean failing;
+
+        @Cacheable(cacheNames = "rates", sync = true)
+        public String rate(String currency) {
+            int load = loads.incrementAndGet();
+            CountDownLatch waitFor = gate;
+            if (waitFor != null) {
+                try {
+                    waitFor.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+            if (failing) {
+                throw new IllegalStateException("rate service down");
+            }
+            return currency + " " + load;
+        }
+
+        public int loads() {
+            return loads.get();
+        }
+
+        public void reset() {
+            loads.set(0);
+            gate = null;
+            failing = false;
+        }
+
+        public void holdLoads() {
+            gate = new CountDownLatch(1);
+        }
+
+        public void release() {
+            CountDownLatch waitFor = gate;
+            if (waitFor != null) {
+                waitFor.countDown();
+            }
+        }
+
+        public void failLoads() {
+            failing = true;
+        }
+    }
+}
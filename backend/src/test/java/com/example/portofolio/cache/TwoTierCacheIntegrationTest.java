@@ -0,0 +1,222 @@
+package com.example.portofolio.cache;
+
+import com.example.portofolio.PortfolioApplication;
+import com.example.portofolio.dto.SkillDto;
+import com.example.portofolio.entity.Personal;
+import com.example.portofolio.entity.Skill;
+import com.example.portofolio.entity.SkillCategory;
+import com.example.portofolio.entity.enums.ProficiencyLevel;
+import com.example.portofolio.service.core.SkillService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two application nodes sharing one database and an embedded Redis server, each with
+ * its own Caffeine near-cache in front of the shared tier.
+ */
+@DisplayName("Two-Tier Cache Integration Tests")
+class TwoTierCacheIntegrationTest {
+
+    private static final Duration PROPAGATION_TIMEOUT = Duration.ofSeconds(10);
+
+    private static RedisServer redisServer;
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() throws IOException {
+        int redisPort = freePort();
+        redisServer = RedisServer.newRedisServer().port(redisPort).setting("bind 127.0.0.1").build();
+        redisServer.start();
+
+        nodeA = startNode(redisPort);
+        nodeB = startNode(redisPort);
+    }
+
+    @AfterAll
+    static void stopNodes() throws IOException {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve a value computed on one node from the shared tier on another")
+    void shouldShareValuesBetweenNodes() {
+        Long personalId = persistPersonalWithSkills("Alice", 3);
+
+        List<SkillDto> computed = nodeA.getBean(SkillService.class).findByPersonalId(personalId);
+        assertThat(nodeA.getBean(StringRedisTemplate.class).hasKey("portfolio:cache:value:skills:" + personalId))
+                .isTrue();
+
+        double sharedHits = remoteRequests(nodeB, "hit");
+        List<SkillDto> shared = nodeB.getBean(SkillService.class).findByPersonalId(personalId);
+
+        assertThat(shared).hasSize(3).isEqualTo(computed);
+        assertThat(remoteRequests(nodeB, "hit")).isEqualTo(sharedHits + 1);
+    }
+
+    @Test
+    @DisplayName("Should evict every node's near-cache when one node writes")
+    void shouldInvalidateNearCachesOnWrite() {
+        Long personalId = persistPersonalWithSkills("Bob", 2);
+        assertThat(nodeA.getBean(SkillService.class).findByPersonalId(personalId)).hasSize(2);
+        assertThat(nodeB.getBean(SkillService.class).findByPersonalId(personalId)).hasSize(2);
+        assertThat(isNearCached(nodeB, personalId)).isTrue();
+
+        // The write commits on node A only, node B learns about it over pub/sub
+        inTransaction(nodeA, entityManager -> entityManager
+                .createQuery("SELECT c FROM SkillCategory c WHERE c.name = 'Bob languages'", SkillCategory.class)
+                .getSingleResult()
+                .setName("Bob frameworks"));
+
+        awaitTrue(() -> !isNearCached(nodeB, personalId));
+        assertThat(isNearCached(nodeA, personalId)).isFalse();
+        assertThat(nodeA.getBean(StringRedisTemplate.class).hasKey("portfolio:cache:value:skills:" + personalId))
+                .isFalse();
+        assertThat(nodeB.getBean(SkillService.class).findByPersonalId(personalId))
+                .extracting(SkillDto::getCategory)
+                .containsOnly("Bob frameworks");
+    }
+
+    @Test
+    @DisplayName("Should patch the cached lists of every node when one of their elements changes")
+    void shouldPatchCachedListsOnWrite() {
+        Long personalId = persistPersonalWithSkills("Carol", 2);
+        List<SkillDto> before = nodeA.getBean(SkillService.class).findByPersonalId(personalId);
+        assertThat(nodeB.getBean(SkillService.class).findByPersonalId(personalId)).isEqualTo(before);
+
+        Skill[] added = new Skill[1];
+        inTransaction(nodeA, entityManager -> {
+            entityManager.find(Skill.class, Long.valueOf(before.getFirst().getId())).setLevel(90);
+            added[0] = skill(entityManager.find(Personal.class, personalId),
+                    entityManager.createQuery("SELECT c FROM SkillCategory c WHERE c.name = 'Carol languages'", SkillCategory.class)
+                            .getSingleResult(),
+                    "Added on node A");
+            entityManager.persist(added[0]);
+        });
+
+        // Both changes of the commit reach node B as separate events, lists are patched in the background
+        for (ConfigurableApplicationContext node : List.of(nodeA, nodeB)) {
+            awaitTrue(() -> nearCached(node, personalId) != null && nearCached(node, personalId).size() == 3
+                    && nearCached(node, personalId).getFirst().getLevel() == 90);
+            List<SkillDto> patched = nearCached(node, personalId);
+            assertThat(patched).extracting(SkillDto::getId)
+                    .containsExactly(before.get(0).getId(), before.get(1).getId(), added[0].getId().toString());
+            assertThat(patched.getFirst().getLevel()).isEqualTo(90);
+            assertThat(patched.get(1)).isEqualTo(before.get(1));
+        }
+
+        inTransaction(nodeA, entityManager -> entityManager.remove(entityManager.find(Skill.class, added[0].getId())));
+
+        awaitTrue(() -> nearCached(nodeB, personalId) != null && nearCached(nodeB, personalId).size() == 2);
+        awaitTrue(() -> nearCached(nodeA, personalId) != null && nearCached(nodeA, personalId).size() == 2);
+        assertThat(nearCached(nodeA, personalId)).extracting(SkillDto::getId)
+                .containsExactly(before.get(0).getId(), before.get(1).getId());
+    }
+
+    // ===== NODES =====
+
+    private static ConfigurableApplicationContext startNode(int redisPort) {
+        // Arguments, so they win over the profile activated in application.yml
+        return new SpringApplicationBuilder(PortfolioApplication.class).run(
+                "--spring.profiles.active=test",
+                "--server.port=0",
+                "--spring.cache.type=caffeine",
+                "--spring.data.redis.host=127.0.0.1",
+                "--spring.data.redis.port=" + redisPort,
+                "--portfolio.cache.redis.enabled=true");
+    }
+
+    private static boolean isNearCached(ConfigurableApplicationContext node, Long personalId) {
+        return ((ReadSetTrackingCache) node.getBean(CacheManager.class).getCache("skills")).contains(personalId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<SkillDto> nearCached(ConfigurableApplicationContext node, Long personalId) {
+        return (List<SkillDto>) ((ReadSetTrackingCache) node.getBean(CacheManager.class).getCache("skills"))
+                .getNativeCache().getIfPresent(personalId);
+    }
+
+    private static double remoteRequests(ConfigurableApplicationContext node, String result) {
+        Counter counter = node.getBean(MeterRegistry.class).find("cache.remote.requests")
+                .tags("cache", "skills", "result", result)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + PROPAGATION_TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition met within %s", PROPAGATION_TIMEOUT).isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    // ===== TEST DATA =====
+
+    private static Long persistPersonalWithSkills(String firstName, int skillCount) {
+        Personal[] personal = new Personal[1];
+        inTransaction(nodeA, entityManager -> {
+            personal[0] = Personal.builder().firstName(firstName).lastName("Doe").build();
+            entityManager.persist(personal[0]);
+            SkillCategory category = SkillCategory.builder().name(firstName + " languages").build();
+            entityManager.persist(category);
+            for (int i = 0; i < skillCount; i++) {
+                entityManager.persist(skill(personal[0], category, firstName + " skill " + i));
+            }
+        });
+        return personal[0].getId();
+    }
+
+    private static Skill skill(Personal personal, SkillCategory category, String name) {
+        return Skill.builder()
+                .personal(personal)
+                .name(name)
+                .category(category)
+                .proficiency(ProficiencyLevel.INTERMEDIATE)
+                .level(50)
+                .build();
+    }
+
+    private static void inTransaction(ConfigurableApplicationContext node, java.util.function.Consumer<EntityManager> work) {
+        EntityManager entityManager = node.getBean(EntityManager.class);
+        node.getBean(TransactionTemplate.class).executeWithoutResult(status -> work.accept(entityManager));
+    }
+}
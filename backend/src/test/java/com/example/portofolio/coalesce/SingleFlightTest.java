@@ -0,0 +1,294 @@
+package com.example.portofolio.coalesce;
+
+import com.example.portofolio.cache.CachedInvocations;
+import com.example.portofolio.cache.ReadSet;
+import com.example.portofolio.cache.ReadSetTracker;
+import com.example.portofolio.cache.ReadSets;
+import com.example.portofolio.cache.RefreshAhead;
+import com.example.portofolio.event.DataVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Single Flight Tests")
+class SingleFlightTest {
+
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Method LOAD;
+
+    static {
+        try {
+            LOAD = Catalog.class.getDeclaredMethod("load", String.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final DataVersion dataVersion = new DataVersion();
+    private final ReadSetTracker readSetTracker = new ReadSetTracker();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final Catalog catalog = new Catalog();
+    private final AtomicInteger computations = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = singleFlight(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should give followers the leader's result and read set")
+    void shouldShareResultAndReads() throws Throwable {
+        Callable<Object> body = () -> {
+            int computation = computations.incrementAndGet();
+            release.await();
+            ReadSets.recordQuerySpace(readSetTracker, "catalog");
+            return "result " + computation;
+        };
+
+        Call leader = call("java", body);
+        awaitTrue(() -> computations.get() == 1);
+        Call follower = call("java", body);
+        follower.awaitWaiting();
+        release.countDown();
+
+        assertThat(leader.value()).isEqualTo("result 1");
+        assertThat(follower.value()).isEqualTo("result 1");
+        assertThat(follower.reads()).containsExactly("catalog");
+        assertThat(computations).hasValue(1);
+        assertThat(calls("leader", "success")).isEqualTo(1);
+        assertThat(calls("follower", "success")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should rethrow a leader failure to its followers and compute again on the next call")
+    void shouldRethrowLeaderFailure() throws Throwable {
+        Callable<Object> body = () -> {
+            int computation = computations.incrementAndGet();
+            release.await();
+            if (computation == 1) {
+                throw new IllegalStateException("database down");
+            }
+            return "result " + computation;
+        };
+
+        Call leader = call("java", body);
+        awaitTrue(() -> computations.get() == 1);
+        Call follower = call("java", body);
+        follower.awaitWaiting();
+        release.countDown();
+
+        Throwable leaderFailure = catchThrowable(leader::value);
+        assertThat(leaderFailure).isInstanceOf(IllegalStateException.class).hasMessage("database down");
+        assertThat(catchThrowable(follower::value)).isSameAs(leaderFailure);
+
+        assertThat(call("java", body).value()).isEqualTo("result 2");
+        assertThat(calls("leader", "failure")).isEqualTo(1);
+        assertThat(calls("follower", "failure")).isEqualTo(1);
+        assertThat(calls("leader", "success")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should compute on the follower's thread once the wait timeout passes")
+    void shouldComputeAfterWaitTimeout() throws Throwable {
+        singleFlight = singleFlight(Duration.ofMillis(50));
+        Callable<Object> body = blockingFirstComputation();
+
+        Call leader = call("java", body);
+        awaitTrue(() -> computations.get() == 1);
+        Call follower = call("java", body);
+
+        assertThat(follower.value()).isEqualTo("result 2");
+        assertThat(leader.future().isDone()).isFalse();
+        assertThat(calls("follower", "timeout")).isEqualTo(1);
+
+        release.countDown();
+        assertThat(leader.value()).isEqualTo("result 1");
+    }
+
+    @Test
+    @DisplayName("Should not join a flight started before a data change")
+    void shouldStartNewFlightAfterDataChange() throws Throwable {
+        // A follower would wait far longer than the call is given
+        singleFlight = singleFlight(Duration.ofMinutes(1));
+        Callable<Object> body = blockingFirstComputation();
+
+        Call leader = call("java", body);
+        awaitTrue(() -> computations.get() == 1);
+        dataVersion.advance();
+
+        assertThat(call("java", body).value()).isEqualTo("result 2");
+        assertThat(calls("leader", "success")).isEqualTo(1);
+
+        release.countDown();
+        assertThat(leader.value()).isEqualTo("result 1");
+    }
+
+    @Test
+    @DisplayName("Should run a recursive call of the same key on the leader's thread")
+    void shouldRunRecursiveCallsWithoutWaiting() throws Throwable {
+        AtomicReference<Callable<Object>> body = new AtomicReference<>();
+        body.set(() -> computations.incrementAndGet() == 1
+                ? "outer " + execute(invocation("java", body.get()))
+                : "inner");
+
+        assertThat(call("java", body.get()).value()).isEqualTo("outer inner");
+        assertThat(calls("leader", "success")).isEqualTo(1);
+        assertThat(meterRegistry.find("portfolio.single-flight.calls").tag("role", "follower").counters()).isEmpty();
+    }
+
+    // ===== CALLS =====
+
+    private SingleFlight singleFlight(Duration waitTimeout) {
+        RefreshAhead refreshAhead = new RefreshAhead(new CachedInvocations(), meterRegistry);
+        return new SingleFlight(dataVersion, readSetTracker, refreshAhead, meterRegistry, true, waitTimeout);
+    }
+
+    // The first computation waits for the release, later ones return at once
+    private Callable<Object> blockingFirstComputation() {
+        return () -> {
+            int computation = computations.incrementAndGet();
+            if (computation == 1) {
+                release.await();
+            }
+            return "result " + computation;
+        };
+    }
+
+    /**
+     * Runs a coalesced call on another thread, within a read set of its own
+     */
+    private Call call(String name, Callable<Object> body) {
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        Future<Outcome> future = callers.submit(() -> {
+            thread.set(Thread.currentThread());
+            ReadSet reads = readSetTracker.begin();
+            try {
+                return new Outcome(execute(invocation(name, body)), ReadSets.querySpaces(reads));
+            } finally {
+                readSetTracker.end(reads);
+            }
+        });
+        return new Call(future, thread);
+    }
+
+    private Object execute(MethodInvocation invocation) throws Exception {
+        try {
+            return singleFlight.execute(invocation);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MethodInvocation invocation(String name, Callable<Object> body) {
+        return new MethodInvocation() {
+            @Override
+            public Method getMethod() {
+                return LOAD;
+            }
+
+            @Override
+            public Object[] getArguments() {
+                return new Object[]{name};
+            }
+
+            @Override
+            public Object proceed() throws Throwable {
+                return body.call();
+            }
+
+            @Override
+            public Object getThis() {
+                return catalog;
+            }
+
+            @Override
+            public AccessibleObject getStaticPart() {
+                return LOAD;
+            }
+        };
+    }
+
+    private double calls(String role, String outcome) {
+        Counter counter = meterRegistry.find("portfolio.single-flight.calls")
+                .tags("method", "Catalog.load", "role", role, "outcome", outcome)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + AWAIT_TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition met within %s", AWAIT_TIMEOUT).isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    // Target of the coalesced calls, each test gives the body they run
+    static class Catalog {
+
+        String load(String name) {
+            return name;
+        }
+    }
+
+    private record Outcome(Object value, Set<String> reads) {
+    }
+
+    private record Call(Future<Outcome> future, AtomicReference<Thread> thread) {
+
+        Object value() throws Throwable {
+            return outcome().value();
+        }
+
+        Set<String> reads() throws Throwable {
+            return outcome().reads();
+        }
+
+        private Outcome outcome() throws Throwable {
+            try {
+                return future.get(AWAIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            }
+        }
+
+        // A follower parks on the leader's result until it completes or the wait times out
+        void awaitWaiting() {
+            awaitTrue(() -> thread.get() != null && thread.get().getState() == Thread.State.TIMED_WAITING);
+        }
+    }
+}
@@ -3,12 +3,14 @@ package com.example.portofolio.controller;
 import com.example.portofolio.dto.HighlightDto;
 import com.example.portofolio.dto.PersonalValueDto;
 import com.example.portofolio.service.personal.PersonalService;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 
@@ -24,6 +26,10 @@ class PersonalControllerTest {
     @Mock
     private PersonalService personalService;
 
+    // No snapshot published, so every request takes the service path
+    @Spy
+    private PortfolioSnapshotHolder snapshotHolder = new PortfolioSnapshotHolder();
+
     @InjectMocks
     private PersonalController personalController;
 
@@ -0,0 +1,236 @@
+package com.example.portofolio.memo;
+
+import com.example.portofolio.cache.ReadSetTracker;
+import com.example.portofolio.config.MemoizationConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringJUnitConfig(MemoizationInterceptorTest.Config.class)
+@DisplayName("Request Memoization Tests")
+class MemoizationInterceptorTest {
+
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(5);
+
+    @Autowired
+    private Rates rates;
+
+    @Autowired
+    private MemoScopes memoScopes;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        rates.reset();
+    }
+
+    @Test
+    @DisplayName("Should compute identical calls through the self proxy once per scope")
+    void shouldMemoizeSelfCallsWithinScope() {
+        double hitsBefore = memoCalls("hit");
+        MemoScope scope = memoScopes.open();
+        try {
+            assertThat(rates.convert("EUR", 2)).isEqualTo("EUR 1 x2");
+            assertThat(rates.convert("EUR", 3)).isEqualTo("EUR 1 x3");
+            assertThat(rates.convert("USD", 1)).isEqualTo("USD 2 x1");
+        } finally {
+            scope.close();
+        }
+
+        assertThat(rates.computations()).isEqualTo(2);
+        assertThat(scope.getHits()).isEqualTo(1);
+        assertThat(scope.getMisses()).isEqualTo(2);
+        assertThat(memoCalls("hit")).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("Should run the method on every call outside a scope")
+    void shouldNotMemoizeOutsideScope() {
+        rates.convert("EUR", 2);
+        rates.convert("EUR", 3);
+
+        assertThat(rates.computations()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not keep failures, the next call computes again")
+    void shouldNotMemoizeFailures() {
+        rates.failNext(1);
+        try (MemoScope scope = memoScopes.open()) {
+            assertThatThrownBy(() -> rates.rate("EUR"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("rate service down");
+            assertThat(rates.rate("EUR")).isEqualTo("EUR 2");
+            assertThat(rates.rate("EUR")).isEqualTo("EUR 2");
+
+            assertThat(scope.getHits()).isEqualTo(1);
+        }
+        assertThat(rates.computations()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should make concurrent callers of the scope wait for the call computing the key")
+    void shouldMakeConcurrentCallersWait() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        rates.holdUntil(release);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try (MemoScope scope = memoScopes.open()) {
+            Future<String> owner = callers.submit(memoScopes.propagate(() -> rates.rate("EUR")));
+            awaitTrue(() -> rates.computations() == 1);
+
+            AtomicReference<Thread> waiterThread = new AtomicReference<>();
+            Callable<String> waiting = () -> {
+                waiterThread.set(Thread.currentThread());
+                return rates.rate("EUR");
+            };
+            Future<String> waiter = callers.submit(memoScopes.propagate(waiting));
+            awaitTrue(() -> waiterThread.get() != null && waiterThread.get().getState() == Thread.State.WAITING);
+            release.countDown();
+
+            assertThat(owner.get(AWAIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isEqualTo("EUR 1");
+            assertThat(waiter.get(AWAIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isEqualTo("EUR 1");
+            assertThat(rates.computations()).isEqualTo(1);
+            assertThat(scope.getHits()).isEqualTo(1);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject closing scopes out of the order they were opened")
+    void shouldRejectOutOfOrderClose() {
+        MemoScope outer = memoScopes.open();
+        MemoScope inner = memoScopes.open();
+
+        assertThatThrownBy(outer::close)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Memo scopes must be closed in the order they were opened");
+        assertThat(memoScopes.current()).isSameAs(inner);
+
+        inner.close();
+        assertThat(memoScopes.current()).isSameAs(outer);
+        outer.close();
+        assertThat(memoScopes.current()).isNull();
+    }
+
+    private double memoCalls(String result) {
+        return meterRegistry.get("portfolio.memo.calls").tag("result", result).counter().count();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + AWAIT_TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition met within %s", AWAIT_TIMEOUT).isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    // ===== CONTEXT =====
+
+    @Configuration
+    @EnableAspectJAutoProxy(proxyTargetClass = true)
+    @Import(MemoizationConfig.class)
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ReadSetTracker readSetTracker() {
+            return new ReadSetTracker();
+        }
+
+        @Bean
+        MemoScopes memoScopes(ObjectProvider<MeterRegistry> meterRegistry) {
+            return new MemoScopes(meterRegistry);
+        }
+
+        @Bean
+        Rates rates(@Lazy Rates self) {
+            return new Rates(self);
+        }
+    }
+
+    /**
+     * Calls its memoized method through the proxy, as the services do
+     */
+    static class Rates {
+
+        private final Rates self;
+        private final AtomicInteger computations = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private volatile CountDownLatch gate;
+
+        Rates(Rates self) {
+            this.self = self;
+        }
+
+        // State goes through methods, the test holds the proxy and not the target
+        public void reset() {
+            computations.set(0);
+            failures.set(0);
+            gate = null;
+        }
+
+        public int computations() {
+            return computations.get();
+        }
+
+        public void failNext(int count) {
+            failures.set(count);
+        }
+
+        public void holdUntil(CountDownLatch release) {
+            gate = release;
+        }
+
+        public String convert(String currency, int amount) {
+            return self.rate(currency) + " x" + amount;
+        }
+
+        @RequestMemoized
+        public String rate(String currency) {
+            int computation = computations.incrementAndGet();
+            CountDownLatch waitFor = gate;
+            if (waitFor != null) {
+                try {
+                    waitFor.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+            if (failures.getAndDecrement() > 0) {
+                throw new IllegalStateException("rate service down");
+            }
+            return currency + " " + computation;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.portofolio.repository;
+
+import com.example.portofolio.entity.*;
+import com.example.portofolio.repository.CertificateRepository.CertificateRow;
+import com.example.portofolio.repository.PersistenceFixture.Measurement;
+import com.example.portofolio.repository.base.KeysetCursor;
+import com.example.portofolio.repository.base.RepositoryUtils;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Keyset pages read one statement each, with no count, and walk a listing in its
+ * (sort key, id) order exactly once, also when rows are inserted while paging.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Keyset Pagination Repository Tests")
+class KeysetPaginationRepositoryTest {
+
+    private static final int ROW_COUNT = 23;
+    private static final int PAGE_SIZE = 5;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CertificateRepository certificateRepository;
+
+    @Autowired
+    private AchievementRepository achievementRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private PersistenceFixture fixture;
+    private Personal testPersonal;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new PersistenceFixture(entityManager, entityManagerFactory);
+        testPersonal = fixture.persistPersonal();
+        CertificationCategory certificateCategory = fixture.persistCertificationCategory("Cloud");
+        for (int i = 0; i < ROW_COUNT; i++) {
+            // Few distinct dates, so pages break inside runs of equal sort keys
+            LocalDate date = LocalDate.of(2024, 1, 1).plusDays(i % 4);
+            fixture.persist(fixture.certificate(testPersonal, certificateCategory, "Certificate")
+                    .issueDate(date)
+                    .build());
+            fixture.persistAchievement(testPersonal, "Achievement", date);
+            fixture.persistProject(testPersonal, "Project " + i);
+        }
+        fixture.flushAndClear();
+    }
+
+    @Test
+    @DisplayName("Should page certificates by issue date and id, one statement per page")
+    void shouldPageCertificates() {
+        Long personalId = testPersonal.getId();
+        List<CertificateRow> expected = certificateRepository.findRowsByPersonalId(personalId, 10).stream()
+                .sorted(Comparator.comparing(CertificateRow::issueDate).thenComparing(CertificateRow::id).reversed())
+                .toList();
+
+        List<CertificateRow> paged = readAll(after -> certificateRepository.findRowPageByPersonalId(personalId,
+                        after != null ? after.dateKey() : RepositoryUtils.KEYSET_FIRST_DATE,
+                        after != null ? after.id() : RepositoryUtils.KEYSET_FIRST_ID,
+                        10, RepositoryUtils.createKeysetPageable(PAGE_SIZE)),
+                row -> KeysetCursor.of(row.issueDate(), row.id()), null);
+
+        assertThat(paged).extracting(CertificateRow::id)
+                .containsExactlyElementsOf(expected.stream().map(CertificateRow::id).toList());
+    }
+
+    @Test
+    @DisplayName("Should page achievements once each while rows are inserted")
+    void shouldPageAchievementsUnderInserts() {
+        Long personalId = testPersonal.getId();
+        List<Long> expected = achievementRepository.findByPersonalId(personalId).stream()
+                .sorted(Comparator.comparing(Achievement::getAchievementDate).thenComparing(Achievement::getId).reversed())
+                .map(Achievement::getId)
+                .toList();
+
+        // Every page inserts a newer achievement, which an offset would push into the next page
+        List<Achievement> paged = readAll(after -> achievementRepository.findPageByPersonalId(personalId,
+                        after != null ? after.dateKey() : RepositoryUtils.KEYSET_FIRST_DATE,
+                        after != null ? after.id() : RepositoryUtils.KEYSET_FIRST_ID,
+                        RepositoryUtils.createKeysetPageable(PAGE_SIZE)),
+                achievement -> KeysetCursor.of(achievement.getAchievementDate(), achievement.getId()),
+                () -> fixture.persistAchievement(testPersonal, "Achievement", LocalDate.of(2025, 1, 1)));
+
+        assertThat(paged).extracting(Achievement::getId).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Should page projects by id with their metrics fetched")
+    void shouldPageProjects() {
+        Long personalId = testPersonal.getId();
+
+        List<Project> paged = readAll(after -> projectRepository.findPageByPersonalIdWithMetrics(personalId,
+                        after != null ? after.id() : 0L, RepositoryUtils.createKeysetPageable(PAGE_SIZE)),
+                project -> KeysetCursor.of(project.getId(), project.getId()), null);
+
+        assertThat(paged).hasSize(ROW_COUNT);
+        assertThat(paged).extracting(Project::getId).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursors")
+    void shouldRejectMalformedCursors() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not a cursor")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.of("x", 1).dateKey()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(KeysetCursor.decode(KeysetCursor.of(LocalDate.of(2024, 2, 29), 42).encode()))
+                .isEqualTo(new KeysetCursor("2024-02-29", 42));
+    }
+
+    /**
+     * Follows the cursors to the last page, checking that each page is a single
+     * statement, and runs the given insert between pages
+     */
+    private <T> List<T> readAll(Function<KeysetCursor, Slice<T>> page, Function<T, KeysetCursor> cursorOf,
+                                Runnable betweenPages) {
+        List<T> rows = new ArrayList<>();
+        KeysetCursor after = null;
+        while (true) {
+            KeysetCursor cursor = after;
+            Measurement<Slice<T>> measured = fixture.measure(() -> page.apply(cursor));
+            Slice<T> slice = measured.result();
+            assertThat(measured.statements()).isEqualTo(1);
+            assertThat(slice.getContent()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+
+            rows.addAll(slice.getContent());
+            if (!slice.hasNext()) {
+                return rows;
+            }
+            after = KeysetCursor.decode(cursorOf.apply(slice.getContent().getLast()).encode());
+            if (betweenPages != null) {
+                betweenPages.run();
+                entityManager.flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.example.portofolio.repository;
+
+import com.example.portofolio.entity.*;
+import com.example.portofolio.entity.enums.*;
+import com.example.portofolio.repository.AchievementRepository.TimelineRow;
+import com.example.portofolio.repository.CertificateRepository.CertificateRow;
+import com.example.portofolio.repository.PersistenceFixture.Measurement;
+import com.example.portofolio.repository.ProjectRepository.ProjectCardRow;
+import com.example.portofolio.repository.SkillRepository.SkillRow;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * The row projections behind the list endpoints read one statement each, whatever the
+ * number of rows, and never load an entity into the persistence context.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("List Projection Repository Tests")
+@Slf4j
+class ListProjectionRepositoryTest {
+
+    private static final int DESCRIPTION_LENGTH = 301;
+    private static final int COMPARED_ROWS = 50;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private CertificateRepository certificateRepository;
+
+    @Autowired
+    private AchievementRepository achievementRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityMetadataRepository entityMetadataRepository;
+
+    @Autowired
+    private EntitySkillRepository entitySkillRepository;
+
+    private PersistenceFixture fixture;
+    private Personal testPersonal;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new PersistenceFixture(entityManager, entityManagerFactory);
+        testPersonal = fixture.persistPersonal();
+    }
+
+    @ParameterizedTest(name = "{0} rows")
+    @ValueSource(ints = {10, 200})
+    @DisplayName("Should read every list with one statement and no entity")
+    void shouldReadListsWithoutEntities(int rowCount) {
+        // Given
+        persistRows(rowCount);
+        fixture.flushAndClear();
+
+        // When / Then
+        Long personalId = testPersonal.getId();
+        assertThat(measure(() -> skillRepository.findRowsByPersonalId(personalId))).hasSize(rowCount);
+        assertThat(measure(() -> skillRepository.findTopRowsByLevel(personalId, PageRequest.of(0, 5)))).hasSize(5);
+        assertThat(measure(() -> certificateRepository.findRowsByPersonalId(personalId, DESCRIPTION_LENGTH)))
+                .hasSize(rowCount);
+        assertThat(measure(() -> achievementRepository.findTimelineRowsByPersonalId(personalId))).hasSize(rowCount);
+        assertThat(measure(() -> projectRepository.findCardRowsByPersonalId(personalId))).hasSize(rowCount);
+    }
+
+    @Test
+    @DisplayName("Should join metadata and count skill usage in the row query")
+    void shouldJoinMetadataAndCounts() {
+        persistRows(3);
+        fixture.flushAndClear();
+
+        List<SkillRow> skills = skillRepository.findRowsByPersonalId(testPersonal.getId());
+        assertThat(skills).extracting(SkillRow::projectCount).containsOnly(1L);
+        assertThat(skills).extracting(SkillRow::categoryName).containsOnly("Languages");
+        assertThat(skills).extracting(SkillRow::iconName).containsOnly("code");
+
+        List<ProjectCardRow> projects = projectRepository.findCardRowsByPersonalId(testPersonal.getId());
+        assertThat(projects).extracting(ProjectCardRow::featured).containsExactly(true, null, true);
+
+        List<TimelineRow> timeline = achievementRepository.findTimelineRowsByPersonalId(testPersonal.getId());
+        assertThat(timeline).extracting(TimelineRow::achievementType).containsOnly(AchievementType.AWARD);
+    }
+
+    @Test
+    @DisplayName("Should cut long certificate descriptions in SQL")
+    void shouldTruncateCertificateDescriptions() {
+        persistRows(2);
+        fixture.flushAndClear();
+
+        List<CertificateRow> certificates = certificateRepository.findRowsByPersonalId(
+                testPersonal.getId(), DESCRIPTION_LENGTH);
+
+        assertThat(certificates).extracting(CertificateRow::description)
+                .allSatisfy(description -> assertThat(description).hasSize(DESCRIPTION_LENGTH));
+    }
+
+    @Test
+    @DisplayName("Should read the skill list in fewer statements than the entity path, without loading entities")
+    void shouldReadSkillListCheaperThanEntities() {
+        persistRows(COMPARED_ROWS);
+        entityManager.flush();
+        Long personalId = testPersonal.getId();
+
+        // The removed findByPersonalIdWithCategoryAndTags path: the entities, then their metadata
+        Measurement<List<String>> entities = fixture.measure(() -> {
+            List<Skill> skills = entityManager.getEntityManager().createQuery(
+                            "SELECT s FROM Skill s LEFT JOIN FETCH s.category LEFT JOIN FETCH s.tags " +
+                                    "WHERE s.personal.id = :personalId ORDER BY s.id", Skill.class)
+                    .setParameter("personalId", personalId)
+                    .getResultList();
+            entityMetadataRepository.findByEntityTypesAndEntityIdsWithIcon(
+                    EnumSet.of(EntityType.SKILL), skills.stream().map(Skill::getId).toList());
+            return skills.stream().map(skill -> skill.getName() + "/" + skill.getCategory().getName()).toList();
+        });
+        Measurement<List<String>> rows = fixture.measure(() -> skillRepository.findRowsByPersonalId(personalId).stream()
+                .map(row -> row.name() + "/" + row.categoryName())
+                .toList());
+
+        assertThat(rows.result()).isEqualTo(entities.result());
+        assertThat(entities.entityLoads()).isGreaterThanOrEqualTo(2L * COMPARED_ROWS);
+        assertThat(rows.entityLoads()).isZero();
+        assertThat(rows.collectionLoads()).isZero();
+        assertThat(rows.statements()).isEqualTo(1).isLessThan(entities.statements());
+
+        report("skill list", entities, rows);
+    }
+
+    @Test
+    @DisplayName("Should read the top skills with their project counts in one statement instead of one per skill")
+    void shouldReadTopSkillsCheaperThanEntities() {
+        persistRows(COMPARED_ROWS);
+        entityManager.flush();
+        Long personalId = testPersonal.getId();
+
+        // The removed findTopSkillsByLevel path: the entities, then a count query per skill
+        Measurement<List<String>> entities = fixture.measure(() -> entityManager.getEntityManager().createQuery(
+                        "SELECT s, em FROM Skill s " +
+                                "LEFT JOIN EntityMetadata em ON em.entityType = 'SKILL' AND em.entityId = s.id " +
+                                "WHERE s.personal.id = :personalId AND s.level IS NOT NULL " +
+                                "ORDER BY s.level DESC, s.name ASC", Object[].class)
+                .setParameter("personalId", personalId)
+                .setMaxResults(5)
+                .getResultList().stream()
+                .map(row -> (Skill) row[0])
+                .map(skill -> skill.getName() + "/" + skill.getCategory().getName() + "/"
+                        + entitySkillRepository.countByEntityTypeAndSkillId(EntityType.PROJECT, skill.getId()))
+                .toList());
+        Measurement<List<String>> rows = fixture.measure(() -> skillRepository
+                .findTopRowsByLevel(personalId, PageRequest.of(0, 5)).stream()
+                .map(row -> row.name() + "/" + row.categoryName() + "/" + row.projectCount())
+                .toList());
+
+        assertThat(rows.result()).hasSize(5).isEqualTo(entities.result());
+        assertThat(entities.statements()).isGreaterThanOrEqualTo(1 + 5);
+        assertThat(entities.entityLoads()).isGreaterThanOrEqualTo(5);
+        assertThat(rows.statements()).isEqualTo(1);
+        assertThat(rows.entityLoads()).isZero();
+
+        report("top skills", entities, rows);
+    }
+
+    // ===== MEASUREMENT =====
+
+    private void report(String list, Measurement<?> entities, Measurement<?> rows) {
+        log.info("List '{}': entities {} statements, {} entity and {} collection loads in {} us; " +
+                        "rows {} statements, {} entity loads in {} us",
+                list, entities.statements(), entities.entityLoads(), entities.collectionLoads(),
+                entities.elapsedMicros(), rows.statements(), rows.entityLoads(), rows.elapsedMicros());
+    }
+
+    private <T> List<T> measure(Supplier<List<T>> query) {
+        Measurement<List<T>> measured = fixture.measure(query);
+
+        assertThat(measured.statements()).isEqualTo(1);
+        assertThat(measured.entityLoads()).isZero();
+        return measured.result();
+    }
+
+    private void persistRows(int rowCount) {
+        SkillCategory skillCategory = fixture.persistSkillCategory("Languages");
+        CertificationCategory certificateCategory = fixture.persistCertificationCategory("Cloud");
+        Icon icon = fixture.persist(Icon.builder().name("code").type(IconType.LUCIDE).build());
+
+        for (int i = 0; i < rowCount; i++) {
+            Skill skill = fixture.persist(fixture.skill(testPersonal, skillCategory, "Skill " + i)
+                    .level(1 + i % 100)
+                    .build());
+            fixture.persist(EntityMetadata.builder()
+                    .entityType(EntityType.SKILL)
+                    .entityId(skill.getId())
+                    .icon(icon)
+                    .build());
+
+            Project project = fixture.persist(fixture.project(testPersonal, "Project " + i)
+                    .description("A project. With a long story")
+                    .year(2024)
+                    .build());
+            if (i % 2 == 0) {
+                fixture.persist(EntityMetadata.builder()
+                        .entityType(EntityType.PROJECT)
+                        .entityId(project.getId())
+                        .featured(true)
+                        .build());
+            }
+            fixture.linkSkill(EntityType.PROJECT, project.getId(), skill);
+
+            fixture.persist(fixture.certificate(testPersonal, certificateCategory, "Certificate " + i)
+                    .issueDate(LocalDate.now().minusYears(1))
+                    .description("x".repeat(2000))
+                    .build());
+
+            fixture.persistAchievement(testPersonal, "Achievement " + i, LocalDate.now().minusDays(i));
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.portofolio.repository;
+
+import com.example.portofolio.entity.*;
+import com.example.portofolio.entity.enums.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Test data and statement counts for the @DataJpaTest tests that measure queries.
+ * The builders fill in the columns the mappings require, tests set whatever else
+ * they need before persisting. Counting needs
+ * {@code spring.jpa.properties.hibernate.generate_statistics=true}.
+ */
+public final class PersistenceFixture {
+
+    private final TestEntityManager entityManager;
+    private final Statistics statistics;
+
+    public PersistenceFixture(TestEntityManager entityManager, EntityManagerFactory entityManagerFactory) {
+        this.entityManager = entityManager;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // ===== ENTITIES =====
+
+    public <T> T persist(T entity) {
+        return entityManager.persist(entity);
+    }
+
+    public Personal persistPersonal() {
+        return persistPersonal("John", "Doe");
+    }
+
+    public Personal persistPersonal(String firstName, String lastName) {
+        return persist(Personal.builder().firstName(firstName).lastName(lastName).build());
+    }
+
+    public Project.ProjectBuilder project(Personal personal, String title) {
+        return Project.builder()
+                .personal(personal)
+                .title(title)
+                .category("Web Development")
+                .status(ProjectStatus.PRODUCTION)
+                .complexity(ComplexityLevel.INTERMEDIATE)
+                .tags(List.of("java"));
+    }
+
+    public Project persistProject(Personal personal, String title) {
+        return persist(project(personal, title).build());
+    }
+
+    public Certificate.CertificateBuilder certificate(Personal personal, CertificationCategory category, String name) {
+        return Certificate.builder()
+                .personal(personal)
+                .name(name)
+                .category(category)
+                .provider("AWS")
+                .issueDate(LocalDate.of(2024, 1, 1));
+    }
+
+    public Certificate persistCertificate(Personal personal, CertificationCategory category, String name) {
+        return persist(certificate(personal, category, name).build());
+    }
+
+    public CertificationCategory persistCertificationCategory(String name) {
+        return persist(CertificationCategory.builder().name(name).build());
+    }
+
+    public Skill.SkillBuilder skill(Personal personal, SkillCategory category, String name) {
+        return Skill.builder()
+                .personal(personal)
+                .name(name)
+                .category(category)
+                .proficiency(ProficiencyLevel.INTERMEDIATE);
+    }
+
+    public SkillCategory persistSkillCategory(String name) {
+        return persist(SkillCategory.builder().name(name).build());
+    }
+
+    public Technology persistTechnology(String name, TechnologyCategory category) {
+        return persist(Technology.builder().name(name).category(category).build());
+    }
+
+    public TechnologyCategory persistTechnologyCategory(String name) {
+        return persist(TechnologyCategory.builder().name(name).build());
+    }
+
+    public Achievement persistAchievement(Personal personal, String title, LocalDate achievementDate) {
+        return persist(Achievement.builder()
+                .personal(personal)
+                .title(title)
+                .description("Won")
+                .achievementType(AchievementType.AWARD)
+                .achievementDate(achievementDate)
+                .build());
+    }
+
+    public EntityTechnology linkTechnology(EntityType entityType, Long entityId, Technology technology) {
+        return persist(EntityTechnology.builder()
+                .entityType(entityType)
+                .entityId(entityId)
+                .technology(technology)
+                .proficiency(ProficiencyLevel.ADVANCED)
+                .build());
+    }
+
+    public EntitySkill linkSkill(EntityType entityType, Long entityId, Skill skill) {
+        return persist(EntitySkill.builder()
+                .entityType(entityType)
+                .entityId(entityId)
+                .skill(skill)
+                .build());
+    }
+
+    /**
+     * Writes the persisted data and empties the persistence context, so the next
+     * reads hit the database
+     */
+    public void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // ===== MEASUREMENT =====
+
+    /**
+     * Runs the reads from an empty persistence context and counts what they cost
+     */
+    public <T> Measurement<T> measure(Supplier<T> reads) {
+        entityManager.clear();
+        statistics.clear();
+        long start = System.nanoTime();
+        T result = reads.get();
+        long elapsedMicros = (System.nanoTime() - start) / 1_000;
+        return new Measurement<>(result, statistics.getPrepareStatementCount(), statistics.getEntityLoadCount(),
+                statistics.getCollectionLoadCount(), elapsedMicros);
+    }
+
+    public record Measurement<T>(T result, long statements, long entityLoads, long collectionLoads,
+                                 long elapsedMicros) {
+    }
+}
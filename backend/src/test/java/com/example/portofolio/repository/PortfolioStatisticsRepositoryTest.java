@@ -0,0 +1,211 @@
+package com.example.portofolio.repository;
+
+import com.example.portofolio.entity.*;
+import com.example.portofolio.entity.enums.*;
+import com.example.portofolio.repository.PersistenceFixture.Measurement;
+import com.example.portofolio.repository.PortfolioStatisticsRepository.CertificateCounters;
+import com.example.portofolio.repository.PortfolioStatisticsRepository.ProjectCounters;
+import com.example.portofolio.repository.PortfolioStatisticsRepository.SkillHeroCounters;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Portfolio Statistics Repository Tests")
+@Slf4j
+class PortfolioStatisticsRepositoryTest {
+
+    private static final int PROJECT_COUNT = 60;
+    private static final int CERTIFICATE_COUNT = 30;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PortfolioStatisticsRepository statisticsRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private CertificateRepository certificateRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private EntityTechnologyRepository entityTechnologyRepository;
+
+    private PersistenceFixture fixture;
+    private Personal testPersonal;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new PersistenceFixture(entityManager, entityManagerFactory);
+        testPersonal = fixture.persistPersonal();
+        persistProjects();
+        persistCertificates();
+        persistSkills();
+        fixture.flushAndClear();
+    }
+
+    @Test
+    @DisplayName("Should return every project counter of the legacy queries in one statement")
+    void shouldAggregateProjectCounters() {
+        Long personalId = testPersonal.getId();
+
+        Measurement<List<Object>> legacy = fixture.measure(() -> List.of(
+                projectRepository.countByPersonalId(personalId),
+                projectRepository.countDeployedProjects(personalId),
+                projectRepository.countLiveProjects(personalId),
+                projectRepository.findOldestProjectYear(personalId),
+                projectRepository.findNewestProjectYear(personalId),
+                projectRepository.findComplexityDistribution(personalId).getFirst()[0]));
+        Measurement<ProjectCounters> aggregate = fixture.measure(
+                () -> statisticsRepository.findProjectCounters(personalId));
+
+        ProjectCounters counters = aggregate.result();
+        assertThat(List.of(counters.getTotalProjects(), counters.getDeployedProjects(), counters.getLiveProjects(),
+                counters.getOldestYear(), counters.getNewestYear()))
+                .isEqualTo(legacy.result().subList(0, 5));
+        assertThat(counters.getBeginnerProjects() + counters.getIntermediateProjects() + counters.getAdvancedProjects())
+                .isEqualTo(PROJECT_COUNT);
+        assertThat(counters.getAdvancedProjects())
+                .isGreaterThan(counters.getIntermediateProjects())
+                .isGreaterThan(counters.getBeginnerProjects());
+        assertThat(legacy.result().get(5)).isEqualTo(ComplexityLevel.ADVANCED);
+        assertThat(aggregate.statements()).isEqualTo(1);
+
+        report("development experience", legacy, aggregate);
+    }
+
+    @Test
+    @DisplayName("Should return every certificate counter of the legacy queries in one statement")
+    void shouldAggregateCertificateCounters() {
+        Long personalId = testPersonal.getId();
+        LocalDate expiryDate = LocalDate.now().plusDays(90);
+
+        Measurement<List<Object>> legacy = fixture.measure(() -> List.of(
+                certificateRepository.countByPersonalId(personalId),
+                certificateRepository.countVerifiedByPersonalId(personalId),
+                certificateRepository.findAverageRelevanceScoreByPersonalId(personalId),
+                (long) certificateRepository.findExpiringByPersonalId(personalId, expiryDate).size(),
+                (long) certificateRepository.findFeaturedByPersonalId(personalId).size(),
+                (long) certificateRepository.findByPersonalIdAndMinRelevanceScore(personalId, 80).size()));
+        Measurement<CertificateCounters> aggregate = fixture.measure(
+                () -> statisticsRepository.findCertificateCounters(personalId, expiryDate, 80));
+
+        CertificateCounters counters = aggregate.result();
+        assertThat(List.of(counters.getTotalCertificates(), counters.getVerifiedCertificates(),
+                counters.getAverageRelevanceScore(), counters.getExpiringCertificates(),
+                counters.getFeaturedCertificates(), counters.getHighRelevanceCertificates()))
+                .isEqualTo(legacy.result());
+        assertThat(aggregate.statements()).isEqualTo(1);
+
+        report("certificate statistics", legacy, aggregate);
+    }
+
+    @Test
+    @DisplayName("Should return every hero counter of the legacy queries in one statement")
+    void shouldAggregateSkillHeroCounters() {
+        Long personalId = testPersonal.getId();
+
+        Measurement<List<Object>> legacy = fixture.measure(() -> List.of(
+                projectRepository.findOldestProjectYear(personalId),
+                projectRepository.countByPersonalId(personalId),
+                certificateRepository.countByPersonalId(personalId),
+                skillRepository.findAverageSkillLevelByPersonalId(personalId),
+                (long) entityTechnologyRepository.countDistinctTechnologiesByPersonalId(personalId)));
+        Measurement<SkillHeroCounters> aggregate = fixture.measure(
+                () -> statisticsRepository.findSkillHeroCounters(personalId));
+
+        SkillHeroCounters counters = aggregate.result();
+        assertThat(List.of(counters.getOldestProjectYear(), counters.getTotalProjects(),
+                counters.getTotalCertificates(), counters.getAverageSkillLevel(), counters.getTechnologyCount()))
+                .isEqualTo(legacy.result());
+        assertThat(counters.getOldestSkillYear()).isEqualTo(LocalDate.now().getYear());
+        assertThat(aggregate.statements()).isEqualTo(1);
+
+        report("skills hero", legacy, aggregate);
+    }
+
+    // ===== MEASUREMENT =====
+
+    private void report(String family, Measurement<?> legacy, Measurement<?> aggregate) {
+        log.info("Statistics '{}': legacy {} statements in {} us, aggregate {} statement in {} us",
+                family, legacy.statements(), legacy.elapsedMicros(), aggregate.statements(), aggregate.elapsedMicros());
+    }
+
+    // ===== TEST DATA =====
+
+    private void persistProjects() {
+        Technology technology = fixture.persistTechnology("Spring Boot", fixture.persistTechnologyCategory("Backend"));
+
+        ProjectStatus[] statuses = ProjectStatus.values();
+        for (int i = 0; i < PROJECT_COUNT; i++) {
+            Project project = fixture.persist(fixture.project(testPersonal, "Project " + i)
+                    .status(statuses[i % statuses.length])
+                    .complexity(i % 2 == 0 ? ComplexityLevel.ADVANCED
+                            : i % 3 == 0 ? ComplexityLevel.BEGINNER : ComplexityLevel.INTERMEDIATE)
+                    .demoUrl(i % 4 == 0 ? "https://demo.example.com/" + i : i % 4 == 1 ? "" : null)
+                    .year(2018 + i % 7)
+                    .build());
+
+            if (i % 5 == 0) {
+                fixture.linkTechnology(EntityType.PROJECT, project.getId(), technology);
+            }
+        }
+    }
+
+    private void persistCertificates() {
+        CertificationCategory category = fixture.persistCertificationCategory("Cloud");
+
+        for (int i = 0; i < CERTIFICATE_COUNT; i++) {
+            Certificate certificate = fixture.persist(fixture.certificate(testPersonal, category, "Certificate " + i)
+                    .provider(i % 2 == 0 ? "AWS" : "Oracle")
+                    .issueDate(LocalDate.now().minusYears(1))
+                    .hasExpiry(i % 3 == 0)
+                    .expiryDate(LocalDate.now().plusDays(i * 10L))
+                    .relevanceScore(40 + i * 2)
+                    .verified(i % 4 != 0)
+                    .build());
+
+            if (i % 6 == 0) {
+                fixture.persist(EntityMetadata.builder()
+                        .entityType(EntityType.CERTIFICATE)
+                        .entityId(certificate.getId())
+                        .featured(true)
+                        .build());
+            }
+        }
+    }
+
+    private void persistSkills() {
+        SkillCategory category = fixture.persistSkillCategory("Languages");
+
+        for (int i = 0; i < 10; i++) {
+            fixture.persist(fixture.skill(testPersonal, category, "Skill " + i)
+                    .level(10 * (i + 1))
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.portofolio.repository;
+
+import com.example.portofolio.entity.*;
+import com.example.portofolio.entity.enums.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * The usage counts read from the technology_usage and skill_usage views: plain views
+ * on H2, with the same columns as the materialized ones on PostgreSQL.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@DisplayName("Usage View Repository Tests")
+class UsageViewRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityTechnologyRepository entityTechnologyRepository;
+
+    @Autowired
+    private EntitySkillRepository entitySkillRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    private Personal owner;
+    private Personal other;
+    private Technology java;
+    private Technology docker;
+    private Skill design;
+
+    @BeforeEach
+    void setUp() {
+        PersistenceFixture fixture = new PersistenceFixture(entityManager, entityManagerFactory);
+        owner = fixture.persistPersonal();
+        other = fixture.persistPersonal("Jane", "Roe");
+
+        TechnologyCategory category = fixture.persistTechnologyCategory("Backend");
+        java = fixture.persistTechnology("Java", category);
+        docker = fixture.persistTechnology("Docker", category);
+        design = fixture.persist(fixture.skill(owner, fixture.persistSkillCategory("Craft"), "Design")
+                .level(50)
+                .build());
+
+        Project first = fixture.persistProject(owner, "Project");
+        Project second = fixture.persistProject(owner, "Project");
+        Project foreign = fixture.persistProject(other, "Project");
+        Certificate certificate = fixture.persistCertificate(owner,
+                fixture.persistCertificationCategory("Cloud"), "Cloud");
+
+        fixture.linkTechnology(EntityType.PROJECT, first.getId(), java);
+        fixture.linkTechnology(EntityType.PROJECT, second.getId(), java);
+        fixture.linkTechnology(EntityType.PROJECT, foreign.getId(), docker);
+        fixture.linkTechnology(EntityType.CERTIFICATE, certificate.getId(), docker);
+        // Owner long gone: no foreign key kept the link from outliving it
+        fixture.linkTechnology(EntityType.PROJECT, 999_999L, docker);
+
+        fixture.linkSkill(EntityType.PROJECT, first.getId(), design);
+        fixture.linkSkill(EntityType.PROJECT, foreign.getId(), design);
+        fixture.linkSkill(EntityType.CERTIFICATE, certificate.getId(), design);
+        fixture.linkSkill(EntityType.PROJECT, 999_999L, design);
+
+        fixture.flushAndClear();
+    }
+
+    @Test
+    @DisplayName("Should count technology usage per personal, through the owning projects")
+    void shouldCountTechnologyUsagePerPersonal() {
+        assertThat(entityTechnologyRepository.countDistinctTechnologiesByPersonalId(owner.getId())).isEqualTo(1);
+        assertThat(entityTechnologyRepository.countDistinctTechnologiesByPersonalId(other.getId())).isEqualTo(1);
+
+        assertThat(entityTechnologyRepository.countProjectsForTechnologyAndPersonal(java.getId(), owner.getId())).isEqualTo(2);
+        assertThat(entityTechnologyRepository.countProjectsForTechnologyAndPersonal(docker.getId(), owner.getId())).isZero();
+
+        List<Object[]> perTechnology = entityTechnologyRepository.countProjectsPerTechnologyForPersonal(owner.getId());
+        assertThat(perTechnology).hasSize(1);
+        assertThat(((Number) perTechnology.getFirst()[0]).longValue()).isEqualTo(java.getId());
+        assertThat(((Number) perTechnology.getFirst()[1]).intValue()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should count skill links by owner type, leaving out orphans")
+    void shouldCountSkillLinksByType() {
+        assertThat(entitySkillRepository.countByEntityTypeAndSkillId(EntityType.PROJECT, design.getId())).isEqualTo(2);
+        assertThat(entitySkillRepository.countByEntityTypeAndSkillId(EntityType.CERTIFICATE, design.getId())).isEqualTo(1);
+        assertThat(entitySkillRepository.countByEntityTypeAndSkillId(EntityType.EDUCATION, design.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should give skill rows the project count of the usage view")
+    void shouldReadSkillRowCountsFromView() {
+        Integer viewCount = entitySkillRepository.countByEntityTypeAndSkillId(EntityType.PROJECT, design.getId());
+
+        assertThat(skillRepository.findRowsByPersonalId(owner.getId()))
+                .extracting(SkillRepository.SkillRow::projectCount)
+                .containsExactly(viewCount.longValue());
+        assertThat(skillRepository.findRowByPersonalIdAndId(owner.getId(), design.getId()))
+                .map(SkillRepository.SkillRow::projectCount)
+                .contains(viewCount.longValue());
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.portofolio.service.support;
+
+import com.example.portofolio.cache.ReadSet;
+import com.example.portofolio.cache.ReadSetTracker;
+import com.example.portofolio.cache.ReadSets;
+import com.example.portofolio.memo.MemoScope;
+import com.example.portofolio.memo.MemoScopes;
+import com.example.portofolio.service.support.FanOutScope.Subtask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Fan-Out Scope Tests")
+class FanOutScopeTest {
+
+    private final ReadSetTracker readSetTracker = new ReadSetTracker();
+    @SuppressWarnings("unchecked")
+    private final MemoScopes memoScopes = new MemoScopes(mock(ObjectProvider.class, invocation -> null));
+    private final List<FanOutExecutor> executors = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        executors.forEach(FanOutExecutor::shutdown);
+    }
+
+    @Test
+    @DisplayName("Should cancel the other subtasks when one times out, and rethrow the timeout")
+    void shouldCancelSiblingsOnTimeout() throws InterruptedException {
+        FanOutExecutor fanOut = executor(4, Duration.ofMillis(100));
+        CountDownLatch siblingInterrupted = new CountDownLatch(1);
+
+        Subtask<String> sibling;
+        try (FanOutScope scope = fanOut.open()) {
+            scope.fork("slow", () -> {
+                Thread.sleep(Duration.ofMinutes(1));
+                return "slow";
+            });
+            sibling = scope.fork("sibling", () -> {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    siblingInterrupted.countDown();
+                    throw e;
+                }
+                return "sibling";
+            }, Duration.ofMinutes(1));
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Subtask 'slow' timed out")
+                    .hasCauseInstanceOf(TimeoutException.class);
+        }
+
+        assertThat(siblingInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(sibling::get).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should run no more subtasks at once than there are permits")
+    void shouldRespectPermitLimit() {
+        FanOutExecutor fanOut = executor(2, Duration.ofSeconds(5));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        try (FanOutScope scope = fanOut.open()) {
+            for (int i = 0; i < 12; i++) {
+                scope.fork("task " + i, () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(20);
+                    running.decrementAndGet();
+                    return null;
+                });
+            }
+            scope.join();
+        }
+
+        assertThat(maxRunning).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should reject forking or opening a scope from within a subtask")
+    void shouldRejectNestedFanOut() {
+        FanOutExecutor fanOut = executor(1, Duration.ofSeconds(5));
+
+        try (FanOutScope scope = fanOut.open()) {
+            scope.fork("forking", () -> scope.fork("nested", () -> "nested"));
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Fan-out subtasks cannot fork further subtasks");
+        }
+        try (FanOutScope scope = fanOut.open()) {
+            scope.fork("opening", fanOut::open);
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Fan-out subtasks cannot open nested scopes");
+        }
+    }
+
+    @Test
+    @DisplayName("Should run subtasks in the caller's memo scope and read set")
+    void shouldPropagateMemoScopeAndReads() {
+        FanOutExecutor fanOut = executor(2, Duration.ofSeconds(5));
+        AtomicReference<MemoScope> subtaskScope = new AtomicReference<>();
+
+        ReadSet reads = readSetTracker.begin();
+        try (MemoScope memoScope = memoScopes.open(); FanOutScope scope = fanOut.open()) {
+            Subtask<String> subtask = scope.fork("projects", () -> {
+                subtaskScope.set(memoScopes.current());
+                ReadSets.recordQuerySpace(readSetTracker, "project");
+                return "projects";
+            });
+            scope.join();
+
+            assertThat(subtask.get()).isEqualTo("projects");
+            assertThat(subtaskScope.get()).isSameAs(memoScope);
+        } finally {
+            readSetTracker.end(reads);
+        }
+        assertThat(ReadSets.querySpaces(reads)).containsExactly("project");
+    }
+
+    private FanOutExecutor executor(int maxConcurrency, Duration subtaskTimeout) {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        FanOutExecutor fanOut = new FanOutExecutor(mock(DataSource.class), transactionManager,
+                readSetTracker, memoScopes, maxConcurrency, subtaskTimeout);
+        executors.add(fanOut);
+        return fanOut;
+    }
+}
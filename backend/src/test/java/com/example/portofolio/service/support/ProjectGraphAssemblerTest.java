@@ -0,0 +1,111 @@
+package com.example.portofolio.service.support;
+
+import com.example.portofolio.entity.*;
+import com.example.portofolio.entity.enums.*;
+import com.example.portofolio.repository.PersistenceFixture;
+import com.example.portofolio.repository.PersistenceFixture.Measurement;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ProjectGraphAssembler.class, EntityMetadataResolver.class})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Project Graph Assembler Tests")
+class ProjectGraphAssemblerTest {
+
+    // Projects (with metrics), metadata, technologies, images, features, challenges
+    private static final long EXPECTED_QUERIES = 6;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProjectGraphAssembler projectGraphAssembler;
+
+    private PersistenceFixture fixture;
+    private Personal testPersonal;
+    private Technology testTechnology;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new PersistenceFixture(entityManager, entityManagerFactory);
+        testPersonal = fixture.persistPersonal();
+        testTechnology = fixture.persistTechnology("Spring Boot", fixture.persistTechnologyCategory("Backend"));
+    }
+
+    @ParameterizedTest(name = "{0} projects")
+    @ValueSource(ints = {10, 100, 1000})
+    @DisplayName("Should load the project graph with a constant number of queries")
+    void shouldLoadProjectGraphWithConstantQueryCount(int projectCount) {
+        // Given
+        persistProjects(projectCount);
+        fixture.flushAndClear();
+
+        // When
+        Measurement<ProjectGraph> measured = fixture.measure(
+                () -> projectGraphAssembler.assembleForPersonal(testPersonal.getId()));
+        ProjectGraph graph = measured.result();
+        List<Integer> associationSizes = graph.projects().stream()
+                .map(project -> graph.technologyNames(project.getId()).size()
+                        + graph.images(project.getId()).size()
+                        + graph.features(project.getId()).size()
+                        + graph.challenges(project.getId()).size()
+                        + (graph.metrics(project) != null ? 1 : 0))
+                .toList();
+
+        // Then
+        assertThat(graph.projects()).hasSize(projectCount);
+        assertThat(associationSizes).containsOnly(5);
+        assertThat(measured.statements()).isEqualTo(EXPECTED_QUERIES);
+    }
+
+    private void persistProjects(int projectCount) {
+        for (int i = 0; i < projectCount; i++) {
+            Project project = fixture.persist(fixture.project(testPersonal, "Project " + i)
+                    .year(2024)
+                    .build());
+
+            fixture.persist(ProjectImage.builder()
+                    .project(project)
+                    .title("Screenshot")
+                    .imageUrl("https://example.com/" + i + ".png")
+                    .primary(true)
+                    .build());
+            fixture.persist(ProjectFeature.builder()
+                    .project(project)
+                    .title("Feature " + i)
+                    .build());
+            fixture.persist(ProjectChallenge.builder()
+                    .project(project)
+                    .title("Challenge " + i)
+                    .description("Scaling the data layer")
+                    .build());
+            fixture.persist(ProjectMetrics.builder()
+                    .project(project)
+                    .codeQualityScore("A")
+                    .testCoveragePercentage(new BigDecimal("80.00"))
+                    .build());
+            fixture.linkTechnology(EntityType.PROJECT, project.getId(), testTechnology);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.portofolio.web;
+
+import com.example.portofolio.autocomplete.AutocompleteService;
+import com.example.portofolio.controller.CoreSkillController;
+import com.example.portofolio.event.DataVersion;
+import com.example.portofolio.service.core.SkillService;
+import com.example.portofolio.snapshot.PortfolioSnapshot;
+import com.example.portofolio.snapshot.PortfolioSnapshotHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Conditional GET Interceptor Tests")
+class ConditionalGetInterceptorTest {
+
+    @Mock
+    private SkillService skillService;
+
+    @Mock
+    private AutocompleteService autocompleteService;
+
+    @Spy
+    private DataVersion dataVersion = new DataVersion();
+
+    // No snapshot published, so every request that reaches the controller calls the service
+    @Spy
+    private PortfolioSnapshotHolder snapshotHolder = new PortfolioSnapshotHolder();
+
+    @InjectMocks
+    private CoreSkillController controller;
+
+    private MockMvc mockMvc;
+    private String etag;
+
+    @BeforeEach
+    void setUp() {
+        ResponseValidators validators = new ResponseValidators(dataVersion, snapshotHolder);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addInterceptors(new ConditionalGetInterceptor(validators, autocompleteService))
+                .build();
+        etag = "\"" + dataVersion.tag(dataVersion.current()) + "\"";
+        lenient().when(skillService.findByPersonalId(1L)).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match with 304 without calling the service")
+    void shouldAnswerMatchingETagWithoutService() throws Exception {
+        mockMvc.perform(get("/skills").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        verifyNoInteractions(skillService);
+    }
+
+    @Test
+    @DisplayName("Should match any-ETag, weak and content-coded validators")
+    void shouldMatchWildcardWeakAndCodedETags() throws Exception {
+        for (String ifNoneMatch : List.of("*", "W/" + etag, "\"other\", " + etag,
+                ResponseValidators.withCoding(etag, "gzip"), ResponseValidators.withCoding(etag, "br"))) {
+            mockMvc.perform(get("/skills").header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch))
+                    .andExpect(status().isNotModified());
+        }
+
+        verifyNoInteractions(skillService);
+    }
+
+    @Test
+    @DisplayName("Should call the service for an ETag of another version")
+    void shouldServeBodyForUnmatchedETag() throws Exception {
+        String previous = etag;
+        dataVersion.advance();
+
+        mockMvc.perform(get("/skills").header(HttpHeaders.IF_NONE_MATCH, previous))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + dataVersion.tag(dataVersion.current()) + "\""));
+
+        verify(skillService).findByPersonalId(1L);
+    }
+
+    @Test
+    @DisplayName("Should send no validators while the snapshot lags behind the data")
+    void shouldSkipValidatorsWhileSnapshotLags() throws Exception {
+        snapshotHolder.publish(PortfolioSnapshot.builder()
+                .personalId(2L)
+                .dataVersion(dataVersion.current() - 1)
+                .build());
+
+        mockMvc.perform(get("/skills").header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+
+        verify(skillService).findByPersonalId(1L);
+    }
+
+    @Test
+    @DisplayName("Should only use Last-Modified once the second of the last change is over")
+    void shouldUseLastModifiedOfPastSecondsOnly() throws Exception {
+        Instant settled = Instant.now().truncatedTo(ChronoUnit.SECONDS).minusSeconds(5);
+        doReturn(settled).when(dataVersion).lastModified();
+
+        mockMvc.perform(get("/skills").header(HttpHeaders.IF_MODIFIED_SINCE, settled.toEpochMilli()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, settled.toEpochMilli()));
+        verifyNoInteractions(skillService);
+
+        // Another change within the current second would keep the same date
+        Instant running = Instant.now();
+        doReturn(running).when(dataVersion).lastModified();
+
+        mockMvc.perform(get("/skills").header(HttpHeaders.IF_MODIFIED_SINCE, running.plusSeconds(5).toEpochMilli()))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+        verify(skillService).findByPersonalId(1L);
+    }
+}
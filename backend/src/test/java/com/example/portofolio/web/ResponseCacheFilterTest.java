@@ -0,0 +1,40 @@
+package com.example.portofolio.web;
+
+import com.example.portofolio.web.ResponseCacheFilter.Encoded;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Response Cache Filter Tests")
+class ResponseCacheFilterTest {
+
+    private final Encoded encoded = new Encoded("application/json", new byte[8], new byte[4], new byte[3]);
+
+    @Test
+    @DisplayName("Should pick the coding with the highest q-value, identity included")
+    void shouldNegotiateByQValue() {
+        assertThat(ResponseCacheFilter.negotiate("gzip, deflate, br", encoded)).isEqualTo("br");
+        assertThat(ResponseCacheFilter.negotiate("gzip;q=0.5", encoded)).isEqualTo("gzip");
+        assertThat(ResponseCacheFilter.negotiate("gzip;q=0.5, identity;q=1", encoded)).isEqualTo("identity");
+        assertThat(ResponseCacheFilter.negotiate("identity;q=0, *;q=0.3", encoded)).isEqualTo("br");
+        assertThat(ResponseCacheFilter.negotiate(null, encoded)).isEqualTo("identity");
+    }
+
+    @Test
+    @DisplayName("Should serve identity when no listed compressed coding is stored or acceptable")
+    void shouldFallBackToIdentity() {
+        Encoded uncompressed = new Encoded("application/json", new byte[8], null, null);
+
+        assertThat(ResponseCacheFilter.negotiate("br, gzip", uncompressed)).isEqualTo("identity");
+        assertThat(ResponseCacheFilter.negotiate("gzip;q=0, br;q=0", encoded)).isEqualTo("identity");
+    }
+
+    @Test
+    @DisplayName("Should give each content coding its own ETag")
+    void shouldSuffixETagWithCoding() {
+        assertThat(ResponseValidators.withCoding("\"v7\"", "gzip")).isEqualTo("\"v7-gzip\"");
+        assertThat(ResponseValidators.withCoding("\"v7\"", "br")).isEqualTo("\"v7-br\"");
+        assertThat(ResponseValidators.withCoding("\"v7\"", "identity")).isEqualTo("\"v7\"");
+    }
+}
@@ -0,0 +1,4 @@
+-- The usage views of V3__usage_views.sql for the H2 test database, where Flyway is
+-- off and materialized views do not exist: plain views with the same columns.
+CREATE OR REPLACE VIEW technology_usage AS SELECT owner.personal_id, et.technology_id, COUNT(*) FILTER (WHERE et.entity_type = 'PROJECT') AS project_count, COUNT(*) FILTER (WHERE et.entity_type = 'CERTIFICATE') AS certificate_count, COUNT(*) FILTER (WHERE et.entity_type = 'EDUCATION') AS education_count FROM entity_technology et JOIN (SELECT 'PROJECT' AS entity_type, id, personal_id FROM project UNION ALL SELECT 'CERTIFICATE', id, personal_id FROM certificate UNION ALL SELECT 'EDUCATION', id, personal_id FROM education) owner ON owner.entity_type = et.entity_type AND owner.id = et.entity_id GROUP BY owner.personal_id, et.technology_id;
+CREATE OR REPLACE VIEW skill_usage AS SELECT owner.personal_id, es.skill_id, COUNT(*) FILTER (WHERE es.entity_type = 'PROJECT') AS project_count, COUNT(*) FILTER (WHERE es.entity_type = 'CERTIFICATE') AS certificate_count, COUNT(*) FILTER (WHERE es.entity_type = 'EDUCATION') AS education_count FROM entity_skill es JOIN (SELECT 'PROJECT' AS entity_type, id, personal_id FROM project UNION ALL SELECT 'CERTIFICATE', id, personal_id FROM certificate UNION ALL SELECT 'EDUCATION', id, personal_id FROM education) owner ON owner.entity_type = es.entity_type AND owner.id = es.entity_id GROUP BY owner.personal_id, es.skill_id;